@@ -0,0 +1,191 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.benchmark;
+
+import ch.obermuhlner.math.big.BigRational;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Vector;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Vector_d;
+
+/**
+ * For running the benchmarks and for generating the inputs they share.
+ *
+ * Each benchmark class has a double ({@code _d}) and an exact version which
+ * run the same workload on the same coordinates. The exact versions are
+ * parameterised by the Order of Magnitude ({@code oom}) for the precision
+ * and by the denominator of the coordinates ({@code den}), so the cost of
+ * integer and of rational coordinates can be compared. Inputs are generated
+ * from a fixed seed so that results are comparable between runs.
+ *
+ * Exact vectors and geometries cache values such as magnitudes, planes,
+ * edges and plane equations. So that the calculations rather than cache hits
+ * are timed, the exact benchmarks build the inputs for each invocation in a
+ * {@code Level.Invocation} setup from copies made with
+ * {@link #copy(V3D_Vector)}. The double benchmarks have no such caches.
+ *
+ * {@link #main(String[])} runs JMH with the arguments given and, unless a
+ * result format is given, writes results in JSON to
+ * {@code target/jmh-result.json} so they can be tracked between releases.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_Benchmarks {
+
+    /**
+     * The number of inputs generated for each benchmark. This is a power of
+     * two so the index of the next input can be got with a mask.
+     */
+    public static final int N = 256;
+
+    /**
+     * For getting the index of the next input.
+     */
+    public static final int MASK = N - 1;
+
+    /**
+     * The seed for generating inputs.
+     */
+    public static final long SEED = 0L;
+
+    /**
+     * The range of coordinates: each is in [-RANGE, RANGE].
+     */
+    public static final int RANGE = 100;
+
+    private V3D_Benchmarks() {
+    }
+
+    /**
+     * @param r The random number generator.
+     * @param den The denominator.
+     * @return A random rational with denominator den in [-RANGE, RANGE].
+     */
+    public static BigRational getRational(Random r, int den) {
+        return BigRational.valueOf(
+                r.nextInt(2 * RANGE * den + 1) - RANGE * den, den);
+    }
+
+    /**
+     * @param r The random number generator.
+     * @param den The denominator of the components.
+     * @param n The number of vectors.
+     * @return Random exact vectors.
+     */
+    public static V3D_Vector[] getVectors(Random r, int den, int n) {
+        V3D_Vector[] vs = new V3D_Vector[n];
+        for (int i = 0; i < n; i++) {
+            vs[i] = new V3D_Vector(getRational(r, den), getRational(r, den),
+                    getRational(r, den));
+        }
+        return vs;
+    }
+
+    /**
+     * @param r The random number generator.
+     * @param den The denominator of the components.
+     * @param n The number of vectors.
+     * @return Random exact vectors with a zero z component.
+     */
+    public static V3D_Vector[] getPlanarVectors(Random r, int den, int n) {
+        V3D_Vector[] vs = new V3D_Vector[n];
+        for (int i = 0; i < n; i++) {
+            vs[i] = new V3D_Vector(getRational(r, den), getRational(r, den),
+                    BigRational.ZERO);
+        }
+        return vs;
+    }
+
+    /**
+     * @param o The ray origins.
+     * @param p The first corners of the triangles.
+     * @param q The second corners of the triangles.
+     * @param r The third corners of the triangles.
+     * @return The directions of rays from o through the centroids of the
+     * triangles.
+     */
+    public static V3D_Vector[] getDirections(V3D_Vector[] o, V3D_Vector[] p,
+            V3D_Vector[] q, V3D_Vector[] r) {
+        int oom = -30;
+        RoundingMode rm = RoundingMode.HALF_UP;
+        V3D_Vector[] d = new V3D_Vector[o.length];
+        for (int i = 0; i < o.length; i++) {
+            d[i] = p[i].add(q[i], oom, rm).add(r[i], oom, rm)
+                    .subtract(o[i].multiply(3L, oom, rm), oom, rm);
+        }
+        return d;
+    }
+
+    /**
+     * @param p The first corners of the boxes.
+     * @param v Random vectors.
+     * @return The opposite corners of boxes with sides of up to a tenth of
+     * the range.
+     */
+    public static V3D_Vector[] getBoxCorners(V3D_Vector[] p, V3D_Vector[] v) {
+        int oom = -30;
+        RoundingMode rm = RoundingMode.HALF_UP;
+        BigRational ten = BigRational.TEN;
+        V3D_Vector[] q = new V3D_Vector[p.length];
+        for (int i = 0; i < p.length; i++) {
+            q[i] = p[i].add(v[i].divide(ten, oom, rm), oom, rm);
+        }
+        return q;
+    }
+
+    /**
+     * @param v The vector to copy. This must be rational.
+     * @return A new vector with the same components as v that shares no
+     * cached values with it.
+     */
+    public static V3D_Vector copy(V3D_Vector v) {
+        RoundingMode rm = RoundingMode.HALF_UP;
+        return new V3D_Vector(v.getDX(-30, rm), v.getDY(-30, rm),
+                v.getDZ(-30, rm));
+    }
+
+    /**
+     * @param vs The exact vectors.
+     * @return The vectors as double vectors.
+     */
+    public static V3D_Vector_d[] toDouble(V3D_Vector[] vs) {
+        RoundingMode rm = RoundingMode.HALF_UP;
+        return Arrays.stream(vs).map(v -> new V3D_Vector_d(
+                v.getDX(-30, rm).toDouble(), v.getDY(-30, rm).toDouble(),
+                v.getDZ(-30, rm).toDouble())).toArray(V3D_Vector_d[]::new);
+    }
+
+    /**
+     * Run the benchmarks.
+     *
+     * @param args JMH arguments, for example a regular expression matching
+     * the benchmarks to run. Run with -h for the options.
+     * @throws Exception If encountered.
+     */
+    public static void main(String[] args) throws Exception {
+        ArrayList<String> a = new ArrayList<>(Arrays.asList(args));
+        if (!a.contains("-rf") && !a.contains("-h") && !a.contains("-l")) {
+            a.add("-rf");
+            a.add("json");
+            a.add("-rff");
+            a.add("target/jmh-result.json");
+        }
+        org.openjdk.jmh.Main.main(a.toArray(String[]::new));
+    }
+}
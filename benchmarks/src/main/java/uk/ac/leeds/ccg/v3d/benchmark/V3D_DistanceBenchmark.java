@@ -0,0 +1,166 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.benchmark;
+
+import ch.obermuhlner.math.big.BigRational;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.ac.leeds.ccg.v3d.core.V3D_Environment;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Line;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Point;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Tetrahedron;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Triangle;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Vector;
+
+/**
+ * Benchmarks for distance calculations of exact geometries. See
+ * {@link V3D_Distance_dBenchmark} for the double version.
+ *
+ * The inputs for each invocation are built afresh from copies of the
+ * generated vectors (see {@link V3D_Benchmarks#copy(V3D_Vector)}) so that
+ * cached values are not reused.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class V3D_DistanceBenchmark {
+
+    /**
+     * The Order of Magnitude for the precision.
+     */
+    @Param({"-3", "-10", "-30"})
+    public int oom;
+
+    /**
+     * The denominator of the coordinates.
+     */
+    @Param({"1", "12"})
+    public int den;
+
+    /**
+     * The RoundingMode for any rounding.
+     */
+    public RoundingMode rm = RoundingMode.HALF_UP;
+
+    /**
+     * The environment.
+     */
+    V3D_Environment env;
+
+    /**
+     * The vectors from which the inputs for each invocation are built.
+     */
+    V3D_Vector[] p, q, s, t, o;
+
+    /**
+     * The index of the current input.
+     */
+    int i;
+
+    /**
+     * The points for an invocation.
+     */
+    V3D_Point point, point2;
+
+    /**
+     * The lines for an invocation.
+     */
+    V3D_Line line, line2;
+
+    /**
+     * The triangle for an invocation.
+     */
+    V3D_Triangle triangle;
+
+    /**
+     * The tetrahedron for an invocation.
+     */
+    V3D_Tetrahedron tetrahedron;
+
+    @Setup
+    public void setup() {
+        int n = V3D_Benchmarks.N;
+        Random r = new Random(V3D_Benchmarks.SEED);
+        p = V3D_Benchmarks.getVectors(r, den, n);
+        q = V3D_Benchmarks.getVectors(r, den, n);
+        s = V3D_Benchmarks.getVectors(r, den, n);
+        t = V3D_Benchmarks.getVectors(r, den, n);
+        o = V3D_Benchmarks.getVectors(r, den, n);
+        env = new V3D_Environment(oom, rm);
+    }
+
+    @Setup(Level.Invocation)
+    public void next() {
+        i = (i + 1) & V3D_Benchmarks.MASK;
+        int j = (i + 1) & V3D_Benchmarks.MASK;
+        point = new V3D_Point(env, V3D_Benchmarks.copy(o[i]));
+        point2 = new V3D_Point(env, V3D_Benchmarks.copy(o[j]));
+        line = new V3D_Line(env, V3D_Benchmarks.copy(p[i]),
+                V3D_Benchmarks.copy(t[i]));
+        line2 = new V3D_Line(env, V3D_Benchmarks.copy(p[j]),
+                V3D_Benchmarks.copy(t[j]));
+        triangle = new V3D_Triangle(env, V3D_Benchmarks.copy(p[i]),
+                V3D_Benchmarks.copy(q[i]), V3D_Benchmarks.copy(s[i]));
+        tetrahedron = new V3D_Tetrahedron(env, V3D_Vector.ZERO,
+                V3D_Benchmarks.copy(p[i]), V3D_Benchmarks.copy(q[i]),
+                V3D_Benchmarks.copy(s[i]), V3D_Benchmarks.copy(t[i]));
+    }
+
+    @Benchmark
+    public BigRational pointGetDistancePoint() {
+        return point.getDistance(point2, oom, rm);
+    }
+
+    @Benchmark
+    public BigRational lineGetDistancePoint() {
+        return line.getDistance(point, oom, rm);
+    }
+
+    @Benchmark
+    public BigRational lineGetDistanceLine() {
+        return line.getDistance(line2, oom, rm);
+    }
+
+    @Benchmark
+    public BigRational triangleGetDistancePoint() {
+        return triangle.getDistance(point, oom, rm);
+    }
+
+    @Benchmark
+    public BigDecimal tetrahedronGetDistancePoint() {
+        return tetrahedron.getDistance(point, oom, rm);
+    }
+}
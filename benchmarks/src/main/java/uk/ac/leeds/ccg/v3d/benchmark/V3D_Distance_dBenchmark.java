@@ -0,0 +1,147 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.ac.leeds.ccg.v3d.core.d.V3D_Environment_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Line_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Point_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Tetrahedron_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Triangle_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Vector_d;
+
+/**
+ * Benchmarks for distance calculations of double geometries. The inputs are
+ * those of {@link V3D_DistanceBenchmark} converted to doubles.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class V3D_Distance_dBenchmark {
+
+    /**
+     * The denominator of the coordinates the inputs are generated from.
+     */
+    @Param({"1", "12"})
+    public int den;
+
+    /**
+     * The tolerance.
+     */
+    public double epsilon = 1d / 100000000d;
+
+    /**
+     * The points.
+     */
+    V3D_Point_d[] points;
+
+    /**
+     * The lines.
+     */
+    V3D_Line_d[] lines;
+
+    /**
+     * The triangles.
+     */
+    V3D_Triangle_d[] triangles;
+
+    /**
+     * The tetrahedra.
+     */
+    V3D_Tetrahedron_d[] tetrahedra;
+
+    /**
+     * The index of the current input.
+     */
+    int i;
+
+    @Setup
+    public void setup() {
+        int n = V3D_Benchmarks.N;
+        Random r = new Random(V3D_Benchmarks.SEED);
+        V3D_Vector_d[] p = V3D_Benchmarks.toDouble(
+                V3D_Benchmarks.getVectors(r, den, n));
+        V3D_Vector_d[] q = V3D_Benchmarks.toDouble(
+                V3D_Benchmarks.getVectors(r, den, n));
+        V3D_Vector_d[] s = V3D_Benchmarks.toDouble(
+                V3D_Benchmarks.getVectors(r, den, n));
+        V3D_Vector_d[] t = V3D_Benchmarks.toDouble(
+                V3D_Benchmarks.getVectors(r, den, n));
+        V3D_Vector_d[] o = V3D_Benchmarks.toDouble(
+                V3D_Benchmarks.getVectors(r, den, n));
+        V3D_Environment_d env = new V3D_Environment_d();
+        points = new V3D_Point_d[n];
+        lines = new V3D_Line_d[n];
+        triangles = new V3D_Triangle_d[n];
+        tetrahedra = new V3D_Tetrahedron_d[n];
+        for (int j = 0; j < n; j++) {
+            points[j] = new V3D_Point_d(env, o[j]);
+            lines[j] = new V3D_Line_d(env, p[j], t[j]);
+            triangles[j] = new V3D_Triangle_d(env, p[j], q[j], s[j]);
+            tetrahedra[j] = new V3D_Tetrahedron_d(env, V3D_Vector_d.ZERO,
+                    p[j], q[j], s[j], t[j]);
+        }
+    }
+
+    @Benchmark
+    public double pointGetDistancePoint() {
+        i = (i + 1) & V3D_Benchmarks.MASK;
+        return points[i].getDistance(points[(i + 1) & V3D_Benchmarks.MASK]);
+    }
+
+    @Benchmark
+    public double lineGetDistancePoint() {
+        i = (i + 1) & V3D_Benchmarks.MASK;
+        return lines[i].getDistance(points[i], epsilon);
+    }
+
+    @Benchmark
+    public double lineGetDistanceLine() {
+        i = (i + 1) & V3D_Benchmarks.MASK;
+        return lines[i].getDistance(lines[(i + 1) & V3D_Benchmarks.MASK],
+                epsilon);
+    }
+
+    @Benchmark
+    public double triangleGetDistancePoint() {
+        i = (i + 1) & V3D_Benchmarks.MASK;
+        return triangles[i].getDistance(points[i], epsilon);
+    }
+
+    @Benchmark
+    public double tetrahedronGetDistancePoint() {
+        i = (i + 1) & V3D_Benchmarks.MASK;
+        return tetrahedra[i].getDistance(points[i], epsilon);
+    }
+}
@@ -0,0 +1,353 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.ac.leeds.ccg.v3d.core.d.V3D_Environment_d;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Vector;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_AABB_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Converter_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_EnvelopeDouble;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_FiniteGeometryDouble;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_FiniteGeometry_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_GeometryDouble;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Geometry_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_LineDouble;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Line_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_PlaneDouble;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Plane_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_PointDouble;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Point_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_RayDouble;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Ray_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_TetrahedraDouble;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Tetrahedron_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_TriangleDouble;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Triangle_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_VectorDouble;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Vector_d;
+
+/**
+ * Benchmarks running the same workloads through the {@code *Double}
+ * geometries (methods ending {@code Double}) and the {@code *_d} geometries
+ * (methods ending {@code _d}) on the same coordinates. The
+ * {@code convertTriangleGetIntersectRay_d} benchmark includes the cost of
+ * converting with {@link V3D_Converter_d}. Run with {@code -prof gc} to also
+ * report the bytes allocated per operation, for example:
+ * {@code java -jar target/benchmarks.jar V3D_FamilyBenchmark -prof gc}.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class V3D_FamilyBenchmark {
+
+    /**
+     * The denominator of the coordinates the inputs are generated from.
+     */
+    @Param({"1", "12"})
+    public int den;
+
+    /**
+     * The tolerance.
+     */
+    public double epsilon = 1d / 100000000d;
+
+    /**
+     * The environment.
+     */
+    V3D_Environment_d env;
+
+    V3D_VectorDouble[] vectorsDouble;
+    V3D_PointDouble[] pointsDouble;
+    V3D_PlaneDouble[] planesDouble;
+    V3D_LineDouble[] linesDouble;
+    V3D_RayDouble[] raysDouble;
+    V3D_TriangleDouble[] trianglesDouble;
+    V3D_TetrahedraDouble[] tetrahedraDouble;
+    V3D_EnvelopeDouble[] boxesDouble;
+
+    V3D_Vector_d[] vectors_d;
+    V3D_Point_d[] points_d;
+    V3D_Plane_d[] planes_d;
+    V3D_Line_d[] lines_d;
+    V3D_Ray_d[] rays_d;
+    V3D_Triangle_d[] triangles_d;
+    V3D_Tetrahedron_d[] tetrahedra_d;
+    V3D_AABB_d[] boxes_d;
+
+    /**
+     * The index of the current input.
+     */
+    int i;
+
+    @Setup
+    public void setup() {
+        int n = V3D_Benchmarks.N;
+        Random r = new Random(V3D_Benchmarks.SEED);
+        V3D_Vector[] pe = V3D_Benchmarks.getVectors(r, den, n);
+        V3D_Vector[] qe = V3D_Benchmarks.getVectors(r, den, n);
+        V3D_Vector[] se = V3D_Benchmarks.getVectors(r, den, n);
+        V3D_Vector_d[] t = V3D_Benchmarks.toDouble(
+                V3D_Benchmarks.getVectors(r, den, n));
+        V3D_Vector[] oe = V3D_Benchmarks.getVectors(r, den, n);
+        V3D_Vector_d[] d = V3D_Benchmarks.toDouble(
+                V3D_Benchmarks.getDirections(oe, pe, qe, se));
+        V3D_Vector_d[] c = V3D_Benchmarks.toDouble(
+                V3D_Benchmarks.getBoxCorners(pe, qe));
+        V3D_Vector_d[] p = V3D_Benchmarks.toDouble(pe);
+        V3D_Vector_d[] q = V3D_Benchmarks.toDouble(qe);
+        V3D_Vector_d[] s = V3D_Benchmarks.toDouble(se);
+        V3D_Vector_d[] o = V3D_Benchmarks.toDouble(oe);
+        env = new V3D_Environment_d();
+        vectorsDouble = new V3D_VectorDouble[n];
+        pointsDouble = new V3D_PointDouble[n];
+        planesDouble = new V3D_PlaneDouble[n];
+        linesDouble = new V3D_LineDouble[n];
+        raysDouble = new V3D_RayDouble[n];
+        trianglesDouble = new V3D_TriangleDouble[n];
+        tetrahedraDouble = new V3D_TetrahedraDouble[n];
+        boxesDouble = new V3D_EnvelopeDouble[n];
+        vectors_d = new V3D_Vector_d[n];
+        points_d = new V3D_Point_d[n];
+        planes_d = new V3D_Plane_d[n];
+        lines_d = new V3D_Line_d[n];
+        rays_d = new V3D_Ray_d[n];
+        triangles_d = new V3D_Triangle_d[n];
+        tetrahedra_d = new V3D_Tetrahedron_d[n];
+        boxes_d = new V3D_AABB_d[n];
+        for (int j = 0; j < n; j++) {
+            V3D_VectorDouble pd = V3D_Converter_d.toVectorDouble(p[j]);
+            V3D_VectorDouble qd = V3D_Converter_d.toVectorDouble(q[j]);
+            V3D_VectorDouble sd = V3D_Converter_d.toVectorDouble(s[j]);
+            V3D_VectorDouble td = V3D_Converter_d.toVectorDouble(t[j]);
+            V3D_VectorDouble dd = V3D_Converter_d.toVectorDouble(d[j]);
+            V3D_PointDouble od = new V3D_PointDouble(
+                    V3D_Converter_d.toVectorDouble(o[j]));
+            vectorsDouble[j] = pd;
+            pointsDouble[j] = od;
+            planesDouble[j] = new V3D_PlaneDouble(pd, qd, sd);
+            linesDouble[j] = new V3D_LineDouble(od, dd);
+            raysDouble[j] = new V3D_RayDouble(od, dd);
+            trianglesDouble[j] = new V3D_TriangleDouble(pd, qd, sd);
+            tetrahedraDouble[j] = new V3D_TetrahedraDouble(
+                    V3D_VectorDouble.ZERO, pd, qd, sd, td);
+            boxesDouble[j] = new V3D_EnvelopeDouble(new V3D_PointDouble(pd),
+                    new V3D_PointDouble(
+                            V3D_Converter_d.toVectorDouble(c[j])));
+            V3D_Point_d op = new V3D_Point_d(env, o[j]);
+            vectors_d[j] = p[j];
+            points_d[j] = op;
+            planes_d[j] = new V3D_Plane_d(env, p[j], q[j], s[j]);
+            lines_d[j] = new V3D_Line_d(op, d[j]);
+            rays_d[j] = new V3D_Ray_d(op, d[j]);
+            triangles_d[j] = new V3D_Triangle_d(env, p[j], q[j], s[j]);
+            tetrahedra_d[j] = new V3D_Tetrahedron_d(env, V3D_Vector_d.ZERO,
+                    p[j], q[j], s[j], t[j]);
+            boxes_d[j] = new V3D_AABB_d(new V3D_Point_d(env, p[j]),
+                    new V3D_Point_d(env, c[j]));
+        }
+    }
+
+    /**
+     * @return The index of the next input.
+     */
+    private int next() {
+        i = (i + 1) & V3D_Benchmarks.MASK;
+        return i;
+    }
+
+    /**
+     * @param j An index.
+     * @return The index after j.
+     */
+    private static int after(int j) {
+        return (j + 1) & V3D_Benchmarks.MASK;
+    }
+
+    @Benchmark
+    public V3D_VectorDouble vectorAddDouble() {
+        int j = next();
+        return vectorsDouble[j].add(vectorsDouble[after(j)]);
+    }
+
+    @Benchmark
+    public V3D_Vector_d vectorAdd_d() {
+        int j = next();
+        return vectors_d[j].add(vectors_d[after(j)]);
+    }
+
+    @Benchmark
+    public V3D_VectorDouble vectorGetCrossProductDouble() {
+        int j = next();
+        return vectorsDouble[j].getCrossProduct(vectorsDouble[after(j)]);
+    }
+
+    @Benchmark
+    public V3D_Vector_d vectorGetCrossProduct_d() {
+        int j = next();
+        return vectors_d[j].getCrossProduct(vectors_d[after(j)]);
+    }
+
+    @Benchmark
+    public int planeGetSideOfPlaneDouble() {
+        int j = next();
+        return planesDouble[j].getSideOfPlane(pointsDouble[after(j)],
+                epsilon);
+    }
+
+    @Benchmark
+    public int planeGetSideOfPlane_d() {
+        int j = next();
+        return planes_d[j].getSideOfPlane(points_d[after(j)], epsilon);
+    }
+
+    @Benchmark
+    public V3D_GeometryDouble planeGetIntersectLineDouble() {
+        int j = next();
+        return planesDouble[j].getIntersection(linesDouble[j], epsilon);
+    }
+
+    @Benchmark
+    public V3D_Geometry_d planeGetIntersectLine_d() {
+        int j = next();
+        return planes_d[j].getIntersect(lines_d[j], epsilon);
+    }
+
+    @Benchmark
+    public V3D_FiniteGeometryDouble triangleGetIntersectRayDouble() {
+        int j = next();
+        return trianglesDouble[j].getIntersection(raysDouble[j], epsilon);
+    }
+
+    @Benchmark
+    public V3D_FiniteGeometry_d triangleGetIntersectRay_d() {
+        int j = next();
+        return triangles_d[j].getIntersect(rays_d[j], epsilon);
+    }
+
+    @Benchmark
+    public V3D_FiniteGeometry_d convertTriangleGetIntersectRay_d() {
+        int j = next();
+        return V3D_Converter_d.toTriangle_d(env, trianglesDouble[j])
+                .getIntersect(V3D_Converter_d.toRay_d(env, raysDouble[j]),
+                        epsilon);
+    }
+
+    @Benchmark
+    public V3D_FiniteGeometryDouble triangleGetIntersectTriangleDouble() {
+        int j = next();
+        return trianglesDouble[j].getIntersection(trianglesDouble[after(j)],
+                epsilon);
+    }
+
+    @Benchmark
+    public V3D_FiniteGeometry_d triangleGetIntersectTriangle_d() {
+        int j = next();
+        return triangles_d[j].getIntersect(triangles_d[after(j)], epsilon);
+    }
+
+    @Benchmark
+    public V3D_FiniteGeometryDouble tetrahedronGetIntersectPlaneDouble() {
+        int j = next();
+        return tetrahedraDouble[j].getIntersection(planesDouble[after(j)],
+                epsilon);
+    }
+
+    @Benchmark
+    public V3D_FiniteGeometry_d tetrahedronGetIntersectPlane_d() {
+        int j = next();
+        return tetrahedra_d[j].getIntersect(planes_d[after(j)], epsilon);
+    }
+
+    @Benchmark
+    public double triangleGetDistancePointDouble() {
+        int j = next();
+        return trianglesDouble[j].getDistance(pointsDouble[j], epsilon);
+    }
+
+    @Benchmark
+    public double triangleGetDistancePoint_d() {
+        int j = next();
+        return triangles_d[j].getDistance(points_d[j], epsilon);
+    }
+
+    @Benchmark
+    public double tetrahedronGetDistancePointDouble() {
+        int j = next();
+        return tetrahedraDouble[j].getDistance(pointsDouble[j], epsilon);
+    }
+
+    @Benchmark
+    public double tetrahedronGetDistancePoint_d() {
+        int j = next();
+        return tetrahedra_d[j].getDistance(points_d[j], epsilon);
+    }
+
+    @Benchmark
+    public boolean boxIntersectsBoxDouble() {
+        int j = next();
+        return boxesDouble[j].isIntersectedBy(boxesDouble[after(j)]);
+    }
+
+    @Benchmark
+    public boolean boxIntersectsBox_d() {
+        int j = next();
+        return boxes_d[j].intersects(boxes_d[after(j)]);
+    }
+
+    @Benchmark
+    public V3D_EnvelopeDouble boxUnionDouble() {
+        int j = next();
+        return boxesDouble[j].union(boxesDouble[after(j)]);
+    }
+
+    @Benchmark
+    public V3D_AABB_d boxUnion_d() {
+        int j = next();
+        return boxes_d[j].union(boxes_d[after(j)]);
+    }
+
+    @Benchmark
+    public boolean triangleIntersectsBoxDouble() {
+        int j = next();
+        return trianglesDouble[j].isIntersectedBy(boxesDouble[after(j)],
+                epsilon);
+    }
+
+    @Benchmark
+    public boolean triangleIntersectsBox_d() {
+        int j = next();
+        return triangles_d[j].intersects(boxes_d[after(j)], epsilon);
+    }
+}
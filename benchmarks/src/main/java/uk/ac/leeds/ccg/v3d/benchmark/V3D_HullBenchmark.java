@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.benchmark;
+
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.ac.leeds.ccg.v3d.core.V3D_Environment;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_ConvexArea;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Point;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Vector;
+
+/**
+ * Benchmarks for calculating the convex hulls of sets of coplanar points as
+ * exact geometries. See {@link V3D_Hull_dBenchmark} for the double version.
+ *
+ * The inputs for each invocation are built afresh from copies of the
+ * generated vectors (see {@link V3D_Benchmarks#copy(V3D_Vector)}) so that
+ * cached values are not reused.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class V3D_HullBenchmark {
+
+    /**
+     * The number of sets of points.
+     */
+    static final int SETS = 16;
+
+    /**
+     * The Order of Magnitude for the precision.
+     */
+    @Param({"-3", "-10", "-30"})
+    public int oom;
+
+    /**
+     * The denominator of the coordinates.
+     */
+    @Param({"1", "12"})
+    public int den;
+
+    /**
+     * The number of points in each set.
+     */
+    @Param({"8", "64"})
+    public int size;
+
+    /**
+     * The RoundingMode for any rounding.
+     */
+    public RoundingMode rm = RoundingMode.HALF_UP;
+
+    /**
+     * The environment.
+     */
+    V3D_Environment env;
+
+    /**
+     * The sets of vectors from which the points for each invocation are
+     * built.
+     */
+    V3D_Vector[][] vs;
+
+    /**
+     * The index of the current input.
+     */
+    int i;
+
+    /**
+     * The points for an invocation.
+     */
+    V3D_Point[] points;
+
+    /**
+     * The normal for an invocation.
+     */
+    V3D_Vector n;
+
+    @Setup
+    public void setup() {
+        Random r = new Random(V3D_Benchmarks.SEED);
+        env = new V3D_Environment(oom, rm);
+        vs = new V3D_Vector[SETS][];
+        for (int j = 0; j < SETS; j++) {
+            vs[j] = V3D_Benchmarks.getPlanarVectors(r, den, size);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void next() {
+        i = (i + 1) % SETS;
+        n = new V3D_Vector(0, 0, 1);
+        points = new V3D_Point[size];
+        for (int k = 0; k < size; k++) {
+            points[k] = new V3D_Point(env, V3D_Benchmarks.copy(vs[i][k]));
+        }
+    }
+
+    @Benchmark
+    public V3D_ConvexArea getConvexArea() {
+        return new V3D_ConvexArea(oom, rm, n, points);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.ac.leeds.ccg.v3d.core.d.V3D_Environment_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_ConvexArea_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Point_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Vector_d;
+
+/**
+ * Benchmarks for calculating the convex hulls of sets of coplanar points as
+ * double geometries. The inputs are those of {@link V3D_HullBenchmark}
+ * converted to doubles.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class V3D_Hull_dBenchmark {
+
+    /**
+     * The denominator of the coordinates the inputs are generated from.
+     */
+    @Param({"1", "12"})
+    public int den;
+
+    /**
+     * The number of points in each set.
+     */
+    @Param({"8", "64"})
+    public int size;
+
+    /**
+     * The tolerance.
+     */
+    public double epsilon = 1d / 100000000d;
+
+    /**
+     * The sets of points.
+     */
+    V3D_Point_d[][] points;
+
+    /**
+     * The normal of the plane of the points.
+     */
+    V3D_Vector_d n;
+
+    /**
+     * The index of the current input.
+     */
+    int i;
+
+    @Setup
+    public void setup() {
+        Random r = new Random(V3D_Benchmarks.SEED);
+        V3D_Environment_d env = new V3D_Environment_d();
+        n = new V3D_Vector_d(0, 0, 1);
+        points = new V3D_Point_d[V3D_HullBenchmark.SETS][];
+        for (int j = 0; j < V3D_HullBenchmark.SETS; j++) {
+            V3D_Vector_d[] v = V3D_Benchmarks.toDouble(
+                    V3D_Benchmarks.getPlanarVectors(r, den, size));
+            points[j] = new V3D_Point_d[size];
+            for (int k = 0; k < size; k++) {
+                points[j][k] = new V3D_Point_d(env, v[k]);
+            }
+        }
+    }
+
+    @Benchmark
+    public V3D_ConvexArea_d getConvexArea() {
+        i = (i + 1) % V3D_HullBenchmark.SETS;
+        return new V3D_ConvexArea_d(epsilon, n, points[i]);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.benchmark;
+
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.ac.leeds.ccg.v3d.core.V3D_Environment;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_AABB;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Point;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Rectangle;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Vector;
+
+/**
+ * Benchmarks for calculating the viewports of exact boxes. The boxes are
+ * viewed from a point in front of all of them and the vector pointing to the
+ * right of each viewport is orthogonal to the direction to the centroid of
+ * the box. See {@link V3D_Projection_dBenchmark} for the double version.
+ *
+ * The inputs for each invocation are built afresh from copies of the
+ * generated vectors (see {@link V3D_Benchmarks#copy(V3D_Vector)}) so that
+ * cached values are not reused.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class V3D_ProjectionBenchmark {
+
+    /**
+     * The Order of Magnitude for the precision.
+     */
+    @Param({"-3", "-10", "-30"})
+    public int oom;
+
+    /**
+     * The denominator of the coordinates.
+     */
+    @Param({"1", "12"})
+    public int den;
+
+    /**
+     * The RoundingMode for any rounding.
+     */
+    public RoundingMode rm = RoundingMode.HALF_UP;
+
+    /**
+     * The environment.
+     */
+    V3D_Environment env;
+
+    /**
+     * The vectors from which the inputs for each invocation are built.
+     */
+    V3D_Vector[] p, q, vs;
+
+    /**
+     * The index of the current input.
+     */
+    int i;
+
+    /**
+     * The box for an invocation.
+     */
+    V3D_AABB box;
+
+    /**
+     * The vector for an invocation.
+     */
+    V3D_Vector v;
+
+    /**
+     * The point for an invocation.
+     */
+    V3D_Point pt;
+
+    @Setup
+    public void setup() {
+        int n = V3D_Benchmarks.N;
+        Random r = new Random(V3D_Benchmarks.SEED);
+        p = V3D_Benchmarks.getVectors(r, den, n);
+        q = V3D_Benchmarks.getBoxCorners(p,
+                V3D_Benchmarks.getVectors(r, den, n));
+        env = new V3D_Environment(oom, rm);
+        V3D_Point pt0 = new V3D_Point(env, 0L, 0L, -1000L);
+        V3D_Vector up = new V3D_Vector(0, 1, 0);
+        vs = new V3D_Vector[n];
+        for (int j = 0; j < n; j++) {
+            V3D_AABB b = new V3D_AABB(oom, new V3D_Point(env, p[j]),
+                    new V3D_Point(env, q[j]));
+            vs[j] = new V3D_Vector(pt0, b.getCentroid(oom, rm), oom, rm)
+                    .getCrossProduct(up, oom, rm);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void next() {
+        i = (i + 1) & V3D_Benchmarks.MASK;
+        box = new V3D_AABB(oom, new V3D_Point(env, V3D_Benchmarks.copy(p[i])),
+                new V3D_Point(env, V3D_Benchmarks.copy(q[i])));
+        v = V3D_Benchmarks.copy(vs[i]);
+        pt = new V3D_Point(env, 0L, 0L, -1000L);
+    }
+
+    @Benchmark
+    public V3D_Rectangle getViewport() {
+        return box.getViewport(pt, v, oom, rm);
+    }
+
+    @Benchmark
+    public V3D_Rectangle getViewport2() {
+        return box.getViewport2(pt, v, oom, rm);
+    }
+
+    @Benchmark
+    public V3D_Rectangle getViewport3() {
+        return box.getViewport3(pt, v, oom, rm);
+    }
+}
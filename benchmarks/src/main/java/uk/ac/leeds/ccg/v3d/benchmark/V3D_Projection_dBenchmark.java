@@ -0,0 +1,162 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.ac.leeds.ccg.v3d.core.d.V3D_Environment_d;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Vector;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_AABB_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Point_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Rectangle_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Vector_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Viewport_d;
+
+/**
+ * Benchmarks for calculating the viewports of double boxes. The inputs are
+ * those of {@link V3D_ProjectionBenchmark} converted to doubles. This
+ * compares the ray and plane intersection based
+ * {@link V3D_AABB_d#getViewport(V3D_Point_d, V3D_Vector_d, double)},
+ * {@link V3D_AABB_d#getViewport2(V3D_Point_d, V3D_Vector_d, double)} and
+ * {@link V3D_AABB_d#getViewport3(V3D_Point_d, V3D_Vector_d, double, double)}
+ * with the projection based
+ * {@link V3D_AABB_d#getViewportProjected(V3D_Point_d, V3D_Vector_d)} and with
+ * {@link V3D_Viewport_d} used directly for one box and for a batch of boxes.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class V3D_Projection_dBenchmark {
+
+    /**
+     * The denominator of the coordinates the inputs are generated from.
+     */
+    @Param({"1", "12"})
+    public int den;
+
+    /**
+     * The tolerance.
+     */
+    public double epsilon = 1d / 100000000d;
+
+    /**
+     * The boxes.
+     */
+    V3D_AABB_d[] boxes;
+
+    /**
+     * The vectors pointing to the right of the viewport of each box.
+     */
+    V3D_Vector_d[] vs;
+
+    /**
+     * The point the boxes are viewed from.
+     */
+    V3D_Point_d pt;
+
+    /**
+     * For projecting the boxes looking along the z axis.
+     */
+    V3D_Viewport_d viewport;
+
+    /**
+     * For the results of projections.
+     */
+    double[] out;
+
+    /**
+     * The index of the current input.
+     */
+    int i;
+
+    @Setup
+    public void setup() {
+        int n = V3D_Benchmarks.N;
+        Random r = new Random(V3D_Benchmarks.SEED);
+        V3D_Vector[] pe = V3D_Benchmarks.getVectors(r, den, n);
+        V3D_Vector_d[] q = V3D_Benchmarks.toDouble(V3D_Benchmarks
+                .getBoxCorners(pe, V3D_Benchmarks.getVectors(r, den, n)));
+        V3D_Vector_d[] p = V3D_Benchmarks.toDouble(pe);
+        V3D_Environment_d env = new V3D_Environment_d();
+        pt = new V3D_Point_d(env, 0d, 0d, -1000d);
+        V3D_Vector_d up = new V3D_Vector_d(0, 1, 0);
+        boxes = new V3D_AABB_d[n];
+        vs = new V3D_Vector_d[n];
+        for (int j = 0; j < n; j++) {
+            boxes[j] = new V3D_AABB_d(new V3D_Point_d(env, p[j]),
+                    new V3D_Point_d(env, q[j]));
+            vs[j] = new V3D_Vector_d(pt, boxes[j].getCentroid())
+                    .getCrossProduct(up);
+        }
+        viewport = new V3D_Viewport_d(pt, new V3D_Vector_d(0, 0, 1),
+                new V3D_Vector_d(1, 0, 0));
+        out = new double[n * 5];
+    }
+
+    @Benchmark
+    public V3D_Rectangle_d getViewport() {
+        i = (i + 1) & V3D_Benchmarks.MASK;
+        return boxes[i].getViewport(pt, vs[i], epsilon);
+    }
+
+    @Benchmark
+    public V3D_Rectangle_d getViewport2() {
+        i = (i + 1) & V3D_Benchmarks.MASK;
+        return boxes[i].getViewport2(pt, vs[i], epsilon);
+    }
+
+    @Benchmark
+    public V3D_Rectangle_d getViewport3() {
+        i = (i + 1) & V3D_Benchmarks.MASK;
+        return boxes[i].getViewport3(pt, vs[i], 1d, epsilon);
+    }
+
+    @Benchmark
+    public V3D_Rectangle_d getViewportProjected() {
+        i = (i + 1) & V3D_Benchmarks.MASK;
+        return boxes[i].getViewportProjected(pt, vs[i]);
+    }
+
+    @Benchmark
+    public boolean viewportProject() {
+        i = (i + 1) & V3D_Benchmarks.MASK;
+        return viewport.project(boxes[i], out, 0);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(V3D_Benchmarks.N)
+    public int viewportProjectBatch() {
+        return viewport.project(boxes, out);
+    }
+}
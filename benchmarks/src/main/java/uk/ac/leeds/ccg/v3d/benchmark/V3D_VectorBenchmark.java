@@ -0,0 +1,143 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.benchmark;
+
+import ch.obermuhlner.math.big.BigRational;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.ac.leeds.ccg.v3d.core.V3D_Environment;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Vector;
+
+/**
+ * Benchmarks for {@link V3D_Vector}. See {@link V3D_Vector_dBenchmark} for
+ * the double version.
+ *
+ * The inputs for each invocation are built afresh from copies of the
+ * generated vectors (see {@link V3D_Benchmarks#copy(V3D_Vector)}) so that
+ * cached values are not reused.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class V3D_VectorBenchmark {
+
+    /**
+     * The Order of Magnitude for the precision.
+     */
+    @Param({"-3", "-10", "-30"})
+    public int oom;
+
+    /**
+     * The denominator of the components.
+     */
+    @Param({"1", "12"})
+    public int den;
+
+    /**
+     * The RoundingMode for any rounding.
+     */
+    public RoundingMode rm = RoundingMode.HALF_UP;
+
+    /**
+     * The vectors from which those for each invocation are copied.
+     */
+    V3D_Vector[] vs;
+
+    /**
+     * The axis of rotation from which that for each invocation is copied.
+     */
+    V3D_Vector uv0;
+
+    /**
+     * The index of the current input.
+     */
+    int i;
+
+    /**
+     * The vectors for an invocation.
+     */
+    V3D_Vector a, b;
+
+    /**
+     * The axis of rotation for an invocation.
+     */
+    V3D_Vector uv;
+
+    /**
+     * The angle of rotation.
+     */
+    BigRational theta;
+
+    @Setup
+    public void setup() {
+        vs = V3D_Benchmarks.getVectors(new Random(V3D_Benchmarks.SEED), den,
+                V3D_Benchmarks.N);
+        uv0 = new V3D_Vector(1, 2, 2).getUnitVector(oom, rm);
+        theta = BigRational.valueOf(1, 3);
+    }
+
+    @Setup(Level.Invocation)
+    public void next() {
+        i = (i + 1) & V3D_Benchmarks.MASK;
+        a = V3D_Benchmarks.copy(vs[i]);
+        b = V3D_Benchmarks.copy(vs[(i + 1) & V3D_Benchmarks.MASK]);
+        uv = V3D_Benchmarks.copy(uv0);
+    }
+
+    @Benchmark
+    public V3D_Vector add() {
+        return a.add(b, oom, rm);
+    }
+
+    @Benchmark
+    public BigRational getDotProduct() {
+        return a.getDotProduct(b, oom, rm);
+    }
+
+    @Benchmark
+    public V3D_Vector getCrossProduct() {
+        return a.getCrossProduct(b, oom, rm);
+    }
+
+    @Benchmark
+    public V3D_Vector getUnitVector() {
+        return a.getUnitVector(oom, rm);
+    }
+
+    @Benchmark
+    public V3D_Vector rotateN() {
+        return a.rotateN(uv, V3D_Environment.bd, theta, oom, rm);
+    }
+}
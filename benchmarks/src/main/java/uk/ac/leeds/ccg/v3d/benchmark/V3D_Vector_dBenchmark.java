@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Vector_d;
+
+/**
+ * Benchmarks for {@link V3D_Vector_d}. See {@link V3D_VectorBenchmark} for
+ * the exact version.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class V3D_Vector_dBenchmark {
+
+    /**
+     * The denominator of the components the inputs are generated from.
+     */
+    @Param({"1", "12"})
+    public int den;
+
+    /**
+     * The vectors.
+     */
+    V3D_Vector_d[] vs;
+
+    /**
+     * The axis of rotation.
+     */
+    V3D_Vector_d uv;
+
+    /**
+     * The angle of rotation.
+     */
+    double theta;
+
+    /**
+     * The index of the current input.
+     */
+    int i;
+
+    @Setup
+    public void setup() {
+        vs = V3D_Benchmarks.toDouble(V3D_Benchmarks.getVectors(
+                new Random(V3D_Benchmarks.SEED), den, V3D_Benchmarks.N));
+        uv = new V3D_Vector_d(1, 2, 2).getUnitVector();
+        theta = 1d / 3d;
+    }
+
+    @Benchmark
+    public V3D_Vector_d add() {
+        i = (i + 1) & V3D_Benchmarks.MASK;
+        return vs[i].add(vs[(i + 1) & V3D_Benchmarks.MASK]);
+    }
+
+    @Benchmark
+    public double getDotProduct() {
+        i = (i + 1) & V3D_Benchmarks.MASK;
+        return vs[i].getDotProduct(vs[(i + 1) & V3D_Benchmarks.MASK]);
+    }
+
+    @Benchmark
+    public V3D_Vector_d getCrossProduct() {
+        i = (i + 1) & V3D_Benchmarks.MASK;
+        return vs[i].getCrossProduct(vs[(i + 1) & V3D_Benchmarks.MASK]);
+    }
+
+    @Benchmark
+    public V3D_Vector_d getUnitVector() {
+        i = (i + 1) & V3D_Benchmarks.MASK;
+        return vs[i].getUnitVector();
+    }
+
+    @Benchmark
+    public V3D_Vector_d rotateN() {
+        i = (i + 1) & V3D_Benchmarks.MASK;
+        return vs[i].rotateN(uv, theta);
+    }
+}
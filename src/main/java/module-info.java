@@ -21,10 +21,13 @@ module uk.ac.leeds.ccg.v3d {
 
     requires transitive uk.ac.leeds.ccg.math;
     requires transitive uk.ac.leeds.ccg.generic;
+    requires jdk.jfr;
     exports uk.ac.leeds.ccg.v3d.core;
     exports uk.ac.leeds.ccg.v3d.core.d;
     exports uk.ac.leeds.ccg.v3d.geometry;
     exports uk.ac.leeds.ccg.v3d.geometry.d;
     exports uk.ac.leeds.ccg.v3d.geometry.d.light;
     exports uk.ac.leeds.ccg.v3d.geometry.light;
+    exports uk.ac.leeds.ccg.v3d.io;
+    exports uk.ac.leeds.ccg.v3d.io.d;
 }
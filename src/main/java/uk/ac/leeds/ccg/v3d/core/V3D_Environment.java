@@ -59,6 +59,91 @@ public class V3D_Environment implements Serializable {
      */
     public static final BigRational N1 = BigRational.ONE.negate();
 
+    /**
+     * The smallest integer in the cache of small integers.
+     */
+    public static final int CACHE_MIN = -128;
+
+    /**
+     * The largest integer in the cache of small integers and the largest
+     * denominator in the cache of reciprocals.
+     */
+    public static final int CACHE_MAX = 1024;
+
+    /**
+     * For interning small integers.
+     */
+    private static final BigRational[] INTEGERS;
+
+    /**
+     * For interning reciprocals of small positive integers.
+     */
+    private static final BigRational[] RECIPROCALS;
+
+    static {
+        INTEGERS = new BigRational[CACHE_MAX - CACHE_MIN + 1];
+        for (int i = CACHE_MIN; i <= CACHE_MAX; i++) {
+            INTEGERS[i - CACHE_MIN] = switch (i) {
+                case -1 -> N1;
+                case 0 -> P0;
+                case 1 -> P1;
+                case 2 -> P2;
+                case 3 -> P3;
+                default -> BigRational.valueOf(i);
+            };
+        }
+        RECIPROCALS = new BigRational[CACHE_MAX + 1];
+        RECIPROCALS[1] = P1;
+        for (int i = 2; i <= CACHE_MAX; i++) {
+            RECIPROCALS[i] = BigRational.valueOf(1, i);
+        }
+    }
+
+    /**
+     * 1/2
+     */
+    public static final BigRational HALF = RECIPROCALS[2];
+
+    /**
+     * Returns a shared instance for integers from {@link #CACHE_MIN} to
+     * {@link #CACHE_MAX}, otherwise a new one. Use this instead of
+     * {@link BigRational#valueOf(long)} in loops where small integers are
+     * common.
+     *
+     * @param i The integer.
+     * @return i as a BigRational.
+     */
+    public static BigRational valueOf(long i) {
+        if (i >= CACHE_MIN && i <= CACHE_MAX) {
+            return INTEGERS[(int) i - CACHE_MIN];
+        }
+        return BigRational.valueOf(i);
+    }
+
+    /**
+     * Returns a shared instance for n from 1 to {@link #CACHE_MAX}, otherwise
+     * a new one. Multiplying by this is cheaper than dividing by n as
+     * {@code BigRational.divide(int)} creates two intermediate values.
+     *
+     * @param n The denominator which must not be zero.
+     * @return 1/n.
+     */
+    public static BigRational getReciprocal(int n) {
+        if (n >= 1 && n <= CACHE_MAX) {
+            return RECIPROCALS[n];
+        }
+        return BigRational.valueOf(1, n);
+    }
+
+    /**
+     * @param x The value to divide.
+     * @param n The divisor which must not be zero.
+     * @return x/n calculated by multiplying x by {@link #getReciprocal(int)}.
+     */
+    public static BigRational divide(BigRational x, int n) {
+        return x.multiply(getReciprocal(n));
+    }
+
     /**
      * An instance that helps with calculations involving PI and Taylor series.
      */
@@ -84,6 +169,23 @@ public class V3D_Environment implements Serializable {
      */
     public RoundingMode rm;
     
+    /**
+     * The policy for running internal loops sequentially or in parallel.
+     */
+    public V3D_ExecutionPolicy policy;
+
+    /**
+     * For counting operations. If this is {@code null}, which is the default,
+     * then operations are not counted. See {@link V3D_Metrics}.
+     */
+    public V3D_Metrics metrics;
+
+    /**
+     * The policy for rounding coordinates of geometries as they are
+     * transformed. See {@link V3D_RoundingPolicy}.
+     */
+    public V3D_RoundingPolicy rounding;
+
     /**
      * The shapes.
      */
@@ -103,6 +205,8 @@ public class V3D_Environment implements Serializable {
     public V3D_Environment(int oom, RoundingMode rm){
         this.oom = oom;
         this.rm = rm;
+        policy = V3D_ExecutionPolicy.DEFAULT;
+        rounding = V3D_RoundingPolicy.EXACT;
         shapes = new HashMap<>();
         ids = new HashSet<>();
     }
@@ -131,6 +235,33 @@ public class V3D_Environment implements Serializable {
         return id;
     }
     
+    /**
+     * Put shape in {@link #shapes} with a given id, such as when restoring
+     * shapes that were saved. Any ids skipped over are kept free so that
+     * {@link #getNextID()} does not return an id that is in use.
+     *
+     * @param id The id of the shape. 
+     * @param shape The shape to be put in {@link #shapes}.
+     * @throws IllegalArgumentException If id is negative or in use.
+     */
+    public void add(int id, V3D_Volume shape) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Negative shape id " + id);
+        }
+        if (shapes.containsKey(id)) {
+            throw new IllegalArgumentException("Shape id " + id + " in use");
+        }
+        int n = shapes.size() + ids.size();
+        if (id < n) {
+            ids.remove(id);
+        } else {
+            for (int i = n; i < id; i++) {
+                ids.add(i);
+            }
+        }
+        shapes.put(id, shape);
+    }
+    
     /**
      * @param id The id of the shape to remove. 
      */
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.core;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import uk.ac.leeds.ccg.v3d.core.d.V3D_Environment_d;
+
+/**
+ * V3D_ExecutionPolicy decides whether the internal loops over the components
+ * of a geometry (points, edges, faces, triangles, etc.) are run sequentially
+ * or in parallel. All such loops in the library are routed through the policy
+ * of the environment of the geometry so that tiny collections do not flood
+ * the common ForkJoinPool. There are three kinds of policy:
+ * <ul>
+ * <li>{@link #SEQUENTIAL} - everything is run sequentially.</li>
+ * <li>{@link #threshold(int)} - collections with fewer elements than the
+ * threshold are run sequentially, larger ones are run in parallel in the
+ * common ForkJoinPool.</li>
+ * <li>{@link #pool(java.util.concurrent.ForkJoinPool, int)} - as for a
+ * threshold policy, but parallel work is run in the given pool.</li>
+ * </ul>
+ * For threshold and pool policies, work that is requested from within a
+ * ForkJoinPool worker thread is run sequentially as the caller is already
+ * parallel.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_ExecutionPolicy implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The default threshold.
+     */
+    public static final int DEFAULT_THRESHOLD = 64;
+
+    /**
+     * A policy for running everything sequentially.
+     */
+    public static final V3D_ExecutionPolicy SEQUENTIAL
+            = new V3D_ExecutionPolicy(Integer.MAX_VALUE, null);
+
+    /**
+     * The default policy: a threshold policy with threshold
+     * {@link #DEFAULT_THRESHOLD}.
+     */
+    public static final V3D_ExecutionPolicy DEFAULT
+            = new V3D_ExecutionPolicy(DEFAULT_THRESHOLD, null);
+
+    /**
+     * The minimum number of elements in a collection for it to be processed
+     * in parallel.
+     */
+    public final int threshold;
+
+    /**
+     * The pool in which parallel work is run. If this is {@code null}, then
+     * the common ForkJoinPool is used.
+     */
+    protected final transient ForkJoinPool pool;
+
+    /**
+     * Create a new instance.
+     *
+     * @param threshold What {@link #threshold} is set to.
+     * @param pool What {@link #pool} is set to.
+     */
+    protected V3D_ExecutionPolicy(int threshold, ForkJoinPool pool) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold < 1");
+        }
+        this.threshold = threshold;
+        this.pool = pool;
+    }
+
+    /**
+     * @param threshold The minimum number of elements in a collection for it
+     * to be processed in parallel.
+     * @return A threshold policy.
+     */
+    public static V3D_ExecutionPolicy threshold(int threshold) {
+        return new V3D_ExecutionPolicy(threshold, null);
+    }
+
+    /**
+     * @param pool The pool in which parallel work is run.
+     * @param threshold The minimum number of elements in a collection for it
+     * to be processed in parallel.
+     * @return A pool policy.
+     */
+    public static V3D_ExecutionPolicy pool(ForkJoinPool pool, int threshold) {
+        if (pool == null) {
+            throw new IllegalArgumentException("pool == null");
+        }
+        return new V3D_ExecutionPolicy(threshold, pool);
+    }
+
+    /**
+     * @param env The environment (may be {@code null}).
+     * @return The policy of env, or {@link #DEFAULT} if either env or its
+     * policy is {@code null}.
+     */
+    public static V3D_ExecutionPolicy get(V3D_Environment env) {
+        if (env == null || env.policy == null) {
+            return DEFAULT;
+        }
+        return env.policy;
+    }
+
+    /**
+     * @param env The environment (may be {@code null}).
+     * @return The policy of env, or {@link #DEFAULT} if either env or its
+     * policy is {@code null}.
+     */
+    public static V3D_ExecutionPolicy get(V3D_Environment_d env) {
+        if (env == null || env.policy == null) {
+            return DEFAULT;
+        }
+        return env.policy;
+    }
+
+    /**
+     * @return The pool in which parallel work is run, or {@code null} if the
+     * common ForkJoinPool is used.
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * @param n The number of elements to process.
+     * @return {@code true} if n elements are to be processed in parallel.
+     */
+    public boolean isParallel(int n) {
+        return n >= threshold && !ForkJoinTask.inForkJoinPool();
+    }
+
+    /**
+     * @param <T> The type of element.
+     * @param c The collection.
+     * @param p The predicate.
+     * @return {@code true} if any element of c matches p.
+     */
+    public <T> boolean anyMatch(Collection<T> c, Predicate<? super T> p) {
+        if (!isParallel(c.size())) {
+            for (T x : c) {
+                if (p.test(x)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return run(() -> c.parallelStream().anyMatch(p));
+    }
+
+    /**
+     * @param <T> The type of element.
+     * @param c The collection.
+     * @param p The predicate.
+     * @return {@code true} if all elements of c match p.
+     */
+    public <T> boolean allMatch(Collection<T> c, Predicate<? super T> p) {
+        if (!isParallel(c.size())) {
+            for (T x : c) {
+                if (!p.test(x)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return run(() -> c.parallelStream().allMatch(p));
+    }
+
+    /**
+     * @param <T> The type of element.
+     * @param c The collection.
+     * @param a The action to perform on each element.
+     */
+    public <T> void forEach(Collection<T> c, Consumer<? super T> a) {
+        if (!isParallel(c.size())) {
+            c.forEach(a);
+        } else {
+            run(() -> {
+                c.parallelStream().forEach(a);
+                return Boolean.TRUE;
+            });
+        }
+    }
+
+    /**
+     * Runs task in {@link #pool} if there is one, otherwise runs it in the
+     * calling thread.
+     *
+     * @param task The task.
+     * @return The result of the task.
+     */
+    private boolean run(Supplier<Boolean> task) {
+        if (pool == null) {
+            return task.get();
+        }
+        return pool.submit((Callable<Boolean>) task::get).join();
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + "(threshold=" + threshold
+                + ", pool=" + pool + ")";
+    }
+}
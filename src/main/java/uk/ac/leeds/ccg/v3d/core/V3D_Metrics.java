@@ -0,0 +1,265 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.core;
+
+import java.io.Serializable;
+import java.util.EnumMap;
+import java.util.concurrent.atomic.LongAdder;
+import uk.ac.leeds.ccg.v3d.core.d.V3D_Environment_d;
+
+/**
+ * V3D_Metrics counts geometry operations so that it can be seen which
+ * dominate in a pipeline. Instrumentation is off unless the {@code metrics}
+ * of an environment is set, for example:
+ * <pre>
+ * env.metrics = new V3D_Metrics(false);
+ * V3D_Metrics.Snapshot before = env.metrics.getSnapshot();
+ * ... run the pipeline ...
+ * V3D_Metrics.Snapshot counts = env.metrics.getSnapshot().subtract(before);
+ * long escalations = counts.getCount(V3D_Metrics.Op.ESCALATE);
+ * </pre>
+ * Snapshots are immutable, so they can be returned, compared or passed to a
+ * logger.
+ * When the metrics of an environment are {@code null}, which is the default,
+ * the cost of an instrumented call is a {@code null} check. Otherwise each
+ * counted operation adds to a {@link LongAdder}, so instances can be shared
+ * by threads and environments. If {@link #events} is {@code true} a
+ * {@link V3D_OperationEvent} is also committed for each counted operation if
+ * Java Flight Recorder is recording these events.
+ *
+ * The counts are of calls to public entry points, some of which call others,
+ * so counts of a type of operation include any nested calls.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_Metrics implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The types of operation counted.
+     */
+    public enum Op {
+
+        /**
+         * An intersection test or calculation.
+         */
+        INTERSECT,
+        /**
+         * A distance calculation.
+         */
+        DISTANCE,
+        /**
+         * A convex hull calculation.
+         */
+        HULL,
+        /**
+         * A projection onto a viewport.
+         */
+        PROJECT,
+        /**
+         * A recalculation of a cached value with a higher precision (a lower
+         * Order of Magnitude) or a different RoundingMode.
+         */
+        ESCALATE,
+        /**
+         * The construction of a plane.
+         */
+        PLANE,
+        /**
+         * The construction of a line segment.
+         */
+        SEGMENT
+    }
+
+    /**
+     * For storing the counts indexed by {@link Op#ordinal()}.
+     */
+    private final LongAdder[] counts;
+
+    /**
+     * If {@code true} then Java Flight Recorder events are committed.
+     */
+    public final boolean events;
+
+    /**
+     * Create a new instance that commits Java Flight Recorder events.
+     */
+    public V3D_Metrics() {
+        this(true);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param events What {@link #events} is set to.
+     */
+    public V3D_Metrics(boolean events) {
+        this.events = events;
+        Op[] ops = Op.values();
+        counts = new LongAdder[ops.length];
+        for (int i = 0; i < ops.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Count an operation if env has metrics.
+     *
+     * @param env The environment (may be {@code null}).
+     * @param op The type of operation.
+     * @param g The object operated on.
+     */
+    public static void count(V3D_Environment env, Op op, Object g) {
+        if (env != null && env.metrics != null) {
+            env.metrics.add(op, g, 1L);
+        }
+    }
+
+    /**
+     * Count an operation if env has metrics.
+     *
+     * @param env The environment (may be {@code null}).
+     * @param op The type of operation.
+     * @param g The object operated on.
+     */
+    public static void count(V3D_Environment_d env, Op op, Object g) {
+        if (env != null && env.metrics != null) {
+            env.metrics.add(op, g, 1L);
+        }
+    }
+
+    /**
+     * Count operations if env has metrics.
+     *
+     * @param env The environment (may be {@code null}).
+     * @param op The type of operation.
+     * @param g The object operated on.
+     * @param n The number of operations.
+     */
+    public static void count(V3D_Environment_d env, Op op, Object g, long n) {
+        if (env != null && env.metrics != null) {
+            env.metrics.add(op, g, n);
+        }
+    }
+
+    /**
+     * Count operations.
+     *
+     * @param op The type of operation.
+     * @param g The object operated on.
+     * @param n The number of operations.
+     */
+    public void add(Op op, Object g, long n) {
+        counts[op.ordinal()].add(n);
+        if (events) {
+            V3D_OperationEvent e = new V3D_OperationEvent();
+            if (e.shouldCommit()) {
+                e.operation = op.name();
+                e.geometry = g.getClass().getSimpleName();
+                e.count = n;
+                e.commit();
+            }
+        }
+    }
+
+    /**
+     * @param op The type of operation.
+     * @return The number of operations of type op counted since creation or
+     * the last {@link #reset()}.
+     */
+    public long getCount(Op op) {
+        return counts[op.ordinal()].sum();
+    }
+
+    /**
+     * Reset all counts to zero.
+     */
+    public void reset() {
+        for (LongAdder c : counts) {
+            c.reset();
+        }
+    }
+
+    /**
+     * If operations are being counted concurrently, the counts in the
+     * snapshot may not all be from the same moment.
+     *
+     * @return A snapshot of the counts.
+     */
+    public Snapshot getSnapshot() {
+        EnumMap<Op, Long> m = new EnumMap<>(Op.class);
+        for (Op op : Op.values()) {
+            m.put(op, counts[op.ordinal()].sum());
+        }
+        return new Snapshot(m);
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + "(events=" + events
+                + ", counts=" + getSnapshot() + ")";
+    }
+
+    /**
+     * An unchanging copy of the counts.
+     */
+    public static class Snapshot implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The counts.
+         */
+        private final EnumMap<Op, Long> counts;
+
+        /**
+         * Create a new instance.
+         *
+         * @param counts What {@link #counts} is set to.
+         */
+        Snapshot(EnumMap<Op, Long> counts) {
+            this.counts = counts;
+        }
+
+        /**
+         * @param op The type of operation.
+         * @return The number of operations of type op.
+         */
+        public long getCount(Op op) {
+            return counts.get(op);
+        }
+
+        /**
+         * @param s An earlier snapshot.
+         * @return A snapshot of the number of operations counted between s
+         * and this.
+         */
+        public Snapshot subtract(Snapshot s) {
+            EnumMap<Op, Long> m = new EnumMap<>(Op.class);
+            for (Op op : Op.values()) {
+                m.put(op, counts.get(op) - s.counts.get(op));
+            }
+            return new Snapshot(m);
+        }
+
+        @Override
+        public String toString() {
+            return counts.toString();
+        }
+    }
+}
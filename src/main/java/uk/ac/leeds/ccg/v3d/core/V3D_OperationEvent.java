@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for a geometry operation. These are committed
+ * by {@link V3D_Metrics} when its {@link V3D_Metrics#events} is {@code true}
+ * and the event is enabled in the recording, for example with:
+ * {@code java -XX:StartFlightRecording:filename=rec.jfr ...}. The stack trace
+ * of each event shows what called the operation.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+@Name("uk.ac.leeds.ccg.v3d.Operation")
+@Label("Geometry Operation")
+@Category({"ccg-v3d"})
+@Description("An intersection, distance, hull, projection, precision escalation or plane or line segment allocation.")
+public class V3D_OperationEvent extends jdk.jfr.Event {
+
+    /**
+     * The name of the operation.
+     */
+    @Label("Operation")
+    public String operation;
+
+    /**
+     * The simple name of the class of the geometry operated on.
+     */
+    @Label("Geometry")
+    public String geometry;
+
+    /**
+     * The number of operations this event is for.
+     */
+    @Label("Count")
+    public long count;
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.core;
+
+import ch.obermuhlner.math.big.BigRational;
+import java.io.Serializable;
+import java.math.RoundingMode;
+
+/**
+ * V3D_RoundingPolicy controls the growth of the numerators and denominators
+ * of the BigRational coordinates of geometries that are repeatedly
+ * transformed. Long chains of exact operations, for example repeated rotation
+ * and translation, otherwise make each operation slower than the last. There
+ * are three kinds of policy:
+ * <ul>
+ * <li>{@link #EXACT} - nothing is rounded. This is the default.</li>
+ * <li>{@link #oom(int, java.math.RoundingMode, int)} - values are rounded to
+ * a multiple of {@code 10^oom} after every period operations.</li>
+ * <li>{@link #binary(int, java.math.RoundingMode, int)} - values are rounded
+ * to a multiple of {@code 2^-bits} after every period operations.</li>
+ * </ul>
+ * The policy of an environment is applied by geometries each time they are
+ * translated or rotated. Geometries count operations themselves, so the
+ * period is per geometry, and the result of a rotation carries the count.
+ * Rounding a geometry rounds the coordinates that define it and clears any
+ * values calculated from them. Rounding places values on a fixed grid, so the
+ * denominators of rounded values are bounded and the cost per operation stays
+ * flat.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_RoundingPolicy implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The types of policy.
+     */
+    public enum Type {
+
+        /**
+         * Nothing is rounded.
+         */
+        EXACT,
+        /**
+         * Values are rounded to a multiple of {@code 10^oom}.
+         */
+        OOM,
+        /**
+         * Values are rounded to a multiple of {@code 2^-bits}.
+         */
+        BINARY
+    }
+
+    /**
+     * A policy for keeping everything exact.
+     */
+    public static final V3D_RoundingPolicy EXACT = new V3D_RoundingPolicy(
+            Type.EXACT, 0, RoundingMode.HALF_UP, 1);
+
+    /**
+     * The type of policy.
+     */
+    public final Type type;
+
+    /**
+     * For {@link Type#OOM} this is the Order of Magnitude rounded to. For
+     * {@link Type#BINARY} this is the number of binary fraction digits kept.
+     */
+    public final int precision;
+
+    /**
+     * The RoundingMode.
+     */
+    public final RoundingMode rm;
+
+    /**
+     * The number of operations on a geometry after which it is rounded.
+     */
+    public final int period;
+
+    /**
+     * The reciprocal of the spacing of the grid rounded to.
+     */
+    private transient BigRational scale;
+
+    /**
+     * Create a new instance.
+     *
+     * @param type What {@link #type} is set to.
+     * @param precision What {@link #precision} is set to.
+     * @param rm What {@link #rm} is set to.
+     * @param period What {@link #period} is set to.
+     */
+    protected V3D_RoundingPolicy(Type type, int precision, RoundingMode rm,
+            int period) {
+        if (period < 1) {
+            throw new IllegalArgumentException("period < 1");
+        }
+        if (rm == RoundingMode.UNNECESSARY) {
+            throw new IllegalArgumentException("rm == UNNECESSARY");
+        }
+        this.type = type;
+        this.precision = precision;
+        this.rm = rm;
+        this.period = period;
+    }
+
+    /**
+     * @param oom The Order of Magnitude to round to.
+     * @param rm The RoundingMode.
+     * @param period The number of operations after which a geometry is
+     * rounded.
+     * @return A policy for rounding to a multiple of {@code 10^oom}.
+     */
+    public static V3D_RoundingPolicy oom(int oom, RoundingMode rm,
+            int period) {
+        return new V3D_RoundingPolicy(Type.OOM, oom, rm, period);
+    }
+
+    /**
+     * @param bits The number of binary fraction digits to keep.
+     * @param rm The RoundingMode.
+     * @param period The number of operations after which a geometry is
+     * rounded.
+     * @return A policy for rounding to a multiple of {@code 2^-bits}.
+     */
+    public static V3D_RoundingPolicy binary(int bits, RoundingMode rm,
+            int period) {
+        return new V3D_RoundingPolicy(Type.BINARY, bits, rm, period);
+    }
+
+    /**
+     * @param env The environment (may be {@code null}).
+     * @return The rounding policy of env or {@link #EXACT} if env or its
+     * rounding policy is {@code null}.
+     */
+    public static V3D_RoundingPolicy get(V3D_Environment env) {
+        if (env == null || env.rounding == null) {
+            return EXACT;
+        }
+        return env.rounding;
+    }
+
+    /**
+     * @return {@code true} iff this is of {@link Type#EXACT}.
+     */
+    public boolean isExact() {
+        return type == Type.EXACT;
+    }
+
+    /**
+     * @return The Order of Magnitude to approximate irrational values to
+     * before they are rounded. For {@link Type#BINARY} this is one less than
+     * the Order of Magnitude of {@code 2^-bits}.
+     */
+    public int getOOM() {
+        return switch (type) {
+            case OOM ->
+                precision;
+            case BINARY ->
+                -(int) Math.ceil(precision * Math.log10(2)) - 1;
+            default ->
+                V3D_Environment.DEFAULT_OOM;
+        };
+    }
+
+    /**
+     * @return {@link #scale} initialised if necessary.
+     */
+    private BigRational getScale() {
+        BigRational s = scale;
+        if (s == null) {
+            if (type == Type.OOM) {
+                s = precision < 0 ? BigRational.TEN.pow(-precision)
+                        : BigRational.ONE.divide(BigRational.TEN.pow(precision));
+            } else {
+                s = precision < 0
+                        ? BigRational.ONE.divide(BigRational.TWO.pow(-precision))
+                        : BigRational.TWO.pow(precision);
+            }
+            scale = s;
+        }
+        return s;
+    }
+
+    /**
+     * @param x The value to round.
+     * @return x rounded using this policy. If x needs no rounding, then x is
+     * returned.
+     */
+    public BigRational round(BigRational x) {
+        if (isExact()) {
+            return x;
+        }
+        BigRational s = getScale();
+        BigRational y = x.multiply(s);
+        if (y.isInteger()) {
+            return x;
+        }
+        BigRational n = BigRational.valueOf(y.getNumerator().divide(
+                y.getDenominator(), 0, rm));
+        return n.divide(s);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(type=" + type + ", precision="
+                + precision + ", rm=" + rm + ", period=" + period + ")";
+    }
+}
@@ -18,6 +18,9 @@ package uk.ac.leeds.ccg.v3d.core.d;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.HashSet;
+import uk.ac.leeds.ccg.v3d.core.V3D_ExecutionPolicy;
+import uk.ac.leeds.ccg.v3d.core.V3D_Metrics;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_SnapRounder_d;
 import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Volume_d;
 
 /**
@@ -30,6 +33,24 @@ public class V3D_Environment_d implements Serializable {
     
     private static final long serialVersionUID = 1L;
 
+    /**
+     * The policy for running internal loops sequentially or in parallel.
+     */
+    public V3D_ExecutionPolicy policy;
+
+    /**
+     * For counting operations. If this is {@code null}, which is the default,
+     * then operations are not counted. See {@link V3D_Metrics}.
+     */
+    public V3D_Metrics metrics;
+
+    /**
+     * For snap rounding the outputs of clipping. If this is {@code null},
+     * which is the default, then outputs are not snapped. See
+     * {@link V3D_SnapRounder_d}.
+     */
+    public V3D_SnapRounder_d snapRounder;
+
     /**
      * The shapes.
      */
@@ -44,6 +65,7 @@ public class V3D_Environment_d implements Serializable {
      * Creates a new instance.
      */
     public V3D_Environment_d(){
+        policy = V3D_ExecutionPolicy.DEFAULT;
         shapes = new HashMap<>();
         ids = new HashSet<>();
     }
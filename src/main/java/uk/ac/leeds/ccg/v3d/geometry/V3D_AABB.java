@@ -22,6 +22,8 @@ import java.util.ArrayList;
 import java.util.HashSet;
 //import java.util.HashSet;
 import uk.ac.leeds.ccg.v3d.core.V3D_Environment;
+import uk.ac.leeds.ccg.v3d.core.V3D_ExecutionPolicy;
+import uk.ac.leeds.ccg.v3d.core.V3D_Metrics;
 
 /**
  * An Axis Aligned Bounding Box defined by the extreme values with respect to
@@ -417,6 +419,13 @@ public class V3D_AABB implements Serializable {
 //        }
 //        return pts;
 //    }
+    /**
+     * @return The execution policy of {@link #env}.
+     */
+    public V3D_ExecutionPolicy getPolicy() {
+        return V3D_ExecutionPolicy.get(env);
+    }
+
     /**
      * Test for equality.
      *
@@ -735,28 +744,28 @@ public class V3D_AABB implements Serializable {
         offset = offset.add(v, oom, rm);
         pts = null;
         if (lll != null) {
-            lll.translate(v, oom, rm);
+            lll.translateUncounted(v, oom, rm);
         }
         if (llu != null) {
-            llu.translate(v, oom, rm);
+            llu.translateUncounted(v, oom, rm);
         }
         if (lul != null) {
-            lul.translate(v, oom, rm);
+            lul.translateUncounted(v, oom, rm);
         }
         if (luu != null) {
-            luu.translate(v, oom, rm);
+            luu.translateUncounted(v, oom, rm);
         }
         if (ull != null) {
-            ull.translate(v, oom, rm);
+            ull.translateUncounted(v, oom, rm);
         }
         if (ulu != null) {
-            ulu.translate(v, oom, rm);
+            ulu.translateUncounted(v, oom, rm);
         }
         if (uul != null) {
-            uul.translate(v, oom, rm);
+            uul.translateUncounted(v, oom, rm);
         }
         if (uuu != null) {
-            uuu.translate(v, oom, rm);
+            uuu.translateUncounted(v, oom, rm);
         }
         if (l != null) {
             l.translate(v, oom, rm);
@@ -788,9 +797,9 @@ public class V3D_AABB implements Serializable {
      */
     public V3D_Point getCentroid(int oom, RoundingMode rm) {
         return new V3D_Point(env,
-                this.getXMax(oom, rm).add(this.getXMin(oom, rm)).divide(2),
-                this.getYMax(oom, rm).add(this.getYMin(oom, rm)).divide(2),
-                this.getZMax(oom, rm).add(this.getZMin(oom, rm)).divide(2));
+                this.getXMax(oom, rm).add(this.getXMin(oom, rm)).multiply(V3D_Environment.HALF),
+                this.getYMax(oom, rm).add(this.getYMin(oom, rm)).multiply(V3D_Environment.HALF),
+                this.getZMax(oom, rm).add(this.getZMin(oom, rm)).multiply(V3D_Environment.HALF));
     }
 
     /**
@@ -927,7 +936,7 @@ public class V3D_AABB implements Serializable {
      * @return {@code true} if this getIntersect with {@code s}
      */
     public boolean contains0(V3D_Area s, int oom, RoundingMode rm) {
-        return s.getPoints(oom, rm).values().parallelStream().allMatch(x
+        return getPolicy().allMatch(s.getPoints(oom, rm).values(), x
                 -> contains(x, oom));
     }
 
@@ -1041,6 +1050,7 @@ public class V3D_AABB implements Serializable {
      */
     public V3D_Rectangle getViewport(V3D_Point pt, V3D_Vector v, int oom,
             RoundingMode rm) {
+        V3D_Metrics.count(env, V3D_Metrics.Op.PROJECT, this);
         V3D_Rectangle rect;
         pts = getPointsArray();
         V3D_Point c = getCentroid(oom, rm);
@@ -1173,6 +1183,7 @@ public class V3D_AABB implements Serializable {
      */
     public V3D_Rectangle getViewport2(V3D_Point pt, V3D_Vector v, int oom,
             RoundingMode rm) {
+        V3D_Metrics.count(env, V3D_Metrics.Op.PROJECT, this);
         //int oomn2 = oom - 2;
         int oomn4 = oom - 4;
         V3D_Rectangle rect;
@@ -1302,13 +1313,14 @@ public class V3D_AABB implements Serializable {
      */
     public V3D_Rectangle getViewport3(V3D_Point pt, V3D_Vector v,
             int oom, RoundingMode rm) {
+        V3D_Metrics.count(env, V3D_Metrics.Op.PROJECT, this);
         //int oomn2 = oom - 2;
         int oomn4 = oom - 4;
         V3D_Rectangle rect;
         // Get the plane of the viewport.
         V3D_Point c = getCentroid(oomn4, rm);
         BigRational d = c.getDistance(getPointsArray()[0], oomn4, rm);
-        BigRational dby2 = d.divide(2);
+        BigRational dby2 = d.multiply(V3D_Environment.HALF);
         V3D_Point plpt = new V3D_Point(c);
         V3D_Vector cpt = new V3D_Vector(c, pt, oomn4, rm);
         V3D_Vector vo = cpt.getUnitVector(oomn4, rm);
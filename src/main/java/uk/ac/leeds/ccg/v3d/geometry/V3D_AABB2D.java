@@ -242,40 +242,40 @@ public abstract class V3D_AABB2D implements Serializable {
         offset = offset.add(v, oom, rm);
         pts = null;
         if (ll != null) {
-            ll.translate(v, oom, rm);
+            ll.translateUncounted(v, oom, rm);
         }
         if (lu != null) {
-            lu.translate(v, oom, rm);
+            lu.translateUncounted(v, oom, rm);
         }
         if (uu != null) {
-            uu.translate(v, oom, rm);
+            uu.translateUncounted(v, oom, rm);
         }
         if (ul != null) {
-            ul.translate(v, oom, rm);
+            ul.translateUncounted(v, oom, rm);
         }
         if (left != null) {
-            left.translate(v, oom, rm);
+            left.translateUncounted(v, oom, rm);
         }
         if (top != null) {
-            top.translate(v, oom, rm);
+            top.translateUncounted(v, oom, rm);
         }
         if (right != null) {
-            right.translate(v, oom, rm);
+            right.translateUncounted(v, oom, rm);
         }
         if (bottom != null) {
-            bottom.translate(v, oom, rm);
+            bottom.translateUncounted(v, oom, rm);
         }
         if (lpl != null) {
-            lpl.translate(v, oom, rm);
+            lpl.translateUncounted(v, oom, rm);
         }
         if (tpl != null) {
-            tpl.translate(v, oom, rm);
+            tpl.translateUncounted(v, oom, rm);
         }
         if (rpl != null) {
-            rpl.translate(v, oom, rm);
+            rpl.translateUncounted(v, oom, rm);
         }
         if (bpl != null) {
-            bpl.translate(v, oom, rm);
+            bpl.translateUncounted(v, oom, rm);
         }
     }
 
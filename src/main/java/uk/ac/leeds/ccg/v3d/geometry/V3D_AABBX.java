@@ -585,8 +585,8 @@ public class V3D_AABBX extends V3D_AABB2D {
     public V3D_Point getCentroid(int oom, RoundingMode rm) {
         return new V3D_Point(env,
                 getX(oom, rm),
-                getYMax(oom).add(getYMin(oom)).divide(2),
-                getZMax(oom).add(getZMin(oom)).divide(2));
+                getYMax(oom).add(getYMin(oom)).multiply(V3D_Environment.HALF),
+                getZMax(oom).add(getZMin(oom)).multiply(V3D_Environment.HALF));
     }
 
     /**
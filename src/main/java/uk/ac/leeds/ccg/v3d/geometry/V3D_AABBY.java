@@ -561,9 +561,9 @@ public class V3D_AABBY extends V3D_AABB2D {
     @Override
     public V3D_Point getCentroid(int oom, RoundingMode rm) {
         return new V3D_Point(env,
-                getXMax(oom).add(getXMin(oom)).divide(2),
+                getXMax(oom).add(getXMin(oom)).multiply(V3D_Environment.HALF),
                 y,
-                getZMax(oom).add(getZMin(oom)).divide(2));
+                getZMax(oom).add(getZMin(oom)).multiply(V3D_Environment.HALF));
     }
 
     /**
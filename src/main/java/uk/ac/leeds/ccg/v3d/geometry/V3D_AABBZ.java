@@ -560,8 +560,8 @@ public class V3D_AABBZ extends V3D_AABB2D {
     @Override
     public V3D_Point getCentroid(int oom, RoundingMode rm) {
         return new V3D_Point(env,
-                getXMax(oom).add(getXMin(oom)).divide(2),
-                getYMax(oom).add(getYMin(oom)).divide(2),
+                getXMax(oom).add(getXMin(oom)).multiply(V3D_Environment.HALF),
+                getYMax(oom).add(getYMin(oom)).multiply(V3D_Environment.HALF),
                 getZ(oom, rm));
     }
 
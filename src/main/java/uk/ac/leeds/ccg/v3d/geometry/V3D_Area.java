@@ -21,6 +21,8 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import uk.ac.leeds.ccg.v3d.core.V3D_Environment;
+import uk.ac.leeds.ccg.v3d.core.V3D_Metrics;
+import uk.ac.leeds.ccg.v3d.core.V3D_RoundingPolicy;
 
 /**
  * V3D_FiniteGeometry for representing finite geometries.
@@ -89,6 +91,7 @@ public abstract class V3D_Area extends V3D_FiniteGeometry {
         } else if (ploom == oom && plrm.equals(rm)) {
             return pl;
         } else {
+            V3D_Metrics.count(env, V3D_Metrics.Op.ESCALATE, this);
             initPl(oom, rm);
         }
         return pl;
@@ -116,6 +119,7 @@ public abstract class V3D_Area extends V3D_FiniteGeometry {
         } else if (ploom == oom && plrm.equals(rm)) {
             return pl;
         } else {
+            V3D_Metrics.count(env, V3D_Metrics.Op.ESCALATE, this);
             initPl(pt, oom, rm);
         }
         return pl;
@@ -157,18 +161,40 @@ public abstract class V3D_Area extends V3D_FiniteGeometry {
      * @param rm The RoundingMode if rounding is needed.
      */
     @Override
-    public void translate(V3D_Vector v, int oom, RoundingMode rm) {
-        super.translate(v, oom, rm);
+    protected void translateUncounted(V3D_Vector v, int oom,
+            RoundingMode rm) {
+        super.translateUncounted(v, oom, rm);
         if (pl != null) {
-            pl.translate(v, oom, rm);
+            pl.translateUncounted(v, oom, rm);
         }
         if (points != null) {
-            points.values().parallelStream().forEach(x -> 
-                    x.translate(v, oom, rm));
+            getPolicy().forEach(points.values(), x -> 
+                    x.translateUncounted(v, oom, rm));
         }
         if (edges != null) {
-            edges.values().parallelStream().forEach(x -> 
-                    x.translate(v, oom, rm));
+            getPolicy().forEach(edges.values(), x -> 
+                    x.translateUncounted(v, oom, rm));
+        }
+    }
+
+    /**
+     * Round {@link #offset} and any {@link #pl}, {@link #points} and
+     * {@link #edges} using policy. Subclasses that calculate these clear them
+     * instead.
+     *
+     * @param policy The rounding policy.
+     */
+    @Override
+    public void round(V3D_RoundingPolicy policy) {
+        super.round(policy);
+        if (pl != null) {
+            pl.round(policy);
+        }
+        if (points != null) {
+            getPolicy().forEach(points.values(), x -> x.round(policy));
+        }
+        if (edges != null) {
+            getPolicy().forEach(edges.values(), x -> x.round(policy));
         }
     }
     
@@ -219,7 +245,7 @@ public abstract class V3D_Area extends V3D_FiniteGeometry {
      */
     public static boolean intersects(int oom, RoundingMode rm, V3D_Point p,
             Collection<V3D_Area> as) {
-        return as.parallelStream().anyMatch(x -> x.intersects(p, oom, rm));
+        return p.getPolicy().anyMatch(as, x -> x.intersects(p, oom, rm));
     }
 
     /**
@@ -278,7 +304,7 @@ public abstract class V3D_Area extends V3D_FiniteGeometry {
      * @return {@code true} if {@code this} is intersected by {@code a}.
      */
     public boolean intersects(V3D_Area a, int oom, RoundingMode rm) {
-        return a.getPoints(oom, rm).values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(a.getPoints(oom, rm).values(), x
                 -> a.intersects(x, oom, rm));
     }
 
@@ -305,7 +331,7 @@ public abstract class V3D_Area extends V3D_FiniteGeometry {
      */
     public static boolean intersects(int oom, RoundingMode rm,
             V3D_LineSegment l, Collection<V3D_Area> as) {
-        return as.parallelStream().anyMatch(x -> x.intersects(l, oom, rm));
+        return l.getPolicy().anyMatch(as, x -> x.intersects(l, oom, rm));
     }
 
     /**
@@ -327,7 +353,7 @@ public abstract class V3D_Area extends V3D_FiniteGeometry {
      * {@code as}.
      */
     public boolean intersects(int oom, RoundingMode rm, Collection<V3D_Area> as) {
-        return as.parallelStream().anyMatch(x -> intersects(x, oom, rm));
+        return getPolicy().anyMatch(as, x -> intersects(x, oom, rm));
     }
 
     /**
@@ -342,7 +368,7 @@ public abstract class V3D_Area extends V3D_FiniteGeometry {
     //public abstract boolean contains(V3D_Point p, int oom, RoundingMode rm);
     public boolean contains(V3D_Point p, int oom, RoundingMode rm) {
         if (intersects(p, oom, rm)) {
-            return !getEdges(oom, rm).values().parallelStream().anyMatch(x
+            return !getPolicy().anyMatch(getEdges(oom, rm).values(), x
                     -> x.intersects(p, oom, rm));
         }
         return false;
@@ -395,7 +421,7 @@ public abstract class V3D_Area extends V3D_FiniteGeometry {
      */
     //public abstract boolean contains(V3D_Area a, int oom, RoundingMode rm);
     public boolean contains(V3D_Area a, int oom, RoundingMode rm) {
-        return a.getPoints(oom, rm).values().parallelStream().allMatch(x
+        return getPolicy().allMatch(a.getPoints(oom, rm).values(), x
                 -> contains(x, oom, rm));
     }
 
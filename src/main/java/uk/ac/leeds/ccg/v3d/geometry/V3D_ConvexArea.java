@@ -27,6 +27,8 @@ import java.util.TreeSet;
 import uk.ac.leeds.ccg.math.arithmetic.Math_BigDecimal;
 import uk.ac.leeds.ccg.math.geometry.Math_AngleBigRational;
 import uk.ac.leeds.ccg.math.number.Math_BigRationalSqrt;
+import uk.ac.leeds.ccg.v3d.core.V3D_Metrics;
+import uk.ac.leeds.ccg.v3d.core.V3D_RoundingPolicy;
 
 /**
  * A class for representing and using coplanar convex hulls. These are a special
@@ -76,6 +78,17 @@ public class V3D_ConvexArea extends V3D_Area {
      */
     public final HashMap<Integer, V3D_Triangle> triangles;
 
+    /**
+     * For storing the projection used for point intersection tests.
+     */
+    protected transient volatile V3D_PlanarProjection projection;
+
+    /**
+     * For storing the projected convex hull. This has length zero if the
+     * points or plane are irrational or the area is degenerate.
+     */
+    protected transient volatile BigRational[][] polygon2D;
+
     public V3D_ConvexArea(V3D_ConvexArea c) {
         super(c.env, c.offset, c.pl);
         points = new HashMap<>();
@@ -125,6 +138,7 @@ public class V3D_ConvexArea extends V3D_Area {
             List<V3D_Point> points) {
         super(points.get(0).env, points.get(0).offset,
                 new V3D_Plane(points.get(0), n));
+        V3D_Metrics.count(env, V3D_Metrics.Op.HULL, this);
         this.points = new HashMap<>();
         triangles = new HashMap<>();
         edges = new HashMap<>();
@@ -412,7 +426,7 @@ public class V3D_ConvexArea extends V3D_Area {
 
     @Override
     protected void initPl(int oom, RoundingMode rm) {
-        pl = triangles.get(0).getPl(oom, rm);
+        pl = new V3D_Plane(triangles.get(0).getPl(oom, rm));
     }
 
     @Override
@@ -681,7 +695,7 @@ public class V3D_ConvexArea extends V3D_Area {
         for (int i = 0; i < triangles.size(); i++) {
             rts[0] = triangles.get(i).rotate(ray, uv, bd, theta, oom, rm);
         }
-        return new V3D_ConvexArea(oom, rm, rts);
+        return countRotation(new V3D_ConvexArea(oom, rm, rts));
     }
 
     /**
@@ -776,7 +790,7 @@ public class V3D_ConvexArea extends V3D_Area {
     @Override
     public boolean contains(V3D_Point pt, int oom, RoundingMode rm) {
         if (intersects(pt, oom, rm)) {
-            return !getEdges(oom, rm).values().parallelStream().anyMatch(x
+            return !getPolicy().anyMatch(getEdges(oom, rm).values(), x
                     -> x.intersects(pt, oom, rm));
         }
         return false;
@@ -1131,10 +1145,79 @@ public class V3D_ConvexArea extends V3D_Area {
      */
     //@Override
     public boolean intersects00(V3D_Point p, int oom, RoundingMode rm) {
-        return triangles.values().parallelStream().anyMatch(x
+        BigRational[] c = V3D_PlanarProjection.getCoordinates(p);
+        if (c != null) {
+            BigRational[][] polygon = getPolygon2D(oom, rm);
+            V3D_PlanarProjection pp = projection;
+            if (polygon.length > 0 && pp != null) {
+                return V3D_PlanarProjection.contains(polygon, pp.project(c));
+            }
+        }
+        return getPolicy().anyMatch(triangles.values(), x
                 -> x.intersectsCoplanar(p, oom, rm));
     }
 
+    /**
+     * Calculates and caches the convex hull projected to two dimensions. This
+     * is only done if the plane and all the points are rational so that the
+     * projection is exact.
+     *
+     * @param oom The Order of Magnitude for the precision.
+     * @param rm The RoundingMode if rounding is needed.
+     * @return The projected convex hull or an array of length zero.
+     */
+    protected BigRational[][] getPolygon2D(int oom, RoundingMode rm) {
+        BigRational[][] r = polygon2D;
+        if (r == null) {
+            r = new BigRational[0][];
+            V3D_Plane plane = getPl(oom, rm);
+            BigRational[] n = plane.n.getRational();
+            V3D_Point[] ps = getPointsArray(oom, rm);
+            BigRational[][] cs = new BigRational[ps.length][];
+            boolean rational = n.length == 3 && ps.length > 2;
+            for (int i = 0; rational && i < ps.length; i++) {
+                cs[i] = V3D_PlanarProjection.getCoordinates(ps[i]);
+                rational = cs[i] != null;
+            }
+            if (rational) {
+                V3D_PlanarProjection pp = new V3D_PlanarProjection(env, n,
+                        cs[0]);
+                BigRational[][] ps2 = new BigRational[cs.length][];
+                for (int i = 0; i < cs.length; i++) {
+                    ps2[i] = pp.project(cs[i]);
+                }
+                int[] h = pp.getConvexHull(ps2);
+                if (h.length > 2) {
+                    r = new BigRational[h.length][];
+                    for (int i = 0; i < h.length; i++) {
+                        r[i] = ps2[h[i]];
+                    }
+                    projection = pp;
+                }
+            }
+            polygon2D = r;
+        }
+        return r;
+    }
+
+    @Override
+    protected void translateUncounted(V3D_Vector v, int oom,
+            RoundingMode rm) {
+        super.translateUncounted(v, oom, rm);
+        getPolicy().forEach(triangles.values(), x
+                -> x.translateUncounted(v, oom, rm));
+        projection = null;
+        polygon2D = null;
+    }
+
+    @Override
+    public void round(V3D_RoundingPolicy policy) {
+        super.round(policy);
+        getPolicy().forEach(triangles.values(), x -> x.round(policy));
+        projection = null;
+        polygon2D = null;
+    }
+
     /**
      * Identify if this is intersected by point {@code pv}.
      *
@@ -1146,7 +1229,7 @@ public class V3D_ConvexArea extends V3D_Area {
     @Override
     public boolean intersects(V3D_AABB aabb, int oom, RoundingMode rm) {
         if (getAABB(oom, rm).intersects(aabb, oom)) {
-            return triangles.values().parallelStream().anyMatch(x
+            return getPolicy().anyMatch(triangles.values(), x
                     -> x.intersects(aabb, oom, rm));
         }
         return false;
@@ -1175,7 +1258,7 @@ public class V3D_ConvexArea extends V3D_Area {
      * @return {@code true} iff {@code this} is intersected by {@code pv}.
      */
     public boolean intersects0(V3D_Line l, int oom, RoundingMode rm) {
-        return triangles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(triangles.values(), x
                 -> x.intersects(l, oom, rm));
     }
 
@@ -1203,10 +1286,10 @@ public class V3D_ConvexArea extends V3D_Area {
      */
     public boolean intersects0(V3D_LineSegment l, int oom, RoundingMode rm) {
         if (getPl(oom, rm).isOnPlane(l.l, oom, rm)) {
-            return triangles.values().parallelStream().anyMatch(x
+            return getPolicy().anyMatch(triangles.values(), x
                     -> x.intersects(l, oom, rm));
         } else {
-            return triangles.values().parallelStream().anyMatch(x
+            return getPolicy().anyMatch(triangles.values(), x
                     -> x.intersectsNonCoplanar(l, oom, rm));
         }
     }
@@ -1220,7 +1303,7 @@ public class V3D_ConvexArea extends V3D_Area {
      */
     @Override
     public boolean intersects(V3D_Ray r, int oom, RoundingMode rm) {
-        return triangles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(triangles.values(), x
                 -> x.intersects(r, oom, rm));
     }
 
@@ -1235,7 +1318,7 @@ public class V3D_ConvexArea extends V3D_Area {
      */
     @Override
     public boolean intersectsNonCoplanar(V3D_Ray r, int oom, RoundingMode rm) {
-        return triangles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(triangles.values(), x
                 -> x.intersectsNonCoplanar(r, oom, rm));
     }
 
@@ -1262,7 +1345,7 @@ public class V3D_ConvexArea extends V3D_Area {
      * @return {@code true} iff {@code this} is intersected by {@code t}.
      */
     public boolean intersects0(V3D_Triangle t, int oom, RoundingMode rm) {
-        return triangles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(triangles.values(), x
                 -> x.intersects(t, oom, rm));
     }
 
@@ -1288,7 +1371,7 @@ public class V3D_ConvexArea extends V3D_Area {
      * @return {@code true} iff {@code this} is intersected by {@code r}.
      */
     public boolean intersects0(V3D_Rectangle r, int oom, RoundingMode rm) {
-        return triangles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(triangles.values(), x
                 -> r.intersects(x, oom, rm));
     }
 
@@ -1315,9 +1398,9 @@ public class V3D_ConvexArea extends V3D_Area {
      * @return {@code true} iff {@code this} is intersected by {@code ch.
      */
     public boolean intersects0(V3D_ConvexArea ch, int oom, RoundingMode rm) {
-        return triangles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(triangles.values(), x
                 -> ch.intersects0(x, oom, rm))
-                || ch.triangles.values().parallelStream().anyMatch(x
+                || getPolicy().anyMatch(ch.triangles.values(), x
                         -> intersects0(x, oom, rm));
     }
 
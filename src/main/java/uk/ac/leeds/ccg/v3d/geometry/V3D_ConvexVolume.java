@@ -24,6 +24,7 @@ import java.util.Iterator;
 import java.util.List;
 import uk.ac.leeds.ccg.math.arithmetic.Math_BigDecimal;
 import uk.ac.leeds.ccg.math.geometry.Math_AngleBigRational;
+import uk.ac.leeds.ccg.v3d.core.V3D_Metrics;
 
 /**
  * For representing a convex hulls - convex shapes with no holes.
@@ -111,6 +112,7 @@ public class V3D_ConvexVolume extends V3D_Volume {
      */
     public V3D_ConvexVolume(int oom, RoundingMode rm, List<V3D_Point> points) {
         super(points.get(0).env, V3D_Vector.ZERO);
+        V3D_Metrics.count(env, V3D_Metrics.Op.HULL, this);
 //        ArrayList<V3D_Point> h = new ArrayList<>();
 //        ArrayList<V3D_Point> uniquePoints = V3D_Point.getUnique(
 //                points, oom, rm);
@@ -346,7 +348,7 @@ public class V3D_ConvexVolume extends V3D_Volume {
      * @return {@code true} iff {@code this} is intersected by {@code p}.
      */
     public boolean intersects0(V3D_Point pt, int oom, RoundingMode rm) {
-        return getTriangles(oom, rm).parallelStream().anyMatch(x
+        return getPolicy().anyMatch(getTriangles(oom, rm), x
                 -> x.intersects0(pt, oom, rm));
     }
 
@@ -388,7 +390,7 @@ public class V3D_ConvexVolume extends V3D_Volume {
      */
     public boolean contains(V3D_Triangle t, int oom, RoundingMode rm) {
         return intersects(t, oom, rm)
-                && t.getPoints(oom, rm).values().parallelStream().allMatch(x
+                && getPolicy().allMatch(t.getPoints(oom, rm).values(), x
                         -> contains(x, oom, rm));
 //        return intersects(t, oom, rm)
 //                && !t.getEdges(oom, rm).values().parallelStream().anyMatch(x
@@ -406,7 +408,7 @@ public class V3D_ConvexVolume extends V3D_Volume {
      */
     public boolean contains(V3D_Rectangle r, int oom, RoundingMode rm) {
         return intersects(r, oom, rm)
-                && r.getPoints(oom, rm).values().parallelStream().allMatch(x
+                && getPolicy().allMatch(r.getPoints(oom, rm).values(), x
                         -> contains(x, oom, rm));
     }
     
@@ -420,7 +422,7 @@ public class V3D_ConvexVolume extends V3D_Volume {
      */
     public boolean contains(V3D_ConvexVolume ch, int oom, RoundingMode rm) {
         return intersects(ch, oom, rm)
-                && ch.getPoints(oom, rm).values().parallelStream().allMatch(x
+                && getPolicy().allMatch(ch.getPoints(oom, rm).values(), x
                         -> contains(x, oom, rm));
 //        return intersects(ch, oom, rm)
 //                && !ch.edges.values().parallelStream().anyMatch(x
@@ -477,7 +479,7 @@ public class V3D_ConvexVolume extends V3D_Volume {
      * @return {@code true} iff {@code this} is intersected by {@code t}.
      */
     public boolean intersects0(V3D_Triangle t, int oom, RoundingMode rm) {
-        return getTriangles(oom, rm).parallelStream().anyMatch(x
+        return getPolicy().anyMatch(getTriangles(oom, rm), x
                 -> x.intersects(t, oom, rm));
     }
 
@@ -531,9 +533,9 @@ public class V3D_ConvexVolume extends V3D_Volume {
      * @return {@code true} iff {@code this} is intersected by {@code ch.
      */
     public boolean intersects0(V3D_ConvexVolume ch, int oom, RoundingMode rm) {
-        return getTriangles(oom, rm).parallelStream().anyMatch(x
+        return getPolicy().anyMatch(getTriangles(oom, rm), x
                 -> ch.intersects(x, oom, rm))
-                || ch.getTriangles(oom, rm).parallelStream().anyMatch(x
+                || getPolicy().anyMatch(ch.getTriangles(oom, rm), x
                         -> intersects(x, oom, rm));
     }
 
@@ -618,7 +620,7 @@ public class V3D_ConvexVolume extends V3D_Volume {
         for (int i = 0; i < triangles.size(); i++) {
             rts[0] = triangles.get(i).rotate(ray, uv, bd, theta, oom, rm);
         }
-        return new V3D_ConvexVolume(oom, rm, rts);
+        return countRotation(new V3D_ConvexVolume(oom, rm, rts));
     }
 
     /**
@@ -645,7 +647,7 @@ public class V3D_ConvexVolume extends V3D_Volume {
      * precision.
      */
     public boolean intersects0(V3D_AABB aabb, int oom, RoundingMode rm) {
-        return getTriangles(oom, rm).parallelStream().anyMatch(x
+        return getPolicy().anyMatch(getTriangles(oom, rm), x
                 -> x.intersects(aabb, oom, rm));
     }
 
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.geometry;
+
+import ch.obermuhlner.math.big.BigRational;
+import java.io.Serializable;
+import java.math.RoundingMode;
+
+/**
+ * For progressive precision queries. Rather than calculating to a fixed Order
+ * of Magnitude (oom) up front, a query using one of these is first done at
+ * {@link #oomStart}. If the result is within the bounds of the error of the
+ * approximations used, then the query is repeated with the oom decreased by
+ * {@link #step} until either the result is certain or {@link #oomLimit} has
+ * been used. Queries return a {@link Result} which reports the oom used and
+ * whether the result is certain. Results for rational inputs are certain at
+ * {@link #oomStart} as no approximation is needed.
+ *
+ * The errors are bounded using the fact that each irrational component of a
+ * vector is approximated to within {@code 10^oom}.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_Escalation implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * A default with {@link #oomStart} -3, {@link #oomLimit} -48 and
+     * {@link #step} 15.
+     */
+    public static final V3D_Escalation DEFAULT = new V3D_Escalation(-3, -48,
+            15);
+
+    /**
+     * The Order of Magnitude for the precision first used.
+     */
+    public final int oomStart;
+
+    /**
+     * The Order of Magnitude for the finest precision used.
+     */
+    public final int oomLimit;
+
+    /**
+     * The amount the Order of Magnitude is decreased by each escalation.
+     */
+    public final int step;
+
+    /**
+     * Create a new instance.
+     *
+     * @param oomStart What {@link #oomStart} is set to.
+     * @param oomLimit What {@link #oomLimit} is set to. This must not be
+     * greater than oomStart.
+     * @param step What {@link #step} is set to. This must be positive.
+     */
+    public V3D_Escalation(int oomStart, int oomLimit, int step) {
+        if (oomLimit > oomStart) {
+            throw new IllegalArgumentException("oomLimit > oomStart");
+        }
+        if (step < 1) {
+            throw new IllegalArgumentException("step < 1");
+        }
+        this.oomStart = oomStart;
+        this.oomLimit = oomLimit;
+        this.step = step;
+    }
+
+    /**
+     * @param oom The Order of Magnitude used.
+     * @return The next Order of Magnitude to use or {@link Integer#MIN_VALUE}
+     * if oom is {@link #oomLimit}.
+     */
+    public int next(int oom) {
+        if (oom <= oomLimit) {
+            return Integer.MIN_VALUE;
+        }
+        return Math.max(oom - step, oomLimit);
+    }
+
+    /**
+     * @param oom The Order of Magnitude.
+     * @return {@code 10^oom}.
+     */
+    static BigRational getError(int oom) {
+        if (oom < 0) {
+            return BigRational.ONE.divide(BigRational.TEN.pow(-oom));
+        }
+        return BigRational.TEN.pow(oom);
+    }
+
+    /**
+     * @param v The vector.
+     * @param e The error of an approximation of an irrational component.
+     * @return A bound for the error of each approximated component of v.
+     */
+    static BigRational getError(V3D_Vector v, BigRational e) {
+        return v.isRational() ? BigRational.ZERO : e;
+    }
+
+    /**
+     * @param p The point.
+     * @param e The error of an approximation of an irrational component.
+     * @return A bound for the error of each approximated coordinate of p.
+     */
+    static BigRational getError(V3D_Point p, BigRational e) {
+        return getError(p.rel, e).add(getError(p.offset, e));
+    }
+
+    /**
+     * @param v The vector.
+     * @param oom The Order of Magnitude for the precision.
+     * @param rm The RoundingMode if rounding is needed.
+     * @return The components of v, which are exact if v is rational and
+     * otherwise approximated to within {@code 10^oom}.
+     */
+    static BigRational[] getComponents(V3D_Vector v, int oom,
+            RoundingMode rm) {
+        BigRational[] r = v.getRational();
+        if (r.length == 3) {
+            return r;
+        }
+        return new BigRational[]{v.getDX(oom, rm), v.getDY(oom, rm),
+            v.getDZ(oom, rm)};
+    }
+
+    /**
+     * @param p The point.
+     * @param oom The Order of Magnitude for the precision.
+     * @param rm The RoundingMode if rounding is needed.
+     * @return The coordinates of p, approximated to within the error given
+     * by {@link #getError(V3D_Point, BigRational)}.
+     */
+    static BigRational[] getCoordinates(V3D_Point p, int oom,
+            RoundingMode rm) {
+        BigRational[] r = getComponents(p.rel, oom, rm);
+        BigRational[] o = getComponents(p.offset, oom, rm);
+        return new BigRational[]{r[0].add(o[0]), r[1].add(o[1]),
+            r[2].add(o[2])};
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(oomStart=" + oomStart
+                + ", oomLimit=" + oomLimit + ", step=" + step + ")";
+    }
+
+    /**
+     * The result of a progressive precision query.
+     *
+     * @param <T> The type of the value.
+     */
+    public static class Result<T> implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The value.
+         */
+        public final T value;
+
+        /**
+         * The Order of Magnitude for the precision used.
+         */
+        public final int oom;
+
+        /**
+         * {@code true} iff the value is certain. If {@code false}, then the
+         * value is that calculated at {@link V3D_Escalation#oomLimit}.
+         */
+        public final boolean certain;
+
+        /**
+         * Create a new instance.
+         *
+         * @param value What {@link #value} is set to.
+         * @param oom What {@link #oom} is set to.
+         * @param certain What {@link #certain} is set to.
+         */
+        public Result(T value, int oom, boolean certain) {
+            this.value = value;
+            this.oom = oom;
+            this.certain = certain;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + "(value=" + value + ", oom="
+                    + oom + ", certain=" + certain + ")";
+        }
+    }
+}
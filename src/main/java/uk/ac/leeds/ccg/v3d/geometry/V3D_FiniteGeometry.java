@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import uk.ac.leeds.ccg.v3d.core.V3D_Environment;
+import uk.ac.leeds.ccg.v3d.core.V3D_RoundingPolicy;
 
 /**
  * V3D_FiniteGeometry for representing finite geometries.
@@ -111,10 +112,17 @@ public abstract class V3D_FiniteGeometry extends V3D_Geometry {
      * @param rm The RoundingMode if rounding is needed.
      */
     @Override
-    public void translate(V3D_Vector v, int oom, RoundingMode rm) {
-        super.translate(v, oom, rm);
+    protected void translateUncounted(V3D_Vector v, int oom,
+            RoundingMode rm) {
+        super.translateUncounted(v, oom, rm);
         if (en != null) {
             en.translate(v, oom, rm);
         }
     }
+
+    @Override
+    public void round(V3D_RoundingPolicy policy) {
+        super.round(policy);
+        en = null;
+    }
 }
@@ -130,25 +130,27 @@ public class V3D_Frustum extends V3D_Geometry {
         // Init rect
         V3D_Point rectCentre = new V3D_Point(focus);
         rectCentre.translate(directionUV.multiply(rectDistance, oom, rm), oom, rm);
+        BigRational hw = rectWidth.multiply(V3D_Environment.HALF);
+        BigRational hh = rectHeight.multiply(V3D_Environment.HALF);
         V3D_Point rectP = new V3D_Point(rectCentre);
         rectP.translate(
-                horizontalUV.multiply((rectWidth.divide(2)).negate(), oom, rm)
-                .add(verticalUV.multiply((rectHeight.divide(2)).negate(), oom, rm)
+                horizontalUV.multiply(hw.negate(), oom, rm)
+                .add(verticalUV.multiply(hh.negate(), oom, rm)
                         , oom, rm), oom, rm);
         V3D_Point rectQ = new V3D_Point(rectCentre);
         rectP.translate(
-                horizontalUV.multiply((rectWidth.divide(2)).negate(), oom, rm)
-                .add(verticalUV.multiply(rectHeight.divide(2), oom, rm)
+                horizontalUV.multiply(hw.negate(), oom, rm)
+                .add(verticalUV.multiply(hh, oom, rm)
                         , oom, rm), oom, rm);
         V3D_Point rectR = new V3D_Point(rectCentre);
         rectP.translate(
-                horizontalUV.multiply(rectWidth.divide(2), oom, rm)
-                .add(verticalUV.multiply(rectHeight.divide(2), oom, rm)
+                horizontalUV.multiply(hw, oom, rm)
+                .add(verticalUV.multiply(hh, oom, rm)
                         , oom, rm), oom, rm);
         V3D_Point rectS = new V3D_Point(rectCentre);
         rectP.translate(
-                horizontalUV.multiply(rectWidth.divide(2), oom, rm)
-                .add(verticalUV.multiply((rectHeight.divide(2)).negate(), oom, rm)
+                horizontalUV.multiply(hw, oom, rm)
+                .add(verticalUV.multiply(hh.negate(), oom, rm)
                     , oom, rm), oom, rm);
         this.rect = new V3D_Rectangle(rectP, rectQ, rectR, rectS, oom, rm);
         this.left = new V3D_Plane(focus, rectP, rectQ, oom, rm);
@@ -20,6 +20,8 @@ import java.io.Serializable;
 import java.math.RoundingMode;
 import uk.ac.leeds.ccg.math.arithmetic.Math_BigDecimal;
 import uk.ac.leeds.ccg.v3d.core.V3D_Environment;
+import uk.ac.leeds.ccg.v3d.core.V3D_ExecutionPolicy;
+import uk.ac.leeds.ccg.v3d.core.V3D_RoundingPolicy;
 
 /**
  * For 3D Euclidean geometrical objects. The three dimensions have are
@@ -69,6 +71,12 @@ public abstract class V3D_Geometry implements Serializable {
      * {@link V3D_Point#ORIGIN}.
      */
     public V3D_Vector offset;
+
+    /**
+     * The number of operations since this was last rounded using the
+     * rounding policy of {@link #env}.
+     */
+    protected transient int operations;
     
     /**
      * Creates a new instance.
@@ -90,6 +98,58 @@ public abstract class V3D_Geometry implements Serializable {
         this.offset = offset;
     }
     
+    /**
+     * @return The execution policy of {@link #env}.
+     */
+    public V3D_ExecutionPolicy getPolicy() {
+        return V3D_ExecutionPolicy.get(env);
+    }
+
+    /**
+     * @return The rounding policy of {@link #env}.
+     */
+    public V3D_RoundingPolicy getRounding() {
+        return V3D_RoundingPolicy.get(env);
+    }
+
+    /**
+     * Counts an operation and rounds if the period of the rounding policy of
+     * {@link #env} has been reached.
+     */
+    protected void countOperation() {
+        V3D_RoundingPolicy rp = getRounding();
+        if (!rp.isExact() && ++operations >= rp.period) {
+            operations = 0;
+            round(rp);
+        }
+    }
+
+    /**
+     * For counting a rotation of this that resulted in r. The count of
+     * operations of this is carried by r and the rotation is counted, so r
+     * may be rounded.
+     *
+     * @param <T> The type of geometry.
+     * @param r The rotated geometry.
+     * @return r
+     */
+    protected <T extends V3D_Geometry> T countRotation(T r) {
+        r.operations = operations;
+        r.countOperation();
+        return r;
+    }
+
+    /**
+     * Round {@link #offset} using policy. Subclasses with other coordinates
+     * or with cached values calculated from them override this to round the
+     * coordinates and clear the cached values.
+     *
+     * @param policy The rounding policy.
+     */
+    public void round(V3D_RoundingPolicy policy) {
+        offset = offset.round(policy);
+    }
+
     /**
      * @param pad The padding.
      * @return A padded description.
@@ -107,13 +167,30 @@ public abstract class V3D_Geometry implements Serializable {
     }
 
     /**
-     * Translate (move relative to the origin).
+     * Translate (move relative to the origin). The translation is counted
+     * once this and any cached geometries have been translated, so any
+     * rounding is of a consistent geometry.
+     *
+     * @param v The translation vector.
+     * @param oom The Order of Magnitude for the precision.
+     * @param rm The RoundingMode for any rounding.
+     */
+    public final void translate(V3D_Vector v, int oom, RoundingMode rm) {
+        translateUncounted(v, oom, rm);
+        countOperation();
+    }
+
+    /**
+     * Translate without counting the translation. Subclasses override this to
+     * also translate cached geometries, which are translated using this
+     * method so they are not rounded separately.
      *
      * @param v The translation vector.
      * @param oom The Order of Magnitude for the precision.
      * @param rm The RoundingMode for any rounding.
      */
-    public void translate(V3D_Vector v, int oom, RoundingMode rm) {
+    protected void translateUncounted(V3D_Vector v, int oom,
+            RoundingMode rm) {
         offset = offset.add(v, oom, rm);
     }
 
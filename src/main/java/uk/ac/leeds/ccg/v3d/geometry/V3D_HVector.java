@@ -0,0 +1,449 @@
+/*
+ * Copyright 2020-2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.geometry;
+
+import ch.obermuhlner.math.big.BigRational;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * An exact vector with integer homogeneous coordinates: the components are
+ * {@link #x}/{@link #w}, {@link #y}/{@link #w} and {@link #z}/{@link #w} where
+ * {@link #w} is positive. This is for rational vectors, such as those from
+ * coordinates on a millimetre grid which all have a small power of ten
+ * denominator. Unlike BigRational arithmetic, arithmetic with these does not
+ * normalise results with greatest common divisor calculations: components
+ * are only ever multiplied, added and subtracted, and the shared denominator
+ * is positive so signs of results can be got from the numerators alone.
+ *
+ * The predicates are evaluated using long arithmetic when all the
+ * components fit in a long and no intermediate result overflows, otherwise
+ * they are evaluated using BigInteger arithmetic. Either way the results are
+ * exact.
+ *
+ * Instances are got from {@link V3D_Vector#getH()} and
+ * {@link V3D_Point#getH()} which return {@code null} for vectors and points
+ * with irrational components, for which the BigRational and
+ * Math_BigRationalSqrt based methods must be used.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public final class V3D_HVector implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The maximum bit length of a component for it to be stored as a long.
+     */
+    private static final int MAX_BITS = 62;
+
+    /**
+     * For indicating that a vector has irrational components.
+     */
+    static final V3D_HVector NONE = new V3D_HVector(BigInteger.ZERO,
+            BigInteger.ZERO, BigInteger.ZERO, BigInteger.ZERO);
+
+    /**
+     * The x numerator.
+     */
+    public final BigInteger x;
+
+    /**
+     * The y numerator.
+     */
+    public final BigInteger y;
+
+    /**
+     * The z numerator.
+     */
+    public final BigInteger z;
+
+    /**
+     * The shared positive denominator.
+     */
+    public final BigInteger w;
+
+    /**
+     * The components as longs if {@link #small} is {@code true}.
+     */
+    private final long lx, ly, lz, lw;
+
+    /**
+     * {@code true} if all components fit in a long.
+     */
+    private final boolean small;
+
+    /**
+     * Create a new instance.
+     *
+     * @param x What {@link #x} is set to.
+     * @param y What {@link #y} is set to.
+     * @param z What {@link #z} is set to.
+     * @param w What {@link #w} is set to. This must be positive.
+     */
+    public V3D_HVector(BigInteger x, BigInteger y, BigInteger z,
+            BigInteger w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+        small = x.bitLength() <= MAX_BITS && y.bitLength() <= MAX_BITS
+                && z.bitLength() <= MAX_BITS && w.bitLength() <= MAX_BITS;
+        if (small) {
+            lx = x.longValue();
+            ly = y.longValue();
+            lz = z.longValue();
+            lw = w.longValue();
+        } else {
+            lx = 0L;
+            ly = 0L;
+            lz = 0L;
+            lw = 0L;
+        }
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param x What {@link #x} is set to.
+     * @param y What {@link #y} is set to.
+     * @param z What {@link #z} is set to.
+     * @param w What {@link #w} is set to. This must be positive.
+     */
+    public V3D_HVector(long x, long y, long z, long w) {
+        this(BigInteger.valueOf(x), BigInteger.valueOf(y),
+                BigInteger.valueOf(z), BigInteger.valueOf(w));
+    }
+
+    /**
+     * @param v The vector.
+     * @return v in homogeneous coordinates or {@code null} if any component
+     * of v is irrational.
+     */
+    public static V3D_HVector valueOf(V3D_Vector v) {
+        BigRational rx = v.dx.getSqrt();
+        BigRational ry = v.dy.getSqrt();
+        BigRational rz = v.dz.getSqrt();
+        if (rx == null || ry == null || rz == null) {
+            return null;
+        }
+        BigInteger[] fx = getFraction(rx);
+        BigInteger[] fy = getFraction(ry);
+        BigInteger[] fz = getFraction(rz);
+        BigInteger w = lcm(lcm(fx[1], fy[1]), fz[1]);
+        return new V3D_HVector(fx[0].multiply(w.divide(fx[1])),
+                fy[0].multiply(w.divide(fy[1])),
+                fz[0].multiply(w.divide(fz[1])), w);
+    }
+
+    /**
+     * @param r The rational.
+     * @return The numerator and denominator of r with a positive denominator.
+     */
+    private static BigInteger[] getFraction(BigRational r) {
+        if (r.isInteger()) {
+            return new BigInteger[]{r.toBigDecimal().toBigIntegerExact(),
+                BigInteger.ONE};
+        }
+        BigDecimal n = r.getNumerator();
+        BigDecimal d = r.getDenominator();
+        int s = Math.max(0, Math.max(n.scale(), d.scale()));
+        BigInteger ni = n.setScale(s).unscaledValue();
+        BigInteger di = d.setScale(s).unscaledValue();
+        if (di.signum() < 0) {
+            ni = ni.negate();
+            di = di.negate();
+        }
+        return new BigInteger[]{ni, di};
+    }
+
+    /**
+     * @param a A positive integer.
+     * @param b A positive integer.
+     * @return The lowest common multiple of a and b.
+     */
+    private static BigInteger lcm(BigInteger a, BigInteger b) {
+        if (a.equals(b) || b.equals(BigInteger.ONE)) {
+            return a;
+        }
+        if (a.equals(BigInteger.ONE)) {
+            return b;
+        }
+        return a.divide(a.gcd(b)).multiply(b);
+    }
+
+    /**
+     * @return This as a V3D_Vector.
+     */
+    public V3D_Vector toVector() {
+        return new V3D_Vector(BigRational.valueOf(x, w),
+                BigRational.valueOf(y, w), BigRational.valueOf(z, w));
+    }
+
+    /**
+     * @param v The vector to add.
+     * @return A new vector which is this add v.
+     */
+    public V3D_HVector add(V3D_HVector v) {
+        if (w.equals(v.w)) {
+            return new V3D_HVector(x.add(v.x), y.add(v.y), z.add(v.z), w);
+        }
+        return new V3D_HVector(x.multiply(v.w).add(v.x.multiply(w)),
+                y.multiply(v.w).add(v.y.multiply(w)),
+                z.multiply(v.w).add(v.z.multiply(w)), w.multiply(v.w));
+    }
+
+    /**
+     * @param n The normal of the plane.
+     * @param p A point on the plane.
+     * @param pt The point to test.
+     * @return The side of the plane through p with normal n that pt is on:
+     * 1 for the side n points to, -1 for the other side and 0 if pt is on the
+     * plane.
+     */
+    public static int getSideOfPlane(V3D_HVector n, V3D_HVector p,
+            V3D_HVector pt) {
+        if (n.small && p.small && pt.small) {
+            try {
+                return Long.signum(dot(n.toLongs(), diff(pt, p)));
+            } catch (ArithmeticException e) {
+                // Overflow so use BigInteger arithmetic.
+            }
+        }
+        return dot(n.toBigIntegers(), diffB(pt, p)).signum();
+    }
+
+    /**
+     * Calculates the coefficients of the equation of a plane
+     * {@code ax + by + cz + d = 0} as integers. These are returned as a
+     * vector with {@link #x} as a, {@link #y} as b, {@link #z} as c and
+     * {@link #w} as d. Unlike for points, w may be zero or negative. The
+     * coefficients are divided by their greatest common divisor.
+     *
+     * @param n The normal of the plane.
+     * @param p A point on the plane.
+     * @return The coefficients of the equation of the plane.
+     */
+    public static V3D_HVector getEquation(V3D_HVector n, V3D_HVector p) {
+        BigInteger a = n.x.multiply(p.w);
+        BigInteger b = n.y.multiply(p.w);
+        BigInteger c = n.z.multiply(p.w);
+        BigInteger d = dot(n.toBigIntegers(), p.toBigIntegers()).negate();
+        BigInteger g = a.gcd(b).gcd(c).gcd(d);
+        if (g.signum() != 0 && !g.equals(BigInteger.ONE)) {
+            a = a.divide(g);
+            b = b.divide(g);
+            c = c.divide(g);
+            d = d.divide(g);
+        }
+        return new V3D_HVector(a, b, c, d);
+    }
+
+    /**
+     * @param e The coefficients of the equation of a plane as returned from
+     * {@link #getEquation(V3D_HVector, V3D_HVector)}.
+     * @param pt The point to test.
+     * @return The side of the plane that pt is on: 1 for the side the normal
+     * points to, -1 for the other side and 0 if pt is on the plane.
+     */
+    public static int getSideOfPlane(V3D_HVector e, V3D_HVector pt) {
+        if (e.small && pt.small) {
+            try {
+                return Long.signum(Math.addExact(Math.addExact(
+                        Math.multiplyExact(e.lx, pt.lx),
+                        Math.multiplyExact(e.ly, pt.ly)),
+                        Math.addExact(Math.multiplyExact(e.lz, pt.lz),
+                                Math.multiplyExact(e.lw, pt.lw))));
+            } catch (ArithmeticException ex) {
+                // Overflow so use BigInteger arithmetic.
+            }
+        }
+        return e.x.multiply(pt.x).add(e.y.multiply(pt.y))
+                .add(e.z.multiply(pt.z)).add(e.w.multiply(pt.w)).signum();
+    }
+
+    /**
+     * @param p A point.
+     * @param q A point.
+     * @param r A point.
+     * @param s A point.
+     * @return The sign of the determinant of (q - p, r - p, s - p): 1 if s is
+     * on the side of the plane through p, q and r that the normal
+     * (q - p) x (r - p) points to, -1 if s is on the other side and 0 if the
+     * points are coplanar.
+     */
+    public static int getOrientation(V3D_HVector p, V3D_HVector q,
+            V3D_HVector r, V3D_HVector s) {
+        if (p.small && q.small && r.small && s.small) {
+            try {
+                return Long.signum(dot(cross(diff(q, p), diff(r, p)),
+                        diff(s, p)));
+            } catch (ArithmeticException e) {
+                // Overflow so use BigInteger arithmetic.
+            }
+        }
+        return dot(cross(diffB(q, p), diffB(r, p)), diffB(s, p)).signum();
+    }
+
+    /**
+     * For testing if a point that is coplanar with a triangle is in the
+     * triangle.
+     *
+     * @param p A corner of the triangle.
+     * @param q A corner of the triangle.
+     * @param r A corner of the triangle.
+     * @param pt A point coplanar with the triangle.
+     * @return 1 if pt is in the triangle or on its edge, 0 if it is not and
+     * -1 if the triangle is degenerate (its corners are collinear) in which
+     * case the test cannot be done in this way.
+     */
+    public static int intersectsCoplanar(V3D_HVector p, V3D_HVector q,
+            V3D_HVector r, V3D_HVector pt) {
+        if (p.small && q.small && r.small && pt.small) {
+            try {
+                long[] n = cross(diff(q, p), diff(r, p));
+                if (n[0] == 0L && n[1] == 0L && n[2] == 0L) {
+                    return -1;
+                }
+                return dot(cross(diff(q, p), diff(pt, p)), n) >= 0L
+                        && dot(cross(diff(r, q), diff(pt, q)), n) >= 0L
+                        && dot(cross(diff(p, r), diff(pt, r)), n) >= 0L
+                        ? 1 : 0;
+            } catch (ArithmeticException e) {
+                // Overflow so use BigInteger arithmetic.
+            }
+        }
+        BigInteger[] n = cross(diffB(q, p), diffB(r, p));
+        if (n[0].signum() == 0 && n[1].signum() == 0 && n[2].signum() == 0) {
+            return -1;
+        }
+        return dot(cross(diffB(q, p), diffB(pt, p)), n).signum() >= 0
+                && dot(cross(diffB(r, q), diffB(pt, q)), n).signum() >= 0
+                && dot(cross(diffB(p, r), diffB(pt, r)), n).signum() >= 0
+                ? 1 : 0;
+    }
+
+    /**
+     * @return The components as longs.
+     */
+    private long[] toLongs() {
+        return new long[]{lx, ly, lz};
+    }
+
+    /**
+     * @return The components as BigIntegers.
+     */
+    private BigInteger[] toBigIntegers() {
+        return new BigInteger[]{x, y, z};
+    }
+
+    /**
+     * @param a A vector.
+     * @param b A vector.
+     * @return a - b multiplied by a positive scale: a.w if a.w equals b.w,
+     * otherwise a.w * b.w. Callers use only signs, so the scale may differ.
+     * @throws ArithmeticException If there is overflow.
+     */
+    private static long[] diff(V3D_HVector a, V3D_HVector b) {
+        if (a.lw == b.lw) {
+            return new long[]{Math.subtractExact(a.lx, b.lx),
+                Math.subtractExact(a.ly, b.ly),
+                Math.subtractExact(a.lz, b.lz)};
+        }
+        return new long[]{
+            Math.subtractExact(Math.multiplyExact(a.lx, b.lw),
+            Math.multiplyExact(b.lx, a.lw)),
+            Math.subtractExact(Math.multiplyExact(a.ly, b.lw),
+            Math.multiplyExact(b.ly, a.lw)),
+            Math.subtractExact(Math.multiplyExact(a.lz, b.lw),
+            Math.multiplyExact(b.lz, a.lw))};
+    }
+
+    /**
+     * @param a A vector.
+     * @param b A vector.
+     * @return a - b multiplied by a positive scale: a.w if a.w equals b.w,
+     * otherwise a.w * b.w. Callers use only signs, so the scale may differ.
+     */
+    private static BigInteger[] diffB(V3D_HVector a, V3D_HVector b) {
+        if (a.w.equals(b.w)) {
+            return new BigInteger[]{a.x.subtract(b.x), a.y.subtract(b.y),
+                a.z.subtract(b.z)};
+        }
+        return new BigInteger[]{
+            a.x.multiply(b.w).subtract(b.x.multiply(a.w)),
+            a.y.multiply(b.w).subtract(b.y.multiply(a.w)),
+            a.z.multiply(b.w).subtract(b.z.multiply(a.w))};
+    }
+
+    /**
+     * @param u A vector.
+     * @param v A vector.
+     * @return u x v.
+     * @throws ArithmeticException If there is overflow.
+     */
+    private static long[] cross(long[] u, long[] v) {
+        return new long[]{
+            Math.subtractExact(Math.multiplyExact(u[1], v[2]),
+            Math.multiplyExact(u[2], v[1])),
+            Math.subtractExact(Math.multiplyExact(u[2], v[0]),
+            Math.multiplyExact(u[0], v[2])),
+            Math.subtractExact(Math.multiplyExact(u[0], v[1]),
+            Math.multiplyExact(u[1], v[0]))};
+    }
+
+    /**
+     * @param u A vector.
+     * @param v A vector.
+     * @return u x v.
+     */
+    private static BigInteger[] cross(BigInteger[] u, BigInteger[] v) {
+        return new BigInteger[]{
+            u[1].multiply(v[2]).subtract(u[2].multiply(v[1])),
+            u[2].multiply(v[0]).subtract(u[0].multiply(v[2])),
+            u[0].multiply(v[1]).subtract(u[1].multiply(v[0]))};
+    }
+
+    /**
+     * @param u A vector.
+     * @param v A vector.
+     * @return u . v
+     * @throws ArithmeticException If there is overflow.
+     */
+    private static long dot(long[] u, long[] v) {
+        return Math.addExact(Math.addExact(Math.multiplyExact(u[0], v[0]),
+                Math.multiplyExact(u[1], v[1])),
+                Math.multiplyExact(u[2], v[2]));
+    }
+
+    /**
+     * @param u A vector.
+     * @param v A vector.
+     * @return u . v
+     */
+    private static BigInteger dot(BigInteger[] u, BigInteger[] v) {
+        return u[0].multiply(v[0]).add(u[1].multiply(v[1]))
+                .add(u[2].multiply(v[2]));
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + "(x=" + x + ", y=" + y
+                + ", z=" + z + ", w=" + w + ")";
+    }
+}
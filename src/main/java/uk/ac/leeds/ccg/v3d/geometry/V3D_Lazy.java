@@ -0,0 +1,352 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.geometry;
+
+import ch.obermuhlner.math.big.BigRational;
+import java.io.Serializable;
+
+/**
+ * A lazily evaluated exact number. Arithmetic with these does not calculate
+ * BigRational results, it builds an expression of the operations and their
+ * operands and calculates an interval of doubles that is guaranteed to
+ * contain the exact result. The exact result is only calculated, and then
+ * cached, if it is asked for or if a sign or comparison cannot be decided
+ * from the intervals. So in pipelines such as constructing a plane,
+ * intersecting it with a line and comparing distances to the point of
+ * intersection, where the final result is a sign or a comparison, most of
+ * the BigRational arithmetic is usually avoided.
+ *
+ * The bounds of the interval are rounded outwards after each operation so
+ * that they always bound the exact result. Where an interval cannot be
+ * calculated, for example if a divisor interval contains zero, the interval
+ * is unbounded and any sign or comparison using it is decided exactly.
+ *
+ * Instances are got from {@link #valueOf(BigRational)} or from
+ * {@link V3D_Vector#getLazy()} and {@link V3D_Point#getLazy()} which return
+ * {@code null} for vectors and points with irrational components.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public final class V3D_Lazy implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * For a leaf which has a BigRational value.
+     */
+    private static final byte VALUE = 0;
+
+    /**
+     * For an addition.
+     */
+    private static final byte ADD = 1;
+
+    /**
+     * For a subtraction.
+     */
+    private static final byte SUBTRACT = 2;
+
+    /**
+     * For a multiplication.
+     */
+    private static final byte MULTIPLY = 3;
+
+    /**
+     * For a division.
+     */
+    private static final byte DIVIDE = 4;
+
+    /**
+     * For a negation.
+     */
+    private static final byte NEGATE = 5;
+
+    /**
+     * The relative error bound for converting a BigRational to a double.
+     */
+    private static final double EPSILON = 0x1p-50;
+
+    /**
+     * Zero.
+     */
+    public static final V3D_Lazy ZERO = valueOf(BigRational.ZERO);
+
+    /**
+     * One.
+     */
+    public static final V3D_Lazy ONE = valueOf(BigRational.ONE);
+
+    /**
+     * The operation.
+     */
+    private final byte op;
+
+    /**
+     * The first operand. This is released once {@link #exact} is calculated.
+     */
+    private V3D_Lazy a;
+
+    /**
+     * The second operand. This is released once {@link #exact} is
+     * calculated.
+     */
+    private V3D_Lazy b;
+
+    /**
+     * The exact value or {@code null} if it has not been calculated.
+     */
+    private BigRational exact;
+
+    /**
+     * The lower bound of the interval containing the exact value.
+     */
+    public final double lo;
+
+    /**
+     * The upper bound of the interval containing the exact value.
+     */
+    public final double hi;
+
+    /**
+     * @param x The exact value.
+     */
+    private V3D_Lazy(BigRational x) {
+        op = VALUE;
+        exact = x;
+        if (x.isZero()) {
+            lo = 0d;
+            hi = 0d;
+        } else {
+            double d = x.toDouble();
+            if (Double.isInfinite(d) || Double.isNaN(d)) {
+                lo = Double.NEGATIVE_INFINITY;
+                hi = Double.POSITIVE_INFINITY;
+            } else {
+                double e = Math.abs(d) * EPSILON + Double.MIN_NORMAL;
+                lo = Math.nextDown(d - e);
+                hi = Math.nextUp(d + e);
+            }
+        }
+    }
+
+    /**
+     * @param op The operation.
+     * @param a The first operand.
+     * @param b The second operand or {@code null} for a negation.
+     * @param lo The lower bound which must bound the exact value.
+     * @param hi The upper bound which must bound the exact value.
+     */
+    private V3D_Lazy(byte op, V3D_Lazy a, V3D_Lazy b, double lo, double hi) {
+        this.op = op;
+        this.a = a;
+        this.b = b;
+        if (Double.isNaN(lo) || Double.isNaN(hi)) {
+            this.lo = Double.NEGATIVE_INFINITY;
+            this.hi = Double.POSITIVE_INFINITY;
+        } else {
+            this.lo = lo;
+            this.hi = hi;
+        }
+    }
+
+    /**
+     * @param x The value.
+     * @return x as a V3D_Lazy.
+     */
+    public static V3D_Lazy valueOf(BigRational x) {
+        return new V3D_Lazy(x);
+    }
+
+    /**
+     * @return {@code true} iff the interval is the single value zero.
+     */
+    private boolean isZeroInterval() {
+        return lo == 0d && hi == 0d;
+    }
+
+    /**
+     * @param y The value to add.
+     * @return {@code this + y}.
+     */
+    public V3D_Lazy add(V3D_Lazy y) {
+        if (y.isZeroInterval()) {
+            return this;
+        }
+        if (isZeroInterval()) {
+            return y;
+        }
+        return new V3D_Lazy(ADD, this, y, Math.nextDown(lo + y.lo),
+                Math.nextUp(hi + y.hi));
+    }
+
+    /**
+     * @param y The value to subtract.
+     * @return {@code this - y}.
+     */
+    public V3D_Lazy subtract(V3D_Lazy y) {
+        if (y.isZeroInterval()) {
+            return this;
+        }
+        if (isZeroInterval()) {
+            return y.negate();
+        }
+        return new V3D_Lazy(SUBTRACT, this, y, Math.nextDown(lo - y.hi),
+                Math.nextUp(hi - y.lo));
+    }
+
+    /**
+     * @param y The value to multiply by.
+     * @return {@code this * y}.
+     */
+    public V3D_Lazy multiply(V3D_Lazy y) {
+        if (isZeroInterval()) {
+            return this;
+        }
+        if (y.isZeroInterval()) {
+            return y;
+        }
+        double p1 = lo * y.lo;
+        double p2 = lo * y.hi;
+        double p3 = hi * y.lo;
+        double p4 = hi * y.hi;
+        return new V3D_Lazy(MULTIPLY, this, y,
+                Math.nextDown(Math.min(Math.min(p1, p2), Math.min(p3, p4))),
+                Math.nextUp(Math.max(Math.max(p1, p2), Math.max(p3, p4))));
+    }
+
+    /**
+     * @param y The value to divide by which must not be zero.
+     * @return {@code this / y}.
+     */
+    public V3D_Lazy divide(V3D_Lazy y) {
+        if (isZeroInterval()) {
+            return this;
+        }
+        if (y.lo <= 0d && y.hi >= 0d) {
+            return new V3D_Lazy(DIVIDE, this, y, Double.NEGATIVE_INFINITY,
+                    Double.POSITIVE_INFINITY);
+        }
+        double p1 = lo / y.lo;
+        double p2 = lo / y.hi;
+        double p3 = hi / y.lo;
+        double p4 = hi / y.hi;
+        return new V3D_Lazy(DIVIDE, this, y,
+                Math.nextDown(Math.min(Math.min(p1, p2), Math.min(p3, p4))),
+                Math.nextUp(Math.max(Math.max(p1, p2), Math.max(p3, p4))));
+    }
+
+    /**
+     * @return {@code -this}.
+     */
+    public V3D_Lazy negate() {
+        if (isZeroInterval()) {
+            return this;
+        }
+        return new V3D_Lazy(NEGATE, this, null, -hi, -lo);
+    }
+
+    /**
+     * @return {@code true} iff the exact value has been calculated.
+     */
+    public synchronized boolean isEvaluated() {
+        return exact != null;
+    }
+
+    /**
+     * Calculates and caches the exact value if it has not already been
+     * calculated. The operands are then released so that expressions do not
+     * hold on to more memory than needed.
+     *
+     * @return The exact value.
+     */
+    public synchronized BigRational getExact() {
+        if (exact == null) {
+            exact = switch (op) {
+                case ADD ->
+                    a.getExact().add(b.getExact());
+                case SUBTRACT ->
+                    a.getExact().subtract(b.getExact());
+                case MULTIPLY ->
+                    a.getExact().multiply(b.getExact());
+                case DIVIDE ->
+                    a.getExact().divide(b.getExact());
+                default ->
+                    a.getExact().negate();
+            };
+            a = null;
+            b = null;
+        }
+        return exact;
+    }
+
+    /**
+     * The sign is decided from the interval if possible and otherwise from
+     * the exact value.
+     *
+     * @return -1, 0 or 1 as the exact value is negative, zero or positive.
+     */
+    public int signum() {
+        if (lo > 0d) {
+            return 1;
+        }
+        if (hi < 0d) {
+            return -1;
+        }
+        if (isZeroInterval()) {
+            return 0;
+        }
+        return getExact().signum();
+    }
+
+    /**
+     * The comparison is decided from the intervals if possible and otherwise
+     * from the exact values.
+     *
+     * @param y The value to compare with.
+     * @return -1, 0 or 1 as this is less than, equal to or greater than y.
+     */
+    public int compareTo(V3D_Lazy y) {
+        if (hi < y.lo) {
+            return -1;
+        }
+        if (lo > y.hi) {
+            return 1;
+        }
+        return subtract(y).signum();
+    }
+
+    /**
+     * @return An approximation of the value: the exact value as a double if
+     * it has been calculated, otherwise the midpoint of the interval.
+     */
+    public double toDouble() {
+        synchronized (this) {
+            if (exact != null) {
+                return exact.toDouble();
+            }
+        }
+        if (Double.isInfinite(lo) || Double.isInfinite(hi)) {
+            return getExact().toDouble();
+        }
+        return lo / 2d + hi / 2d;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(lo=" + lo + ", hi=" + hi + ")";
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.geometry;
+
+import java.io.Serializable;
+
+/**
+ * A vector with {@link V3D_Lazy} components. This is used both for vectors
+ * and for the position vectors of points. Results of lazy geometry methods
+ * such as {@link V3D_Plane#getIntersectLazy(V3D_Line)} are these, so that
+ * further tests on them can usually be decided without exact arithmetic.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public final class V3D_LazyVector implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Returned by lazy intersection methods to indicate that a line lies in
+     * the plane, rather than crossing it at a point. Compare by reference.
+     */
+    public static final V3D_LazyVector COPLANAR = new V3D_LazyVector(
+            V3D_Lazy.ZERO, V3D_Lazy.ZERO, V3D_Lazy.ZERO);
+
+    /**
+     * The x component.
+     */
+    public final V3D_Lazy dx;
+
+    /**
+     * The y component.
+     */
+    public final V3D_Lazy dy;
+
+    /**
+     * The z component.
+     */
+    public final V3D_Lazy dz;
+
+    /**
+     * Create a new instance.
+     *
+     * @param dx What {@link #dx} is set to.
+     * @param dy What {@link #dy} is set to.
+     * @param dz What {@link #dz} is set to.
+     */
+    public V3D_LazyVector(V3D_Lazy dx, V3D_Lazy dy, V3D_Lazy dz) {
+        this.dx = dx;
+        this.dy = dy;
+        this.dz = dz;
+    }
+
+    /**
+     * @param v The vector to add.
+     * @return {@code this + v}.
+     */
+    public V3D_LazyVector add(V3D_LazyVector v) {
+        return new V3D_LazyVector(dx.add(v.dx), dy.add(v.dy), dz.add(v.dz));
+    }
+
+    /**
+     * @param v The vector to subtract.
+     * @return {@code this - v}.
+     */
+    public V3D_LazyVector subtract(V3D_LazyVector v) {
+        return new V3D_LazyVector(dx.subtract(v.dx), dy.subtract(v.dy),
+                dz.subtract(v.dz));
+    }
+
+    /**
+     * @param s The scalar to multiply by.
+     * @return {@code this * s}.
+     */
+    public V3D_LazyVector multiply(V3D_Lazy s) {
+        return new V3D_LazyVector(dx.multiply(s), dy.multiply(s),
+                dz.multiply(s));
+    }
+
+    /**
+     * @param v The other vector.
+     * @return The dot product of this and v.
+     */
+    public V3D_Lazy getDotProduct(V3D_LazyVector v) {
+        return dx.multiply(v.dx).add(dy.multiply(v.dy)).add(dz.multiply(v.dz));
+    }
+
+    /**
+     * @param v The other vector.
+     * @return The cross product of this and v.
+     */
+    public V3D_LazyVector getCrossProduct(V3D_LazyVector v) {
+        return new V3D_LazyVector(
+                dy.multiply(v.dz).subtract(dz.multiply(v.dy)),
+                dz.multiply(v.dx).subtract(dx.multiply(v.dz)),
+                dx.multiply(v.dy).subtract(dy.multiply(v.dx)));
+    }
+
+    /**
+     * @return The magnitude of this squared.
+     */
+    public V3D_Lazy getMagnitudeSquared() {
+        return getDotProduct(this);
+    }
+
+    /**
+     * @param v The other position vector.
+     * @return The distance squared between the points with position vectors
+     * this and v.
+     */
+    public V3D_Lazy getDistanceSquared(V3D_LazyVector v) {
+        return subtract(v).getMagnitudeSquared();
+    }
+
+    /**
+     * @return {@code true} iff this is the zero vector.
+     */
+    public boolean isZero() {
+        return dx.signum() == 0 && dy.signum() == 0 && dz.signum() == 0;
+    }
+
+    /**
+     * Calculates the exact values of the components.
+     *
+     * @return This as a V3D_Vector.
+     */
+    public V3D_Vector toVector() {
+        return new V3D_Vector(dx.getExact(), dy.getExact(), dz.getExact());
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(dx=" + dx + ", dy=" + dy
+                + ", dz=" + dz + ")";
+    }
+}
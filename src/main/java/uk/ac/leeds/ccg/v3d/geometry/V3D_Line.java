@@ -23,6 +23,7 @@ import uk.ac.leeds.ccg.math.geometry.Math_AngleBigRational;
 import uk.ac.leeds.ccg.math.number.Math_BigRationalSqrt;
 import uk.ac.leeds.ccg.math.matrices.Math_Matrix_BR;
 import uk.ac.leeds.ccg.v3d.core.V3D_Environment;
+import uk.ac.leeds.ccg.v3d.core.V3D_RoundingPolicy;
 
 /**
  * 3D representation of an infinite length line.The line passes through the
@@ -101,7 +102,7 @@ public class V3D_Line extends V3D_Geometry {
     /**
      * Used along with {@link #offset} to define {@link #p}.
      */
-    protected final V3D_Vector pv;
+    protected V3D_Vector pv;
 
     /**
      * Used to store a point on the line as derived from {@link #offset} and
@@ -1127,6 +1128,38 @@ public class V3D_Line extends V3D_Geometry {
                 getDistanceSquared(pt, true, oom, rm), oom, rm).getSqrt(oom, rm);
     }
 
+    /**
+     * Get the point of intersection with {@code pl} lazily. See
+     * {@link V3D_Plane#getIntersectLazy(V3D_Line)}.
+     *
+     * @param pl The plane to intersect with.
+     * @return The position of the point of intersection,
+     * {@link V3D_LazyVector#COPLANAR} if this is on pl, or {@code null} if
+     * this is parallel to pl and not on it.
+     */
+    public V3D_LazyVector getIntersectLazy(V3D_Plane pl) {
+        return pl.getIntersectLazy(this);
+    }
+
+    /**
+     * Get the distance squared to {@code pt} lazily (see {@link V3D_Lazy}),
+     * for example to compare distances without calculating them exactly.
+     *
+     * @param pt The position of the point.
+     * @return The minimum distance squared between this and pt or
+     * {@code null} if any of the components of the point of this or
+     * {@link #v} are irrational.
+     */
+    public V3D_Lazy getDistanceSquaredLazy(V3D_LazyVector pt) {
+        V3D_LazyVector lp = getP().getLazy();
+        V3D_LazyVector lv = v.getLazy();
+        if (lp == null || lv == null) {
+            return null;
+        }
+        return pt.subtract(lp).getCrossProduct(lv).getMagnitudeSquared()
+                .divide(lv.getMagnitudeSquared());
+    }
+
     /**
      * Calculates and returns the squared distance from this to pt.
      *
@@ -1286,17 +1319,33 @@ public class V3D_Line extends V3D_Geometry {
      * @param rm The RoundingMode for any rounding.
      */
     @Override
-    public void translate(V3D_Vector v, int oom, RoundingMode rm) {
-        super.translate(v, oom, rm);
+    protected void translateUncounted(V3D_Vector v, int oom,
+            RoundingMode rm) {
+        super.translateUncounted(v, oom, rm);
         pv.add(v, oom, rm);
         if (p != null) {
-            this.p.translate(v, oom, rm);
+            this.p.translateUncounted(v, oom, rm);
         }
         if (q != null) {
-            this.q.translate(v, oom, rm);
+            this.q.translateUncounted(v, oom, rm);
         }
     }
 
+    /**
+     * Round {@link #offset}, {@link #pv} and {@link #v} using policy and clear
+     * {@link #p} and {@link #q}.
+     *
+     * @param policy The rounding policy.
+     */
+    @Override
+    public void round(V3D_RoundingPolicy policy) {
+        super.round(policy);
+        pv = pv.round(policy);
+        v = v.round(policy);
+        p = null;
+        q = null;
+    }
+
     @Override
     public V3D_Line rotate(V3D_Ray ray, V3D_Vector uv, Math_BigDecimal bd,
             BigRational theta, int oom, RoundingMode rm) {
@@ -1313,7 +1362,7 @@ public class V3D_Line extends V3D_Geometry {
             BigRational theta, int oom, RoundingMode rm) {
         V3D_Point rp = getP().rotateN(ray, uv, bd, theta, oom, rm);
         V3D_Vector rv = v.rotateN(uv, bd, theta, oom, rm);
-        return new V3D_Line(rp, rv);
+        return countRotation(new V3D_Line(rp, rv));
     }
 
     /**
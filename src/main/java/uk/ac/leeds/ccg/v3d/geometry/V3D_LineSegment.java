@@ -24,6 +24,8 @@ import uk.ac.leeds.ccg.math.arithmetic.Math_BigDecimal;
 import uk.ac.leeds.ccg.math.geometry.Math_AngleBigRational;
 import uk.ac.leeds.ccg.math.number.Math_BigRationalSqrt;
 import uk.ac.leeds.ccg.v3d.core.V3D_Environment;
+import uk.ac.leeds.ccg.v3d.core.V3D_Metrics;
+import uk.ac.leeds.ccg.v3d.core.V3D_RoundingPolicy;
 
 /**
  * 3D representation of a finite length line (a line segment). The line begins
@@ -92,6 +94,7 @@ public class V3D_LineSegment extends V3D_FiniteGeometry {
      */
     public V3D_LineSegment(V3D_LineSegment l) {
         super(l.env, l.offset);
+        V3D_Metrics.count(env, V3D_Metrics.Op.SEGMENT, this);
         this.l = new V3D_Line(l.l);
     }
 
@@ -117,6 +120,7 @@ public class V3D_LineSegment extends V3D_FiniteGeometry {
     public V3D_LineSegment(V3D_Environment env, V3D_Vector offset, V3D_Vector pv,
             V3D_Vector v) {
         super(env, offset);
+        V3D_Metrics.count(env, V3D_Metrics.Op.SEGMENT, this);
         l = new V3D_Line(env, offset, pv, v);
     }
 
@@ -130,6 +134,7 @@ public class V3D_LineSegment extends V3D_FiniteGeometry {
      */
     public V3D_LineSegment(V3D_Point p, V3D_Point q, int oom, RoundingMode rm) {
         super(p.env, p.offset);
+        V3D_Metrics.count(env, V3D_Metrics.Op.SEGMENT, this);
         l = new V3D_Line(p, q, oom, rm);
     }
 
@@ -154,6 +159,7 @@ public class V3D_LineSegment extends V3D_FiniteGeometry {
      */
     public V3D_LineSegment(int oom, RoundingMode rm, V3D_Point... points) {
         super(points[0].env, points[0].offset);
+        V3D_Metrics.count(env, V3D_Metrics.Op.SEGMENT, this);
         V3D_Point p0 = points[0];
         V3D_Point p1 = points[1];
         V3D_LineSegment ls = new V3D_LineSegment(p0, p1, oom, rm);
@@ -178,6 +184,7 @@ public class V3D_LineSegment extends V3D_FiniteGeometry {
      */
     public V3D_LineSegment(V3D_Line l) {
         super(l.env, l.offset);
+        V3D_Metrics.count(env, V3D_Metrics.Op.SEGMENT, this);
         this.l = new V3D_Line(l);
     }
 
@@ -205,17 +212,32 @@ public class V3D_LineSegment extends V3D_FiniteGeometry {
      * @param rm The RoundingMode for any rounding.
      */
     @Override
-    public void translate(V3D_Vector v, int oom, RoundingMode rm) {
-        super.translate(v, oom, rm);
-        l.translate(v, oom, rm);
+    protected void translateUncounted(V3D_Vector v, int oom,
+            RoundingMode rm) {
+        super.translateUncounted(v, oom, rm);
+        l.translateUncounted(v, oom, rm);
         if (ppl != null) {
-            ppl.translate(v, oom, rm);
+            ppl.translateUncounted(v, oom, rm);
         }
         if (qpl != null) {
-            qpl.translate(v, oom, rm);
+            qpl.translateUncounted(v, oom, rm);
         }
     }
 
+    /**
+     * Round {@link #offset} and {@link #l} using policy and clear
+     * {@link #ppl} and {@link #qpl}.
+     *
+     * @param policy The rounding policy.
+     */
+    @Override
+    public void round(V3D_RoundingPolicy policy) {
+        super.round(policy);
+        l.round(policy);
+        ppl = null;
+        qpl = null;
+    }
+
     @Override
     public String toString() {
         //return toString("");
@@ -402,7 +424,7 @@ public class V3D_LineSegment extends V3D_FiniteGeometry {
         /**
          * Potential optimisation: Is it faster to calculate this in parallel?
          */
-        return aabb.getAABB2Ds(oom, rm).parallelStream().anyMatch(x
+        return getPolicy().anyMatch(aabb.getAABB2Ds(oom, rm), x
                 -> intersects(x, oom, rm))
                 || aabb.intersects(l.getP(), oom, rm)
                 || aabb.intersects(l.getQ(oom, rm), oom, rm);
@@ -677,7 +699,7 @@ public class V3D_LineSegment extends V3D_FiniteGeometry {
      */
     public static boolean intersects(int oom, RoundingMode rm,
             V3D_LineSegment l, Collection<V3D_LineSegment> ls) {
-        return ls.parallelStream().anyMatch(x -> x.intersects(l, oom, rm));
+        return l.getPolicy().anyMatch(ls, x -> x.intersects(l, oom, rm));
     }
 
     /**
@@ -701,7 +723,7 @@ public class V3D_LineSegment extends V3D_FiniteGeometry {
      */
     public static boolean intersects(int oom, RoundingMode rm, V3D_Point p,
             Collection<V3D_LineSegment> ls) {
-        return ls.parallelStream().anyMatch(x -> x.intersects(p, oom, rm));
+        return p.getPolicy().anyMatch(ls, x -> x.intersects(p, oom, rm));
     }
 
     /**
@@ -1149,7 +1171,7 @@ public class V3D_LineSegment extends V3D_FiniteGeometry {
         //BigDecimal l = getLength().toBigDecimal(oom);
         //V3D_Vector pmpq = v.divide(BigRational.valueOf(l));
         //V3D_Vector pmpq = l.getV(oom, rm).divide(BigRational.valueOf(2), oom, rm);
-        V3D_Vector pmpq = l.v.divide(BigRational.valueOf(2), oom, rm);
+        V3D_Vector pmpq = l.v.multiply(V3D_Environment.HALF, oom, rm);
         //return getP(oom).translate(pmpq, oom);
         return new V3D_Point(env, offset, l.pv.add(pmpq, oom, rm));
     }
@@ -1542,9 +1564,9 @@ public class V3D_LineSegment extends V3D_FiniteGeometry {
     @Override
     public V3D_LineSegment rotateN(V3D_Ray ray, V3D_Vector uv, Math_BigDecimal bd,
             BigRational theta, int oom, RoundingMode rm) {
-        return new V3D_LineSegment(
+        return countRotation(new V3D_LineSegment(
                 getP().rotateN(ray, uv, bd, theta, oom, rm),
-                getQ(oom, rm).rotateN(ray, uv, bd, theta, oom, rm), oom, rm);
+                getQ(oom, rm).rotateN(ray, uv, bd, theta, oom, rm), oom, rm));
     }
 
     /**
@@ -27,6 +27,7 @@ import uk.ac.leeds.ccg.math.arithmetic.Math_BigDecimal;
 import uk.ac.leeds.ccg.math.arithmetic.Math_BigRational;
 import uk.ac.leeds.ccg.math.geometry.Math_AngleBigRational;
 import uk.ac.leeds.ccg.math.number.Math_BigRationalSqrt;
+import uk.ac.leeds.ccg.v3d.core.V3D_RoundingPolicy;
 
 /**
  * For representing multiple collinear line segments.
@@ -565,13 +566,19 @@ public class V3D_LineSegmentsCollinear extends V3D_FiniteGeometry {
     }
 
     @Override
-    public void translate(V3D_Vector v, int oom, RoundingMode rm) {
-        super.translate(v, oom, rm);
-        if (en != null) {
-            en.translate(v, oom, rm);
+    protected void translateUncounted(V3D_Vector v, int oom,
+            RoundingMode rm) {
+        super.translateUncounted(v, oom, rm);
+        for (int i = 0; i < lineSegments.size(); i++) {
+            lineSegments.get(i).translateUncounted(v, oom, rm);
         }
+    }
+
+    @Override
+    public void round(V3D_RoundingPolicy policy) {
+        super.round(policy);
         for (int i = 0; i < lineSegments.size(); i++) {
-            lineSegments.get(i).translate(v, oom, rm);
+            lineSegments.get(i).round(policy);
         }
     }
     
@@ -593,7 +600,7 @@ public class V3D_LineSegmentsCollinear extends V3D_FiniteGeometry {
         for (int i = 0; i < lineSegments.size(); i++) {
             rls[0] = lineSegments.get(i).rotate(ray, uv, bd, theta, oom, rm);
         }
-        return new V3D_LineSegmentsCollinear(rls);
+        return countRotation(new V3D_LineSegmentsCollinear(rls));
     }
 
     //@Override
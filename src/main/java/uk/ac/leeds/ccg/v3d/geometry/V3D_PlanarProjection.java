@@ -0,0 +1,468 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.geometry;
+
+import ch.obermuhlner.math.big.BigRational;
+import java.io.Serializable;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import uk.ac.leeds.ccg.v3d.core.V3D_Environment;
+
+/**
+ * For reducing problems about coplanar points to two dimensions. Points in a
+ * plane are projected onto the axis aligned plane in which the normal of the
+ * plane has its largest component by dropping that coordinate. So that the
+ * projection is exact for rational points, an orthonormal basis (which would
+ * need square roots) is not used. The projection is an affine bijection from
+ * the plane so intersections, containment and convexity are preserved; and
+ * orientations are preserved relative to the normal as the sign of the
+ * dropped component is accounted for. Lengths and areas are not preserved.
+ *
+ * 2D points are arrays of two BigRational coordinates. The 2D algorithms here
+ * (convex hull, point in polygon, segment intersection and triangulation) do
+ * roughly half the arithmetic of the equivalent 3D coplanar tests. Results
+ * that are points can be lifted back onto the plane with
+ * {@link #lift(BigRational[])}.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_PlanarProjection implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The environment.
+     */
+    public final V3D_Environment env;
+
+    /**
+     * The index of the coordinate that is dropped: 0 for x, 1 for y, 2 for
+     * z.
+     */
+    public final int axis;
+
+    /**
+     * The index of the first retained coordinate.
+     */
+    private final int i;
+
+    /**
+     * The index of the second retained coordinate.
+     */
+    private final int j;
+
+    /**
+     * The normal.
+     */
+    private final BigRational[] n;
+
+    /**
+     * The plane constant: the dot product of the normal and any point in the
+     * plane.
+     */
+    private final BigRational d;
+
+    /**
+     * The sign of the dropped component of the normal.
+     */
+    private final int sign;
+
+    /**
+     * Create a new instance.
+     *
+     * @param env What {@link #env} is set to.
+     * @param n The normal of the plane which must not be zero.
+     * @param p A point in the plane.
+     */
+    public V3D_PlanarProjection(V3D_Environment env, BigRational[] n,
+            BigRational[] p) {
+        this.env = env;
+        this.n = n;
+        int a = 0;
+        BigRational max = n[0].abs();
+        for (int k = 1; k < 3; k++) {
+            BigRational c = n[k].abs();
+            if (c.compareTo(max) > 0) {
+                max = c;
+                a = k;
+            }
+        }
+        if (max.isZero()) {
+            throw new IllegalArgumentException("The normal is zero.");
+        }
+        axis = a;
+        // (i, j, axis) is a cyclic permutation of (0, 1, 2).
+        i = (a + 1) % 3;
+        j = (a + 2) % 3;
+        sign = n[a].signum();
+        d = n[0].multiply(p[0]).add(n[1].multiply(p[1]))
+                .add(n[2].multiply(p[2]));
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param pl The plane.
+     * @param oom The Order of Magnitude for the precision.
+     * @param rm The RoundingMode if rounding is needed.
+     */
+    public V3D_PlanarProjection(V3D_Plane pl, int oom, RoundingMode rm) {
+        this(pl.env, V3D_Escalation.getComponents(pl.n, oom, rm),
+                V3D_Escalation.getCoordinates(pl.getP(), oom, rm));
+    }
+
+    /**
+     * @param p The point to project.
+     * @return The exact coordinates of p or {@code null} if any are
+     * irrational.
+     */
+    static BigRational[] getCoordinates(V3D_Point p) {
+        if (!p.rel.isRational() || !p.offset.isRational()) {
+            return null;
+        }
+        return V3D_Escalation.getCoordinates(p, 0, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * @param p The point to project.
+     * @param oom The Order of Magnitude for the precision.
+     * @param rm The RoundingMode if rounding is needed.
+     * @return The 2D coordinates of p.
+     */
+    public BigRational[] project(V3D_Point p, int oom, RoundingMode rm) {
+        return project(V3D_Escalation.getCoordinates(p, oom, rm));
+    }
+
+    /**
+     * @param c The 3D coordinates of the point to project.
+     * @return The 2D coordinates.
+     */
+    public BigRational[] project(BigRational[] c) {
+        return new BigRational[]{c[i], c[j]};
+    }
+
+    /**
+     * @param ps The points to project.
+     * @param oom The Order of Magnitude for the precision.
+     * @param rm The RoundingMode if rounding is needed.
+     * @return The 2D coordinates of ps.
+     */
+    public BigRational[][] project(V3D_Point[] ps, int oom, RoundingMode rm) {
+        BigRational[][] r = new BigRational[ps.length][];
+        for (int k = 0; k < ps.length; k++) {
+            r[k] = project(ps[k], oom, rm);
+        }
+        return r;
+    }
+
+    /**
+     * Lift a 2D point back onto the plane.
+     *
+     * @param p The 2D point.
+     * @return The 3D coordinates of the point in the plane that projects to
+     * p.
+     */
+    public BigRational[] liftCoordinates(BigRational[] p) {
+        BigRational[] c = new BigRational[3];
+        c[i] = p[0];
+        c[j] = p[1];
+        c[axis] = d.subtract(n[i].multiply(p[0])).subtract(n[j].multiply(p[1]))
+                .divide(n[axis]);
+        return c;
+    }
+
+    /**
+     * Lift a 2D point back onto the plane.
+     *
+     * @param p The 2D point.
+     * @return The point in the plane that projects to p.
+     */
+    public V3D_Point lift(BigRational[] p) {
+        BigRational[] c = liftCoordinates(p);
+        return new V3D_Point(env, c[0], c[1], c[2]);
+    }
+
+    /**
+     * @param a A 2D point.
+     * @param b A 2D point.
+     * @param c A 2D point.
+     * @return The sign of the 2D cross product {@code (b - a) x (c - a)}: 1
+     * if a, b, c turn anticlockwise, -1 if they turn clockwise and 0 if they
+     * are collinear.
+     */
+    public static int getOrientation2D(BigRational[] a, BigRational[] b,
+            BigRational[] c) {
+        return b[0].subtract(a[0]).multiply(c[1].subtract(a[1])).subtract(
+                b[1].subtract(a[1]).multiply(c[0].subtract(a[0]))).signum();
+    }
+
+    /**
+     * @param a A 2D point.
+     * @param b A 2D point.
+     * @param c A 2D point.
+     * @return The orientation of the corresponding points in the plane
+     * relative to the normal: 1 if they turn anticlockwise looking against
+     * the normal, -1 if clockwise and 0 if they are collinear.
+     */
+    public int getOrientation(BigRational[] a, BigRational[] b,
+            BigRational[] c) {
+        return sign * getOrientation2D(a, b, c);
+    }
+
+    /**
+     * @param a A 2D point.
+     * @param b A 2D point.
+     * @return -1, 0 or 1 as a is lexicographically less than, equal to or
+     * greater than b.
+     */
+    private static int compare(BigRational[] a, BigRational[] b) {
+        int c = a[0].compareTo(b[0]);
+        if (c != 0) {
+            return c;
+        }
+        return a[1].compareTo(b[1]);
+    }
+
+    /**
+     * Calculate the convex hull using Andrew's monotone chain algorithm.
+     *
+     * @param ps The 2D points.
+     * @return The indexes in ps of the corners of the convex hull in
+     * anticlockwise order relative to the normal. Points on the edges of the
+     * hull and duplicates are not included.
+     */
+    public int[] getConvexHull(BigRational[][] ps) {
+        Integer[] order = new Integer[ps.length];
+        for (int k = 0; k < ps.length; k++) {
+            order[k] = k;
+        }
+        Arrays.sort(order, (x, y) -> compare(ps[x], ps[y]));
+        int[] h = new int[2 * ps.length + 1];
+        int k = 0;
+        for (int o = 0; o < order.length; o++) {
+            int p = order[o];
+            while (k >= 2 && getOrientation2D(ps[h[k - 2]], ps[h[k - 1]],
+                    ps[p]) <= 0) {
+                k--;
+            }
+            if (k == 0 || compare(ps[h[k - 1]], ps[p]) != 0) {
+                h[k++] = p;
+            }
+        }
+        for (int o = order.length - 2, t = k + 1; o >= 0; o--) {
+            int p = order[o];
+            while (k >= t && getOrientation2D(ps[h[k - 2]], ps[h[k - 1]],
+                    ps[p]) <= 0) {
+                k--;
+            }
+            if (compare(ps[h[k - 1]], ps[p]) != 0) {
+                h[k++] = p;
+            }
+        }
+        if (k > 1 && compare(ps[h[k - 1]], ps[h[0]]) == 0) {
+            k--;
+        }
+        int[] r = new int[k];
+        if (sign < 0) {
+            for (int o = 0; o < k; o++) {
+                r[o] = h[(k - o) % k];
+            }
+        } else {
+            System.arraycopy(h, 0, r, 0, k);
+        }
+        return r;
+    }
+
+    /**
+     * @param a The start of the segment.
+     * @param b The end of the segment.
+     * @param p A 2D point collinear with a and b.
+     * @return {@code true} iff p is between a and b inclusive.
+     */
+    private static boolean isBetween(BigRational[] a, BigRational[] b,
+            BigRational[] p) {
+        return p[0].compareTo(BigRational.min(a[0], b[0])) >= 0
+                && p[0].compareTo(BigRational.max(a[0], b[0])) <= 0
+                && p[1].compareTo(BigRational.min(a[1], b[1])) >= 0
+                && p[1].compareTo(BigRational.max(a[1], b[1])) <= 0;
+    }
+
+    /**
+     * @param a The start of the segment.
+     * @param b The end of the segment.
+     * @param p A 2D point.
+     * @return {@code true} iff p is on the segment ab.
+     */
+    public static boolean intersects(BigRational[] a, BigRational[] b,
+            BigRational[] p) {
+        return getOrientation2D(a, b, p) == 0 && isBetween(a, b, p);
+    }
+
+    /**
+     * @param a The start of the first segment.
+     * @param b The end of the first segment.
+     * @param c The start of the second segment.
+     * @param e The end of the second segment.
+     * @return {@code true} iff the segments ab and ce intersect.
+     */
+    public static boolean intersects(BigRational[] a, BigRational[] b,
+            BigRational[] c, BigRational[] e) {
+        int o1 = getOrientation2D(a, b, c);
+        int o2 = getOrientation2D(a, b, e);
+        int o3 = getOrientation2D(c, e, a);
+        int o4 = getOrientation2D(c, e, b);
+        if (o1 * o2 < 0 && o3 * o4 < 0) {
+            return true;
+        }
+        return (o1 == 0 && isBetween(a, b, c))
+                || (o2 == 0 && isBetween(a, b, e))
+                || (o3 == 0 && isBetween(c, e, a))
+                || (o4 == 0 && isBetween(c, e, b));
+    }
+
+    /**
+     * @param a The start of the first segment.
+     * @param b The end of the first segment.
+     * @param c The start of the second segment.
+     * @param e The end of the second segment.
+     * @return The point of intersection of the segments ab and ce if they
+     * intersect at a single point and are not collinear, otherwise
+     * {@code null}.
+     */
+    public static BigRational[] getIntersect(BigRational[] a,
+            BigRational[] b, BigRational[] c, BigRational[] e) {
+        BigRational rx = b[0].subtract(a[0]);
+        BigRational ry = b[1].subtract(a[1]);
+        BigRational sx = e[0].subtract(c[0]);
+        BigRational sy = e[1].subtract(c[1]);
+        BigRational den = rx.multiply(sy).subtract(ry.multiply(sx));
+        if (den.isZero() || !intersects(a, b, c, e)) {
+            return null;
+        }
+        BigRational qx = c[0].subtract(a[0]);
+        BigRational qy = c[1].subtract(a[1]);
+        BigRational t = qx.multiply(sy).subtract(qy.multiply(sx)).divide(den);
+        return new BigRational[]{a[0].add(rx.multiply(t)),
+            a[1].add(ry.multiply(t))};
+    }
+
+    /**
+     * Point in polygon test using the winding number.
+     *
+     * @param polygon The corners of a simple polygon in order.
+     * @param p A 2D point.
+     * @return {@code true} iff p is in the polygon or on its boundary.
+     */
+    public static boolean contains(BigRational[][] polygon, BigRational[] p) {
+        int w = 0;
+        int len = polygon.length;
+        for (int k = 0; k < len; k++) {
+            BigRational[] a = polygon[k];
+            BigRational[] b = polygon[(k + 1) % len];
+            int o = getOrientation2D(a, b, p);
+            if (o == 0 && isBetween(a, b, p)) {
+                return true;
+            }
+            if (a[1].compareTo(p[1]) <= 0) {
+                if (b[1].compareTo(p[1]) > 0 && o > 0) {
+                    w++;
+                }
+            } else if (b[1].compareTo(p[1]) <= 0 && o < 0) {
+                w--;
+            }
+        }
+        return w != 0;
+    }
+
+    /**
+     * Triangulate a simple polygon by ear clipping.
+     *
+     * @param polygon The corners of a simple polygon in order.
+     * @return The triangles as triples of indexes in polygon. Each triangle
+     * has the same 2D orientation as the polygon. Collinear corners are not
+     * the middle corner of any triangle.
+     */
+    public static List<int[]> triangulate(BigRational[][] polygon) {
+        List<int[]> r = new ArrayList<>();
+        List<Integer> v = new ArrayList<>();
+        for (int k = 0; k < polygon.length; k++) {
+            v.add(k);
+        }
+        // Twice the signed area gives the orientation of the polygon.
+        BigRational a2 = BigRational.ZERO;
+        for (int k = 0; k < polygon.length; k++) {
+            BigRational[] p = polygon[k];
+            BigRational[] q = polygon[(k + 1) % polygon.length];
+            a2 = a2.add(p[0].multiply(q[1]).subtract(q[0].multiply(p[1])));
+        }
+        int s = a2.signum();
+        if (s == 0) {
+            return r;
+        }
+        while (v.size() > 3) {
+            int size = v.size();
+            boolean clipped = false;
+            for (int k = 0; k < size; k++) {
+                int a = v.get((k + size - 1) % size);
+                int b = v.get(k);
+                int c = v.get((k + 1) % size);
+                int o = getOrientation2D(polygon[a], polygon[b], polygon[c]);
+                if (o == 0) {
+                    // Degenerate corner.
+                    v.remove(k);
+                    clipped = true;
+                    break;
+                }
+                if (o != s) {
+                    continue;
+                }
+                boolean ear = true;
+                for (int m : v) {
+                    if (m == a || m == b || m == c) {
+                        continue;
+                    }
+                    BigRational[] p = polygon[m];
+                    if (getOrientation2D(polygon[a], polygon[b], p) * s >= 0
+                            && getOrientation2D(polygon[b], polygon[c], p)
+                            * s >= 0
+                            && getOrientation2D(polygon[c], polygon[a], p)
+                            * s >= 0) {
+                        ear = false;
+                        break;
+                    }
+                }
+                if (ear) {
+                    r.add(new int[]{a, b, c});
+                    v.remove(k);
+                    clipped = true;
+                    break;
+                }
+            }
+            if (!clipped) {
+                // The polygon is not simple.
+                break;
+            }
+        }
+        if (v.size() == 3 && getOrientation2D(polygon[v.get(0)],
+                polygon[v.get(1)], polygon[v.get(2)]) != 0) {
+            r.add(new int[]{v.get(0), v.get(1), v.get(2)});
+        }
+        return r;
+    }
+}
@@ -24,6 +24,8 @@ import uk.ac.leeds.ccg.math.geometry.Math_AngleBigRational;
 import uk.ac.leeds.ccg.math.matrices.Math_Matrix_BR;
 import uk.ac.leeds.ccg.math.number.Math_BigRationalSqrt;
 import uk.ac.leeds.ccg.v3d.core.V3D_Environment;
+import uk.ac.leeds.ccg.v3d.core.V3D_Metrics;
+import uk.ac.leeds.ccg.v3d.core.V3D_RoundingPolicy;
 
 /**
  * 3D representation of an infinite plane.The plane is defined by the point
@@ -98,6 +100,14 @@ public class V3D_Plane extends V3D_Geometry {
      */
     protected transient Equation equation;
 
+    /**
+     * For storing the exact coefficients of the equation of the plane in
+     * homogeneous integer form (see
+     * {@link V3D_HVector#getEquation(V3D_HVector, V3D_HVector)}). This is
+     * {@link V3D_HVector#NONE} if {@link #n} or {@link #p} are irrational.
+     */
+    protected transient volatile V3D_HVector equationH;
+
     /**
      * Create a new instance.
      *
@@ -105,6 +115,7 @@ public class V3D_Plane extends V3D_Geometry {
      */
     public V3D_Plane(V3D_Plane pl) {
         super(pl.env, new V3D_Vector(pl.offset));
+        V3D_Metrics.count(env, V3D_Metrics.Op.PLANE, this);
         this.pv = new V3D_Vector(pl.pv);
         this.n = new V3D_Vector(pl.n);
     }
@@ -117,6 +128,7 @@ public class V3D_Plane extends V3D_Geometry {
      */
     public V3D_Plane(V3D_Point p, V3D_Vector n) {
         super(p.env, new V3D_Vector(p.offset));
+        V3D_Metrics.count(env, V3D_Metrics.Op.PLANE, this);
         this.pv = new V3D_Vector(p.rel);
         this.p = new V3D_Point(p);
         this.n = new V3D_Vector(n);
@@ -134,6 +146,7 @@ public class V3D_Plane extends V3D_Geometry {
     public V3D_Plane(V3D_LineSegment l, V3D_Vector inplane, int oom,
             RoundingMode rm) {
         super(l.env, new V3D_Vector(l.offset));
+        V3D_Metrics.count(env, V3D_Metrics.Op.PLANE, this);
         pv = new V3D_Vector(l.getP().rel);
         p = new V3D_Point(l.getP());
         n = l.l.v.getCrossProduct(inplane, oom, rm);
@@ -154,6 +167,7 @@ public class V3D_Plane extends V3D_Geometry {
     public V3D_Plane(V3D_Point p, V3D_Point q, V3D_Point r, int oom,
             RoundingMode rm) {
         super(p.env, new V3D_Vector(p.offset));
+        V3D_Metrics.count(env, V3D_Metrics.Op.PLANE, this);
         V3D_Vector qv = q.getVector(oom, rm);
         V3D_Vector pq = qv.subtract(p.getVector(oom, rm), oom, rm);
         V3D_Vector qr = r.getVector(oom, rm).subtract(qv, oom, rm);
@@ -218,6 +232,7 @@ public class V3D_Plane extends V3D_Geometry {
     public V3D_Plane(V3D_Environment env, V3D_Vector ptv, V3D_Vector offset,
             V3D_Vector pv, V3D_Vector qv, V3D_Vector rv, int oom, RoundingMode rm) {
         super(env, new V3D_Vector(offset));
+        V3D_Metrics.count(env, V3D_Metrics.Op.PLANE, this);
         V3D_Vector pq = qv.subtract(pv, oom, rm);
         if (pq.equals(V3D_Vector.ZERO)) {
             throw new RuntimeException("Cannot define plane as p equals q.");
@@ -279,6 +294,7 @@ public class V3D_Plane extends V3D_Geometry {
      */
     public V3D_Plane(V3D_Vector offset, V3D_Plane pl, int oom, RoundingMode rm) {
         super(pl.env, offset);
+        V3D_Metrics.count(env, V3D_Metrics.Op.PLANE, this);
         n = pl.getN();
         if (offset.equals(pl.offset, oom, rm)) {
             pv = new V3D_Vector(pl.pv);
@@ -549,6 +565,7 @@ public class V3D_Plane extends V3D_Geometry {
                 if (equation.oom == oom && equation.rm == rm) {
                     return equation;
                 } else {
+                    V3D_Metrics.count(env, V3D_Metrics.Op.ESCALATE, this);
                     equation = new Equation(oom, rm);
                 }
             }
@@ -565,6 +582,10 @@ public class V3D_Plane extends V3D_Geometry {
      * @return {@code true} iff the geometry is intersected by {@code pv}.
      */
     public boolean intersects(V3D_Point pt, int oom, RoundingMode rm) {
+        int side = getSideOfPlaneH(pt);
+        if (side != Integer.MIN_VALUE) {
+            return side == 0;
+        }
         oom -= 2;
         equation = getEquation(oom, rm);
         return ((equation.coeffs[0].multiply(pt.getX(oom, rm)))
@@ -778,6 +799,99 @@ public class V3D_Plane extends V3D_Geometry {
         }
     }
     
+    /**
+     * Get the point of intersection with {@code l} lazily (see
+     * {@link V3D_Lazy}) so that further tests on it can usually be decided
+     * without calculating it exactly. If any of the components of
+     * {@link #n}, the point of this or l are irrational, the point is
+     * calculated with {@link #getIntersect(V3D_Line, int, RoundingMode)}
+     * using the {@link V3D_Environment#oom} and {@link V3D_Environment#rm} of
+     * {@link #env}.
+     *
+     * @param l The line to intersect with.
+     * @return The position of the point of intersection,
+     * {@link V3D_LazyVector#COPLANAR} if l is on this, or {@code null} if l
+     * is parallel to this and not on it.
+     */
+    public V3D_LazyVector getIntersectLazy(V3D_Line l) {
+        return getIntersectLazy(l, env.oom, env.rm);
+    }
+
+    /**
+     * Get the point of intersection with {@code l} lazily (see
+     * {@link V3D_Lazy}) so that further tests on it can usually be decided
+     * without calculating it exactly. If any of the components of
+     * {@link #n}, the point of this or l are irrational, the point is
+     * calculated with {@link #getIntersect(V3D_Line, int, RoundingMode)}.
+     *
+     * @param l The line to intersect with.
+     * @param oom The Order of Magnitude for the precision if any of the
+     * components are irrational.
+     * @param rm The RoundingMode if rounding is needed.
+     * @return The position of the point of intersection,
+     * {@link V3D_LazyVector#COPLANAR} if l is on this, or {@code null} if l
+     * is parallel to this and not on it.
+     */
+    public V3D_LazyVector getIntersectLazy(V3D_Line l, int oom,
+            RoundingMode rm) {
+        V3D_LazyVector ln = n.getLazy();
+        V3D_LazyVector lp = getP().getLazy();
+        V3D_LazyVector llp = l.getP().getLazy();
+        V3D_LazyVector lv = l.v.getLazy();
+        if (ln == null || lp == null || llp == null || lv == null) {
+            return getLazy(getIntersect(l, oom, rm), oom, rm);
+        }
+        V3D_Metrics.count(env, V3D_Metrics.Op.INTERSECT, this);
+        V3D_Lazy d = ln.getDotProduct(lv);
+        V3D_LazyVector lpllp = lp.subtract(llp);
+        if (d.signum() == 0) {
+            if (ln.getDotProduct(lpllp).signum() == 0) {
+                return V3D_LazyVector.COPLANAR;
+            }
+            return null;
+        }
+        V3D_Lazy t = ln.getDotProduct(lpllp).divide(d);
+        return llp.add(lv.multiply(t));
+    }
+
+    /**
+     * For converting the result of an exact intersection with a line into
+     * the result of a lazy one.
+     *
+     * @param g The intersection.
+     * @param oom The Order of Magnitude for the precision.
+     * @param rm The RoundingMode if rounding is needed.
+     * @return {@code null} if g is {@code null}, the position of g if it is
+     * a point, or otherwise {@link V3D_LazyVector#COPLANAR}.
+     */
+    static V3D_LazyVector getLazy(V3D_Geometry g, int oom, RoundingMode rm) {
+        if (g == null) {
+            return null;
+        }
+        if (g instanceof V3D_Point gp) {
+            return new V3D_LazyVector(V3D_Lazy.valueOf(gp.getX(oom, rm)),
+                    V3D_Lazy.valueOf(gp.getY(oom, rm)),
+                    V3D_Lazy.valueOf(gp.getZ(oom, rm)));
+        }
+        return V3D_LazyVector.COPLANAR;
+    }
+
+    /**
+     * @param pt The position of the point.
+     * @return 1 if pt is on the side of the plane the normal points to, -1 if
+     * it is on the other side, 0 if it is on the plane, or
+     * {@link Integer#MIN_VALUE} if any of the components of {@link #n} or the
+     * point of this are irrational.
+     */
+    public int getSideOfPlane(V3D_LazyVector pt) {
+        V3D_LazyVector ln = n.getLazy();
+        V3D_LazyVector lp = getP().getLazy();
+        if (ln == null || lp == null) {
+            return Integer.MIN_VALUE;
+        }
+        return ln.getDotProduct(pt.subtract(lp)).signum();
+    }
+
     /**
      * Get the intersection between the geometry and the line {@code l}.
      * https://stackoverflow.com/questions/5666222/3d-line-plane-intersection
@@ -788,6 +902,7 @@ public class V3D_Plane extends V3D_Geometry {
      * @return The V3D_Geometry.
      */
     public V3D_Geometry getIntersect(V3D_Line l, int oom, RoundingMode rm) {
+        V3D_Metrics.count(env, V3D_Metrics.Op.INTERSECT, this);
         int oomn6 = oom - 6;
         if (isParallel(l, oomn6, rm)) {
             if (isOnPlane(l, oomn6, rm)) {
@@ -1248,14 +1363,25 @@ public class V3D_Plane extends V3D_Geometry {
     }
 
     @Override
-    public void translate(V3D_Vector v, int oom, RoundingMode rm) {
-        super.translate(v, oom, rm);
+    protected void translateUncounted(V3D_Vector v, int oom,
+            RoundingMode rm) {
+        super.translateUncounted(v, oom, rm);
         this.equation = null;
+        this.equationH = null;
         if (p != null) {
-            p.translate(v, oom, rm);
+            p.translateUncounted(v, oom, rm);
         }
     }
 
+    @Override
+    public void round(V3D_RoundingPolicy policy) {
+        super.round(policy);
+        pv = pv.round(policy);
+        p = null;
+        equation = null;
+        equationH = null;
+    }
+
     @Override
     public V3D_Plane rotate(V3D_Ray ray, V3D_Vector uv, Math_BigDecimal bd,
             BigRational theta, int oom, RoundingMode rm) {
@@ -1270,8 +1396,9 @@ public class V3D_Plane extends V3D_Geometry {
     @Override
     public V3D_Plane rotateN(V3D_Ray ray, V3D_Vector uv, Math_BigDecimal bd,
             BigRational theta, int oom, RoundingMode rm) {
-        return new V3D_Plane(getP().rotateN(ray, uv, bd, theta, oom, rm),
-                n.rotateN(uv, bd, theta, oom, rm));
+        return countRotation(new V3D_Plane(
+                getP().rotateN(ray, uv, bd, theta, oom, rm),
+                n.rotateN(uv, bd, theta, oom, rm)));
     }
 
     /**
@@ -1411,6 +1538,10 @@ public class V3D_Plane extends V3D_Geometry {
      * plane that the normal points towards.
      */
     public int getSideOfPlane(V3D_Point pt, int oom, RoundingMode rm) {
+        int side = getSideOfPlaneH(pt);
+        if (side != Integer.MIN_VALUE) {
+            return side;
+        }
         BigRational[] coeffs = getEquation(oom, rm).coeffs;
         return (coeffs[0].multiply(pt.getX(oom, rm))
                 .add(coeffs[1].multiply(pt.getY(oom, rm)))
@@ -1418,6 +1549,118 @@ public class V3D_Plane extends V3D_Geometry {
                 .compareTo(BigRational.ZERO);
     }
 
+    /**
+     * Progressive precision version of
+     * {@link #getSideOfPlane(V3D_Point, int, RoundingMode)}: the side is
+     * calculated at increasingly fine precision until it is certain or the
+     * limit of esc is reached.
+     *
+     * @param pt The point.
+     * @param esc The progressive precision policy.
+     * @param rm The RoundingMode if rounding is needed.
+     * @return The result with the precision used. The value is 1 if pt is on
+     * the side of the plane the normal points to, -1 if it is on the other
+     * side and 0 if it is on the plane.
+     */
+    public V3D_Escalation.Result<Integer> getSideOfPlane(V3D_Point pt,
+            V3D_Escalation esc, RoundingMode rm) {
+        int side = getSideOfPlaneH(pt);
+        if (side != Integer.MIN_VALUE) {
+            return new V3D_Escalation.Result<>(side, esc.oomStart, true);
+        }
+        V3D_Point tp = getP();
+        int oom = esc.oomStart;
+        while (true) {
+            BigRational e = V3D_Escalation.getError(oom);
+            BigRational en = V3D_Escalation.getError(n, e);
+            BigRational ed = V3D_Escalation.getError(pt, e)
+                    .add(V3D_Escalation.getError(tp, e));
+            BigRational[] nc = V3D_Escalation.getComponents(n, oom, rm);
+            BigRational[] ptc = V3D_Escalation.getCoordinates(pt, oom, rm);
+            BigRational[] tpc = V3D_Escalation.getCoordinates(tp, oom, rm);
+            BigRational s = BigRational.ZERO;
+            BigRational r = BigRational.ZERO;
+            for (int i = 0; i < 3; i++) {
+                BigRational d = ptc[i].subtract(tpc[i]);
+                s = s.add(nc[i].multiply(d));
+                r = r.add(nc[i].abs().multiply(ed))
+                        .add(d.abs().multiply(en)).add(en.multiply(ed));
+            }
+            if (r.isZero() || s.abs().compareTo(r) > 0) {
+                return new V3D_Escalation.Result<>(s.signum(), oom, true);
+            }
+            int next = esc.next(oom);
+            if (next == Integer.MIN_VALUE) {
+                return new V3D_Escalation.Result<>(s.signum(), oom, false);
+            }
+            V3D_Metrics.count(env, V3D_Metrics.Op.ESCALATE, this);
+            oom = next;
+        }
+    }
+
+    /**
+     * For getting the side of the plane that pt is on exactly using
+     * homogeneous integer coordinates (see {@link V3D_HVector}).
+     *
+     * @param pt The point.
+     * @return 1 if pt is on the side of the plane the normal points to, -1 if
+     * it is on the other side, 0 if it is on the plane or
+     * {@link Integer#MIN_VALUE} if any of {@link #n}, the point of the plane
+     * or pt has irrational components.
+     */
+    private int getSideOfPlaneH(V3D_Point pt) {
+        V3D_HVector e = getEquationH();
+        if (e != V3D_HVector.NONE) {
+            V3D_HVector hpt = pt.getH();
+            if (hpt != null) {
+                return V3D_HVector.getSideOfPlane(e, hpt);
+            }
+        }
+        return Integer.MIN_VALUE;
+    }
+
+    /**
+     * For getting the exact coefficients of the equation of the plane in
+     * homogeneous integer form. These are calculated once and cached.
+     *
+     * @return {@link #equationH} initialised if it is {@code null}.
+     */
+    V3D_HVector getEquationH() {
+        V3D_HVector e = equationH;
+        if (e == null) {
+            V3D_HVector hn = n.getH();
+            V3D_HVector hp = hn == null ? null : getP().getH();
+            if (hp == null) {
+                e = V3D_HVector.NONE;
+            } else {
+                e = V3D_HVector.getEquation(hn, hp);
+            }
+            equationH = e;
+        }
+        return e;
+    }
+
+    /**
+     * Classifies each of pts by the side of the plane they are on. For
+     * rational inputs the exact equation of the plane is calculated once and
+     * each classification is then a single exact dot product. Otherwise the
+     * equation calculated at oom is used.
+     *
+     * @param pts The points.
+     * @param oom The Order of Magnitude for the precision.
+     * @param rm The RoundingMode.
+     * @return An array with the side of each point in pts: 1 if the point is
+     * on the side of the plane the normal points to, -1 if it is on the other
+     * side and 0 if it is on the plane.
+     */
+    public int[] getSideOfPlane(V3D_Point[] pts, int oom, RoundingMode rm) {
+        int[] r = new int[pts.length];
+        for (int i = 0; i < pts.length; i++) {
+            r[i] = getSideOfPlane(pts[i], oom, rm);
+        }
+        return r;
+    }
+
     /**
      * Check if all points in pts are on the same side of this.
      *
@@ -1440,8 +1683,14 @@ public class V3D_Plane extends V3D_Geometry {
                 return true;
             }
             default -> {
+                // Classify pts[0] once rather than for each pair.
+                int s0 = getSideOfPlane(pts[0], oom, rm);
+                if (s0 == 0) {
+                    return true;
+                }
                 for (int i = 1; i < pts.length; i++) {
-                    if (!isOnSameSide(pts[0], pts[i], oom, rm)) {
+                    int s = getSideOfPlane(pts[i], oom, rm);
+                    if (s != 0 && s != s0) {
                         return false;
                     }
                 }
@@ -1473,8 +1722,12 @@ public class V3D_Plane extends V3D_Geometry {
                 return true;
             }
             default -> {
+                int s0 = getSideOfPlane(pts[0], oom, rm);
+                if (s0 == 0) {
+                    return false;
+                }
                 for (int i = 1; i < pts.length; i++) {
-                    if (!isOnSameSideNotOn(pts[0], pts[i], oom, rm)) {
+                    if (getSideOfPlane(pts[i], oom, rm) != s0) {
                         return false;
                     }
                 }
@@ -26,6 +26,8 @@ import uk.ac.leeds.ccg.math.arithmetic.Math_BigRational;
 import uk.ac.leeds.ccg.math.geometry.Math_AngleBigRational;
 import uk.ac.leeds.ccg.math.number.Math_BigRationalSqrt;
 import uk.ac.leeds.ccg.v3d.core.V3D_Environment;
+import uk.ac.leeds.ccg.v3d.core.V3D_Metrics;
+import uk.ac.leeds.ccg.v3d.core.V3D_RoundingPolicy;
 
 /**
  * A point is defined by two vectors: {@link #offset} and {@link #rel}. Adding
@@ -97,6 +99,7 @@ public class V3D_Point extends V3D_FiniteGeometry {
     public V3D_Point(V3D_Point p) {
         super(p.env, new V3D_Vector(p.offset));
         rel = new V3D_Vector(p.rel);
+        operations = p.operations;
     }
 
     /**
@@ -176,8 +179,8 @@ public class V3D_Point extends V3D_FiniteGeometry {
      * @param z What {@link #rel} z component is set to.
      */
     public V3D_Point(V3D_Environment env, long x, long y, long z) {
-        this(env, BigRational.valueOf(x), BigRational.valueOf(y),
-                BigRational.valueOf(z));
+        this(env, V3D_Environment.valueOf(x), V3D_Environment.valueOf(y),
+                V3D_Environment.valueOf(z));
     }
 
     @Override
@@ -248,6 +251,44 @@ public class V3D_Point extends V3D_FiniteGeometry {
         }
     }
 
+    /**
+     * Progressive precision version of
+     * {@link #equals(V3D_Point, int, RoundingMode)}: the coordinates are
+     * compared at increasingly fine precision until it is certain whether
+     * the points are equal or the limit of esc is reached.
+     *
+     * @param p The point to test for equality with this.
+     * @param esc The progressive precision policy.
+     * @param rm The RoundingMode if rounding is needed.
+     * @return The result with the precision used.
+     */
+    public V3D_Escalation.Result<Boolean> equals(V3D_Point p,
+            V3D_Escalation esc, RoundingMode rm) {
+        int oom = esc.oomStart;
+        while (true) {
+            BigRational e = V3D_Escalation.getError(oom);
+            BigRational r = V3D_Escalation.getError(this, e)
+                    .add(V3D_Escalation.getError(p, e));
+            BigRational[] c = V3D_Escalation.getCoordinates(this, oom, rm);
+            BigRational[] pc = V3D_Escalation.getCoordinates(p, oom, rm);
+            for (int i = 0; i < 3; i++) {
+                if (c[i].subtract(pc[i]).abs().compareTo(r) > 0) {
+                    return new V3D_Escalation.Result<>(false, oom, true);
+                }
+            }
+            if (r.isZero()) {
+                return new V3D_Escalation.Result<>(true, oom, true);
+            }
+            int next = esc.next(oom);
+            if (next == Integer.MIN_VALUE) {
+                return new V3D_Escalation.Result<>(equals(p, oom, rm), oom,
+                        false);
+            }
+            V3D_Metrics.count(env, V3D_Metrics.Op.ESCALATE, this);
+            oom = next;
+        }
+    }
+
     /**
      * @param ps The points to test if they are coincident.
      * @param oom The Order of Magnitude for the precision.
@@ -283,6 +324,46 @@ public class V3D_Point extends V3D_FiniteGeometry {
         return rel.add(offset, oom, rm);
     }
 
+    /**
+     * For calculations with rational points where results are usually only
+     * needed as signs or comparisons. See {@link V3D_Lazy}.
+     *
+     * @return The position of this with {@link V3D_Lazy} components or
+     * {@code null} if any component of {@link #rel} or {@link #offset} is
+     * irrational.
+     */
+    public V3D_LazyVector getLazy() {
+        V3D_LazyVector r = rel.getLazy();
+        if (r == null || offset == V3D_Vector.ZERO) {
+            return r;
+        }
+        V3D_LazyVector o = offset.getLazy();
+        if (o == null) {
+            return null;
+        }
+        return o.add(r);
+    }
+
+    /**
+     * For exact calculations with rational points without greatest common
+     * divisor calculations. See {@link V3D_HVector}.
+     *
+     * @return The position of this in homogeneous integer coordinates or
+     * {@code null} if any component of {@link #rel} or {@link #offset} is
+     * irrational.
+     */
+    public V3D_HVector getH() {
+        V3D_HVector r = rel.getH();
+        if (r == null || offset == V3D_Vector.ZERO) {
+            return r;
+        }
+        V3D_HVector o = offset.getH();
+        if (o == null) {
+            return null;
+        }
+        return o.add(r);
+    }
+
     /**
      * @param oom The Order of Magnitude for the precision.
      * @param rm The RoundingMode if rounding is needed.
@@ -543,10 +624,25 @@ public class V3D_Point extends V3D_FiniteGeometry {
             V3D_Vector tpr = tpv.getUnitVector(oomn9, rm).rotateN(uv, bd, theta, oomn9, rm);
             r = new V3D_Point(env, tpr.multiply(magnitude.getSqrt(oomn9, rm), oomn9, rm));
         }
+        r.operations = operations;
         r.translate(tv, oomn9, rm);
         return r;
     }
 
+    /**
+     * Round {@link #offset} and {@link #rel} using policy.
+     *
+     * @param policy The rounding policy.
+     */
+    @Override
+    public void round(V3D_RoundingPolicy policy) {
+        super.round(policy);
+        rel = rel.round(policy);
+        x = null;
+        y = null;
+        z = null;
+    }
+
     /**
      * A collection method for getting unique points.
      *
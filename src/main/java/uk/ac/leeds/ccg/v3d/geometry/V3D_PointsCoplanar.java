@@ -20,6 +20,7 @@ import java.math.RoundingMode;
 import uk.ac.leeds.ccg.math.arithmetic.Math_BigDecimal;
 import uk.ac.leeds.ccg.math.geometry.Math_AngleBigRational;
 import uk.ac.leeds.ccg.v3d.core.V3D_Environment;
+import uk.ac.leeds.ccg.v3d.core.V3D_RoundingPolicy;
 
 /**
  * A collection of V3D_Point instances.
@@ -36,12 +37,30 @@ public class V3D_PointsCoplanar extends V3D_FiniteGeometry {
      */
     protected final V3D_Vector[] rels;
 
+    /**
+     * For storing the projection.
+     */
+    protected transient volatile V3D_PlanarProjection projection;
+
+    /**
+     * For storing the convex hull projected to two dimensions using
+     * {@link #projection}.
+     */
+    protected transient volatile BigRational[][] polygon2D;
+
+    /**
+     * Create a new instance.
+     *
+     * @param p The instance to copy.
+     */
     public V3D_PointsCoplanar(V3D_PointsCoplanar p) {
-        super(p.env, p.offset);
+        super(p.env, new V3D_Vector(p.offset));
         rels = new V3D_Vector[p.rels.length];
-        //p.rels.
+        for (int i = 0; i < rels.length; i++) {
+            rels[i] = new V3D_Vector(p.rels[i]);
+        }
     }
-    
+
     /**
      * Create a new instance.
      *
@@ -71,11 +90,7 @@ public class V3D_PointsCoplanar extends V3D_FiniteGeometry {
     @Override
     public V3D_AABB getAABB(int oom, RoundingMode rm) {
         if (en == null) {
-            en = new V3D_AABB(oom, new V3D_Point(env, offset, rels[0]));
-            for (int i = 1; i < rels.length; i++) {
-                en = en.getIntersect(new V3D_AABB(oom, rm,
-                        new V3D_Point(env, offset, rels[0])), oom);
-            }
+            en = new V3D_AABB(oom, getPointsArray(oom, rm));
         }
         return en;
     }
@@ -104,11 +119,159 @@ public class V3D_PointsCoplanar extends V3D_FiniteGeometry {
     @Override
     public V3D_PointsCoplanar rotateN(V3D_Ray ray, V3D_Vector uv, Math_BigDecimal bd, 
             BigRational theta, int oom, RoundingMode rm) {
-        throw new UnsupportedOperationException("Not supported yet."); // Generated from nbfs://nbhost/SystemFileSystem/Templates/Classes/Code/GeneratedMethodBody
+        V3D_Point[] ps = getPointsArray(oom, rm);
+        V3D_Vector[] vs = new V3D_Vector[ps.length];
+        for (int i = 0; i < ps.length; i++) {
+            vs[i] = ps[i].rotateN(ray, uv, bd, theta, oom, rm)
+                    .getVector(oom, rm);
+        }
+        return countRotation(new V3D_PointsCoplanar(env, V3D_Vector.ZERO, vs));
     }
 
-    //@Override
+    /**
+     * @param aabb The AABB to test for intersection.
+     * @param oom The Order of Magnitude for the precision.
+     * @param rm The RoundingMode if rounding is needed.
+     * @return {@code true} iff any of the points intersect aabb.
+     */
     public boolean intersects(V3D_AABB aabb, int oom, RoundingMode rm) {
-        throw new UnsupportedOperationException("Not supported yet."); // Generated from nbfs://nbhost/SystemFileSystem/Templates/Classes/Code/GeneratedMethodBody
+        if (!getAABB(oom, rm).intersects(aabb, oom)) {
+            return false;
+        }
+        for (V3D_Point p : getPointsArray(oom, rm)) {
+            if (aabb.intersects(p, oom, rm)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void translateUncounted(V3D_Vector v, int oom,
+            RoundingMode rm) {
+        super.translateUncounted(v, oom, rm);
+        projection = null;
+        polygon2D = null;
+    }
+
+    @Override
+    public void round(V3D_RoundingPolicy policy) {
+        super.round(policy);
+        projection = null;
+        polygon2D = null;
+    }
+
+    /**
+     * The projection is calculated from the first three points that are not
+     * collinear. It is exact if the points are rational.
+     *
+     * @param oom The Order of Magnitude for the precision.
+     * @param rm The RoundingMode if rounding is needed.
+     * @return A projection for reducing problems about these points to two
+     * dimensions or {@code null} if the points are collinear.
+     */
+    public V3D_PlanarProjection getProjection(int oom, RoundingMode rm) {
+        V3D_PlanarProjection r = projection;
+        if (r == null) {
+            BigRational[][] cs = getCoordinates(oom, rm);
+            for (int i = 1; i < cs.length; i++) {
+                BigRational[] u = subtract(cs[i], cs[0]);
+                for (int j = i + 1; j < cs.length; j++) {
+                    BigRational[] w = subtract(cs[j], cs[0]);
+                    BigRational[] n = new BigRational[]{
+                        u[1].multiply(w[2]).subtract(u[2].multiply(w[1])),
+                        u[2].multiply(w[0]).subtract(u[0].multiply(w[2])),
+                        u[0].multiply(w[1]).subtract(u[1].multiply(w[0]))};
+                    if (!(n[0].isZero() && n[1].isZero() && n[2].isZero())) {
+                        r = new V3D_PlanarProjection(env, n, cs[0]);
+                        projection = r;
+                        return r;
+                    }
+                }
+            }
+        }
+        return r;
+    }
+
+    /**
+     * @param oom The Order of Magnitude for the precision.
+     * @param rm The RoundingMode if rounding is needed.
+     * @return The coordinates of the points.
+     */
+    private BigRational[][] getCoordinates(int oom, RoundingMode rm) {
+        V3D_Point[] ps = getPointsArray(oom, rm);
+        BigRational[][] r = new BigRational[ps.length][];
+        for (int i = 0; i < ps.length; i++) {
+            r[i] = V3D_Escalation.getCoordinates(ps[i], oom, rm);
+        }
+        return r;
+    }
+
+    private static BigRational[] subtract(BigRational[] a, BigRational[] b) {
+        return new BigRational[]{a[0].subtract(b[0]), a[1].subtract(b[1]),
+            a[2].subtract(b[2])};
+    }
+
+    /**
+     * Calculates the convex hull in two dimensions using
+     * {@link #getProjection(int, java.math.RoundingMode)}.
+     *
+     * @param oom The Order of Magnitude for the precision.
+     * @param rm The RoundingMode if rounding is needed.
+     * @return The corners of the convex hull in anticlockwise order relative
+     * to the normal of the projection or {@code null} if the points are
+     * collinear.
+     */
+    public V3D_Point[] getConvexHull(int oom, RoundingMode rm) {
+        V3D_PlanarProjection pp = getProjection(oom, rm);
+        if (pp == null) {
+            return null;
+        }
+        V3D_Point[] ps = getPointsArray(oom, rm);
+        int[] h = pp.getConvexHull(pp.project(ps, oom, rm));
+        V3D_Point[] r = new V3D_Point[h.length];
+        for (int i = 0; i < h.length; i++) {
+            r[i] = ps[h[i]];
+        }
+        return r;
+    }
+
+    /**
+     * @param pt The point to test for intersection. This is assumed to be
+     * coplanar with the points.
+     * @param oom The Order of Magnitude for the precision.
+     * @param rm The RoundingMode if rounding is needed.
+     * @return {@code true} iff pt is in the convex hull of the points.
+     */
+    public boolean isInConvexHull(V3D_Point pt, int oom, RoundingMode rm) {
+        V3D_PlanarProjection pp = getProjection(oom, rm);
+        if (pp == null) {
+            return false;
+        }
+        return V3D_PlanarProjection.contains(getPolygon2D(pp, oom, rm),
+                pp.project(pt, oom, rm));
+    }
+
+    /**
+     * Calculates and caches the convex hull projected to two dimensions.
+     *
+     * @param pp The projection.
+     * @param oom The Order of Magnitude for the precision.
+     * @param rm The RoundingMode if rounding is needed.
+     * @return The projected convex hull.
+     */
+    private BigRational[][] getPolygon2D(V3D_PlanarProjection pp, int oom,
+            RoundingMode rm) {
+        BigRational[][] r = polygon2D;
+        if (r == null) {
+            BigRational[][] ps = pp.project(getPointsArray(oom, rm), oom, rm);
+            int[] h = pp.getConvexHull(ps);
+            r = new BigRational[h.length][];
+            for (int i = 0; i < h.length; i++) {
+                r[i] = ps[h[i]];
+            }
+            polygon2D = r;
+        }
+        return r;
     }
 }
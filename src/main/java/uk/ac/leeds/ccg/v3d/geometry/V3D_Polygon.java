@@ -20,6 +20,7 @@ import java.math.RoundingMode;
 import java.util.HashMap;
 import uk.ac.leeds.ccg.math.arithmetic.Math_BigDecimal;
 import uk.ac.leeds.ccg.math.geometry.Math_AngleBigRational;
+import uk.ac.leeds.ccg.v3d.core.V3D_RoundingPolicy;
 
 /**
  * V3D_Polygon extends V3D_PolygonNoInternalHoles and is also defined by a
@@ -123,7 +124,7 @@ public class V3D_Polygon extends V3D_PolygonNoInternalHoles {
     @Override
     public boolean intersects(V3D_Point pt, int oom, RoundingMode rm) {
         return super.intersects(pt, oom, rm)
-                && !internalHoles.values().parallelStream().anyMatch(x
+                && !getPolicy().anyMatch(internalHoles.values(), x
                         -> x.contains(pt, oom, rm));
     }
 
@@ -150,7 +151,7 @@ public class V3D_Polygon extends V3D_PolygonNoInternalHoles {
      * @return {@code true} iff {@link #internalHoles} contains {@code pt}.
      */
     public boolean internalHolesContains(V3D_Point pt, int oom, RoundingMode rm) {
-        return internalHoles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(internalHoles.values(), x
                 -> x.contains(pt, oom, rm));
     }
 
@@ -163,7 +164,7 @@ public class V3D_Polygon extends V3D_PolygonNoInternalHoles {
      * @return {@code true} iff {@link #internalHoles} intersects {@code pt}.
      */
     public boolean internalHolesIntersects(V3D_Point pt, int oom, RoundingMode rm) {
-        return internalHoles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(internalHoles.values(), x
                 -> x.intersects(pt, oom, rm));
     }
 
@@ -190,7 +191,7 @@ public class V3D_Polygon extends V3D_PolygonNoInternalHoles {
      * @return {@code true} iff {@link #internalHoles} contains {@code l}.
      */
     public boolean internalHolesContains(V3D_LineSegment l, int oom, RoundingMode rm) {
-        return internalHoles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(internalHoles.values(), x
                 -> x.contains(l, oom, rm));
     }
 
@@ -203,7 +204,7 @@ public class V3D_Polygon extends V3D_PolygonNoInternalHoles {
      * @return {@code true} iff {@link #internalHoles} intersects {@code l}.
      */
     public boolean internalHolesIntersects(V3D_LineSegment l, int oom, RoundingMode rm) {
-        return internalHoles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(internalHoles.values(), x
                 -> x.intersects(l, oom, rm));
     }
 
@@ -245,7 +246,7 @@ public class V3D_Polygon extends V3D_PolygonNoInternalHoles {
      */
     public boolean internalHolesContains(V3D_Triangle t, int oom,
             RoundingMode rm) {
-        return internalHoles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(internalHoles.values(), x
                 -> x.contains(t, oom, rm));
     }
 
@@ -259,7 +260,7 @@ public class V3D_Polygon extends V3D_PolygonNoInternalHoles {
      */
     public boolean internalHolesIntersects(V3D_Triangle t, int oom,
             RoundingMode rm) {
-        return internalHoles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(internalHoles.values(), x
                 -> x.intersects(t, oom, rm));
     }
 
@@ -301,7 +302,7 @@ public class V3D_Polygon extends V3D_PolygonNoInternalHoles {
      */
     public boolean internalHolesContains(V3D_Rectangle r, int oom,
             RoundingMode rm) {
-        return internalHoles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(internalHoles.values(), x
                 -> x.contains(r, oom, rm));
     }
 
@@ -315,7 +316,7 @@ public class V3D_Polygon extends V3D_PolygonNoInternalHoles {
      */
     public boolean internalHolesIntersects(V3D_Rectangle r, int oom,
             RoundingMode rm) {
-        return internalHoles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(internalHoles.values(), x
                 -> x.intersects(r, oom, rm));
     }
 
@@ -357,7 +358,7 @@ public class V3D_Polygon extends V3D_PolygonNoInternalHoles {
      */
     public boolean internalHolesContains(V3D_ConvexArea ch, int oom,
             RoundingMode rm) {
-        return internalHoles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(internalHoles.values(), x
                 -> x.contains(ch, oom, rm));
     }
 
@@ -371,7 +372,7 @@ public class V3D_Polygon extends V3D_PolygonNoInternalHoles {
      */
     public boolean internalHolesIntersects(V3D_ConvexArea ch, int oom,
             RoundingMode rm) {
-        return internalHoles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(internalHoles.values(), x
                 -> x.intersects(ch, oom, rm));
     }
 
@@ -419,11 +420,23 @@ public class V3D_Polygon extends V3D_PolygonNoInternalHoles {
     }
 
     @Override
-    public void translate(V3D_Vector v, int oom, RoundingMode rm) {
-        super.translate(v, oom, rm);
+    protected void translateUncounted(V3D_Vector v, int oom,
+            RoundingMode rm) {
+        super.translateUncounted(v, oom, rm);
+        if (internalHoles != null) {
+            for (int i = 0; i < internalHoles.size(); i++) {
+                internalHoles.get(i).translateUncounted(v, oom, rm);
+            }
+        }
+    }
+
+    @Override
+    public void round(V3D_RoundingPolicy policy) {
+        super.round(policy);
+        internalHolesEdges = null;
         if (internalHoles != null) {
             for (int i = 0; i < internalHoles.size(); i++) {
-                internalHoles.get(i).translate(v, oom, rm);
+                internalHoles.get(i).round(policy);
             }
         }
     }
@@ -451,7 +464,8 @@ public class V3D_Polygon extends V3D_PolygonNoInternalHoles {
                         internalHoles.get(i).rotate(ray, uv, bd, theta, oom, rm));
             }
         }
-        return new V3D_Polygon(exterior, rInternalHoles, oom, rm);
+        return countRotation(new V3D_Polygon(exterior, rInternalHoles, oom,
+                rm));
     }
 
 //    @Override
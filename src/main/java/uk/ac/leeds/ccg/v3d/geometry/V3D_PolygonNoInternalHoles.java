@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import uk.ac.leeds.ccg.math.arithmetic.Math_BigDecimal;
 import uk.ac.leeds.ccg.math.geometry.Math_AngleBigRational;
+import uk.ac.leeds.ccg.v3d.core.V3D_RoundingPolicy;
 
 /**
  * Defined by a V3D_ConvexArea and a collection of non edge sharing
@@ -413,7 +414,7 @@ public class V3D_PolygonNoInternalHoles extends V3D_Area {
      */
     public boolean intersects000(V3D_Point pt, int oom, RoundingMode rm) {
         return !V3D_LineSegment.intersects(oom, rm, pt, ch.edges.values())
-                && !externalHoles.values().parallelStream().anyMatch(x
+                && !getPolicy().anyMatch(externalHoles.values(), x
                         -> x.contains(pt, oom, rm));
     }
 
@@ -482,11 +483,11 @@ public class V3D_PolygonNoInternalHoles extends V3D_Area {
      * @return {@code true} iff there is containment.
      */
     public boolean contains(V3D_ConvexArea ch, int oom, RoundingMode rm) {
-        return this.ch.getEdges(oom, rm).values().parallelStream().allMatch(x
+        return getPolicy().allMatch(this.ch.getEdges(oom, rm).values(), x
                 -> !V3D_LineSegment.intersects(
                         oom, rm, x, ch.getEdges(oom, rm).values()))
-                && this.ch.getPoints(oom, rm).values().parallelStream()
-                        .anyMatch(x -> contains(x, oom, rm));
+                && getPolicy().anyMatch(this.ch.getPoints(oom, rm).values(),
+                        x -> contains(x, oom, rm));
     }
 
     /**
@@ -533,7 +534,7 @@ public class V3D_PolygonNoInternalHoles extends V3D_Area {
      */
     public boolean intersects0(V3D_LineSegment l, int oom, RoundingMode rm) {
         return V3D_LineSegment.intersects(oom, rm, l, edges.values())
-                || !externalHoles.values().parallelStream().anyMatch(x
+                || !getPolicy().anyMatch(externalHoles.values(), x
                         -> x.contains(l, oom, rm));
     }
 
@@ -561,7 +562,7 @@ public class V3D_PolygonNoInternalHoles extends V3D_Area {
      * @return {@code true} if l intersects this.
      */
     public boolean intersectsNonCoplanar(V3D_Ray r, int oom, RoundingMode rm) {
-        return !externalHoles.values().parallelStream().anyMatch(x
+        return !getPolicy().anyMatch(externalHoles.values(), x
                 -> x.intersects(r, oom, rm));
     }
 
@@ -620,12 +621,12 @@ public class V3D_PolygonNoInternalHoles extends V3D_Area {
                  * If any of the edges intersect or if one geometry contains the
                  * other, there is an intersection.
                  */
-                edges.values().parallelStream().anyMatch(x
+                getPolicy().anyMatch(edges.values(), x
                         -> V3D_LineSegment.intersects(oom, rm, x,
                         ch.getEdges(oom, rm).values()))
-                || ch.getPoints(oom, rm).values().parallelStream().anyMatch(x
+                || getPolicy().anyMatch(ch.getPoints(oom, rm).values(), x
                         -> intersects(x, oom, rm))
-                || getPoints(oom, rm).values().parallelStream().anyMatch(x
+                || getPolicy().anyMatch(getPoints(oom, rm).values(), x
                         -> ch.intersects(x, oom, rm));
     }
 
@@ -644,12 +645,12 @@ public class V3D_PolygonNoInternalHoles extends V3D_Area {
                  * If any of the edges intersect or if one polygon contains the
                  * other, there is an intersection.
                  */
-                edges.values().parallelStream().anyMatch(x
+                getPolicy().anyMatch(edges.values(), x
                         -> V3D_LineSegment.intersects(oom, rm, x,
                         p.edges.values()))
-                || getPoints(oom, rm).values().parallelStream().anyMatch(x
+                || getPolicy().anyMatch(getPoints(oom, rm).values(), x
                         -> p.intersects(x, oom, rm))
-                || p.getPoints(oom, rm).values().parallelStream().anyMatch(x
+                || getPolicy().anyMatch(p.getPoints(oom, rm).values(), x
                         -> intersects(x, oom, rm));
     }
 
@@ -683,21 +684,35 @@ public class V3D_PolygonNoInternalHoles extends V3D_Area {
 //        return sum;
     }
 
+    /**
+     * Translate (move relative to the origin). {@link #pl} is cleared rather
+     * than translated as it is from {@link #ch}.
+     *
+     * @param v The vector to translate.
+     * @param oom The Order of Magnitude for the precision.
+     * @param rm The RoundingMode if rounding is needed.
+     */
     @Override
-    public void translate(V3D_Vector v, int oom, RoundingMode rm) {
-        super.translate(v, oom, rm);
-        if (en != null) {
-            en.translate(v, oom, rm);
-        }
-        ch.translate(v, oom, rm);
-        if (edges != null) {
-            for (int i = 0; i < edges.size(); i++) {
-                edges.get(i).translate(v, oom, rm);
+    protected void translateUncounted(V3D_Vector v, int oom,
+            RoundingMode rm) {
+        pl = null;
+        super.translateUncounted(v, oom, rm);
+        ch.translateUncounted(v, oom, rm);
+        if (externalHoles != null) {
+            for (int i = 0; i < externalHoles.size(); i++) {
+                externalHoles.get(i).translateUncounted(v, oom, rm);
             }
         }
+    }
+
+    @Override
+    public void round(V3D_RoundingPolicy policy) {
+        pl = null;
+        super.round(policy);
+        ch.round(policy);
         if (externalHoles != null) {
             for (int i = 0; i < externalHoles.size(); i++) {
-                externalHoles.get(i).translate(v, oom, rm);
+                externalHoles.get(i).round(policy);
             }
         }
     }
@@ -736,8 +751,8 @@ public class V3D_PolygonNoInternalHoles extends V3D_Area {
                         externalHoles.get(i).rotate(ray, uv, bd, theta, oom, rm));
             }
         }
-        return new V3D_PolygonNoInternalHoles(rPoints, rch, rEdges,
-                rExternalHoles);
+        return countRotation(new V3D_PolygonNoInternalHoles(rPoints, rch,
+                rEdges, rExternalHoles));
     }
 
 //    @Override
@@ -20,6 +20,7 @@ import java.math.RoundingMode;
 import java.util.HashMap;
 import uk.ac.leeds.ccg.math.arithmetic.Math_BigDecimal;
 import uk.ac.leeds.ccg.math.geometry.Math_AngleBigRational;
+import uk.ac.leeds.ccg.v3d.core.V3D_RoundingPolicy;
 
 /**
  * V2D_Polygon extends V3D_PolyhedronNoInternalHoles and is also defined by a
@@ -127,7 +128,7 @@ public class V3D_Polyhedron extends V3D_PolyhedronNoInternalHoles {
     @Override
     public boolean intersects(V3D_Point pt, int oom, RoundingMode rm) {
         return super.intersects(pt, oom, rm)
-                && !internalHoles.values().parallelStream().anyMatch(x
+                && !getPolicy().anyMatch(internalHoles.values(), x
                         -> x.contains(pt, oom, rm));
     }
 
@@ -154,7 +155,7 @@ public class V3D_Polyhedron extends V3D_PolyhedronNoInternalHoles {
      * @return {@code true} iff {@link #internalHoles} contains {@code pt}.
      */
     public boolean internalHolesContains(V3D_Point pt, int oom, RoundingMode rm) {
-        return internalHoles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(internalHoles.values(), x
                 -> x.contains(pt, oom, rm));
     }
 
@@ -167,7 +168,7 @@ public class V3D_Polyhedron extends V3D_PolyhedronNoInternalHoles {
      * @return {@code true} iff {@link #internalHoles} intersects {@code pt}.
      */
     public boolean internalHolesIntersects(V3D_Point pt, int oom, RoundingMode rm) {
-        return internalHoles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(internalHoles.values(), x
                 -> x.intersects(pt, oom, rm));
     }
 
@@ -194,7 +195,7 @@ public class V3D_Polyhedron extends V3D_PolyhedronNoInternalHoles {
      * @return {@code true} iff {@link #internalHoles} contains {@code l}.
      */
     public boolean internalHolesContains(V3D_LineSegment l, int oom, RoundingMode rm) {
-        return internalHoles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(internalHoles.values(), x
                 -> x.contains(l, oom, rm));
     }
 
@@ -207,7 +208,7 @@ public class V3D_Polyhedron extends V3D_PolyhedronNoInternalHoles {
      * @return {@code true} iff {@link #internalHoles} intersects {@code l}.
      */
     public boolean internalHolesIntersects(V3D_LineSegment l, int oom, RoundingMode rm) {
-        return internalHoles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(internalHoles.values(), x
                 -> x.intersects(l, oom, rm));
     }
 
@@ -249,7 +250,7 @@ public class V3D_Polyhedron extends V3D_PolyhedronNoInternalHoles {
      */
     public boolean internalHolesContains(V3D_Triangle t, int oom,
             RoundingMode rm) {
-        return internalHoles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(internalHoles.values(), x
                 -> x.contains(t, oom, rm));
     }
 
@@ -263,7 +264,7 @@ public class V3D_Polyhedron extends V3D_PolyhedronNoInternalHoles {
      */
     public boolean internalHolesIntersects(V3D_Triangle t, int oom,
             RoundingMode rm) {
-        return internalHoles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(internalHoles.values(), x
                 -> x.intersects(t, oom, rm));
     }
 
@@ -305,7 +306,7 @@ public class V3D_Polyhedron extends V3D_PolyhedronNoInternalHoles {
      */
     public boolean internalHolesContains(V3D_Rectangle r, int oom,
             RoundingMode rm) {
-        return internalHoles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(internalHoles.values(), x
                 -> x.contains(r, oom, rm));
     }
 
@@ -319,7 +320,7 @@ public class V3D_Polyhedron extends V3D_PolyhedronNoInternalHoles {
      */
     public boolean internalHolesIntersects(V3D_Rectangle r, int oom,
             RoundingMode rm) {
-        return internalHoles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(internalHoles.values(), x
                 -> x.intersects(r, oom, rm));
     }
 
@@ -376,7 +377,7 @@ public class V3D_Polyhedron extends V3D_PolyhedronNoInternalHoles {
      */
     public boolean internalHolesIntersects(V3D_ConvexArea ch, int oom,
             RoundingMode rm) {
-        return internalHoles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(internalHoles.values(), x
                 -> x.intersects(ch, oom, rm));
     }
 
@@ -407,11 +408,22 @@ public class V3D_Polyhedron extends V3D_PolyhedronNoInternalHoles {
 
 
     @Override
-    public void translate(V3D_Vector v, int oom, RoundingMode rm) {
-        super.translate(v, oom, rm);
+    protected void translateUncounted(V3D_Vector v, int oom,
+            RoundingMode rm) {
+        super.translateUncounted(v, oom, rm);
+        if (internalHoles != null) {
+            for (int i = 0; i < internalHoles.size(); i++) {
+                internalHoles.get(i).translateUncounted(v, oom, rm);
+            }
+        }
+    }
+
+    @Override
+    public void round(V3D_RoundingPolicy policy) {
+        super.round(policy);
         if (internalHoles != null) {
             for (int i = 0; i < internalHoles.size(); i++) {
-                internalHoles.get(i).translate(v, oom, rm);
+                internalHoles.get(i).round(policy);
             }
         }
     }
@@ -438,7 +450,8 @@ public class V3D_Polyhedron extends V3D_PolyhedronNoInternalHoles {
                         ray, uv, bd, theta, oom, rm));
             }
         }
-        return new V3D_Polyhedron(exterior, rInternalHoles, oom, rm);
+        return countRotation(new V3D_Polyhedron(exterior, rInternalHoles, oom,
+                rm));
     }
     
 //    @Override
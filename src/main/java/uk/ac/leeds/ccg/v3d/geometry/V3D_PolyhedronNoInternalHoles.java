@@ -22,6 +22,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import uk.ac.leeds.ccg.math.arithmetic.Math_BigDecimal;
 import uk.ac.leeds.ccg.math.geometry.Math_AngleBigRational;
+import uk.ac.leeds.ccg.v3d.core.V3D_RoundingPolicy;
 
 /**
  * Defined by a V3D_ConvexVolume and a collection of non edge sharing 
@@ -318,7 +319,7 @@ public class V3D_PolyhedronNoInternalHoles extends V3D_Volume {
     public boolean intersects(V3D_Point pt, int oom, RoundingMode rm) {
         return ch.intersects(pt, oom, rm)
                 && (!V3D_Area.intersects(oom, rm, pt, ch.faces.values())
-                && !externalHoles.values().parallelStream().anyMatch(x
+                && !getPolicy().anyMatch(externalHoles.values(), x
                         -> x.contains(pt, oom, rm)));
     }
 
@@ -412,7 +413,7 @@ public class V3D_PolyhedronNoInternalHoles extends V3D_Volume {
      */
     public boolean contains(V3D_ConvexVolume ch, int oom, RoundingMode rm) {
         return this.ch.intersects(ch, oom, rm)
-                && ch.getPoints(oom, rm).values().parallelStream().allMatch(x
+                && getPolicy().allMatch(ch.getPoints(oom, rm).values(), x
                         -> contains(x, oom, rm));
     }
 
@@ -426,7 +427,7 @@ public class V3D_PolyhedronNoInternalHoles extends V3D_Volume {
      */
     public boolean contains(V3D_PolyhedronNoInternalHoles p, int oom, RoundingMode rm) {
         return ch.intersects(p.ch, oom, rm)
-                && p.getPoints(oom, rm).values().parallelStream().allMatch(x
+                && getPolicy().allMatch(p.getPoints(oom, rm).values(), x
                         -> contains(x, oom, rm));
     }
 
@@ -442,7 +443,7 @@ public class V3D_PolyhedronNoInternalHoles extends V3D_Volume {
         return ch.intersects(l, oom, rm)
                 && (V3D_Area.intersects(oom, rm, l,
                         faces.values())
-                || !externalHoles.values().parallelStream().anyMatch(x
+                || !getPolicy().anyMatch(externalHoles.values(), x
                         -> x.contains(l, oom, rm)));
     }
 
@@ -474,10 +475,10 @@ public class V3D_PolyhedronNoInternalHoles extends V3D_Volume {
         return (intersects(tp, oom, rm)
                 || intersects(tq, oom, rm)
                 || intersects(tr, oom, rm))
-                || (t.getEdges(oom, rm).values().parallelStream().anyMatch(x
+                || (getPolicy().anyMatch(t.getEdges(oom, rm).values(), x
                         -> V3D_Area.intersects(oom, rm, x,
                         faces.values())))
-                && !(externalHoles.values().parallelStream().anyMatch(x
+                && !(getPolicy().anyMatch(externalHoles.values(), x
                         -> x.contains(tp, oom, rm)
                 && x.contains(tq, oom, rm)
                 && x.contains(tr, oom, rm)));
@@ -519,11 +520,11 @@ public class V3D_PolyhedronNoInternalHoles extends V3D_Volume {
                  * If any of the faces intersect or if one geometry contains the
                  * other, there is an intersection.
                  */
-                faces.values().parallelStream().anyMatch(x
+                getPolicy().anyMatch(faces.values(), x
                         -> x.intersects(oom, rm, ch.getFaces(oom, rm).values()))
-                || ch.getPoints(oom, rm).values().parallelStream().anyMatch(x
+                || getPolicy().anyMatch(ch.getPoints(oom, rm).values(), x
                         -> intersects(x, oom, rm))
-                || getPoints(oom, rm).values().parallelStream().anyMatch(x
+                || getPolicy().anyMatch(getPoints(oom, rm).values(), x
                         -> ch.intersects(x, oom, rm));
     }
 
@@ -542,11 +543,11 @@ public class V3D_PolyhedronNoInternalHoles extends V3D_Volume {
                  * If any of the faces intersect or if one polygon contains the
                  * other, there is an intersection.
                  */
-                faces.values().parallelStream().anyMatch(x
+                getPolicy().anyMatch(faces.values(), x
                         -> x.intersects(oom, rm, p.faces.values()))
-                || getPoints(oom, rm).values().parallelStream().anyMatch(x
+                || getPolicy().anyMatch(getPoints(oom, rm).values(), x
                         -> p.intersects(x, oom, rm))
-                || p.getPoints(oom, rm).values().parallelStream().anyMatch(x
+                || getPolicy().anyMatch(p.getPoints(oom, rm).values(), x
                         -> intersects(x, oom, rm));
     }
 
@@ -575,20 +576,34 @@ public class V3D_PolyhedronNoInternalHoles extends V3D_Volume {
     }
 
     @Override
-    public void translate(V3D_Vector v, int oom, RoundingMode rm) {
-        super.translate(v, oom, rm);
-        if (en != null) {
-            en.translate(v, oom, rm);
+    protected void translateUncounted(V3D_Vector v, int oom,
+            RoundingMode rm) {
+        super.translateUncounted(v, oom, rm);
+        ch.translateUncounted(v, oom, rm);
+        if (faces != null) {
+            for (int i = 0; i < faces.size(); i++) {
+                faces.get(i).translateUncounted(v, oom, rm);
+            }
         }
-        ch.translate(v, oom, rm);
+        if (externalHoles != null) {
+            for (int i = 0; i < externalHoles.size(); i++) {
+                externalHoles.get(i).translateUncounted(v, oom, rm);
+            }
+        }
+    }
+
+    @Override
+    public void round(V3D_RoundingPolicy policy) {
+        super.round(policy);
+        ch.round(policy);
         if (faces != null) {
             for (int i = 0; i < faces.size(); i++) {
-                faces.get(i).translate(v, oom, rm);
+                faces.get(i).round(policy);
             }
         }
         if (externalHoles != null) {
             for (int i = 0; i < externalHoles.size(); i++) {
-                externalHoles.get(i).translate(v, oom, rm);
+                externalHoles.get(i).round(policy);
             }
         }
     }
@@ -627,8 +642,8 @@ public class V3D_PolyhedronNoInternalHoles extends V3D_Volume {
                         externalHoles.get(i).rotate(ray, uv, bd, theta, oom, rm));
             }
         }
-        return new V3D_PolyhedronNoInternalHoles(rPoints, rch, rFaces,
-                rExternalHoles);
+        return countRotation(new V3D_PolyhedronNoInternalHoles(rPoints, rch,
+                rFaces, rExternalHoles));
     }
 
 //    @Override
@@ -20,6 +20,7 @@ import java.math.RoundingMode;
 import uk.ac.leeds.ccg.math.arithmetic.Math_BigDecimal;
 import uk.ac.leeds.ccg.math.geometry.Math_AngleBigRational;
 import uk.ac.leeds.ccg.v3d.core.V3D_Environment;
+import uk.ac.leeds.ccg.v3d.core.V3D_RoundingPolicy;
 
 /**
  * 3D representation of a ray - like a line, but one that starts at a point
@@ -568,6 +569,18 @@ public class V3D_Ray extends V3D_Geometry {
 //        //l.translate(v, oom, rm);
 //    }
 
+    /**
+     * Round {@link #offset} and {@link #l} using policy and clear {@link #pl}.
+     *
+     * @param policy The rounding policy.
+     */
+    @Override
+    public void round(V3D_RoundingPolicy policy) {
+        super.round(policy);
+        l.round(policy);
+        pl = null;
+    }
+
     @Override
     public V3D_Ray rotate(V3D_Ray ray, V3D_Vector uv, Math_BigDecimal bd, 
             BigRational theta, int oom, RoundingMode rm) {
@@ -582,6 +595,7 @@ public class V3D_Ray extends V3D_Geometry {
     @Override
     public V3D_Ray rotateN(V3D_Ray ray, V3D_Vector uv, Math_BigDecimal bd, 
             BigRational theta, int oom, RoundingMode rm) {
-        return new V3D_Ray(l.rotateN(ray, uv, bd, theta, oom, rm));
+        return countRotation(new V3D_Ray(
+                l.rotateN(ray, uv, bd, theta, oom, rm)));
     }
 }
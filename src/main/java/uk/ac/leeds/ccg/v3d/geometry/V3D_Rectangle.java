@@ -23,6 +23,7 @@ import uk.ac.leeds.ccg.math.arithmetic.Math_BigDecimal;
 import uk.ac.leeds.ccg.math.geometry.Math_AngleBigRational;
 import uk.ac.leeds.ccg.math.number.Math_BigRationalSqrt;
 import uk.ac.leeds.ccg.v3d.core.V3D_Environment;
+import uk.ac.leeds.ccg.v3d.core.V3D_RoundingPolicy;
 
 /**
  * For representing and processing rectangles in 3D. A rectangle is a right
@@ -392,17 +393,38 @@ public class V3D_Rectangle extends V3D_Area {
     }
 
     /**
-     * Move the rectangle.
+     * Move the rectangle. {@link #pl}, {@link #points} and {@link #edges}
+     * are cleared rather than translated as they are from {@link #pqr} and
+     * {@link #rsp}.
      *
      * @param v What is added to {@link #p}, {@link #q}, {@link #r}, {@link #s}.
      * @param oom The Order of Magnitude for the precision.
      * @param rm The RoundingMode if rounding is needed.
      */
     @Override
-    public void translate(V3D_Vector v, int oom, RoundingMode rm) {
-        super.translate(v, oom, rm);
-        pqr.translate(v, oom, rm);
-        rsp.translate(v, oom, rm);
+    protected void translateUncounted(V3D_Vector v, int oom,
+            RoundingMode rm) {
+        pl = null;
+        points = null;
+        edges = null;
+        super.translateUncounted(v, oom, rm);
+        pqr.translateUncounted(v, oom, rm);
+        rsp.translateUncounted(v, oom, rm);
+    }
+
+    /**
+     * Round {@link #offset}, {@link #pqr} and {@link #rsp} using policy.
+     *
+     * @param policy The rounding policy.
+     */
+    @Override
+    public void round(V3D_RoundingPolicy policy) {
+        pl = null;
+        points = null;
+        edges = null;
+        super.round(policy);
+        pqr.round(policy);
+        rsp.round(policy);
     }
 
     @Override
@@ -419,11 +441,11 @@ public class V3D_Rectangle extends V3D_Area {
     @Override
     public V3D_Rectangle rotateN(V3D_Ray ray, V3D_Vector uv, Math_BigDecimal bd, 
             BigRational theta, int oom, RoundingMode rm) {
-        return new V3D_Rectangle(
+        return countRotation(new V3D_Rectangle(
                 getP(oom, rm).rotate(ray, uv, bd, theta, oom, rm),
                 getQ(oom, rm).rotate(ray, uv, bd, theta, oom, rm),
                 getR(oom, rm).rotate(ray, uv, bd, theta, oom, rm),
-                getS(oom, rm).rotate(ray, uv, bd, theta, oom, rm), oom, rm);
+                getS(oom, rm).rotate(ray, uv, bd, theta, oom, rm), oom, rm));
     }
 
     /**
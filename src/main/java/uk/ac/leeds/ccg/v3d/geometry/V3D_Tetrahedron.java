@@ -24,6 +24,8 @@ import uk.ac.leeds.ccg.math.arithmetic.Math_BigRational;
 import uk.ac.leeds.ccg.math.geometry.Math_AngleBigRational;
 import uk.ac.leeds.ccg.math.number.Math_BigRationalSqrt;
 import uk.ac.leeds.ccg.v3d.core.V3D_Environment;
+import uk.ac.leeds.ccg.v3d.core.V3D_Metrics;
+import uk.ac.leeds.ccg.v3d.core.V3D_RoundingPolicy;
 
 /**
  *
@@ -393,10 +395,10 @@ public class V3D_Tetrahedron extends V3D_Volume {
         int oomn6 = oom - 6;
         V3D_Triangle tpqr = getPqr();
         V3D_Point ts = getS();
-        BigRational hd3 = new Math_BigRationalSqrt(
+        BigRational hd3 = V3D_Environment.divide(new Math_BigRationalSqrt(
                 tpqr.getPl(oomn6, rm).getPointOfProjectedIntersect(ts, oomn6, rm)
                         .getDistanceSquared(ts, oomn6, rm), oomn6, rm)
-                .getSqrt(oomn6, rm).divide(3);
+                .getSqrt(oomn6, rm), 3);
         return tpqr.getArea(oomn6 - 3, rm).multiply(hd3);
     }
 
@@ -413,12 +415,15 @@ public class V3D_Tetrahedron extends V3D_Volume {
      */
     public V3D_Point getCentroid(int oom, RoundingMode rm) {
         oom -= 6;
-        BigRational dx = (pv.getDX(oom, rm).add(qv.getDX(oom, rm))
-                .add(rv.getDX(oom, rm)).add(sv.getDX(oom, rm))).divide(4);
-        BigRational dy = (pv.getDY(oom, rm).add(qv.getDY(oom, rm))
-                .add(rv.getDY(oom, rm)).add(sv.getDY(oom, rm))).divide(4);
-        BigRational dz = (pv.getDZ(oom, rm).add(qv.getDZ(oom, rm))
-                .add(rv.getDZ(oom, rm)).add(sv.getDZ(oom, rm))).divide(4);
+        BigRational dx = V3D_Environment.divide(pv.getDX(oom, rm)
+                .add(qv.getDX(oom, rm)).add(rv.getDX(oom, rm))
+                .add(sv.getDX(oom, rm)), 4);
+        BigRational dy = V3D_Environment.divide(pv.getDY(oom, rm)
+                .add(qv.getDY(oom, rm)).add(rv.getDY(oom, rm))
+                .add(sv.getDY(oom, rm)), 4);
+        BigRational dz = V3D_Environment.divide(pv.getDZ(oom, rm)
+                .add(qv.getDZ(oom, rm)).add(rv.getDZ(oom, rm))
+                .add(sv.getDZ(oom, rm)), 4);
         return new V3D_Point(env, offset, new V3D_Vector(dx, dy, dz));
     }
 
@@ -1139,6 +1144,7 @@ public class V3D_Tetrahedron extends V3D_Volume {
      * @return The V3D_Geometry.
      */
     public V3D_FiniteGeometry getIntersect(V3D_Plane pl, int oom, RoundingMode rm) {
+        V3D_Metrics.count(env, V3D_Metrics.Op.INTERSECT, this);
         V3D_FiniteGeometry pqri = getPqr().getIntersect(pl, oom, rm);
         if (pqri == null) {
             V3D_FiniteGeometry psqi = getPsq().getIntersect(pl, oom, rm);
@@ -1656,6 +1662,7 @@ public class V3D_Tetrahedron extends V3D_Volume {
      * @return The distance squared to {@code pv}.
      */
     public BigDecimal getDistance(V3D_Point p, int oom, RoundingMode rm) {
+        V3D_Metrics.count(env, V3D_Metrics.Op.DISTANCE, this);
         return Math_BigRational.toBigDecimal(new Math_BigRationalSqrt(
                 getDistanceSquared(p, oom, rm), oom, rm).getSqrt(oom, rm), oom,
                 rm);
@@ -1745,6 +1752,73 @@ public class V3D_Tetrahedron extends V3D_Volume {
         this.offset = offset;
     }
 
+    /**
+     * Translate (move relative to the origin). {@link #points} and
+     * {@link #faces} are cleared rather than translated as they hold the
+     * points and triangles that are translated here.
+     *
+     * @param v The vector to translate.
+     * @param oom The Order of Magnitude for the precision.
+     * @param rm The RoundingMode if rounding is needed.
+     */
+    @Override
+    protected void translateUncounted(V3D_Vector v, int oom,
+            RoundingMode rm) {
+        points = null;
+        faces = null;
+        super.translateUncounted(v, oom, rm);
+        if (p != null) {
+            p.translateUncounted(v, oom, rm);
+        }
+        if (q != null) {
+            q.translateUncounted(v, oom, rm);
+        }
+        if (r != null) {
+            r.translateUncounted(v, oom, rm);
+        }
+        if (s != null) {
+            s.translateUncounted(v, oom, rm);
+        }
+        if (pqr != null) {
+            pqr.translateUncounted(v, oom, rm);
+        }
+        if (qsr != null) {
+            qsr.translateUncounted(v, oom, rm);
+        }
+        if (spr != null) {
+            spr.translateUncounted(v, oom, rm);
+        }
+        if (psq != null) {
+            psq.translateUncounted(v, oom, rm);
+        }
+    }
+
+    /**
+     * Round {@link #offset}, {@link #pv}, {@link #qv}, {@link #rv} and
+     * {@link #sv} using policy and clear the points and triangles calculated
+     * from them.
+     *
+     * @param policy The rounding policy.
+     */
+    @Override
+    public void round(V3D_RoundingPolicy policy) {
+        super.round(policy);
+        pv = pv.round(policy);
+        qv = qv.round(policy);
+        rv = rv.round(policy);
+        sv = sv.round(policy);
+        p = null;
+        q = null;
+        r = null;
+        s = null;
+        pqr = null;
+        qsr = null;
+        spr = null;
+        psq = null;
+        points = null;
+        faces = null;
+    }
+
     @Override
     public V3D_Tetrahedron rotate(V3D_Ray ray, V3D_Vector uv, Math_BigDecimal bd,
             BigRational theta, int oom, RoundingMode rm) {
@@ -1759,11 +1833,11 @@ public class V3D_Tetrahedron extends V3D_Volume {
     @Override
     public V3D_Tetrahedron rotateN(V3D_Ray ray, V3D_Vector uv, Math_BigDecimal bd,
             BigRational theta, int oom, RoundingMode rm) {
-        return new V3D_Tetrahedron(
+        return countRotation(new V3D_Tetrahedron(
                 getP().rotate(ray, uv, bd, theta, oom, rm),
                 getQ().rotate(ray, uv, bd, theta, oom, rm),
                 getR().rotate(ray, uv, bd, theta, oom, rm),
-                getS().rotate(ray, uv, bd, theta, oom, rm), oom, rm);
+                getS().rotate(ray, uv, bd, theta, oom, rm), oom, rm));
     }
 
     /**
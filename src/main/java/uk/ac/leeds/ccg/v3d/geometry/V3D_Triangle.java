@@ -26,6 +26,8 @@ import uk.ac.leeds.ccg.math.arithmetic.Math_BigDecimal;
 import uk.ac.leeds.ccg.math.geometry.Math_AngleBigRational;
 import uk.ac.leeds.ccg.math.number.Math_BigRationalSqrt;
 import uk.ac.leeds.ccg.v3d.core.V3D_Environment;
+import uk.ac.leeds.ccg.v3d.core.V3D_Metrics;
+import uk.ac.leeds.ccg.v3d.core.V3D_RoundingPolicy;
 import uk.ac.leeds.ccg.v3d.geometry.d.V3D_FiniteGeometry_d;
 import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Triangle_d;
 import uk.ac.leeds.ccg.v3d.geometry.light.V3D_VTriangle;
@@ -509,6 +511,9 @@ public class V3D_Triangle extends V3D_Area {
     }
 
     private void initP(int oom, RoundingMode rm) {
+        if (p != null && prm != null) {
+            V3D_Metrics.count(env, V3D_Metrics.Op.ESCALATE, this);
+        }
         p = new V3D_Point(env, offset, pv);
         poom = oom;
         prm = rm;
@@ -539,6 +544,9 @@ public class V3D_Triangle extends V3D_Area {
     }
 
     private void initQ(int oom, RoundingMode rm) {
+        if (q != null && qrm != null) {
+            V3D_Metrics.count(env, V3D_Metrics.Op.ESCALATE, this);
+        }
         q = new V3D_Point(env, offset, qv);
         qoom = oom;
         qrm = rm;
@@ -567,6 +575,9 @@ public class V3D_Triangle extends V3D_Area {
     }
 
     private void initR(int oom, RoundingMode rm) {
+        if (r != null && rrm != null) {
+            V3D_Metrics.count(env, V3D_Metrics.Op.ESCALATE, this);
+        }
         r = new V3D_Point(env, offset, rv);
         room = oom;
         rrm = rm;
@@ -629,6 +640,9 @@ public class V3D_Triangle extends V3D_Area {
     }
 
     private void initPQ(int oom, RoundingMode rm) {
+        if (pq != null && pqrm != null) {
+            V3D_Metrics.count(env, V3D_Metrics.Op.ESCALATE, this);
+        }
         //pq = new V3D_LineSegment(env, offset, pv, qv.subtract(pv, oom, rm),
         //        oom, rm);
         pq = new V3D_LineSegment(getP(oom, rm), getQ(oom, rm), oom, rm);
@@ -666,6 +680,9 @@ public class V3D_Triangle extends V3D_Area {
     }
 
     private void initQR(int oom, RoundingMode rm) {
+        if (qr != null && qrrm != null) {
+            V3D_Metrics.count(env, V3D_Metrics.Op.ESCALATE, this);
+        }
         //qr = new V3D_LineSegment(env, offset, qv, rv.subtract(qv, oom, rm),
         //        oom, rm);
         qr = new V3D_LineSegment(getQ(oom, rm), getR(oom, rm), oom, rm);
@@ -703,6 +720,9 @@ public class V3D_Triangle extends V3D_Area {
     }
 
     private void initRP(int oom, RoundingMode rm) {
+        if (rp != null && rprm != null) {
+            V3D_Metrics.count(env, V3D_Metrics.Op.ESCALATE, this);
+        }
         //rp = new V3D_LineSegment(env, offset, rv, pv.subtract(rv, oom, rm),
         //        oom, rm);
         rp = new V3D_LineSegment(getR(oom, rm), getP(oom, rm), oom, rm);
@@ -762,6 +782,9 @@ public class V3D_Triangle extends V3D_Area {
     }
 
     private void initPQPl(int oom, RoundingMode rm) {
+        if (pqpl != null) {
+            V3D_Metrics.count(env, V3D_Metrics.Op.ESCALATE, this);
+        }
         pq = getPQ(oom, rm);
         pqpl = new V3D_Plane(pq.getP(), pq.l.v.getCrossProduct(
                 getPl(oom, rm).n, oom, rm));
@@ -790,6 +813,9 @@ public class V3D_Triangle extends V3D_Area {
     }
 
     private void initQRPl(int oom, RoundingMode rm) {
+        if (qrpl != null) {
+            V3D_Metrics.count(env, V3D_Metrics.Op.ESCALATE, this);
+        }
         qr = getQR(oom, rm);
         qrpl = new V3D_Plane(qr.getP(), qr.l.v.getCrossProduct(
                 getPl(oom, rm).n, oom, rm));
@@ -818,6 +844,9 @@ public class V3D_Triangle extends V3D_Area {
     }
 
     private void initRPPl(int oom, RoundingMode rm) {
+        if (rppl != null) {
+            V3D_Metrics.count(env, V3D_Metrics.Op.ESCALATE, this);
+        }
         rp = getRP(oom, rm);
         rppl = new V3D_Plane(rp.getP(), rp.l.v.getCrossProduct(
                 getPl(oom, rm).n, oom, rm));
@@ -904,11 +933,81 @@ public class V3D_Triangle extends V3D_Area {
      * @return {@code true} iff pt getIntersect.
      */
     public boolean intersectsCoplanar(V3D_Point p, int oom, RoundingMode rm) {
+        V3D_HVector hpt = p.getH();
+        if (hpt != null) {
+            V3D_HVector hp = getP(oom, rm).getH();
+            V3D_HVector hq = getQ(oom, rm).getH();
+            V3D_HVector hr = getR(oom, rm).getH();
+            if (hp != null && hq != null && hr != null) {
+                int i = V3D_HVector.intersectsCoplanar(hp, hq, hr, hpt);
+                if (i >= 0) {
+                    return i == 1;
+                }
+            }
+        }
         return getPQPl(oom, rm).isOnSameSide(p, getR(oom, rm), oom, rm)
                 && getQRPl(oom, rm).isOnSameSide(p, getP(oom, rm), oom, rm)
                 && getRPPl(oom, rm).isOnSameSide(p, getQ(oom, rm), oom, rm);
     }
 
+    /**
+     * For testing if a point that is coplanar with this is in this lazily
+     * (see {@link V3D_Lazy}), for example the point returned from
+     * {@link V3D_Plane#getIntersectLazy(V3D_Line)}.
+     *
+     * @param pt The position of a point coplanar with this.
+     * @param oom The Order of Magnitude for the precision.
+     * @param rm The RoundingMode if rounding is needed.
+     * @return {@code true} iff pt is in this or on its edge.
+     */
+    public boolean intersectsCoplanar(V3D_LazyVector pt, int oom,
+            RoundingMode rm) {
+        V3D_LazyVector lp = getP(oom, rm).getLazy();
+        V3D_LazyVector lq = getQ(oom, rm).getLazy();
+        V3D_LazyVector lr = getR(oom, rm).getLazy();
+        if (lp != null && lq != null && lr != null) {
+            V3D_LazyVector qp = lq.subtract(lp);
+            V3D_LazyVector n = qp.getCrossProduct(lr.subtract(lp));
+            if (!n.isZero()) {
+                return qp.getCrossProduct(pt.subtract(lp))
+                        .getDotProduct(n).signum() >= 0
+                        && lr.subtract(lq).getCrossProduct(pt.subtract(lq))
+                                .getDotProduct(n).signum() >= 0
+                        && lp.subtract(lr).getCrossProduct(pt.subtract(lr))
+                                .getDotProduct(n).signum() >= 0;
+            }
+        }
+        return intersectsCoplanar(new V3D_Point(env, pt.toVector()), oom,
+                rm);
+    }
+
+    /**
+     * Get the point of intersection with {@code l} lazily (see
+     * {@link V3D_Lazy}). If any of the components involved are irrational,
+     * or if l is on the plane of this, the intersection is calculated with
+     * {@link #getIntersect(V3D_Line, int, RoundingMode)}.
+     *
+     * @param l The line to intersect with.
+     * @param oom The Order of Magnitude for the precision.
+     * @param rm The RoundingMode if rounding is needed.
+     * @return The position of the point of intersection,
+     * {@link V3D_LazyVector#COPLANAR} if l is on the plane of this and
+     * intersects this in a line segment, or {@code null} if l does not
+     * intersect this.
+     */
+    public V3D_LazyVector getIntersectLazy(V3D_Line l, int oom,
+            RoundingMode rm) {
+        V3D_Metrics.count(env, V3D_Metrics.Op.INTERSECT, this);
+        V3D_LazyVector i = getPl(oom, rm).getIntersectLazy(l, oom, rm);
+        if (i == null) {
+            return null;
+        }
+        if (i == V3D_LazyVector.COPLANAR) {
+            return V3D_Plane.getLazy(getIntersect(l, oom, rm), oom, rm);
+        }
+        return intersectsCoplanar(i, oom, rm) ? i : null;
+    }
+
     /**
      * Intersected, but not on the edge.
      *
@@ -955,7 +1054,7 @@ public class V3D_Triangle extends V3D_Area {
 
     @Override
     public boolean contains(V3D_Area a, int oom, RoundingMode rm) {
-        return a.getPoints(oom, rm).values().parallelStream().allMatch(x
+        return getPolicy().allMatch(a.getPoints(oom, rm).values(), x
                 -> contains(x, oom, rm));
     }
 
@@ -963,7 +1062,7 @@ public class V3D_Triangle extends V3D_Area {
     public BigRational getArea(int oom, RoundingMode rm) {
         int oomn2 = oom - 2;
         return getPQV(oomn2, rm).getCrossProduct(getRPV(oomn2, rm).reverse(), oomn2, rm)
-                .getMagnitude(oomn2, rm).getSqrt(oom, rm).divide(BigRational.TWO);
+                .getMagnitude(oomn2, rm).getSqrt(oom, rm).multiply(V3D_Environment.HALF);
     }
 
     @Override
@@ -1083,6 +1182,7 @@ public class V3D_Triangle extends V3D_Area {
     @Override
     public V3D_FiniteGeometry getIntersect(V3D_Ray r, int oom,
             RoundingMode rm) {
+        V3D_Metrics.count(env, V3D_Metrics.Op.INTERSECT, this);
         V3D_FiniteGeometry g = getIntersect(r.l, oom, rm);
         if (g == null) {
             return null;
@@ -1524,6 +1624,7 @@ public class V3D_Triangle extends V3D_Area {
      */
     public V3D_FiniteGeometry getIntersect(V3D_Triangle t, int oom,
             RoundingMode rm) {
+        V3D_Metrics.count(env, V3D_Metrics.Op.INTERSECT, this);
         if (getPl(oom, rm).equalsIgnoreOrientation(t.getPl(oom, rm), oom, rm)) {
             return getIntersectCoplanar(t, oom, rm);
         } else {
@@ -1782,12 +1883,12 @@ public class V3D_Triangle extends V3D_Area {
      */
     public V3D_Point getCentroid(int oom, RoundingMode rm) {
         oom -= 6;
-        BigRational dx = (pv.getDX(oom, rm).add(qv.getDX(oom, rm))
-                .add(rv.getDX(oom, rm))).divide(3);
-        BigRational dy = (pv.getDY(oom, rm).add(qv.getDY(oom, rm))
-                .add(rv.getDY(oom, rm))).divide(3);
-        BigRational dz = (pv.getDZ(oom, rm).add(qv.getDZ(oom, rm))
-                .add(rv.getDZ(oom, rm))).divide(3);
+        BigRational dx = V3D_Environment.divide(pv.getDX(oom, rm)
+                .add(qv.getDX(oom, rm)).add(rv.getDX(oom, rm)), 3);
+        BigRational dy = V3D_Environment.divide(pv.getDY(oom, rm)
+                .add(qv.getDY(oom, rm)).add(rv.getDY(oom, rm)), 3);
+        BigRational dz = V3D_Environment.divide(pv.getDZ(oom, rm)
+                .add(qv.getDZ(oom, rm)).add(rv.getDZ(oom, rm)), 3);
         return new V3D_Point(env, offset, new V3D_Vector(dx, dy, dz));
     }
 
@@ -1838,29 +1939,76 @@ public class V3D_Triangle extends V3D_Area {
         }
     }
 
+    /**
+     * Translate (move relative to the origin). {@link #points} and
+     * {@link #edges} are cleared rather than translated as they hold the
+     * points and edges that are translated here.
+     *
+     * @param v The vector to translate.
+     * @param oom The Order of Magnitude for the precision.
+     * @param rm The RoundingMode if rounding is needed.
+     */
     @Override
-    public void translate(V3D_Vector v, int oom, RoundingMode rm) {
-        super.translate(v, oom, rm);
+    protected void translateUncounted(V3D_Vector v, int oom,
+            RoundingMode rm) {
+        points = null;
+        edges = null;
+        super.translateUncounted(v, oom, rm);
+        if (p != null) {
+            p.translateUncounted(v, oom, rm);
+        }
+        if (q != null) {
+            q.translateUncounted(v, oom, rm);
+        }
+        if (r != null) {
+            r.translateUncounted(v, oom, rm);
+        }
         if (pq != null) {
-            pq.translate(v, oom, rm);
+            pq.translateUncounted(v, oom, rm);
         }
         if (qr != null) {
-            qr.translate(v, oom, rm);
+            qr.translateUncounted(v, oom, rm);
         }
         if (rp != null) {
-            rp.translate(v, oom, rm);
+            rp.translateUncounted(v, oom, rm);
         }
         if (pqpl != null) {
-            pqpl.translate(v, oom, rm);
+            pqpl.translateUncounted(v, oom, rm);
         }
         if (qrpl != null) {
-            qrpl.translate(v, oom, rm);
+            qrpl.translateUncounted(v, oom, rm);
         }
         if (rppl != null) {
-            rppl.translate(v, oom, rm);
+            rppl.translateUncounted(v, oom, rm);
         }
     }
 
+    /**
+     * Round {@link #offset}, {@link #pv}, {@link #qv} and {@link #rv} using
+     * policy and clear the points, edges and planes calculated from them.
+     *
+     * @param policy The rounding policy.
+     */
+    @Override
+    public void round(V3D_RoundingPolicy policy) {
+        pv = pv.round(policy);
+        qv = qv.round(policy);
+        rv = rv.round(policy);
+        p = null;
+        q = null;
+        r = null;
+        pq = null;
+        qr = null;
+        rp = null;
+        pqpl = null;
+        qrpl = null;
+        rppl = null;
+        pl = null;
+        points = null;
+        edges = null;
+        super.round(policy);
+    }
+
     @Override
     public V3D_Triangle rotate(V3D_Ray ray, V3D_Vector uv, Math_BigDecimal bd,
             BigRational theta, int oom, RoundingMode rm) {
@@ -1875,10 +2023,10 @@ public class V3D_Triangle extends V3D_Area {
     @Override
     public V3D_Triangle rotateN(V3D_Ray ray, V3D_Vector uv, Math_BigDecimal bd,
             BigRational theta, int oom, RoundingMode rm) {
-        return new V3D_Triangle(
+        return countRotation(new V3D_Triangle(
                 getP(oom, rm).rotate(ray, uv, bd, theta, oom, rm),
                 getQ(oom, rm).rotate(ray, uv, bd, theta, oom, rm),
-                getR(oom, rm).rotate(ray, uv, bd, theta, oom, rm), oom, rm);
+                getR(oom, rm).rotate(ray, uv, bd, theta, oom, rm), oom, rm));
     }
 
     /**
@@ -2396,6 +2544,7 @@ public class V3D_Triangle extends V3D_Area {
      * @return The distance squared to {@code pv}.
      */
     public BigRational getDistance(V3D_Point p, int oom, RoundingMode rm) {
+        V3D_Metrics.count(env, V3D_Metrics.Op.DISTANCE, this);
         return new Math_BigRationalSqrt(getDistanceSquared(p, oom, rm), oom, rm)
                 .getSqrt(oom, rm);
     }
@@ -3013,7 +3162,7 @@ public class V3D_Triangle extends V3D_Area {
             return a.intersects(getPQ(oom, rm), oom, rm)
                     || a.intersects(getQR(oom, rm), oom, rm)
                     || a.intersects(getRP(oom, rm), oom, rm)
-                    || getEdges(oom, rm).values().parallelStream().anyMatch(x
+                    || getPolicy().anyMatch(getEdges(oom, rm).values(), x
                             -> intersects(x, oom, rm));
         } else {
             return false;
@@ -3029,6 +3178,6 @@ public class V3D_Triangle extends V3D_Area {
      */
     public static boolean intersects(int oom, RoundingMode rm,
             V3D_LineSegment ls, Collection<V3D_Area> faces) {
-        return faces.parallelStream().anyMatch(x -> x.intersects(ls, oom, rm));
+        return ls.getPolicy().anyMatch(faces, x -> x.intersects(ls, oom, rm));
     }
 }
@@ -27,6 +27,7 @@ import uk.ac.leeds.ccg.math.geometry.Math_AngleBigRational;
 import uk.ac.leeds.ccg.math.number.Math_BigRationalSqrt;
 import uk.ac.leeds.ccg.math.number.Math_Quaternion_BigRational;
 import uk.ac.leeds.ccg.v3d.core.V3D_Environment;
+import uk.ac.leeds.ccg.v3d.core.V3D_RoundingPolicy;
 import uk.ac.leeds.ccg.v3d.geometry.light.V3D_V;
 
 /**
@@ -35,6 +36,11 @@ import uk.ac.leeds.ccg.v3d.geometry.light.V3D_V;
  * of Magnitude. Other than the magnitude which may be calculated and stored at
  * higher levels of precision, instances are immutable.
  *
+ * If all the components are rational, arithmetic is done with BigRational
+ * arithmetic, so results are exact and any Order of Magnitude and
+ * RoundingMode given are not used. Only vectors with irrational components
+ * give results rounded to a given Order of Magnitude.
+ *
  * @author Andy Turner
  * @version 1.1
  */
@@ -107,6 +113,66 @@ public class V3D_Vector implements Serializable {
      */
     protected Math_BigRationalSqrt m;
 
+    /**
+     * For storing this in homogeneous integer coordinates, or
+     * {@link V3D_HVector#NONE} if any component is irrational.
+     */
+    private transient V3D_HVector h;
+
+    /**
+     * For storing the components as BigRationals if they are all rational,
+     * or {@link #IRRATIONAL} if any are irrational. The array is filled
+     * before it is assigned and never changed after, so it is safely shared
+     * by threads.
+     */
+    private transient volatile BigRational[] q;
+
+    /**
+     * For indicating that a component is irrational.
+     */
+    private static final BigRational[] IRRATIONAL = new BigRational[0];
+
+    /**
+     * For storing the lazy version of this. See {@link #getLazy()}.
+     */
+    private transient V3D_LazyVector lazy;
+
+    /**
+     * A shared component for the value 0.
+     */
+    private static final Math_BigRationalSqrt SQRT_P0
+            = new Math_BigRationalSqrt(BigRational.ZERO, BigRational.ZERO);
+
+    /**
+     * A shared component for the value 1.
+     */
+    private static final Math_BigRationalSqrt SQRT_P1
+            = new Math_BigRationalSqrt(BigRational.ONE, BigRational.ONE);
+
+    /**
+     * A shared component for the value -1.
+     */
+    private static final Math_BigRationalSqrt SQRT_N1
+            = new Math_BigRationalSqrt(BigRational.ONE, V3D_Environment.N1);
+
+    /**
+     * @param x The component value.
+     * @return x as a Math_BigRationalSqrt. A shared instance is returned for
+     * 0, 1 and -1 which are very common in axis aligned geometry.
+     */
+    private static Math_BigRationalSqrt toSqrt(BigRational x) {
+        if (x.isZero()) {
+            return SQRT_P0;
+        } else if (x.isInteger()) {
+            if (x.compareTo(BigRational.ONE) == 0) {
+                return SQRT_P1;
+            } else if (x.compareTo(V3D_Environment.N1) == 0) {
+                return SQRT_N1;
+            }
+        }
+        return new Math_BigRationalSqrt(x.pow(2), x);
+    }
+
     /**
      * The zero vector {@code <0,0,0>} where:
      * {@link #dx} = {@link #dy} = {@link #dz} = 0.
@@ -281,10 +347,8 @@ public class V3D_Vector implements Serializable {
      * @param dz Used to initialise {@link #dz}.
      */
     public V3D_Vector(BigRational dx, BigRational dy, BigRational dz) {
-        this(
-                new Math_BigRationalSqrt(dx.pow(2), dx),
-                new Math_BigRationalSqrt(dy.pow(2), dy),
-                new Math_BigRationalSqrt(dz.pow(2), dz));
+        this(toSqrt(dx), toSqrt(dy), toSqrt(dz));
+        q = new BigRational[]{dx, dy, dz};
     }
 
     /**
@@ -306,8 +370,8 @@ public class V3D_Vector implements Serializable {
      */
     public V3D_Vector(Math_BigRationalSqrt dx, BigRational dy, BigRational dz) {
         this.dx = dx;
-        this.dy = new Math_BigRationalSqrt(dy.pow(2), dy);
-        this.dz = new Math_BigRationalSqrt(dz.pow(2), dz);
+        this.dy = toSqrt(dy);
+        this.dz = toSqrt(dz);
     }
 
     /**
@@ -316,9 +380,9 @@ public class V3D_Vector implements Serializable {
      * @param dz Used to initialise {@link #dz}.
      */
     public V3D_Vector(BigRational dx, Math_BigRationalSqrt dy, BigRational dz) {
-        this.dx = new Math_BigRationalSqrt(dx.pow(2), dx);
+        this.dx = toSqrt(dx);
         this.dy = dy;
-        this.dz = new Math_BigRationalSqrt(dz.pow(2), dz);
+        this.dz = toSqrt(dz);
     }
 
     /**
@@ -328,8 +392,8 @@ public class V3D_Vector implements Serializable {
      */
     public V3D_Vector(BigRational dx, BigRational dy,
             Math_BigRationalSqrt dz) {
-        this.dx = new Math_BigRationalSqrt(dx.pow(2), dx);
-        this.dy = new Math_BigRationalSqrt(dy.pow(2), dy);
+        this.dx = toSqrt(dx);
+        this.dy = toSqrt(dy);
         this.dz = dz;
     }
 
@@ -342,7 +406,7 @@ public class V3D_Vector implements Serializable {
             BigRational dz) {
         this.dx = dx;
         this.dy = dy;
-        this.dz = new Math_BigRationalSqrt(dz.pow(2), dz);
+        this.dz = toSqrt(dz);
     }
 
     /**
@@ -353,7 +417,7 @@ public class V3D_Vector implements Serializable {
     public V3D_Vector(Math_BigRationalSqrt dx, BigRational dy,
             Math_BigRationalSqrt dz) {
         this.dx = dx;
-        this.dy = new Math_BigRationalSqrt(dy.pow(2), dy);
+        this.dy = toSqrt(dy);
         this.dz = dz;
     }
 
@@ -364,7 +428,7 @@ public class V3D_Vector implements Serializable {
      */
     public V3D_Vector(BigRational dx, Math_BigRationalSqrt dy,
             Math_BigRationalSqrt dz) {
-        this.dx = new Math_BigRationalSqrt(dx.pow(2), dx);
+        this.dx = toSqrt(dx);
         this.dy = dy;
         this.dz = dz;
     }
@@ -375,9 +439,9 @@ public class V3D_Vector implements Serializable {
      * @param dz What {@link #dz} is set to.
      */
     public V3D_Vector(long dx, long dy, long dz) {
-        this(BigRational.valueOf(dx),
-                BigRational.valueOf(dy),
-                BigRational.valueOf(dz));
+        this(V3D_Environment.valueOf(dx),
+                V3D_Environment.valueOf(dy),
+                V3D_Environment.valueOf(dz));
     }
 
     /**
@@ -641,6 +705,75 @@ public class V3D_Vector implements Serializable {
         return dzbr;
     }
 
+    /**
+     * @return The components if they are all rational, otherwise
+     * {@link #IRRATIONAL} which has length 0.
+     */
+    BigRational[] getRational() {
+        BigRational[] r = q;
+        if (r == null) {
+            BigRational x = dx.getSqrt();
+            BigRational y = dy.getSqrt();
+            BigRational z = dz.getSqrt();
+            if (x == null || y == null || z == null) {
+                r = IRRATIONAL;
+            } else {
+                r = new BigRational[]{x, y, z};
+            }
+            q = r;
+        }
+        return r;
+    }
+
+    /**
+     * Calculations with rational vectors are done with BigRational
+     * arithmetic rather than with Math_BigRationalSqrt arithmetic, and are
+     * exact regardless of any Order of Magnitude given.
+     *
+     * @return {@code true} iff all the components are rational.
+     */
+    public boolean isRational() {
+        return getRational() != IRRATIONAL;
+    }
+
+    /**
+     * For calculations with rational vectors where results are usually only
+     * needed as signs or comparisons. See {@link V3D_Lazy}.
+     *
+     * @return This with {@link V3D_Lazy} components or {@code null} if any
+     * component is irrational.
+     */
+    public V3D_LazyVector getLazy() {
+        if (lazy == null) {
+            BigRational[] r = getRational();
+            if (r == IRRATIONAL) {
+                return null;
+            }
+            lazy = new V3D_LazyVector(V3D_Lazy.valueOf(r[0]),
+                    V3D_Lazy.valueOf(r[1]), V3D_Lazy.valueOf(r[2]));
+        }
+        return lazy;
+    }
+
+    /**
+     * For exact calculations with rational vectors without greatest common
+     * divisor calculations. See {@link V3D_HVector}.
+     *
+     * @return This in homogeneous integer coordinates or {@code null} if any
+     * component is irrational.
+     */
+    public V3D_HVector getH() {
+        V3D_HVector r = h;
+        if (r == null) {
+            r = V3D_HVector.valueOf(this);
+            if (r == null) {
+                r = V3D_HVector.NONE;
+            }
+            h = r;
+        }
+        return r == V3D_HVector.NONE ? null : r;
+    }
+
     /**
      * @return {@link #dx}
      */
@@ -679,6 +812,11 @@ public class V3D_Vector implements Serializable {
      * @return Scaled vector.
      */
     public V3D_Vector multiply(BigRational s, int oom, RoundingMode rm) {
+        BigRational[] r = getRational();
+        if (r != IRRATIONAL) {
+            return new V3D_Vector(r[0].multiply(s), r[1].multiply(s),
+                    r[2].multiply(s));
+        }
         return new V3D_Vector(
                 getDX(oom, rm).multiply(s),
                 getDY(oom, rm).multiply(s),
@@ -692,6 +830,11 @@ public class V3D_Vector implements Serializable {
      * @return Scaled vector.
      */
     public V3D_Vector divide(BigRational s, int oom, RoundingMode rm) {
+        BigRational[] r = getRational();
+        if (r != IRRATIONAL) {
+            return new V3D_Vector(r[0].divide(s), r[1].divide(s),
+                    r[2].divide(s));
+        }
         return new V3D_Vector(
                 getDX(oom, rm).divide(s),
                 getDY(oom, rm).divide(s),
@@ -707,6 +850,12 @@ public class V3D_Vector implements Serializable {
      * @return A new vector which is {@code this} add {@code v}.
      */
     public V3D_Vector add(V3D_Vector v, int oom, RoundingMode rm) {
+        BigRational[] r = getRational();
+        BigRational[] vr = v.getRational();
+        if (r != IRRATIONAL && vr != IRRATIONAL) {
+            return new V3D_Vector(r[0].add(vr[0]), r[1].add(vr[1]),
+                    r[2].add(vr[2]));
+        }
         return new V3D_Vector(
                 getDX(oom, rm).add(v.getDX(oom, rm)),
                 getDY(oom, rm).add(v.getDY(oom, rm)),
@@ -720,6 +869,12 @@ public class V3D_Vector implements Serializable {
      * @return A new vector which is {@code this} minus {@code v}.
      */
     public V3D_Vector subtract(V3D_Vector v, int oom, RoundingMode rm) {
+        BigRational[] r = getRational();
+        BigRational[] vr = v.getRational();
+        if (r != IRRATIONAL && vr != IRRATIONAL) {
+            return new V3D_Vector(r[0].subtract(vr[0]), r[1].subtract(vr[1]),
+                    r[2].subtract(vr[2]));
+        }
         return new V3D_Vector(
                 getDX(oom, rm).subtract(v.getDX(oom, rm)),
                 getDY(oom, rm).subtract(v.getDY(oom, rm)),
@@ -744,6 +899,12 @@ public class V3D_Vector implements Serializable {
      */
     public BigRational getDotProduct(V3D_Vector v, int oom,
             RoundingMode rm) {
+        BigRational[] r = getRational();
+        BigRational[] vr = v.getRational();
+        if (r != IRRATIONAL && vr != IRRATIONAL) {
+            return r[0].multiply(vr[0]).add(r[1].multiply(vr[1]))
+                    .add(r[2].multiply(vr[2]));
+        }
         return (v.getDX(oom, rm).multiply(getDX(oom, rm)))
                 .add(v.getDY(oom, rm).multiply(getDY(oom, rm)))
                 .add(v.getDZ(oom, rm).multiply(getDZ(oom, rm)));
@@ -769,7 +930,11 @@ public class V3D_Vector implements Serializable {
      * @return The magnitude of the vector squared.
      */
     public BigRational getMagnitudeSquared() {
-        return getMagnitude().getX();
+        if (m != null) {
+            return m.getX();
+        }
+        // The components store their squares, so no square root is needed.
+        return dx.getX().add(dy.getX()).add(dz.getX());
     }
 
     /**
@@ -1057,6 +1222,36 @@ public class V3D_Vector implements Serializable {
         return new V3D_Vector(pP.x, pP.y, pP.z);
     }
 
+    /**
+     * Irrational components are first approximated using
+     * {@link V3D_RoundingPolicy#getOOM()}.
+     *
+     * @param policy The rounding policy.
+     * @return {@code #this} rounded using policy, or {@code #this} if no
+     * component needs rounding.
+     */
+    public V3D_Vector round(V3D_RoundingPolicy policy) {
+        if (policy.isExact()) {
+            return this;
+        }
+        BigRational[] r = getRational();
+        if (r == IRRATIONAL) {
+            int oom = policy.getOOM();
+            r = new BigRational[]{getDX(oom, policy.rm),
+                getDY(oom, policy.rm), getDZ(oom, policy.rm)};
+        } else {
+            BigRational x = policy.round(r[0]);
+            BigRational y = policy.round(r[1]);
+            BigRational z = policy.round(r[2]);
+            if (x == r[0] && y == r[1] && z == r[2]) {
+                return this;
+            }
+            return new V3D_Vector(x, y, z);
+        }
+        return new V3D_Vector(policy.round(r[0]), policy.round(r[1]),
+                policy.round(r[2]));
+    }
+
     /**
      * Calculate and return the
      * <A href="https://en.wikipedia.org/wiki/Cross_product">cross product</A>.
@@ -1069,6 +1264,14 @@ public class V3D_Vector implements Serializable {
      * @return V3D_Vector
      */
     public V3D_Vector getCrossProduct(V3D_Vector v, int oom, RoundingMode rm) {
+        BigRational[] r = getRational();
+        BigRational[] vr = v.getRational();
+        if (r != IRRATIONAL && vr != IRRATIONAL) {
+            return new V3D_Vector(
+                    r[1].multiply(vr[2]).subtract(r[2].multiply(vr[1])),
+                    r[2].multiply(vr[0]).subtract(r[0].multiply(vr[2])),
+                    r[0].multiply(vr[1]).subtract(r[1].multiply(vr[0])));
+        }
         return new V3D_Vector(
                 dy.multiply(v.dz, oom, rm).getSqrt(oom, rm)
                         .subtract(dz.multiply(v.dy, oom, rm).getSqrt(oom, rm)),
@@ -1080,13 +1283,19 @@ public class V3D_Vector implements Serializable {
 
     /**
      * Scales by {@link #m} to give a unit vector with length 1. Six further
-     * orders of magnitude are used to produce the result.
+     * orders of magnitude are used to produce the result. For rational
+     * vectors parallel to an axis a shared instance such as {@link #I} is
+     * returned.
      *
      * @param oom The Order of Magnitude for the precision.
      * @param rm The RoundingMode for any rounding.
      * @return this scaled by {@link #m}.
      */
     public V3D_Vector getUnitVector(int oom, RoundingMode rm) {
+        V3D_Vector u = getAxisUnitVector();
+        if (u != null) {
+            return u;
+        }
         BigRational d = getMagnitude(oom, rm).getSqrt(oom, rm);
 //        return new V3D_Vector(
 //                dx.getSqrt(oom).divide(d),
@@ -1105,6 +1314,29 @@ public class V3D_Vector implements Serializable {
                 getDZ(oom, rm).divide(d), Math_BigRationalSqrt.ONE);
     }
 
+    /**
+     * @return One of the shared unit vectors {@link #I}, {@link #J},
+     * {@link #K}, {@link #NI}, {@link #NJ} or {@link #NK} if this is rational
+     * and parallel to an axis, otherwise {@code null}.
+     */
+    private V3D_Vector getAxisUnitVector() {
+        BigRational[] r = getRational();
+        if (r == IRRATIONAL) {
+            return null;
+        }
+        int x = r[0].signum();
+        int y = r[1].signum();
+        int z = r[2].signum();
+        if (y == 0 && z == 0) {
+            return x > 0 ? I : x < 0 ? NI : null;
+        } else if (x == 0 && z == 0) {
+            return y > 0 ? J : NJ;
+        } else if (x == 0 && y == 0) {
+            return z > 0 ? K : NK;
+        }
+        return null;
+    }
+
     /**
      * The unit vector direction is given as being towards the point.
      *
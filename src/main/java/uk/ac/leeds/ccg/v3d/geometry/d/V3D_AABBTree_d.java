@@ -0,0 +1,882 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.geometry.d;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import uk.ac.leeds.ccg.v3d.core.d.V3D_Environment_d;
+
+/**
+ * A dynamic Axis Aligned Bounding Box tree for moving geometry. Each leaf
+ * (proxy) stores a fattened box that contains the box of the object with a
+ * margin, so small movements of the object do not change the tree. When an
+ * object moves outside of its fattened box, only its leaf is removed and
+ * reinserted and the boxes of the ancestors of that leaf are refitted. The
+ * tree is kept balanced using rotations.
+ *
+ * The nodes are stored in primitive arrays indexed by node id and the ids of
+ * leaves are used as proxy ids. Proxies that are inserted or moved are
+ * recorded so that {@link #getPairs(PairConsumer)} only has to query for
+ * those to enumerate the new potentially overlapping pairs.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ * @param <T> The type of object stored with each proxy.
+ */
+public class V3D_AABBTree_d<T> {
+
+    /**
+     * For indicating no node.
+     */
+    public static final int NULL = -1;
+
+    /**
+     * The default margin.
+     */
+    public static final double DEFAULT_MARGIN = 0.1d;
+
+    /**
+     * For consuming pairs of proxy ids.
+     */
+    @FunctionalInterface
+    public interface PairConsumer {
+
+        /**
+         * @param a The smaller proxy id.
+         * @param b The larger proxy id.
+         */
+        void accept(int a, int b);
+    }
+
+    /**
+     * For processing the proxies hit by a ray.
+     */
+    @FunctionalInterface
+    public interface RayConsumer {
+
+        /**
+         * @param proxy The proxy id of a leaf whose fattened box is hit.
+         * @param tMax The current maximum ray parameter.
+         * @return The new maximum ray parameter. This is typically the ray
+         * parameter of the nearest hit so far, so that nodes beyond it are
+         * not visited.
+         */
+        double accept(int proxy, double tMax);
+    }
+
+    /**
+     * The environment used for creating boxes.
+     */
+    public final V3D_Environment_d env;
+
+    /**
+     * The margin by which leaf boxes are fattened.
+     */
+    public final double margin;
+
+    /**
+     * The multiplier of displacement used to extend the fattened boxes of
+     * moving objects in the direction of movement.
+     */
+    public final double displacementMultiplier;
+
+    private int root;
+    private int capacity;
+    private int count;
+    private int freeList;
+    private double[] xMin;
+    private double[] yMin;
+    private double[] zMin;
+    private double[] xMax;
+    private double[] yMax;
+    private double[] zMax;
+    private int[] parent;
+    private int[] child1;
+    private int[] child2;
+    private int[] height;
+    private Object[] data;
+    private boolean[] moved;
+    private int[] moveBuffer;
+    private int moveCount;
+
+    /**
+     * Create a new instance with {@link #DEFAULT_MARGIN}.
+     *
+     * @param env What {@link #env} is set to.
+     */
+    public V3D_AABBTree_d(V3D_Environment_d env) {
+        this(env, DEFAULT_MARGIN, 2d);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param env What {@link #env} is set to.
+     * @param margin What {@link #margin} is set to.
+     * @param displacementMultiplier What {@link #displacementMultiplier} is
+     * set to.
+     */
+    public V3D_AABBTree_d(V3D_Environment_d env, double margin,
+            double displacementMultiplier) {
+        this.env = env;
+        this.margin = margin;
+        this.displacementMultiplier = displacementMultiplier;
+        root = NULL;
+        capacity = 16;
+        xMin = new double[capacity];
+        yMin = new double[capacity];
+        zMin = new double[capacity];
+        xMax = new double[capacity];
+        yMax = new double[capacity];
+        zMax = new double[capacity];
+        parent = new int[capacity];
+        child1 = new int[capacity];
+        child2 = new int[capacity];
+        height = new int[capacity];
+        data = new Object[capacity];
+        moved = new boolean[capacity];
+        moveBuffer = new int[16];
+        initFreeList(0);
+    }
+
+    /**
+     * Links the nodes from index i to {@link #capacity} into the free list.
+     *
+     * @param i The first node to add to the free list.
+     */
+    private void initFreeList(int i) {
+        for (int j = i; j < capacity - 1; j++) {
+            parent[j] = j + 1;
+            height[j] = -1;
+        }
+        parent[capacity - 1] = NULL;
+        height[capacity - 1] = -1;
+        freeList = i;
+    }
+
+    /**
+     * @return A node from the free list, growing the arrays if needed.
+     */
+    private int allocateNode() {
+        if (freeList == NULL) {
+            int old = capacity;
+            capacity *= 2;
+            xMin = Arrays.copyOf(xMin, capacity);
+            yMin = Arrays.copyOf(yMin, capacity);
+            zMin = Arrays.copyOf(zMin, capacity);
+            xMax = Arrays.copyOf(xMax, capacity);
+            yMax = Arrays.copyOf(yMax, capacity);
+            zMax = Arrays.copyOf(zMax, capacity);
+            parent = Arrays.copyOf(parent, capacity);
+            child1 = Arrays.copyOf(child1, capacity);
+            child2 = Arrays.copyOf(child2, capacity);
+            height = Arrays.copyOf(height, capacity);
+            data = Arrays.copyOf(data, capacity);
+            moved = Arrays.copyOf(moved, capacity);
+            initFreeList(old);
+        }
+        int id = freeList;
+        freeList = parent[id];
+        parent[id] = NULL;
+        child1[id] = NULL;
+        child2[id] = NULL;
+        height[id] = 0;
+        data[id] = null;
+        moved[id] = false;
+        count++;
+        return id;
+    }
+
+    /**
+     * @param id The node to return to the free list.
+     */
+    private void freeNode(int id) {
+        parent[id] = freeList;
+        height[id] = -1;
+        data[id] = null;
+        moved[id] = false;
+        freeList = id;
+        count--;
+    }
+
+    /**
+     * @param id The node id.
+     * @return {@code true} if id is a leaf.
+     */
+    private boolean isLeaf(int id) {
+        return child1[id] == NULL;
+    }
+
+    /**
+     * @return The number of proxies.
+     */
+    public int size() {
+        return (count + 1) / 2;
+    }
+
+    /**
+     * @return The height of the tree or -1 if it is empty.
+     */
+    public int getHeight() {
+        return root == NULL ? -1 : height[root];
+    }
+
+    /**
+     * Insert a proxy for an object with the box given.
+     *
+     * @param box The box of the object.
+     * @param object The object.
+     * @return The proxy id.
+     */
+    public int insert(V3D_AABB_d box, T object) {
+        return insert(box.getXMin(), box.getYMin(), box.getZMin(),
+                box.getXMax(), box.getYMax(), box.getZMax(), object);
+    }
+
+    /**
+     * Insert a proxy for an object with the box given.
+     *
+     * @param x0 The minimum x of the box.
+     * @param y0 The minimum y of the box.
+     * @param z0 The minimum z of the box.
+     * @param x1 The maximum x of the box.
+     * @param y1 The maximum y of the box.
+     * @param z1 The maximum z of the box.
+     * @param object The object.
+     * @return The proxy id.
+     */
+    public int insert(double x0, double y0, double z0, double x1, double y1,
+            double z1, T object) {
+        int id = allocateNode();
+        xMin[id] = x0 - margin;
+        yMin[id] = y0 - margin;
+        zMin[id] = z0 - margin;
+        xMax[id] = x1 + margin;
+        yMax[id] = y1 + margin;
+        zMax[id] = z1 + margin;
+        data[id] = object;
+        insertLeaf(id);
+        bufferMove(id);
+        return id;
+    }
+
+    /**
+     * Remove a proxy.
+     *
+     * @param proxy The proxy id.
+     */
+    public void remove(int proxy) {
+        if (moved[proxy]) {
+            for (int i = 0; i < moveCount; i++) {
+                if (moveBuffer[i] == proxy) {
+                    moveBuffer[i] = NULL;
+                    break;
+                }
+            }
+        }
+        removeLeaf(proxy);
+        freeNode(proxy);
+    }
+
+    /**
+     * Update the box of a proxy. If the new box is still within the fattened
+     * box of the proxy nothing is done, otherwise the leaf is reinserted with
+     * a new fattened box extended in the direction of the displacement.
+     *
+     * @param proxy The proxy id.
+     * @param box The new box of the object.
+     * @param displacement The displacement of the object since the last
+     * update (may be {@code null}).
+     * @return {@code true} if the leaf was reinserted.
+     */
+    public boolean move(int proxy, V3D_AABB_d box,
+            V3D_Vector_d displacement) {
+        double dx = 0d;
+        double dy = 0d;
+        double dz = 0d;
+        if (displacement != null) {
+            dx = displacement.dx;
+            dy = displacement.dy;
+            dz = displacement.dz;
+        }
+        return move(proxy, box.getXMin(), box.getYMin(), box.getZMin(),
+                box.getXMax(), box.getYMax(), box.getZMax(), dx, dy, dz);
+    }
+
+    /**
+     * Update the box of a proxy. If the new box is still within the fattened
+     * box of the proxy nothing is done, otherwise the leaf is reinserted with
+     * a new fattened box extended in the direction of the displacement.
+     *
+     * @param proxy The proxy id.
+     * @param x0 The minimum x of the box.
+     * @param y0 The minimum y of the box.
+     * @param z0 The minimum z of the box.
+     * @param x1 The maximum x of the box.
+     * @param y1 The maximum y of the box.
+     * @param z1 The maximum z of the box.
+     * @param dx The x component of the displacement.
+     * @param dy The y component of the displacement.
+     * @param dz The z component of the displacement.
+     * @return {@code true} if the leaf was reinserted.
+     */
+    public boolean move(int proxy, double x0, double y0, double z0,
+            double x1, double y1, double z1, double dx, double dy, double dz) {
+        if (xMin[proxy] <= x0 && yMin[proxy] <= y0 && zMin[proxy] <= z0
+                && x1 <= xMax[proxy] && y1 <= yMax[proxy]
+                && z1 <= zMax[proxy]) {
+            return false;
+        }
+        removeLeaf(proxy);
+        double ex = displacementMultiplier * dx;
+        double ey = displacementMultiplier * dy;
+        double ez = displacementMultiplier * dz;
+        xMin[proxy] = x0 - margin + Math.min(ex, 0d);
+        yMin[proxy] = y0 - margin + Math.min(ey, 0d);
+        zMin[proxy] = z0 - margin + Math.min(ez, 0d);
+        xMax[proxy] = x1 + margin + Math.max(ex, 0d);
+        yMax[proxy] = y1 + margin + Math.max(ey, 0d);
+        zMax[proxy] = z1 + margin + Math.max(ez, 0d);
+        insertLeaf(proxy);
+        bufferMove(proxy);
+        return true;
+    }
+
+    /**
+     * @param proxy The proxy id.
+     * @return The object stored with the proxy.
+     */
+    @SuppressWarnings("unchecked")
+    public T getData(int proxy) {
+        return (T) data[proxy];
+    }
+
+    /**
+     * @param proxy The proxy id.
+     * @return The fattened box of the proxy.
+     */
+    public V3D_AABB_d getFatAABB(int proxy) {
+        return new V3D_AABB_d(env, xMin[proxy], xMax[proxy], yMin[proxy],
+                yMax[proxy], zMin[proxy], zMax[proxy]);
+    }
+
+    /**
+     * @param proxy The proxy id.
+     */
+    private void bufferMove(int proxy) {
+        if (moved[proxy]) {
+            return;
+        }
+        moved[proxy] = true;
+        if (moveCount == moveBuffer.length) {
+            moveBuffer = Arrays.copyOf(moveBuffer, moveCount * 2);
+        }
+        moveBuffer[moveCount++] = proxy;
+    }
+
+    /**
+     * Calls c for each proxy whose fattened box intersects the given box
+     * until c returns {@code false}.
+     *
+     * @param box The box.
+     * @param c The callback given each proxy id.
+     */
+    public void query(V3D_AABB_d box, IntPredicate c) {
+        query(box.getXMin(), box.getYMin(), box.getZMin(), box.getXMax(),
+                box.getYMax(), box.getZMax(), c);
+    }
+
+    /**
+     * Calls c for each proxy whose fattened box intersects the given box
+     * until c returns {@code false}.
+     *
+     * @param x0 The minimum x of the box.
+     * @param y0 The minimum y of the box.
+     * @param z0 The minimum z of the box.
+     * @param x1 The maximum x of the box.
+     * @param y1 The maximum y of the box.
+     * @param z1 The maximum z of the box.
+     * @param c The callback given each proxy id.
+     */
+    public void query(double x0, double y0, double z0, double x1, double y1,
+            double z1, IntPredicate c) {
+        if (root == NULL) {
+            return;
+        }
+        int[] s = new int[Math.max(16, getHeight() * 2 + 2)];
+        int top = 0;
+        s[top++] = root;
+        while (top > 0) {
+            int id = s[--top];
+            if (xMin[id] > x1 || xMax[id] < x0
+                    || yMin[id] > y1 || yMax[id] < y0
+                    || zMin[id] > z1 || zMax[id] < z0) {
+                continue;
+            }
+            if (isLeaf(id)) {
+                if (!c.test(id)) {
+                    return;
+                }
+            } else {
+                if (top + 2 > s.length) {
+                    s = Arrays.copyOf(s, s.length * 2);
+                }
+                s[top++] = child1[id];
+                s[top++] = child2[id];
+            }
+        }
+    }
+
+    /**
+     * Calls c for each proxy whose fattened box is not culled by the frustum
+     * until c returns {@code false}. Each node is only tested against the
+     * planes that its parent box is not entirely inside of, so the proxies
+     * in subtrees that are entirely inside the frustum are given to c
+     * without any further plane tests.
+     *
+     * @param f The frustum.
+     * @param c The callback given each proxy id.
+     */
+    public void query(V3D_Frustum_d f, IntPredicate c) {
+        if (root == NULL) {
+            return;
+        }
+        int[] s = new int[Math.max(16, getHeight() * 2 + 2)];
+        int[] masks = new int[s.length];
+        int top = 0;
+        s[top] = root;
+        masks[top++] = f.getMask();
+        while (top > 0) {
+            int id = s[--top];
+            int m = masks[top];
+            if (m != V3D_Frustum_d.INSIDE) {
+                m = f.cull(xMin[id], yMin[id], zMin[id], xMax[id], yMax[id],
+                        zMax[id], m);
+                if (m == V3D_Frustum_d.OUTSIDE) {
+                    continue;
+                }
+            }
+            if (isLeaf(id)) {
+                if (!c.test(id)) {
+                    return;
+                }
+            } else {
+                if (top + 2 > s.length) {
+                    s = Arrays.copyOf(s, s.length * 2);
+                    masks = Arrays.copyOf(masks, s.length);
+                }
+                s[top] = child1[id];
+                masks[top++] = m;
+                s[top] = child2[id];
+                masks[top++] = m;
+            }
+        }
+    }
+
+    /**
+     * Calls c for each proxy whose fattened box is hit by the ray from
+     * (ox, oy, oz) in direction (dx, dy, dz) with a ray parameter in the
+     * range [0, tMax]. The nearer child of each node is visited first and
+     * the maximum ray parameter returned from c is used to prune the rest
+     * of the traversal.
+     *
+     * @param ox The x coordinate of the ray start.
+     * @param oy The y coordinate of the ray start.
+     * @param oz The z coordinate of the ray start.
+     * @param dx The x component of the ray direction.
+     * @param dy The y component of the ray direction.
+     * @param dz The z component of the ray direction.
+     * @param tMax The maximum ray parameter.
+     * @param stack A work array. If this has a length less than
+     * {@link #getHeight()} + 2 it may be grown (in a copy).
+     * @param c The callback.
+     * @return The maximum ray parameter after the traversal.
+     */
+    public double raycast(double ox, double oy, double oz, double dx,
+            double dy, double dz, double tMax, int[] stack, RayConsumer c) {
+        if (root == NULL) {
+            return tMax;
+        }
+        double ix = 1d / dx;
+        double iy = 1d / dy;
+        double iz = 1d / dz;
+        int[] s = stack;
+        int top = 0;
+        s[top++] = root;
+        while (top > 0) {
+            int id = s[--top];
+            if (getEntry(id, ox, oy, oz, ix, iy, iz, tMax)
+                    == Double.POSITIVE_INFINITY) {
+                continue;
+            }
+            if (isLeaf(id)) {
+                tMax = c.accept(id, tMax);
+            } else {
+                if (top + 2 > s.length) {
+                    s = Arrays.copyOf(s, s.length * 2);
+                }
+                int c1 = child1[id];
+                int c2 = child2[id];
+                double t1 = getEntry(c1, ox, oy, oz, ix, iy, iz, tMax);
+                double t2 = getEntry(c2, ox, oy, oz, ix, iy, iz, tMax);
+                // Push the further child first so the nearer is visited first.
+                if (t1 <= t2) {
+                    if (t2 != Double.POSITIVE_INFINITY) {
+                        s[top++] = c2;
+                    }
+                    if (t1 != Double.POSITIVE_INFINITY) {
+                        s[top++] = c1;
+                    }
+                } else {
+                    if (t1 != Double.POSITIVE_INFINITY) {
+                        s[top++] = c1;
+                    }
+                    s[top++] = c2;
+                }
+            }
+        }
+        return tMax;
+    }
+
+    /**
+     * Slab test of a ray against the box of a node. If the ray is parallel
+     * to an axis, the slab for that axis contains every ray parameter if the
+     * ray start is within it and none otherwise. This avoids the
+     * {@code 0 * Infinity = NaN} that results when the ray start is on a face
+     * of the box.
+     *
+     * @return The ray parameter at which the ray enters the box or
+     * {@link Double#POSITIVE_INFINITY} if it does not hit the box with a ray
+     * parameter in the range [0, tMax].
+     */
+    private double getEntry(int id, double ox, double oy, double oz,
+            double ix, double iy, double iz, double tMax) {
+        double t0 = 0d;
+        double t1 = tMax;
+        if (Double.isInfinite(ix)) {
+            if (ox < xMin[id] || ox > xMax[id]) {
+                return Double.POSITIVE_INFINITY;
+            }
+        } else {
+            double ta = (xMin[id] - ox) * ix;
+            double tb = (xMax[id] - ox) * ix;
+            t0 = Math.max(t0, Math.min(ta, tb));
+            t1 = Math.min(t1, Math.max(ta, tb));
+        }
+        if (Double.isInfinite(iy)) {
+            if (oy < yMin[id] || oy > yMax[id]) {
+                return Double.POSITIVE_INFINITY;
+            }
+        } else {
+            double ta = (yMin[id] - oy) * iy;
+            double tb = (yMax[id] - oy) * iy;
+            t0 = Math.max(t0, Math.min(ta, tb));
+            t1 = Math.min(t1, Math.max(ta, tb));
+        }
+        if (Double.isInfinite(iz)) {
+            if (oz < zMin[id] || oz > zMax[id]) {
+                return Double.POSITIVE_INFINITY;
+            }
+        } else {
+            double ta = (zMin[id] - oz) * iz;
+            double tb = (zMax[id] - oz) * iz;
+            t0 = Math.max(t0, Math.min(ta, tb));
+            t1 = Math.min(t1, Math.max(ta, tb));
+        }
+        return t0 <= t1 ? t0 : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Enumerates the pairs of proxies with intersecting fattened boxes where
+     * at least one of the proxies has been inserted or moved since the last
+     * call. Each pair is given once with the smaller proxy id first. The
+     * record of moved proxies is then cleared.
+     *
+     * @param c The pair consumer.
+     */
+    public void getPairs(PairConsumer c) {
+        for (int i = 0; i < moveCount; i++) {
+            int a = moveBuffer[i];
+            if (a == NULL) {
+                continue;
+            }
+            query(xMin[a], yMin[a], zMin[a], xMax[a], yMax[a], zMax[a], b -> {
+                if (b != a && !(moved[b] && b < a)) {
+                    c.accept(Math.min(a, b), Math.max(a, b));
+                }
+                return true;
+            });
+        }
+        clearMoved();
+    }
+
+    /**
+     * Clears the record of proxies inserted or moved since the last call to
+     * {@link #getPairs(PairConsumer)} without enumerating any pairs. Use this
+     * after bulk inserting proxies whose pairs are not wanted.
+     */
+    public void clearMoved() {
+        for (int i = 0; i < moveCount; i++) {
+            if (moveBuffer[i] != NULL) {
+                moved[moveBuffer[i]] = false;
+            }
+        }
+        moveCount = 0;
+    }
+
+    /**
+     * Enumerates all pairs of proxies with intersecting fattened boxes. Each
+     * pair is given once with the smaller proxy id first.
+     *
+     * @param c The pair consumer.
+     */
+    public void getAllPairs(PairConsumer c) {
+        for (int a = 0; a < capacity; a++) {
+            if (height[a] == 0) {
+                int pa = a;
+                query(xMin[a], yMin[a], zMin[a], xMax[a], yMax[a], zMax[a],
+                        b -> {
+                            if (b > pa) {
+                                c.accept(pa, b);
+                            }
+                            return true;
+                        });
+            }
+        }
+    }
+
+    /**
+     * Sets the box of node id to the union of the boxes of nodes a and b.
+     */
+    private void setUnion(int id, int a, int b) {
+        xMin[id] = Math.min(xMin[a], xMin[b]);
+        yMin[id] = Math.min(yMin[a], yMin[b]);
+        zMin[id] = Math.min(zMin[a], zMin[b]);
+        xMax[id] = Math.max(xMax[a], xMax[b]);
+        yMax[id] = Math.max(yMax[a], yMax[b]);
+        zMax[id] = Math.max(zMax[a], zMax[b]);
+    }
+
+    /**
+     * @return Half the surface area of the box with the extents given.
+     */
+    private static double area(double ex, double ey, double ez) {
+        return ex * ey + ey * ez + ez * ex;
+    }
+
+    /**
+     * @return Half the surface area of the box of node id.
+     */
+    private double area(int id) {
+        return area(xMax[id] - xMin[id], yMax[id] - yMin[id],
+                zMax[id] - zMin[id]);
+    }
+
+    /**
+     * @return Half the surface area of the union of the boxes of nodes a and
+     * b.
+     */
+    private double unionArea(int a, int b) {
+        return area(Math.max(xMax[a], xMax[b]) - Math.min(xMin[a], xMin[b]),
+                Math.max(yMax[a], yMax[b]) - Math.min(yMin[a], yMin[b]),
+                Math.max(zMax[a], zMax[b]) - Math.min(zMin[a], zMin[b]));
+    }
+
+    /**
+     * Inserts a leaf choosing the sibling using the surface area heuristic.
+     *
+     * @param leaf The leaf.
+     */
+    private void insertLeaf(int leaf) {
+        if (root == NULL) {
+            root = leaf;
+            parent[root] = NULL;
+            return;
+        }
+        int id = root;
+        while (!isLeaf(id)) {
+            int c1 = child1[id];
+            int c2 = child2[id];
+            double a = area(id);
+            double ca = unionArea(id, leaf);
+            double cost = 2d * ca;
+            double inheritance = 2d * (ca - a);
+            double cost1 = unionArea(leaf, c1) + inheritance;
+            if (!isLeaf(c1)) {
+                cost1 -= area(c1);
+            }
+            double cost2 = unionArea(leaf, c2) + inheritance;
+            if (!isLeaf(c2)) {
+                cost2 -= area(c2);
+            }
+            if (cost < cost1 && cost < cost2) {
+                break;
+            }
+            id = cost1 < cost2 ? c1 : c2;
+        }
+        int sibling = id;
+        int oldParent = parent[sibling];
+        int newParent = allocateNode();
+        parent[newParent] = oldParent;
+        setUnion(newParent, leaf, sibling);
+        height[newParent] = height[sibling] + 1;
+        if (oldParent != NULL) {
+            if (child1[oldParent] == sibling) {
+                child1[oldParent] = newParent;
+            } else {
+                child2[oldParent] = newParent;
+            }
+        } else {
+            root = newParent;
+        }
+        child1[newParent] = sibling;
+        child2[newParent] = leaf;
+        parent[sibling] = newParent;
+        parent[leaf] = newParent;
+        refit(parent[leaf]);
+    }
+
+    /**
+     * Removes a leaf.
+     *
+     * @param leaf The leaf.
+     */
+    private void removeLeaf(int leaf) {
+        if (leaf == root) {
+            root = NULL;
+            return;
+        }
+        int p = parent[leaf];
+        int gp = parent[p];
+        int sibling = child1[p] == leaf ? child2[p] : child1[p];
+        if (gp != NULL) {
+            if (child1[gp] == p) {
+                child1[gp] = sibling;
+            } else {
+                child2[gp] = sibling;
+            }
+            parent[sibling] = gp;
+            freeNode(p);
+            refit(gp);
+        } else {
+            root = sibling;
+            parent[sibling] = NULL;
+            freeNode(p);
+        }
+        parent[leaf] = NULL;
+    }
+
+    /**
+     * Walks up from id to the root rebalancing and refitting the boxes and
+     * heights.
+     *
+     * @param id The node to start from.
+     */
+    private void refit(int id) {
+        while (id != NULL) {
+            id = balance(id);
+            int c1 = child1[id];
+            int c2 = child2[id];
+            height[id] = 1 + Math.max(height[c1], height[c2]);
+            setUnion(id, c1, c2);
+            id = parent[id];
+        }
+    }
+
+    /**
+     * Performs a left or right rotation if node a is imbalanced.
+     *
+     * @param a The node.
+     * @return The new root of the subtree.
+     */
+    private int balance(int a) {
+        if (isLeaf(a) || height[a] < 2) {
+            return a;
+        }
+        int b = child1[a];
+        int c = child2[a];
+        int bal = height[c] - height[b];
+        if (bal > 1) {
+            // Rotate c up
+            int f = child1[c];
+            int g = child2[c];
+            child1[c] = a;
+            parent[c] = parent[a];
+            parent[a] = c;
+            replaceChild(parent[c], a, c);
+            if (height[f] > height[g]) {
+                child2[c] = f;
+                child2[a] = g;
+                parent[g] = a;
+                setUnion(a, b, g);
+                setUnion(c, a, f);
+                height[a] = 1 + Math.max(height[b], height[g]);
+                height[c] = 1 + Math.max(height[a], height[f]);
+            } else {
+                child2[c] = g;
+                child2[a] = f;
+                parent[f] = a;
+                setUnion(a, b, f);
+                setUnion(c, a, g);
+                height[a] = 1 + Math.max(height[b], height[f]);
+                height[c] = 1 + Math.max(height[a], height[g]);
+            }
+            return c;
+        }
+        if (bal < -1) {
+            // Rotate b up
+            int d = child1[b];
+            int e = child2[b];
+            child1[b] = a;
+            parent[b] = parent[a];
+            parent[a] = b;
+            replaceChild(parent[b], a, b);
+            if (height[d] > height[e]) {
+                child2[b] = d;
+                child1[a] = e;
+                parent[e] = a;
+                setUnion(a, c, e);
+                setUnion(b, a, d);
+                height[a] = 1 + Math.max(height[c], height[e]);
+                height[b] = 1 + Math.max(height[a], height[d]);
+            } else {
+                child2[b] = e;
+                child1[a] = d;
+                parent[d] = a;
+                setUnion(a, c, d);
+                setUnion(b, a, e);
+                height[a] = 1 + Math.max(height[c], height[d]);
+                height[b] = 1 + Math.max(height[a], height[e]);
+            }
+            return b;
+        }
+        return a;
+    }
+
+    /**
+     * In node p replace child o with n, or if p is {@link #NULL} make n the
+     * root.
+     */
+    private void replaceChild(int p, int o, int n) {
+        if (p == NULL) {
+            root = n;
+        } else if (child1[p] == o) {
+            child1[p] = n;
+        } else {
+            child2[p] = n;
+        }
+    }
+}
@@ -18,6 +18,8 @@ package uk.ac.leeds.ccg.v3d.geometry.d;
 import java.io.Serializable;
 import java.math.RoundingMode;
 import java.util.ArrayList;
+import uk.ac.leeds.ccg.v3d.core.V3D_ExecutionPolicy;
+import uk.ac.leeds.ccg.v3d.core.V3D_Metrics;
 import uk.ac.leeds.ccg.v3d.core.d.V3D_Environment_d;
 
 /**
@@ -136,72 +138,72 @@ public class V3D_AABB_d implements Serializable {
     /**
      * llu.
      */
-    private V3D_Point_d llu;
+    private volatile V3D_Point_d llu;
 
     /**
      * luu.
      */
-    private V3D_Point_d luu;
+    private volatile V3D_Point_d luu;
 
     /**
      * uuu.
      */
-    private V3D_Point_d uuu;
+    private volatile V3D_Point_d uuu;
 
     /**
      * ulu.
      */
-    private V3D_Point_d ulu;
+    private volatile V3D_Point_d ulu;
 
     /**
      * lll.
      */
-    private V3D_Point_d lll;
+    private volatile V3D_Point_d lll;
 
     /**
      * lul.
      */
-    private V3D_Point_d lul;
+    private volatile V3D_Point_d lul;
 
     /**
      * uul.
      */
-    private V3D_Point_d uul;
+    private volatile V3D_Point_d uul;
 
     /**
      * ull.
      */
-    private V3D_Point_d ull;
+    private volatile V3D_Point_d ull;
 
     /**
      * The left geometry.
      */
-    protected V3D_AABBX_d l;
+    protected volatile V3D_AABBX_d l;
 
     /**
      * The right geometry.
      */
-    protected V3D_AABBX_d r;
+    protected volatile V3D_AABBX_d r;
 
     /**
      * The top geometry.
      */
-    protected V3D_AABBY_d t;
+    protected volatile V3D_AABBY_d t;
 
     /**
      * The bottom geometry.
      */
-    protected V3D_AABBY_d b;
+    protected volatile V3D_AABBY_d b;
 
     /**
      * The fore geometry.
      */
-    protected V3D_AABBZ_d f;
+    protected volatile V3D_AABBZ_d f;
 
     /**
      * The aft geometry.
      */
-    protected V3D_AABBZ_d a;
+    protected volatile V3D_AABBZ_d a;
 
     /**
      * For storing all the corner points. These are in order: lbf, lba, ltf,
@@ -209,7 +211,7 @@ public class V3D_AABB_d implements Serializable {
      * {@link #luu}, {@link #ull}, {@link #ulu}, {@link #uul}, {@link #uuu} may
      * all be the same.
      */
-    protected V3D_Point_d[] pts;
+    protected volatile V3D_Point_d[] pts;
     //protected HashSet<V3D_Point_d> pts;
 
     /**
@@ -385,6 +387,13 @@ public class V3D_AABB_d implements Serializable {
 //        }
 //        return pts;
 //    }
+    /**
+     * @return The execution policy of {@link #env}.
+     */
+    public V3D_ExecutionPolicy getPolicy() {
+        return V3D_ExecutionPolicy.get(env);
+    }
+
     /**
      * Test for equality.
      *
@@ -446,140 +455,168 @@ public class V3D_AABB_d implements Serializable {
      * @return {@link #llu} setting it first if it is null.
      */
     public V3D_Point_d getllu() {
-        if (llu == null) {
-            llu = new V3D_Point_d(env, xMin, yMin, zMax);
+        V3D_Point_d x = llu;
+        if (x == null) {
+            x = new V3D_Point_d(env, xMin, yMin, zMax);
+            llu = x;
         }
-        return llu;
+        return x;
     }
 
     /**
      * @return {@link #luu} setting it first if it is null.
      */
     public V3D_Point_d getluu() {
-        if (luu == null) {
-            luu = new V3D_Point_d(env, xMin, yMax, zMax);
+        V3D_Point_d x = luu;
+        if (x == null) {
+            x = new V3D_Point_d(env, xMin, yMax, zMax);
+            luu = x;
         }
-        return luu;
+        return x;
     }
 
     /**
      * @return {@link #uuu} setting it first if it is null.
      */
     public V3D_Point_d getuuu() {
-        if (uuu == null) {
-            uuu = new V3D_Point_d(env, xMax, yMax, zMax);
+        V3D_Point_d x = uuu;
+        if (x == null) {
+            x = new V3D_Point_d(env, xMax, yMax, zMax);
+            uuu = x;
         }
-        return uuu;
+        return x;
     }
 
     /**
      * @return {@link #ulu} setting it first if it is null.
      */
     public V3D_Point_d getulu() {
-        if (ulu == null) {
-            ulu = new V3D_Point_d(env, xMax, yMin, zMax);
+        V3D_Point_d x = ulu;
+        if (x == null) {
+            x = new V3D_Point_d(env, xMax, yMin, zMax);
+            ulu = x;
         }
-        return ulu;
+        return x;
     }
 
     /**
      * @return {@link #lll} setting it first if it is null.
      */
     public V3D_Point_d getlll() {
-        if (lll == null) {
-            lll = new V3D_Point_d(env, xMin, yMin, zMin);
+        V3D_Point_d x = lll;
+        if (x == null) {
+            x = new V3D_Point_d(env, xMin, yMin, zMin);
+            lll = x;
         }
-        return lll;
+        return x;
     }
 
     /**
      * @return {@link #lul} setting it first if it is null.
      */
     public V3D_Point_d getlul() {
-        if (lul == null) {
-            lul = new V3D_Point_d(env, xMin, yMax, zMin);
+        V3D_Point_d x = lul;
+        if (x == null) {
+            x = new V3D_Point_d(env, xMin, yMax, zMin);
+            lul = x;
         }
-        return lul;
+        return x;
     }
 
     /**
      * @return {@link #uul} setting it first if it is null.
      */
     public V3D_Point_d getuul() {
-        if (uul == null) {
-            uul = new V3D_Point_d(env, xMin, yMax, zMin);
+        V3D_Point_d x = uul;
+        if (x == null) {
+            x = new V3D_Point_d(env, xMin, yMax, zMin);
+            uul = x;
         }
-        return uul;
+        return x;
     }
 
     /**
      * @return {@link #ull} setting it first if it is null.
      */
     public V3D_Point_d getull() {
-        if (ull == null) {
-            ull = new V3D_Point_d(env, xMax, yMin, zMin);
+        V3D_Point_d x = ull;
+        if (x == null) {
+            x = new V3D_Point_d(env, xMax, yMin, zMin);
+            ull = x;
         }
-        return ull;
+        return x;
     }
 
     /**
      * @return {@link #l} setting it first if it is null.
      */
     public V3D_AABBX_d getl() {
-        if (l == null) {
-            l = new V3D_AABBX_d(env, xMin, yMin, yMax, zMin, zMax);
+        V3D_AABBX_d x = l;
+        if (x == null) {
+            x = new V3D_AABBX_d(env, xMin, yMin, yMax, zMin, zMax);
+            l = x;
         }
-        return l;
+        return x;
     }
 
     /**
      * @return {@link #r} setting it first if it is null.
      */
     public V3D_AABBX_d getr() {
-        if (r == null) {
-            r = new V3D_AABBX_d(env, xMax, yMin, yMax, zMin, zMax);
+        V3D_AABBX_d x = r;
+        if (x == null) {
+            x = new V3D_AABBX_d(env, xMax, yMin, yMax, zMin, zMax);
+            r = x;
         }
-        return r;
+        return x;
     }
 
     /**
      * @return {@link #b} setting it first if it is null.
      */
     public V3D_AABBY_d getb() {
-        if (b == null) {
-            b = new V3D_AABBY_d(env, xMin, xMax, yMin, zMin, zMax);
+        V3D_AABBY_d x = b;
+        if (x == null) {
+            x = new V3D_AABBY_d(env, xMin, xMax, yMin, zMin, zMax);
+            b = x;
         }
-        return b;
+        return x;
     }
 
     /**
      * @return {@link #t} setting it first if it is null.
      */
     public V3D_AABBY_d gett() {
-        if (t == null) {
-            t = new V3D_AABBY_d(env, xMin, xMax, yMax, zMin, zMax);
+        V3D_AABBY_d x = t;
+        if (x == null) {
+            x = new V3D_AABBY_d(env, xMin, xMax, yMax, zMin, zMax);
+            t = x;
         }
-        return t;
+        return x;
     }
 
     /**
      * @return {@link #a} setting it first if it is null.
      */
     public V3D_AABBZ_d geta() {
-        if (a == null) {
-            a = new V3D_AABBZ_d(env, xMin, xMax, yMin, yMax, zMin);
+        V3D_AABBZ_d x = a;
+        if (x == null) {
+            x = new V3D_AABBZ_d(env, xMin, xMax, yMin, yMax, zMin);
+            a = x;
         }
-        return a;
+        return x;
     }
 
     /**
      * @return {@link #f} setting it first if it is null.
      */
     public V3D_AABBZ_d getf() {
-        if (f == null) {
-            f = new V3D_AABBZ_d(env, xMin, xMax, yMin, yMax, zMax);
+        V3D_AABBZ_d x = f;
+        if (x == null) {
+            x = new V3D_AABBZ_d(env, xMin, xMax, yMin, yMax, zMax);
+            f = x;
         }
-        return f;
+        return x;
     }
 
     /**
@@ -848,7 +885,7 @@ public class V3D_AABB_d implements Serializable {
      * @return {@code true} if this getIntersect with {@code s}
      */
     public boolean contains0(V3D_Area_d s) {
-        return s.getPoints().values().parallelStream().allMatch(x
+        return getPolicy().allMatch(s.getPoints().values(), x
                 -> contains(x));
     }
 
@@ -929,18 +966,20 @@ public class V3D_AABB_d implements Serializable {
      * {@link #uuu}
      */
     public V3D_Point_d[] getPointsArray() {
-        if (pts == null) {
-            pts = new V3D_Point_d[8];
-            pts[0] = getllu();
-            pts[1] = getllu();
-            pts[2] = getluu();
-            pts[3] = getlul();
-            pts[4] = getulu();
-            pts[5] = getull();
-            pts[6] = getuuu();
-            pts[7] = getuul();
+        V3D_Point_d[] x = pts;
+        if (x == null) {
+            x = new V3D_Point_d[8];
+            x[0] = getllu();
+            x[1] = getllu();
+            x[2] = getluu();
+            x[3] = getlul();
+            x[4] = getulu();
+            x[5] = getull();
+            x[6] = getuuu();
+            x[7] = getuul();
+            pts = x;
         }
-        return pts;
+        return x;
     }
 //    public HashSet<V3D_Point_d> getPoints() {
 //        if (pts == null) {
@@ -957,6 +996,27 @@ public class V3D_AABB_d implements Serializable {
 //        return pts;
 //    }
 
+    /**
+     * Calculate and return the viewport - a rectangle between the point pt and
+     * this perpendicular to the direction from pt to the centroid, touching
+     * the nearest corner of this, such that all of this is contained in the
+     * planes from the point through the viewport. This projects the corners
+     * of this using {@link V3D_Viewport_d} rather than intersecting rays and
+     * planes. Use {@link V3D_Viewport_d} directly to calculate the viewports
+     * of many boxes from the same point. Unlike
+     * {@link #getViewport(V3D_Point_d, V3D_Vector_d, double)} the viewport
+     * does not necessarily coincide with a face or an edge of this.
+     *
+     * @param pt The point from which observation of this is occurring.
+     * @param v The vector pointing to the right of the viewport.
+     * @return A viewport or {@code null} if pt is not in front of all the
+     * corners of this.
+     */
+    public V3D_Rectangle_d getViewportProjected(V3D_Point_d pt,
+            V3D_Vector_d v) {
+        return new V3D_Viewport_d(pt, this, v).getViewport(this);
+    }
+
     /**
      * Calculate and return the viewport - a rectangle between the point pt and
      * this such that all of this is contained in the planes from the point
@@ -965,7 +1025,9 @@ public class V3D_AABB_d implements Serializable {
      * that face. In some cases the viewport may intersect (touch) along an edge
      * between two faces. In all other cases, the viewport will intersect
      * (touch) just one corner of this. The right edge of the viewport is in the
-     * direction given by the vector v from the point pt.
+     * direction given by the vector v from the point pt. See also
+     * {@link #getViewportProjected(V3D_Point_d, V3D_Vector_d)} which projects
+     * the corners of this instead.
      *
      * @param pt The point from which observation of this is occurring.
      * @param v The vector pointing to the right of the viewport.
@@ -976,8 +1038,9 @@ public class V3D_AABB_d implements Serializable {
      */
     public V3D_Rectangle_d getViewport(V3D_Point_d pt,
             V3D_Vector_d v, double epsilon) {
+        V3D_Metrics.count(env, V3D_Metrics.Op.PROJECT, this);
         V3D_Rectangle_d rect;
-        pts = getPointsArray();
+        V3D_Point_d[] pts = getPointsArray();
 //        pts[0] = new V3D_Point_d(lba);
 //        pts[1] = new V3D_Point_d(lbf);
 //        pts[2] = new V3D_Point_d(lta);
@@ -1115,6 +1178,7 @@ public class V3D_AABB_d implements Serializable {
      */
     public V3D_Rectangle_d getViewport2(V3D_Point_d pt,
             V3D_Vector_d v, double epsilon) {
+        V3D_Metrics.count(env, V3D_Metrics.Op.PROJECT, this);
         V3D_Rectangle_d rect;
         // Get the plane of the viewport.
         V3D_Point_d c = getCentroid();
@@ -1127,7 +1191,7 @@ public class V3D_AABB_d implements Serializable {
         // Figure out the extremes in relation to v (and v2).
         V3D_Vector_d v2 = cv.getCrossProduct(v);
         // Intersect the rays from pts to each point with the screen.
-        pts = getPointsArray();
+        V3D_Point_d[] pts = getPointsArray();
         V3D_Point_d[] ipts = new V3D_Point_d[pts.length];
         // Get the intersecting points on the screen plane from pt
         for (int i = 0; i < pts.length; i++) {
@@ -1242,6 +1306,7 @@ public class V3D_AABB_d implements Serializable {
      */
     public V3D_Rectangle_d getViewport3(V3D_Point_d pt,
             V3D_Vector_d v, double zoomFactor, double epsilon) {
+        V3D_Metrics.count(env, V3D_Metrics.Op.PROJECT, this);
         V3D_Rectangle_d rect;
         // Get the plane of the viewport.
         V3D_Point_d c = getCentroid();
@@ -46,17 +46,17 @@ public abstract class V3D_Area_d extends V3D_FiniteGeometry_d {
     /**
      * The plane of the area.
      */
-    public V3D_Plane_d pl;
+    public volatile V3D_Plane_d pl;
     
     /**
      * For storing the points. The keys are IDs.
      */
-    protected HashMap<Integer, V3D_Point_d> points;
+    protected volatile HashMap<Integer, V3D_Point_d> points;
 
     /**
      * For storing the edges. The keys are IDs.
      */
-    protected HashMap<Integer, V3D_LineSegment_d> edges;
+    protected volatile HashMap<Integer, V3D_LineSegment_d> edges;
     
     /**
      * Creates a new instance with offset V3D_Vector.ZERO.
@@ -105,11 +105,11 @@ public abstract class V3D_Area_d extends V3D_FiniteGeometry_d {
             pl.translate(v);
         }
         if (points != null) {
-            points.values().parallelStream().forEach(x -> 
+            getPolicy().forEach(points.values(), x -> 
                     x.translate(v));
         }
         if (edges != null) {
-            edges.values().parallelStream().forEach(x -> 
+            getPolicy().forEach(edges.values(), x -> 
                     x.translate(v));
         }
     }
@@ -155,7 +155,7 @@ public abstract class V3D_Area_d extends V3D_FiniteGeometry_d {
      */
     public static boolean intersects(double epsilon, V3D_Point_d p,
             Collection<V3D_Area_d> as) {
-        return as.parallelStream().anyMatch(x -> x.intersects(p, epsilon));
+        return p.getPolicy().anyMatch(as, x -> x.intersects(p, epsilon));
     }
     
     /**
@@ -214,7 +214,7 @@ public abstract class V3D_Area_d extends V3D_FiniteGeometry_d {
      * @return {@code true} if {@code this} is intersected by {@code a}.
      */
     public boolean intersects(V3D_Area_d a, double epsilon) {
-        return a.getPoints().values().parallelStream().anyMatch(x 
+        return getPolicy().anyMatch(a.getPoints().values(), x 
             -> a.intersects(x, epsilon));
     }
     
@@ -241,7 +241,7 @@ public abstract class V3D_Area_d extends V3D_FiniteGeometry_d {
      */
     public static boolean intersects(double epsilon,
             V3D_LineSegment_d l, Collection<V3D_Area_d> as) {
-        return as.parallelStream().anyMatch(x -> x.intersects(l, epsilon));
+        return l.getPolicy().anyMatch(as, x -> x.intersects(l, epsilon));
     }
     
     /**
@@ -263,7 +263,7 @@ public abstract class V3D_Area_d extends V3D_FiniteGeometry_d {
      * {@code as}.
      */
     public boolean intersects(double epsilon, Collection<V3D_Area_d> as) {
-        return as.parallelStream().anyMatch(x -> intersects(x, epsilon));
+        return getPolicy().anyMatch(as, x -> intersects(x, epsilon));
     }
 
     /**
@@ -278,7 +278,7 @@ public abstract class V3D_Area_d extends V3D_FiniteGeometry_d {
     //public abstract boolean contains(V3D_Point p, double epsilon);
     public boolean contains(V3D_Point_d p, double epsilon) {
         if (intersects(p, epsilon)) {
-            return !getEdges().values().parallelStream().anyMatch(x 
+            return !getPolicy().anyMatch(getEdges().values(), x 
                     -> x.intersects(p, epsilon));
         }
         return false;
@@ -331,7 +331,7 @@ public abstract class V3D_Area_d extends V3D_FiniteGeometry_d {
      */
     //public abstract boolean contains(V3D_Area a, double epsilon);
     public boolean contains(V3D_Area_d a, double epsilon) {
-        return a.getPoints().values().parallelStream().allMatch(x
+        return getPolicy().allMatch(a.getPoints().values(), x
                 -> contains(x, epsilon));
     }
     
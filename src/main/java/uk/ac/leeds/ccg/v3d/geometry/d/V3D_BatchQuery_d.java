@@ -0,0 +1,403 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.geometry.d;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import uk.ac.leeds.ccg.v3d.core.V3D_ExecutionPolicy;
+
+/**
+ * For running many independent queries over collections of geometries. The
+ * work is partitioned over the query index range and run with fork/join in
+ * the pool of the {@link V3D_ExecutionPolicy} given (or the common pool).
+ * Results are returned in primitive arrays. Where a result is a matrix it is
+ * stored row major in a one dimensional array so that the result for the i-th
+ * row geometry and the j-th column geometry is at index
+ * {@code i * ncols + j}.
+ *
+ * The ray-triangle hit queries work on a packed array of triangle coordinates
+ * (see {@link #pack(uk.ac.leeds.ccg.v3d.geometry.d.V3D_Triangle_d[])}) so
+ * the packing can be done once and reused for many batches. The per query
+ * scratch values are held in local primitives so these queries do not
+ * allocate.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_BatchQuery_d {
+
+    /**
+     * The default number of queries processed by a single task.
+     */
+    public static final int DEFAULT_GRAIN = 256;
+
+    /**
+     * The policy.
+     */
+    public final V3D_ExecutionPolicy policy;
+
+    /**
+     * The maximum number of queries processed by a single task.
+     */
+    public final int grain;
+
+    /**
+     * Create a new instance.
+     *
+     * @param policy What {@link #policy} is set to.
+     */
+    public V3D_BatchQuery_d(V3D_ExecutionPolicy policy) {
+        this(policy, DEFAULT_GRAIN);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param policy What {@link #policy} is set to.
+     * @param grain What {@link #grain} is set to.
+     */
+    public V3D_BatchQuery_d(V3D_ExecutionPolicy policy, int grain) {
+        if (grain < 1) {
+            throw new IllegalArgumentException("grain < 1");
+        }
+        this.policy = policy == null ? V3D_ExecutionPolicy.DEFAULT : policy;
+        this.grain = grain;
+    }
+
+    /**
+     * Runs body for each index in the range [0, n) partitioning the range
+     * using fork/join if the policy allows.
+     *
+     * @param n The number of indexes.
+     * @param body The body to run for each index.
+     */
+    public void forEach(int n, IntConsumer body) {
+        if (n <= grain || !policy.isParallel(n)) {
+            for (int i = 0; i < n; i++) {
+                body.accept(i);
+            }
+        } else {
+            ForkJoinPool pool = policy.getPool();
+            if (pool == null) {
+                pool = ForkJoinPool.commonPool();
+            }
+            pool.invoke(new Range(0, n, grain, body));
+        }
+    }
+
+    /**
+     * For partitioning an index range.
+     */
+    private static class Range extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        final int lo;
+        final int hi;
+        final int grain;
+        final transient IntConsumer body;
+
+        Range(int lo, int hi, int grain, IntConsumer body) {
+            this.lo = lo;
+            this.hi = hi;
+            this.grain = grain;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= grain) {
+                for (int i = lo; i < hi; i++) {
+                    body.accept(i);
+                }
+            } else {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new Range(lo, mid, grain, body),
+                        new Range(mid, hi, grain, body));
+            }
+        }
+    }
+
+    /**
+     * @param r The ray.
+     * @param ts The triangles.
+     * @param epsilon The tolerance within which two vectors are regarded as
+     * equal.
+     * @return {@code true} if r intersects any of ts.
+     */
+    public boolean intersectsAny(V3D_Ray_d r, V3D_Triangle_d[] ts,
+            double epsilon) {
+        for (V3D_Triangle_d t : ts) {
+            if (t.intersects(r, epsilon)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param rs The rays.
+     * @param ts The triangles.
+     * @param epsilon The tolerance within which two vectors are regarded as
+     * equal.
+     * @return An array with an element for each ray in rs which is
+     * {@code true} if the ray intersects any of ts.
+     */
+    public boolean[] intersectsAny(V3D_Ray_d[] rs, V3D_Triangle_d[] ts,
+            double epsilon) {
+        boolean[] r = new boolean[rs.length];
+        forEach(rs.length, i -> r[i] = intersectsAny(rs[i], ts, epsilon));
+        return r;
+    }
+
+    /**
+     * @param rs The rays.
+     * @param ts The triangles.
+     * @param epsilon The tolerance within which two vectors are regarded as
+     * equal.
+     * @return A row major matrix with a row for each ray in rs and a column
+     * for each triangle in ts where an element is {@code true} if the ray
+     * intersects the triangle.
+     */
+    public boolean[] intersectAll(V3D_Ray_d[] rs, V3D_Triangle_d[] ts,
+            double epsilon) {
+        int nc = ts.length;
+        boolean[] r = new boolean[rs.length * nc];
+        forEach(rs.length, i -> {
+            int row = i * nc;
+            for (int j = 0; j < nc; j++) {
+                r[row + j] = ts[j].intersects(rs[i], epsilon);
+            }
+        });
+        return r;
+    }
+
+    /**
+     * @param ps The row points.
+     * @param qs The column points.
+     * @return A row major matrix of the distances between each point in ps
+     * and each point in qs.
+     */
+    public double[] getDistances(V3D_Point_d[] ps, V3D_Point_d[] qs) {
+        double[] pc = getCoordinates(ps);
+        double[] qc = getCoordinates(qs);
+        int nc = qs.length;
+        double[] r = new double[ps.length * nc];
+        forEach(ps.length, i -> {
+            int i3 = i * 3;
+            double x = pc[i3];
+            double y = pc[i3 + 1];
+            double z = pc[i3 + 2];
+            int row = i * nc;
+            for (int j = 0; j < nc; j++) {
+                int j3 = j * 3;
+                double dx = qc[j3] - x;
+                double dy = qc[j3 + 1] - y;
+                double dz = qc[j3 + 2] - z;
+                r[row + j] = Math.sqrt(dx * dx + dy * dy + dz * dz);
+            }
+        });
+        return r;
+    }
+
+    /**
+     * @param ps The row points.
+     * @param ts The column triangles.
+     * @param epsilon The tolerance within which two vectors are regarded as
+     * equal.
+     * @return A row major matrix of the distances between each point in ps
+     * and each triangle in ts.
+     */
+    public double[] getDistances(V3D_Point_d[] ps, V3D_Triangle_d[] ts,
+            double epsilon) {
+        int nc = ts.length;
+        double[] r = new double[ps.length * nc];
+        forEach(ps.length, i -> {
+            int row = i * nc;
+            for (int j = 0; j < nc; j++) {
+                r[row + j] = ts[j].getDistance(ps[i], epsilon);
+            }
+        });
+        return r;
+    }
+
+    /**
+     * @param ps The points.
+     * @return The coordinates of ps packed as x, y, z for each point.
+     */
+    public static double[] getCoordinates(V3D_Point_d[] ps) {
+        double[] r = new double[ps.length * 3];
+        for (int i = 0; i < ps.length; i++) {
+            int i3 = i * 3;
+            r[i3] = ps[i].getX();
+            r[i3 + 1] = ps[i].getY();
+            r[i3 + 2] = ps[i].getZ();
+        }
+        return r;
+    }
+
+    /**
+     * Packs the triangles for ray hit queries. For each triangle nine values
+     * are stored: the coordinates of the p corner, the pq vector and the pr
+     * vector.
+     *
+     * @param ts The triangles to pack.
+     * @return The packed triangles.
+     */
+    public static double[] pack(V3D_Triangle_d[] ts) {
+        double[] r = new double[ts.length * 9];
+        for (int i = 0; i < ts.length; i++) {
+            V3D_Triangle_d t = ts[i];
+            V3D_Point_d p = t.getP();
+            V3D_Point_d q = t.getQ();
+            V3D_Point_d rr = t.getR();
+            int i9 = i * 9;
+            r[i9] = p.getX();
+            r[i9 + 1] = p.getY();
+            r[i9 + 2] = p.getZ();
+            r[i9 + 3] = q.getX() - r[i9];
+            r[i9 + 4] = q.getY() - r[i9 + 1];
+            r[i9 + 5] = q.getZ() - r[i9 + 2];
+            r[i9 + 6] = rr.getX() - r[i9];
+            r[i9 + 7] = rr.getY() - r[i9 + 1];
+            r[i9 + 8] = rr.getZ() - r[i9 + 2];
+        }
+        return r;
+    }
+
+    /**
+     * For each ray find the nearest triangle hit. Rays that are parallel to
+     * the plane of a triangle (within epsilon) are not regarded as hitting
+     * that triangle.
+     *
+     * @param rs The rays.
+     * @param packed The packed triangles as returned from
+     * {@link #pack(uk.ac.leeds.ccg.v3d.geometry.d.V3D_Triangle_d[])}.
+     * @param epsilon The tolerance.
+     * @param ids Output: for each ray the index of the nearest triangle hit,
+     * or -1 if there is no hit. The length must be at least rs.length.
+     * @param distances Output: for each ray the distance from the start of
+     * the ray to the nearest hit, or {@link Double#POSITIVE_INFINITY} if there
+     * is no hit. The length must be at least rs.length.
+     */
+    public void getNearestHits(V3D_Ray_d[] rs, double[] packed,
+            double epsilon, int[] ids, double[] distances) {
+        forEach(rs.length, i -> {
+            V3D_Ray_d ray = rs[i];
+            V3D_Point_d o = ray.l.getP();
+            V3D_Vector_d v = ray.l.v;
+            int id = getNearestHit(packed, o.getX(), o.getY(), o.getZ(),
+                    v.dx, v.dy, v.dz, epsilon);
+            ids[i] = id;
+            if (id < 0) {
+                distances[i] = Double.POSITIVE_INFINITY;
+            } else {
+                distances[i] = getHit(packed, id, o.getX(), o.getY(),
+                        o.getZ(), v.dx, v.dy, v.dz, epsilon)
+                        * Math.sqrt(v.dx * v.dx + v.dy * v.dy + v.dz * v.dz);
+            }
+        });
+    }
+
+    /**
+     * For the ray starting at (ox, oy, oz) with direction (dx, dy, dz) find
+     * the nearest of the packed triangles hit using the Möller-Trumbore
+     * algorithm.
+     *
+     * @param packed The packed triangles.
+     * @param ox The x coordinate of the ray start.
+     * @param oy The y coordinate of the ray start.
+     * @param oz The z coordinate of the ray start.
+     * @param dx The x component of the ray direction.
+     * @param dy The y component of the ray direction.
+     * @param dz The z component of the ray direction.
+     * @param epsilon The tolerance.
+     * @return The index of the nearest triangle hit or -1 if there is no hit.
+     */
+    private static int getNearestHit(double[] packed, double ox, double oy,
+            double oz, double dx, double dy, double dz, double epsilon) {
+        double tmin = Double.POSITIVE_INFINITY;
+        int id = -1;
+        int n = packed.length / 9;
+        for (int j = 0; j < n; j++) {
+            double t = getHit(packed, j, ox, oy, oz, dx, dy, dz, epsilon);
+            if (t < tmin) {
+                tmin = t;
+                id = j;
+            }
+        }
+        return id;
+    }
+
+    /**
+     * For the ray starting at (ox, oy, oz) with direction (dx, dy, dz) find
+     * where the packed triangle j is hit using the Möller-Trumbore algorithm.
+     *
+     * @param packed The packed triangles.
+     * @param j The index of the triangle.
+     * @param ox The x coordinate of the ray start.
+     * @param oy The y coordinate of the ray start.
+     * @param oz The z coordinate of the ray start.
+     * @param dx The x component of the ray direction.
+     * @param dy The y component of the ray direction.
+     * @param dz The z component of the ray direction.
+     * @param epsilon The tolerance.
+     * @return The ray parameter of the hit or
+     * {@link Double#POSITIVE_INFINITY} if the triangle is not hit. This is
+     * never NaN: a degenerate triangle, or one for which the calculation
+     * overflows, is not hit.
+     */
+    public static double getHit(double[] packed, int j, double ox, double oy,
+            double oz, double dx, double dy, double dz, double epsilon) {
+        int j9 = j * 9;
+        double e1x = packed[j9 + 3];
+        double e1y = packed[j9 + 4];
+        double e1z = packed[j9 + 5];
+        double e2x = packed[j9 + 6];
+        double e2y = packed[j9 + 7];
+        double e2z = packed[j9 + 8];
+        // pv = d x e2
+        double px = dy * e2z - dz * e2y;
+        double py = dz * e2x - dx * e2z;
+        double pz = dx * e2y - dy * e2x;
+        double det = e1x * px + e1y * py + e1z * pz;
+        if (Math.abs(det) <= epsilon) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double inv = 1d / det;
+        double tx = ox - packed[j9];
+        double ty = oy - packed[j9 + 1];
+        double tz = oz - packed[j9 + 2];
+        double u = (tx * px + ty * py + tz * pz) * inv;
+        if (!(u >= -epsilon && u <= 1d + epsilon)) {
+            return Double.POSITIVE_INFINITY;
+        }
+        // qv = tv x e1
+        double qx = ty * e1z - tz * e1y;
+        double qy = tz * e1x - tx * e1z;
+        double qz = tx * e1y - ty * e1x;
+        double w = (dx * qx + dy * qy + dz * qz) * inv;
+        if (!(w >= -epsilon && u + w <= 1d + epsilon)) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double t = (e2x * qx + e2y * qy + e2z * qz) * inv;
+        if (!(t >= -epsilon)) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return Math.max(t, 0d);
+    }
+}
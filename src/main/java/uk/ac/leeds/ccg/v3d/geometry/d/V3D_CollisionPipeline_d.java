@@ -0,0 +1,350 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.geometry.d;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import uk.ac.leeds.ccg.v3d.core.d.V3D_Environment_d;
+
+/**
+ * For finding all the pairs of intersecting shapes in
+ * {@link V3D_Environment_d#shapes}. There are two phases:
+ * <ol>
+ * <li>A broad phase that sorts the shapes by the minimum x of their Axis
+ * Aligned Bounding Boxes and sweeps along the x axis to find the pairs with
+ * overlapping boxes. The order is kept from one call of
+ * {@link #update(Contacts)} to the next and is restored with an insertion
+ * sort, which is close to linear if the shapes move a little between
+ * calls.</li>
+ * <li>A narrow phase that tests each candidate pair with the
+ * {@link NarrowPhase} registered for the classes of the shapes. By default,
+ * {@link V3D_Tetrahedron_d#intersects(V3D_Tetrahedron_d, double)} is
+ * registered for pairs of tetrahedra. Pairs without a registered test are
+ * reported as contacts on the basis of their boxes overlapping.</li>
+ * </ol>
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_CollisionPipeline_d {
+
+    /**
+     * For testing if two shapes intersect.
+     */
+    @FunctionalInterface
+    public interface NarrowPhase {
+
+        /**
+         * @param a A shape.
+         * @param b Another shape.
+         * @param epsilon The tolerance.
+         * @return {@code true} if a and b intersect.
+         */
+        boolean intersects(V3D_Volume_d a, V3D_Volume_d b, double epsilon);
+    }
+
+    /**
+     * A reusable buffer of contact pairs of shape ids.
+     */
+    public static class Contacts {
+
+        /**
+         * The number of pairs.
+         */
+        protected int size;
+
+        /**
+         * The ids of the first shapes of the pairs.
+         */
+        protected int[] a;
+
+        /**
+         * The ids of the second shapes of the pairs.
+         */
+        protected int[] b;
+
+        /**
+         * Create a new instance.
+         */
+        public Contacts() {
+            a = new int[16];
+            b = new int[16];
+        }
+
+        /**
+         * @return The number of pairs.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * @param i The index of the pair.
+         * @return The id of the first shape of pair i.
+         */
+        public int getA(int i) {
+            return a[i];
+        }
+
+        /**
+         * @param i The index of the pair.
+         * @return The id of the second shape of pair i.
+         */
+        public int getB(int i) {
+            return b[i];
+        }
+
+        /**
+         * Removes all pairs. The storage is kept for reuse.
+         */
+        public void clear() {
+            size = 0;
+        }
+
+        /**
+         * Adds a pair, with the smaller id first.
+         *
+         * @param i The id of a shape.
+         * @param j The id of another shape.
+         */
+        public void add(int i, int j) {
+            if (size == a.length) {
+                a = Arrays.copyOf(a, size * 2);
+                b = Arrays.copyOf(b, size * 2);
+            }
+            a[size] = Math.min(i, j);
+            b[size] = Math.max(i, j);
+            size++;
+        }
+    }
+
+    /**
+     * The environment.
+     */
+    public final V3D_Environment_d env;
+
+    /**
+     * The tolerance passed to the narrow phase tests.
+     */
+    public double epsilon;
+
+    /**
+     * The narrow phase tests keyed by the class of the first shape and then
+     * by the class of the second shape.
+     */
+    protected final Map<Class<?>, Map<Class<?>, NarrowPhase>> tests;
+
+    /**
+     * The shape ids in order of the minimum x of their boxes.
+     */
+    private int[] order;
+
+    /**
+     * The number of ids in {@link #order}.
+     */
+    private int n;
+
+    /**
+     * The box bounds indexed by shape id.
+     */
+    private double[] xMin;
+    private double[] xMax;
+    private double[] yMin;
+    private double[] yMax;
+    private double[] zMin;
+    private double[] zMax;
+
+    /**
+     * The shapes indexed by shape id for the current update.
+     */
+    private V3D_Volume_d[] volumes;
+
+    /**
+     * Create a new instance.
+     *
+     * @param env What {@link #env} is set to.
+     * @param epsilon What {@link #epsilon} is set to.
+     */
+    public V3D_CollisionPipeline_d(V3D_Environment_d env, double epsilon) {
+        this.env = env;
+        this.epsilon = epsilon;
+        tests = new HashMap<>();
+        order = new int[16];
+        allocate(16);
+        register(V3D_Tetrahedron_d.class, V3D_Tetrahedron_d.class,
+                (a, b, e) -> ((V3D_Tetrahedron_d) a).intersects(
+                        (V3D_Tetrahedron_d) b, e));
+    }
+
+    /**
+     * Register a narrow phase test for shapes of class ca and cb. This
+     * replaces any test already registered for the classes.
+     *
+     * @param ca The class of the first shape.
+     * @param cb The class of the second shape.
+     * @param test The test.
+     */
+    public final void register(Class<? extends V3D_Volume_d> ca,
+            Class<? extends V3D_Volume_d> cb, NarrowPhase test) {
+        tests.computeIfAbsent(ca, k -> new HashMap<>()).put(cb, test);
+    }
+
+    /**
+     * @param length The length of the arrays indexed by shape id.
+     */
+    private void allocate(int length) {
+        if (volumes != null && volumes.length >= length) {
+            return;
+        }
+        int l = Math.max(length, volumes == null ? 16 : volumes.length * 2);
+        if (volumes == null) {
+            xMin = new double[l];
+            xMax = new double[l];
+            yMin = new double[l];
+            yMax = new double[l];
+            zMin = new double[l];
+            zMax = new double[l];
+            volumes = new V3D_Volume_d[l];
+        } else {
+            xMin = Arrays.copyOf(xMin, l);
+            xMax = Arrays.copyOf(xMax, l);
+            yMin = Arrays.copyOf(yMin, l);
+            yMax = Arrays.copyOf(yMax, l);
+            zMin = Arrays.copyOf(zMin, l);
+            zMax = Arrays.copyOf(zMax, l);
+            volumes = Arrays.copyOf(volumes, l);
+        }
+    }
+
+    /**
+     * Find the pairs of intersecting shapes in {@link #env}.
+     *
+     * @param contacts The buffer which is cleared and then has the pairs of
+     * ids of intersecting shapes added to it.
+     * @return The number of pairs.
+     */
+    public int update(Contacts contacts) {
+        contacts.clear();
+        sync();
+        sort();
+        for (int i = 0; i < n; i++) {
+            int ia = order[i];
+            double ax = xMax[ia];
+            for (int j = i + 1; j < n; j++) {
+                int ib = order[j];
+                if (xMin[ib] > ax) {
+                    break;
+                }
+                if (yMin[ib] > yMax[ia] || yMax[ib] < yMin[ia]
+                        || zMin[ib] > zMax[ia] || zMax[ib] < zMin[ia]) {
+                    continue;
+                }
+                if (intersects(volumes[ia], volumes[ib])) {
+                    contacts.add(ia, ib);
+                }
+            }
+        }
+        return contacts.size();
+    }
+
+    /**
+     * Bring {@link #order} and the box bounds up to date with
+     * {@link V3D_Environment_d#shapes}. Ids of removed shapes are dropped and
+     * ids of added shapes are appended keeping the order of the rest.
+     */
+    private void sync() {
+        int max = -1;
+        for (Integer id : env.shapes.keySet()) {
+            max = Math.max(max, id);
+        }
+        allocate(max + 1);
+        Arrays.fill(volumes, null);
+        for (Map.Entry<Integer, V3D_Volume_d> e : env.shapes.entrySet()) {
+            int id = e.getKey();
+            V3D_Volume_d v = e.getValue();
+            V3D_AABB_d box = v.getAABB();
+            volumes[id] = v;
+            xMin[id] = box.getXMin();
+            xMax[id] = box.getXMax();
+            yMin[id] = box.getYMin();
+            yMax[id] = box.getYMax();
+            zMin[id] = box.getZMin();
+            zMax[id] = box.getZMax();
+        }
+        boolean[] listed = new boolean[volumes.length];
+        int m = 0;
+        for (int i = 0; i < n; i++) {
+            int id = order[i];
+            if (id < volumes.length && volumes[id] != null && !listed[id]) {
+                listed[id] = true;
+                order[m++] = id;
+            }
+        }
+        if (order.length < env.shapes.size()) {
+            order = Arrays.copyOf(order, Math.max(order.length * 2,
+                    env.shapes.size()));
+        }
+        for (int id = 0; id <= max; id++) {
+            if (volumes[id] != null && !listed[id]) {
+                order[m++] = id;
+            }
+        }
+        n = m;
+    }
+
+    /**
+     * Insertion sort {@link #order} by the minimum x of the boxes.
+     */
+    private void sort() {
+        for (int i = 1; i < n; i++) {
+            int id = order[i];
+            double x = xMin[id];
+            int j = i - 1;
+            while (j >= 0 && xMin[order[j]] > x) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = id;
+        }
+    }
+
+    /**
+     * Dispatch to the narrow phase test for the classes of a and b.
+     *
+     * @param a A shape.
+     * @param b Another shape.
+     * @return {@code true} if a and b intersect or if there is no test
+     * registered for their classes.
+     */
+    protected boolean intersects(V3D_Volume_d a, V3D_Volume_d b) {
+        Map<Class<?>, NarrowPhase> m = tests.get(a.getClass());
+        if (m != null) {
+            NarrowPhase t = m.get(b.getClass());
+            if (t != null) {
+                return t.intersects(a, b, epsilon);
+            }
+        }
+        m = tests.get(b.getClass());
+        if (m != null) {
+            NarrowPhase t = m.get(a.getClass());
+            if (t != null) {
+                return t.intersects(b, a, epsilon);
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.geometry.d;
+
+import uk.ac.leeds.ccg.v3d.core.d.V3D_Environment_d;
+
+/**
+ * For converting between the {@code *Double} geometries (such as
+ * {@link V3D_TriangleDouble}) and the {@code *_d} geometries (such as
+ * {@link V3D_Triangle_d}), so that code written for one family can use the
+ * other. The {@code *_d} family is used by the spatial index, batch query,
+ * rendering and io classes, so code using the {@code *Double} family can
+ * convert its geometries to use these and convert results back. Each
+ * conversion has an inverse.
+ *
+ * Geometries are converted by the coordinates of their defining points, so
+ * the results have a zero offset.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_Converter_d {
+
+    /**
+     * The environment of the {@code *_d} geometries that {@code *Double}
+     * methods delegate to.
+     */
+    static final V3D_Environment_d ENV = new V3D_Environment_d();
+
+    private V3D_Converter_d() {
+    }
+
+    /**
+     * @param v The vector to convert.
+     * @return v as a V3D_Vector_d.
+     */
+    public static V3D_Vector_d toVector_d(V3D_VectorDouble v) {
+        return new V3D_Vector_d(v.dx, v.dy, v.dz);
+    }
+
+    /**
+     * @param p The point to convert.
+     * @return The position vector of p.
+     */
+    private static V3D_Vector_d toVector_d(V3D_PointDouble p) {
+        return new V3D_Vector_d(p.getX(), p.getY(), p.getZ());
+    }
+
+    /**
+     * @param env The environment.
+     * @param p The point to convert.
+     * @return p as a V3D_Point_d.
+     */
+    public static V3D_Point_d toPoint_d(V3D_Environment_d env,
+            V3D_PointDouble p) {
+        return new V3D_Point_d(env, p.getX(), p.getY(), p.getZ());
+    }
+
+    /**
+     * @param env The environment.
+     * @param l The line to convert.
+     * @return l as a V3D_Line_d.
+     */
+    public static V3D_Line_d toLine_d(V3D_Environment_d env,
+            V3D_LineDouble l) {
+        return new V3D_Line_d(env, toVector_d(l.getP()), toVector_d(l.v));
+    }
+
+    /**
+     * @param env The environment.
+     * @param r The ray to convert.
+     * @return r as a V3D_Ray_d.
+     */
+    public static V3D_Ray_d toRay_d(V3D_Environment_d env, V3D_RayDouble r) {
+        return new V3D_Ray_d(env, toVector_d(r.l.getP()), toVector_d(r.l.v));
+    }
+
+    /**
+     * @param env The environment.
+     * @param l The line segment to convert.
+     * @return l as a V3D_LineSegment_d.
+     */
+    public static V3D_LineSegment_d toLineSegment_d(V3D_Environment_d env,
+            V3D_LineSegmentDouble l) {
+        return new V3D_LineSegment_d(toPoint_d(env, l.getP()),
+                toPoint_d(env, l.getQ()));
+    }
+
+    /**
+     * @param env The environment.
+     * @param pl The plane to convert.
+     * @return pl as a V3D_Plane_d with the same normal.
+     */
+    public static V3D_Plane_d toPlane_d(V3D_Environment_d env,
+            V3D_PlaneDouble pl) {
+        return new V3D_Plane_d(toPoint_d(env, pl.getP()),
+                toVector_d(pl.getN()));
+    }
+
+    /**
+     * @param env The environment.
+     * @param t The triangle to convert.
+     * @return t as a V3D_Triangle_d.
+     */
+    public static V3D_Triangle_d toTriangle_d(V3D_Environment_d env,
+            V3D_TriangleDouble t) {
+        return new V3D_Triangle_d(env, toVector_d(t.getP()),
+                toVector_d(t.getQ()), toVector_d(t.getR()));
+    }
+
+    /**
+     * @param env The environment.
+     * @param t The tetrahedron to convert.
+     * @return t as a V3D_Tetrahedron_d.
+     */
+    public static V3D_Tetrahedron_d toTetrahedron_d(V3D_Environment_d env,
+            V3D_TetrahedraDouble t) {
+        return new V3D_Tetrahedron_d(env, V3D_Vector_d.ZERO,
+                toVector_d(t.getP()), toVector_d(t.getQ()),
+                toVector_d(t.getR()), toVector_d(t.getS()));
+    }
+
+    /**
+     * @param env The environment.
+     * @param e The envelope to convert.
+     * @return e as a V3D_AABB_d.
+     */
+    public static V3D_AABB_d toAABB_d(V3D_Environment_d env,
+            V3D_EnvelopeDouble e) {
+        return new V3D_AABB_d(env, e.getXMin(), e.getXMax(), e.getYMin(),
+                e.getYMax(), e.getZMin(), e.getZMax());
+    }
+
+    /**
+     * @param v The vector to convert.
+     * @return v as a V3D_VectorDouble.
+     */
+    public static V3D_VectorDouble toVectorDouble(V3D_Vector_d v) {
+        return new V3D_VectorDouble(v.dx, v.dy, v.dz);
+    }
+
+    /**
+     * @param p The point to convert.
+     * @return p as a V3D_PointDouble.
+     */
+    public static V3D_PointDouble toPointDouble(V3D_Point_d p) {
+        return new V3D_PointDouble(p.getX(), p.getY(), p.getZ());
+    }
+
+    /**
+     * @param p The point to convert.
+     * @return The position vector of p.
+     */
+    private static V3D_VectorDouble toVectorDouble(V3D_Point_d p) {
+        return new V3D_VectorDouble(p.getX(), p.getY(), p.getZ());
+    }
+
+    /**
+     * @param l The line to convert.
+     * @return l as a V3D_LineDouble.
+     */
+    public static V3D_LineDouble toLineDouble(V3D_Line_d l) {
+        return new V3D_LineDouble(toPointDouble(l.getP()),
+                toVectorDouble(l.v));
+    }
+
+    /**
+     * @param r The ray to convert.
+     * @return r as a V3D_RayDouble.
+     */
+    public static V3D_RayDouble toRayDouble(V3D_Ray_d r) {
+        return new V3D_RayDouble(toPointDouble(r.l.getP()),
+                toVectorDouble(r.l.v));
+    }
+
+    /**
+     * @param l The line segment to convert.
+     * @return l as a V3D_LineSegmentDouble.
+     */
+    public static V3D_LineSegmentDouble toLineSegmentDouble(
+            V3D_LineSegment_d l) {
+        return new V3D_LineSegmentDouble(toPointDouble(l.getP()),
+                toPointDouble(l.getQ()));
+    }
+
+    /**
+     * @param pl The plane to convert.
+     * @return pl as a V3D_PlaneDouble with the same normal.
+     */
+    public static V3D_PlaneDouble toPlaneDouble(V3D_Plane_d pl) {
+        return new V3D_PlaneDouble(toPointDouble(pl.getP()),
+                toVectorDouble(pl.getN()));
+    }
+
+    /**
+     * @param t The triangle to convert.
+     * @return t as a V3D_TriangleDouble.
+     */
+    public static V3D_TriangleDouble toTriangleDouble(V3D_Triangle_d t) {
+        return new V3D_TriangleDouble(toPointDouble(t.getP()),
+                toPointDouble(t.getQ()), toPointDouble(t.getR()));
+    }
+
+    /**
+     * @param t The tetrahedron to convert.
+     * @return t as a V3D_TetrahedraDouble.
+     */
+    public static V3D_TetrahedraDouble toTetrahedronDouble(
+            V3D_Tetrahedron_d t) {
+        return new V3D_TetrahedraDouble(V3D_VectorDouble.ZERO,
+                toVectorDouble(t.getP()), toVectorDouble(t.getQ()),
+                toVectorDouble(t.getR()), toVectorDouble(t.getS()));
+    }
+
+    /**
+     * @param e The box to convert.
+     * @return e as a V3D_EnvelopeDouble.
+     */
+    public static V3D_EnvelopeDouble toEnvelopeDouble(V3D_AABB_d e) {
+        return new V3D_EnvelopeDouble(e.getXMin(), e.getXMax(), e.getYMin(),
+                e.getYMax(), e.getZMin(), e.getZMax());
+    }
+
+    /**
+     * For converting the result of an intersection.
+     *
+     * @param g The geometry to convert, which is {@code null}, a point, a
+     * line segment or a triangle.
+     * @return g as a V3D_FiniteGeometryDouble.
+     * @throws IllegalArgumentException If g is of another type.
+     */
+    public static V3D_FiniteGeometryDouble toFiniteGeometryDouble(
+            V3D_FiniteGeometry_d g) {
+        if (g == null) {
+            return null;
+        } else if (g instanceof V3D_Point_d gp) {
+            return toPointDouble(gp);
+        } else if (g instanceof V3D_LineSegment_d gl) {
+            return toLineSegmentDouble(gl);
+        } else if (g instanceof V3D_Triangle_d gt) {
+            return toTriangleDouble(gt);
+        }
+        throw new IllegalArgumentException("Unsupported geometry "
+                + g.getClass().getSimpleName());
+    }
+}
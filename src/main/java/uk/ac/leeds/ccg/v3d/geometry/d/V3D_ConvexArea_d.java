@@ -23,6 +23,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.TreeSet;
 import uk.ac.leeds.ccg.math.geometry.Math_AngleDouble;
+import uk.ac.leeds.ccg.v3d.core.V3D_Metrics;
 
 /**
  * A class for representing coplanar convex hulls. An algorithm for generating a
@@ -123,6 +124,7 @@ public class V3D_ConvexArea_d extends V3D_Area_d {
             List<V3D_Point_d> points) {
         super(points.get(0).env, points.get(0).offset,
                 new V3D_Plane_d(points.get(0), n));
+        V3D_Metrics.count(env, V3D_Metrics.Op.HULL, this);
         this.points = new HashMap<>();
         triangles = new HashMap<>();
         edges = new HashMap<>();
@@ -283,10 +285,12 @@ public class V3D_ConvexArea_d extends V3D_Area_d {
      */
     @Override
     public V3D_Plane_d getPl() {
-        if (pl == null) {
-            pl = triangles.get(0).getPl();
+        V3D_Plane_d x = pl;
+        if (x == null) {
+            x = triangles.get(0).getPl();
+            pl = x;
         }
-        return pl;
+        return x;
     }
 
     @Override
@@ -419,13 +423,15 @@ public class V3D_ConvexArea_d extends V3D_Area_d {
 
     @Override
     public V3D_AABB_d getAABB() {
-        if (en == null) {
-            en = points.get(0).getAABB();
+        V3D_AABB_d x = en;
+        if (x == null) {
+            x = points.get(0).getAABB();
             for (int i = 1; i < points.size(); i++) {
-                en = en.union(points.get(i).getAABB());
+                x = x.union(points.get(i).getAABB());
             }
+            en = x;
         }
-        return en;
+        return x;
     }
 
     /**
@@ -769,7 +775,7 @@ public class V3D_ConvexArea_d extends V3D_Area_d {
      * @return {@code true} if {@code this} is intersected by {@code p}.
      */
     public boolean intersects00(V3D_Point_d p, double epsilon) {
-        return triangles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(triangles.values(), x
                 -> x.intersectsCoplanar(p, epsilon));
     }
 
@@ -784,7 +790,7 @@ public class V3D_ConvexArea_d extends V3D_Area_d {
     @Override
     public boolean intersects(V3D_AABB_d aabb, double epsilon) {
         if (getAABB().intersects(aabb)) {
-            return triangles.values().parallelStream().anyMatch(x
+            return getPolicy().anyMatch(triangles.values(), x
                     -> x.intersects(aabb, epsilon));
         }
         return false;
@@ -813,7 +819,7 @@ public class V3D_ConvexArea_d extends V3D_Area_d {
      * @return {@code true} iff {@code this} is intersected by {@code p}.
      */
     public boolean intersects0(V3D_Line_d l, double epsilon) {
-        return triangles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(triangles.values(), x
                 -> x.intersects(l, epsilon));
     }
 
@@ -840,7 +846,7 @@ public class V3D_ConvexArea_d extends V3D_Area_d {
      * @return {@code true} iff {@code this} is intersected by {@code l}.
      */
     public boolean intersects0(V3D_LineSegment_d l, double epsilon) {
-        return triangles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(triangles.values(), x
                 -> x.intersects(l, epsilon));
     }
 
@@ -854,7 +860,7 @@ public class V3D_ConvexArea_d extends V3D_Area_d {
      */
     @Override
     public boolean intersects(V3D_Ray_d r, double epsilon) {
-        return triangles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(triangles.values(), x
                 -> x.intersects(r, epsilon));
     }
 
@@ -869,7 +875,7 @@ public class V3D_ConvexArea_d extends V3D_Area_d {
      */
     @Override
     public boolean intersectsNonCoplanar(V3D_Ray_d r, double epsilon) {
-        return triangles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(triangles.values(), x
                 -> x.intersectsNonCoplanar(r, epsilon));
     }
 
@@ -896,7 +902,7 @@ public class V3D_ConvexArea_d extends V3D_Area_d {
      * @return {@code true} if {@code this} is intersected by {@code t}.
      */
     public boolean intersects0(V3D_Triangle_d t, double epsilon) {
-        return triangles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(triangles.values(), x
                 -> x.intersectsNonCoplanar(t, epsilon));
     }
 
@@ -1015,6 +1021,20 @@ public class V3D_ConvexArea_d extends V3D_Area_d {
      */
     public V3D_FiniteGeometry_d clip(V3D_Plane_d pl, V3D_Point_d p,
             double epsilon) {
+        return snap(clip0(pl, p, epsilon));
+    }
+
+    /**
+     * Clips this without snap rounding.
+     *
+     * @param pl The plane that clips.
+     * @param p A point that is used to return the side.
+     * @param epsilon The tolerance within which two vectors are regarded as
+     * equal.
+     * @return null, the whole or a part of this.
+     */
+    private V3D_FiniteGeometry_d clip0(V3D_Plane_d pl, V3D_Point_d p,
+            double epsilon) {
         V3D_FiniteGeometry_d i = getIntersect(pl, epsilon);
         if (i == null) {
             if (pl.isOnSameSide(points.get(0), p, epsilon)) {
@@ -1071,6 +1091,20 @@ public class V3D_ConvexArea_d extends V3D_Area_d {
      */
     public V3D_FiniteGeometry_d clip(V3D_Triangle_d t,
             V3D_Point_d pt, double epsilon) {
+        return snap(clip0(t, pt, epsilon));
+    }
+
+    /**
+     * Clips this without snap rounding.
+     *
+     * @param t The triangle to clip this with.
+     * @param pt A point that is used to return the side.
+     * @param epsilon The tolerance within which two vectors are regarded as
+     * equal.
+     * @return null, the whole or a part of this.
+     */
+    private V3D_FiniteGeometry_d clip0(V3D_Triangle_d t,
+            V3D_Point_d pt, double epsilon) {
         V3D_Point_d tp = t.getP();
         V3D_Point_d tq = t.getQ();
         V3D_Point_d tr = t.getR();
@@ -79,6 +79,8 @@ import java.util.ArrayList;
  *                z
  * }
  *
+ * {@link V3D_Converter_d} converts to and from the {@code *_d} family.
+ *
  * @author Andy Turner
  * @version 1.0
  */
@@ -22,6 +22,12 @@ import uk.ac.leeds.ccg.v3d.core.d.V3D_Environment_d;
 /**
  * V3D_FiniteGeometry for representing finite geometries.
  *
+ * Lazily computed fields such as {@link #en} are volatile and are set by
+ * getters that compute into a local variable and then publish it with a
+ * single write. A racing thread may compute the same value again, but no
+ * thread sees a partially initialised value, so geometries that are not
+ * modified can be shared between threads without locking.
+ *
  * @author Andy Turner
  * @version 1.0
  */
@@ -32,7 +38,7 @@ public abstract class V3D_FiniteGeometry_d extends V3D_Geometry_d {
     /**
      * For storing the Axis Aligned Bounding Box.
      */
-    protected V3D_AABB_d en;
+    protected volatile V3D_AABB_d en;
     
     /**
      * For getting the envelope of the geometry
@@ -76,6 +82,16 @@ public abstract class V3D_FiniteGeometry_d extends V3D_Geometry_d {
      */
     public abstract V3D_Point_d[] getPointsArray();
     
+    /**
+     * @param g A geometry resulting from an operation on this.
+     * @return g snapped using {@link V3D_Environment_d#snapRounder}, or g if
+     * that is {@code null}.
+     */
+    protected V3D_FiniteGeometry_d snap(V3D_FiniteGeometry_d g) {
+        V3D_SnapRounder_d s = env.snapRounder;
+        return s == null ? g : s.snap(g);
+    }
+
     /**
      * @return A copy of the points of the geometries gs.
      * @param gs The geometries.
@@ -15,15 +15,24 @@
  */
 package uk.ac.leeds.ccg.v3d.geometry.d;
 
+import uk.ac.leeds.ccg.math.geometry.Math_AngleDouble;
 import uk.ac.leeds.ccg.v3d.core.d.V3D_Environment_d;
 
 /**
  * A viewing frustum (https://en.wikipedia.org/wiki/Viewing_frustum) that
- * defines an open ended region of space bounded by 4 planes: {@link #left},
+ * defines a region of space bounded by 4 planes: {@link #left},
  * {@link #top}, {@link #right} and {@link #bottom} that intersect at 
  * {@link #focus}. A near rectangle is defined some distance along from 
- * {@link #focus}. This can be extended to also defined a bounded region with a 
- * far plane that is parallel to and beyond {@link #rect}.
+ * {@link #focus} and the plane of this is the {@link #near} plane. There is
+ * also an optional {@link #far} plane parallel to and beyond {@link #rect}
+ * that bounds the region.
+ * 
+ * For culling, the planes are also stored as equation coefficients oriented
+ * so that the inside of the frustum is on the positive side of each plane.
+ * Bit i of a mask is set if plane i (in the order left, top, right, bottom,
+ * near, far) is still to be tested. The mask returned for a box is the mask
+ * to use for the contents of that box, so planes that a parent box is
+ * entirely inside of are not tested again for its children.
  *
  * @author Andy Turner
  */
@@ -31,6 +40,21 @@ public class V3D_Frustum_d extends V3D_Geometry_d {
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * For indicating that something is outside the frustum.
+     */
+    public static final int OUTSIDE = -1;
+
+    /**
+     * For indicating that something is inside the frustum.
+     */
+    public static final int INSIDE = 0;
+
+    /**
+     * For indicating that something intersects the boundary of the frustum.
+     */
+    public static final int INTERSECTS = 1;
+
     /**
      * The focal point.
      */
@@ -72,7 +96,33 @@ public class V3D_Frustum_d extends V3D_Geometry_d {
     public final V3D_Plane_d right;
 
     /**
-     * Create a new instance.
+     * The near plane (the plane of {@link #rect}).
+     */
+    public final V3D_Plane_d near;
+
+    /**
+     * The far plane or {@code null} if the frustum is open ended.
+     */
+    public final V3D_Plane_d far;
+
+    /**
+     * The distance from {@link #focus} to {@link #far}. This is
+     * {@link Double#POSITIVE_INFINITY} if the frustum is open ended.
+     */
+    public final double farDistance;
+
+    /**
+     * The oriented plane equation coefficients, 4 for each plane.
+     */
+    protected final double[] planes;
+
+    /**
+     * The mask with a bit set for each plane.
+     */
+    protected final int mask;
+
+    /**
+     * Create a new open ended instance.
      *
      * @param env What {@link #env} is set to.
      * @param offset What {@link #offset} is set to.
@@ -81,9 +131,24 @@ public class V3D_Frustum_d extends V3D_Geometry_d {
      */
     public V3D_Frustum_d(V3D_Environment_d env, V3D_Vector_d offset,
             V3D_Point_d focus, V3D_Rectangle_d rect) {
+        this(env, offset, focus, rect, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param env What {@link #env} is set to.
+     * @param offset What {@link #offset} is set to.
+     * @param focus What {@link #focus} is set to.
+     * @param rect What {@link #rect} is set to.
+     * @param farDistance What {@link #farDistance} is set to.
+     */
+    public V3D_Frustum_d(V3D_Environment_d env, V3D_Vector_d offset,
+            V3D_Point_d focus, V3D_Rectangle_d rect, double farDistance) {
         super(env, offset);
         this.focus = focus;
         this.rect = rect;
+        this.farDistance = farDistance;
         horizontalUV = rect.getPQR().getQR().l.v.getUnitVector();
         verticalUV = rect.getPQR().getPQ().l.v.getUnitVector();
         V3D_Point_d rectP = rect.getP();
@@ -94,6 +159,54 @@ public class V3D_Frustum_d extends V3D_Geometry_d {
         this.top = new V3D_Plane_d(focus, rectQ, rectR);
         this.right = new V3D_Plane_d(focus, rectR, rectS);
         this.bottom = new V3D_Plane_d(focus, rectS, rectP);
+        this.near = new V3D_Plane_d(rectP, rectQ, rectR);
+        // The centre of rect.
+        double cx = (rectP.getX() + rectR.getX()) / 2d;
+        double cy = (rectP.getY() + rectR.getY()) / 2d;
+        double cz = (rectP.getZ() + rectR.getZ()) / 2d;
+        double fx = focus.getX();
+        double fy = focus.getY();
+        double fz = focus.getZ();
+        planes = new double[24];
+        setPlane(0, left, cx, cy, cz, true);
+        setPlane(1, top, cx, cy, cz, true);
+        setPlane(2, right, cx, cy, cz, true);
+        setPlane(3, bottom, cx, cy, cz, true);
+        setPlane(4, near, fx, fy, fz, false);
+        if (Double.isInfinite(farDistance)) {
+            far = null;
+            mask = 0b11111;
+        } else {
+            // The unit normal of near pointing away from focus.
+            V3D_Vector_d n = new V3D_Vector_d(planes[16], planes[17],
+                    planes[18]);
+            V3D_Point_d fp = new V3D_Point_d(focus);
+            fp.translate(n.multiply(farDistance));
+            far = new V3D_Plane_d(fp, n);
+            setPlane(5, far, fx, fy, fz, true);
+            mask = 0b111111;
+        }
+    }
+
+    /**
+     * Create a new open ended instance.
+     *
+     * @param env What {@link #env} is set to.
+     * @param offset What {@link #offset} is set to.
+     * @param focus What {@link #focus} is set to.
+     * @param direction The direction of the frustum from the focus.
+     * @param horizontal A vector orthogonal to direction giving the horizontal
+     * orientation.
+     * @param rectDistance The distance to the centre of {@link #rect} from 
+     * {@link focus}.
+     * @param rectWidth The width of the rect rectangle.
+     * @param rectHeight The height of the rect rectangle.
+     */
+    public V3D_Frustum_d(V3D_Environment_d env, V3D_Vector_d offset,
+            V3D_Point_d focus, V3D_Vector_d direction, V3D_Vector_d horizontal,
+            double rectDistance, double rectWidth, double rectHeight) {
+        this(env, offset, focus, direction, horizontal, rectDistance,
+                rectWidth, rectHeight, Double.POSITIVE_INFINITY);
     }
 
     /**
@@ -109,45 +222,253 @@ public class V3D_Frustum_d extends V3D_Geometry_d {
      * {@link focus}.
      * @param rectWidth The width of the rect rectangle.
      * @param rectHeight The height of the rect rectangle.
+     * @param farDistance What {@link #farDistance} is set to.
      */
     public V3D_Frustum_d(V3D_Environment_d env, V3D_Vector_d offset,
             V3D_Point_d focus, V3D_Vector_d direction, V3D_Vector_d horizontal,
+            double rectDistance, double rectWidth, double rectHeight,
+            double farDistance) {
+        this(env, offset, focus, getRect(focus, direction, horizontal,
+                rectDistance, rectWidth, rectHeight), farDistance);
+    }
+
+    /**
+     * @param focus The focus.
+     * @param direction The direction of the frustum from the focus.
+     * @param horizontal A vector orthogonal to direction giving the horizontal
+     * orientation.
+     * @param rectDistance The distance to the centre of the rectangle from
+     * focus.
+     * @param rectWidth The width of the rectangle.
+     * @param rectHeight The height of the rectangle.
+     * @return The near rectangle.
+     */
+    private static V3D_Rectangle_d getRect(V3D_Point_d focus,
+            V3D_Vector_d direction, V3D_Vector_d horizontal,
             double rectDistance, double rectWidth, double rectHeight) {
-        super(env, offset);
-        this.focus = focus;
         V3D_Vector_d directionUV = direction.getUnitVector();
-        horizontalUV = horizontal.getUnitVector();
-        verticalUV = directionUV.getCrossProduct(horizontalUV).getUnitVector();
-        // Init rect
+        V3D_Vector_d hUV = horizontal.getUnitVector();
+        V3D_Vector_d vUV = directionUV.getCrossProduct(hUV).getUnitVector();
         V3D_Point_d rectCentre = new V3D_Point_d(focus);
         rectCentre.translate(directionUV.multiply(rectDistance));
         V3D_Point_d rectP = new V3D_Point_d(rectCentre);
-        rectP.translate(horizontalUV.multiply(-rectWidth / 2d)
-                .add(verticalUV.multiply(-rectHeight / 2d)));
+        rectP.translate(hUV.multiply(-rectWidth / 2d)
+                .add(vUV.multiply(-rectHeight / 2d)));
         V3D_Point_d rectQ = new V3D_Point_d(rectCentre);
-        rectP.translate(horizontalUV.multiply(-rectWidth / 2d)
-                .add(verticalUV.multiply(rectHeight / 2d)));
+        rectQ.translate(hUV.multiply(-rectWidth / 2d)
+                .add(vUV.multiply(rectHeight / 2d)));
         V3D_Point_d rectR = new V3D_Point_d(rectCentre);
-        rectP.translate(horizontalUV.multiply(rectWidth / 2d)
-                .add(verticalUV.multiply(rectHeight / 2d)));
+        rectR.translate(hUV.multiply(rectWidth / 2d)
+                .add(vUV.multiply(rectHeight / 2d)));
         V3D_Point_d rectS = new V3D_Point_d(rectCentre);
-        rectP.translate(horizontalUV.multiply(rectWidth / 2d)
-                .add(verticalUV.multiply(-rectHeight / 2d)));
-        this.rect = new V3D_Rectangle_d(rectP, rectQ, rectR, rectS);
-        this.left = new V3D_Plane_d(focus, rectP, rectQ);
-        this.top = new V3D_Plane_d(focus, rectQ, rectR);
-        this.right = new V3D_Plane_d(focus, rectR, rectS);
-        this.bottom = new V3D_Plane_d(focus, rectS, rectP);
+        rectS.translate(hUV.multiply(rectWidth / 2d)
+                .add(vUV.multiply(-rectHeight / 2d)));
+        return new V3D_Rectangle_d(rectP, rectQ, rectR, rectS);
     }
-    
-    @Override
-    public V3D_Geometry_d rotate(V3D_Ray_d ray, V3D_Vector_d uv, double theta, double epsilon) {
-        throw new UnsupportedOperationException("Not supported yet."); // Generated from nbfs://nbhost/SystemFileSystem/Templates/Classes/Code/GeneratedMethodBody
+
+    /**
+     * Set the coefficients of plane i in {@link #planes} from pl normalised
+     * and oriented using the point (x, y, z).
+     *
+     * @param i The index of the plane.
+     * @param pl The plane.
+     * @param x The x coordinate of the point.
+     * @param y The y coordinate of the point.
+     * @param z The z coordinate of the point.
+     * @param positive If {@code true} then the point is put on the positive
+     * side of the plane, otherwise it is put on the negative side.
+     */
+    private void setPlane(int i, V3D_Plane_d pl, double x, double y,
+            double z, boolean positive) {
+        double[] c = pl.getEquation().coeffs;
+        double m = Math.sqrt(c[0] * c[0] + c[1] * c[1] + c[2] * c[2]);
+        double s = c[0] * x + c[1] * y + c[2] * z + c[3];
+        if ((s < 0d) == positive) {
+            m = -m;
+        }
+        int j = i * 4;
+        planes[j] = c[0] / m;
+        planes[j + 1] = c[1] / m;
+        planes[j + 2] = c[2] / m;
+        planes[j + 3] = c[3] / m;
+    }
+
+    /**
+     * @return The mask with a bit set for each plane.
+     */
+    public int getMask() {
+        return mask;
+    }
+
+    /**
+     * Test the box against the planes in m.
+     *
+     * @param xMin The minimum x of the box.
+     * @param yMin The minimum y of the box.
+     * @param zMin The minimum z of the box.
+     * @param xMax The maximum x of the box.
+     * @param yMax The maximum y of the box.
+     * @param zMax The maximum z of the box.
+     * @param m The mask of planes to test.
+     * @return {@link #OUTSIDE} if the box is outside a plane in m, otherwise
+     * m with the bits cleared for the planes the box is entirely inside of.
+     * So {@link #INSIDE} is returned if the box is inside all the planes.
+     */
+    public int cull(double xMin, double yMin, double zMin, double xMax,
+            double yMax, double zMax, int m) {
+        int r = m;
+        for (int i = 0; m != 0; i++, m >>>= 1) {
+            if ((m & 1) == 0) {
+                continue;
+            }
+            int j = i * 4;
+            double a = planes[j];
+            double b = planes[j + 1];
+            double c = planes[j + 2];
+            double d = planes[j + 3];
+            // The corner furthest along the normal.
+            double px = a >= 0d ? xMax : xMin;
+            double py = b >= 0d ? yMax : yMin;
+            double pz = c >= 0d ? zMax : zMin;
+            if (a * px + b * py + c * pz + d < 0d) {
+                return OUTSIDE;
+            }
+            // The corner furthest against the normal.
+            double nx = a >= 0d ? xMin : xMax;
+            double ny = b >= 0d ? yMin : yMax;
+            double nz = c >= 0d ? zMin : zMax;
+            if (a * nx + b * ny + c * nz + d >= 0d) {
+                r &= ~(1 << i);
+            }
+        }
+        return r;
+    }
+
+    /**
+     * @param box The box to test.
+     * @param m The mask of planes to test.
+     * @return {@link #OUTSIDE} if the box is outside a plane in m, otherwise
+     * m with the bits cleared for the planes the box is entirely inside of.
+     */
+    public int cull(V3D_AABB_d box, int m) {
+        return cull(box.getXMin(), box.getYMin(), box.getZMin(),
+                box.getXMax(), box.getYMax(), box.getZMax(), m);
+    }
+
+    /**
+     * @param t The triangle to test.
+     * @param m The mask of planes to test.
+     * @return {@link #OUTSIDE} if the triangle is outside a plane in m,
+     * otherwise m with the bits cleared for the planes the triangle is
+     * entirely inside of.
+     */
+    public int cull(V3D_Triangle_d t, int m) {
+        V3D_Point_d tp = t.getP();
+        V3D_Point_d tq = t.getQ();
+        V3D_Point_d tr = t.getR();
+        double px = tp.getX();
+        double py = tp.getY();
+        double pz = tp.getZ();
+        double qx = tq.getX();
+        double qy = tq.getY();
+        double qz = tq.getZ();
+        double rx = tr.getX();
+        double ry = tr.getY();
+        double rz = tr.getZ();
+        int r = m;
+        for (int i = 0; m != 0; i++, m >>>= 1) {
+            if ((m & 1) == 0) {
+                continue;
+            }
+            int j = i * 4;
+            double a = planes[j];
+            double b = planes[j + 1];
+            double c = planes[j + 2];
+            double d = planes[j + 3];
+            double sp = a * px + b * py + c * pz + d;
+            double sq = a * qx + b * qy + c * qz + d;
+            double sr = a * rx + b * ry + c * rz + d;
+            if (sp < 0d && sq < 0d && sr < 0d) {
+                return OUTSIDE;
+            }
+            if (sp >= 0d && sq >= 0d && sr >= 0d) {
+                r &= ~(1 << i);
+            }
+        }
+        return r;
+    }
+
+    /**
+     * Classify a box. This is conservative in that some boxes that are
+     * outside near the edges and corners of the frustum are classified as
+     * intersecting.
+     *
+     * @param box The box to classify.
+     * @return {@link #INSIDE}, {@link #OUTSIDE} or {@link #INTERSECTS}.
+     */
+    public int classify(V3D_AABB_d box) {
+        return getClassification(cull(box, mask));
+    }
+
+    /**
+     * Classify a triangle. This is conservative in that some triangles that
+     * are outside near the edges and corners of the frustum are classified
+     * as intersecting.
+     *
+     * @param t The triangle to classify.
+     * @return {@link #INSIDE}, {@link #OUTSIDE} or {@link #INTERSECTS}.
+     */
+    public int classify(V3D_Triangle_d t) {
+        return getClassification(cull(t, mask));
+    }
+
+    /**
+     * @param m A mask returned from a cull method.
+     * @return {@link #INSIDE}, {@link #OUTSIDE} or {@link #INTERSECTS}.
+     */
+    private static int getClassification(int m) {
+        if (m == OUTSIDE) {
+            return OUTSIDE;
+        }
+        return m == 0 ? INSIDE : INTERSECTS;
+    }
+
+    /**
+     * @param pt The point to test.
+     * @return {@code true} if pt is in the frustum.
+     */
+    public boolean contains(V3D_Point_d pt) {
+        double x = pt.getX();
+        double y = pt.getY();
+        double z = pt.getZ();
+        int m = mask;
+        for (int i = 0; m != 0; i++, m >>>= 1) {
+            int j = i * 4;
+            if (planes[j] * x + planes[j + 1] * y + planes[j + 2] * z
+                    + planes[j + 3] < 0d) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
-    public V3D_Geometry_d rotateN(V3D_Ray_d ray, V3D_Vector_d uv, double theta, double epsilon) {
-        throw new UnsupportedOperationException("Not supported yet."); // Generated from nbfs://nbhost/SystemFileSystem/Templates/Classes/Code/GeneratedMethodBody
+    public V3D_Frustum_d rotate(V3D_Ray_d ray, V3D_Vector_d uv,
+            double theta, double epsilon) {
+        theta = Math_AngleDouble.normalise(theta);
+        if (theta == 0d) {
+            return new V3D_Frustum_d(env, offset, new V3D_Point_d(focus),
+                    new V3D_Rectangle_d(rect), farDistance);
+        } else {
+            return rotateN(ray, uv, theta, epsilon);
+        }
     }
 
+    @Override
+    public V3D_Frustum_d rotateN(V3D_Ray_d ray, V3D_Vector_d uv,
+            double theta, double epsilon) {
+        return new V3D_Frustum_d(env, offset,
+                focus.rotate(ray, uv, theta, epsilon),
+                rect.rotate(ray, uv, theta, epsilon), farDistance);
+    }
 }
@@ -16,6 +16,7 @@
 package uk.ac.leeds.ccg.v3d.geometry.d;
 
 import java.io.Serializable;
+import uk.ac.leeds.ccg.v3d.core.V3D_ExecutionPolicy;
 import uk.ac.leeds.ccg.v3d.core.d.V3D_Environment_d;
 
 /**
@@ -86,6 +87,13 @@ public abstract class V3D_Geometry_d implements Serializable {
         this.offset = offset;
     }
 
+    /**
+     * @return The execution policy of {@link #env}.
+     */
+    public V3D_ExecutionPolicy getPolicy() {
+        return V3D_ExecutionPolicy.get(env);
+    }
+
     /**
      * @param pad The padding.
      * @return A padded description.
@@ -68,6 +68,8 @@ import uk.ac.leeds.ccg.math.matrices.Math_Matrix_Double;
  * </ul></li>
  * </ul>
  *
+ * {@link V3D_Converter_d} converts to and from the {@code *_d} family.
+ *
  * @author Andy Turner
  * @version 1.0
  */
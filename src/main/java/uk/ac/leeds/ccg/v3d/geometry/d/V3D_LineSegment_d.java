@@ -20,6 +20,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import uk.ac.leeds.ccg.math.arithmetic.Math_Double;
 import uk.ac.leeds.ccg.math.geometry.Math_AngleDouble;
+import uk.ac.leeds.ccg.v3d.core.V3D_Metrics;
 import uk.ac.leeds.ccg.v3d.core.d.V3D_Environment_d;
 
 /**
@@ -70,12 +71,12 @@ public class V3D_LineSegment_d extends V3D_FiniteGeometry_d {
     /**
      * For storing the plane at l.getP() with a normal given l.v.
      */
-    protected V3D_Plane_d ppl;
+    protected volatile V3D_Plane_d ppl;
 
     /**
      * For storing the plane at getQ() with a normal given by l.v.
      */
-    protected V3D_Plane_d qpl;
+    protected volatile V3D_Plane_d qpl;
 
     /**
      * For storing the length of the line squared.
@@ -89,6 +90,7 @@ public class V3D_LineSegment_d extends V3D_FiniteGeometry_d {
      */
     public V3D_LineSegment_d(V3D_LineSegment_d l) {
         super(l.env, l.offset);
+        V3D_Metrics.count(env, V3D_Metrics.Op.SEGMENT, this);
         this.l = new V3D_Line_d(l.l);
     }
 
@@ -115,6 +117,7 @@ public class V3D_LineSegment_d extends V3D_FiniteGeometry_d {
     public V3D_LineSegment_d(V3D_Environment_d env, V3D_Vector_d offset,
             V3D_Vector_d pv, V3D_Vector_d v) {
         super(env, offset);
+        V3D_Metrics.count(env, V3D_Metrics.Op.SEGMENT, this);
         l = new V3D_Line_d(env, offset, pv, v);
     }
 
@@ -126,6 +129,7 @@ public class V3D_LineSegment_d extends V3D_FiniteGeometry_d {
      */
     public V3D_LineSegment_d(V3D_Point_d p, V3D_Point_d q) {
         super(p.env, p.offset);
+        V3D_Metrics.count(env, V3D_Metrics.Op.SEGMENT, this);
         l = new V3D_Line_d(p, q);
     }
 
@@ -149,6 +153,7 @@ public class V3D_LineSegment_d extends V3D_FiniteGeometry_d {
      */
     public V3D_LineSegment_d(double epsilon, V3D_Point_d... points) {
         super(points[0].env, points[0].offset);
+        V3D_Metrics.count(env, V3D_Metrics.Op.SEGMENT, this);
         V3D_Point_d p0 = points[0];
         V3D_Point_d p1 = points[1];
         V3D_LineSegment_d ls = new V3D_LineSegment_d(p0, p1);
@@ -211,6 +216,7 @@ public class V3D_LineSegment_d extends V3D_FiniteGeometry_d {
      */
     public V3D_LineSegment_d(V3D_Line_d l) {
         super(l.env, l.offset);
+        V3D_Metrics.count(env, V3D_Metrics.Op.SEGMENT, this);
         this.l = new V3D_Line_d(l);
     }
 
@@ -303,10 +309,12 @@ public class V3D_LineSegment_d extends V3D_FiniteGeometry_d {
      */
     @Override
     public V3D_AABB_d getAABB() {
-        if (en == null) {
-            en = new V3D_AABB_d(getP(), getQ());
+        V3D_AABB_d x = en;
+        if (x == null) {
+            x = new V3D_AABB_d(getP(), getQ());
+            en = x;
         }
-        return en;
+        return x;
     }
 
     /**
@@ -641,7 +649,7 @@ public class V3D_LineSegment_d extends V3D_FiniteGeometry_d {
      */
     public static boolean intersects(double epsilon,
             V3D_LineSegment_d l, Collection<V3D_LineSegment_d> ls) {
-        return ls.parallelStream().anyMatch(x -> x.intersects(l, epsilon));
+        return l.getPolicy().anyMatch(ls, x -> x.intersects(l, epsilon));
     }
 
     /**
@@ -665,7 +673,7 @@ public class V3D_LineSegment_d extends V3D_FiniteGeometry_d {
      */
     public static boolean intersects(double epsilon, V3D_Point_d p,
             Collection<V3D_LineSegment_d> ls) {
-        return ls.parallelStream().anyMatch(x -> x.intersects(p, epsilon));
+        return p.getPolicy().anyMatch(ls, x -> x.intersects(p, epsilon));
     }
 
     /**
@@ -1410,10 +1418,12 @@ public class V3D_LineSegment_d extends V3D_FiniteGeometry_d {
      * @return The plane with a point at l.getP() and normal l.v
      */
     public V3D_Plane_d getPPL() {
-        if (ppl == null) {
-            ppl = new V3D_Plane_d(l.getP(), l.v);
+        V3D_Plane_d x = ppl;
+        if (x == null) {
+            x = new V3D_Plane_d(l.getP(), l.v);
+            ppl = x;
         }
-        return ppl;
+        return x;
     }
 
     /**
@@ -1422,10 +1432,12 @@ public class V3D_LineSegment_d extends V3D_FiniteGeometry_d {
      * @return The plane with a point at l.getQ() and normal l.v
      */
     public V3D_Plane_d getQPL() {
-        if (qpl == null) {
-            qpl = new V3D_Plane_d(getQ(), l.v);
+        V3D_Plane_d x = qpl;
+        if (x == null) {
+            x = new V3D_Plane_d(getQ(), l.v);
+            qpl = x;
         }
-        return qpl;
+        return x;
     }
 
     /**
@@ -1509,6 +1521,20 @@ public class V3D_LineSegment_d extends V3D_FiniteGeometry_d {
      */
     public V3D_FiniteGeometry_d clip(V3D_Plane_d pl, V3D_Point_d pt,
             double epsilon) {
+        return snap(clip0(pl, pt, epsilon));
+    }
+
+    /**
+     * Clips this without snap rounding.
+     *
+     * @param pl The plane that clips.
+     * @param pt A point that is used to return the side.
+     * @param epsilon The tolerance within which two vectors are regarded as
+     * equal.
+     * @return null, the whole or a part of this.
+     */
+    private V3D_FiniteGeometry_d clip0(V3D_Plane_d pl, V3D_Point_d pt,
+            double epsilon) {
         V3D_FiniteGeometry_d i = pl.getIntersect(this, epsilon);
         V3D_Point_d tp = getP();
         if (i == null) {
@@ -102,13 +102,13 @@ public class V3D_Line_d extends V3D_Geometry_d {
      * Used to store a point on the line as derived from {@link #offset} and
      * {@link #pv}.
      */
-    protected V3D_Point_d p;
+    protected volatile V3D_Point_d p;
 
     /**
      * Used to store Another point on the line that is derived from
      * {@link #offset}, {@link #pv} and {@link v}.
      */
-    protected V3D_Point_d q;
+    protected volatile V3D_Point_d q;
 
     /**
      * The vector that defines the line. This will not change under translation,
@@ -266,10 +266,12 @@ public class V3D_Line_d extends V3D_Geometry_d {
      * @return {@link #pv} with {@link #offset} applied.
      */
     public V3D_Point_d getP() {
-        if (p == null) {
-            p = new V3D_Point_d(env, offset, pv);
+        V3D_Point_d x = p;
+        if (x == null) {
+            x = new V3D_Point_d(env, offset, pv);
+            p = x;
         }
-        return p;
+        return x;
     }
 
     /**
@@ -279,10 +281,12 @@ public class V3D_Line_d extends V3D_Geometry_d {
      * @return Another point on the line derived from {@link #v}.
      */
     public V3D_Point_d getQ() {
-        if (q == null) {
-            q = new V3D_Point_d(env, offset, pv.add(v));
+        V3D_Point_d x = q;
+        if (x == null) {
+            x = new V3D_Point_d(env, offset, pv.add(v));
+            q = x;
         }
-        return q;
+        return x;
     }
 
     /**
@@ -0,0 +1,330 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.geometry.d;
+
+import java.util.Arrays;
+import uk.ac.leeds.ccg.v3d.core.d.V3D_Environment_d;
+
+/**
+ * An indexed triangle mesh stored in primitive arrays. The coordinates of
+ * vertex i are at indexes i * 3, i * 3 + 1 and i * 3 + 2 of
+ * {@link #vertices} and the vertex indexes of triangle j are at indexes
+ * j * 3, j * 3 + 1 and j * 3 + 2 of {@link #triangles}. Vertices can be
+ * deduplicated as they are added: a vertex with exactly the same coordinates
+ * as one already added is given the same index. This uses an open addressing
+ * hash table of vertex indexes, so no objects are created per vertex.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_Mesh_d {
+
+    /**
+     * The vertex coordinates.
+     */
+    protected double[] vertices;
+
+    /**
+     * The number of vertices.
+     */
+    protected int nVertices;
+
+    /**
+     * The triangle vertex indexes.
+     */
+    protected int[] triangles;
+
+    /**
+     * The number of triangles.
+     */
+    protected int nTriangles;
+
+    /**
+     * The hash table of vertex indexes for deduplication, or {@code null} if
+     * vertices are not deduplicated. Empty slots are -1.
+     */
+    private int[] table;
+
+    /**
+     * Create a new instance.
+     *
+     * @param dedup If {@code true} vertices are deduplicated.
+     */
+    public V3D_Mesh_d(boolean dedup) {
+        this(dedup, 16, 16);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param dedup If {@code true} vertices are deduplicated.
+     * @param vertexCapacity The initial vertex capacity. This is a number of
+     * vertices, not of coordinates.
+     * @param triangleCapacity The initial triangle capacity.
+     * @throws ArithmeticException If a capacity is too large for an array.
+     */
+    public V3D_Mesh_d(boolean dedup, int vertexCapacity,
+            int triangleCapacity) {
+        vertices = new double[Math.multiplyExact(Math.max(1, vertexCapacity),
+                3)];
+        triangles = new int[Math.multiplyExact(Math.max(1, triangleCapacity),
+                3)];
+        if (dedup) {
+            table = new int[Integer.highestOneBit(Math.max(16,
+                    vertexCapacity) * 2 - 1) << 1];
+            Arrays.fill(table, -1);
+        }
+    }
+
+    /**
+     * @return The number of vertices.
+     */
+    public int getNVertices() {
+        return nVertices;
+    }
+
+    /**
+     * @return The number of triangles.
+     */
+    public int getNTriangles() {
+        return nTriangles;
+    }
+
+    /**
+     * @param i The vertex index.
+     * @return The x coordinate of vertex i.
+     */
+    public double getX(int i) {
+        return vertices[i * 3];
+    }
+
+    /**
+     * @param i The vertex index.
+     * @return The y coordinate of vertex i.
+     */
+    public double getY(int i) {
+        return vertices[i * 3 + 1];
+    }
+
+    /**
+     * @param i The vertex index.
+     * @return The z coordinate of vertex i.
+     */
+    public double getZ(int i) {
+        return vertices[i * 3 + 2];
+    }
+
+    /**
+     * @param j The triangle index.
+     * @param k The corner (0, 1 or 2).
+     * @return The index of corner k of triangle j.
+     */
+    public int getVertex(int j, int k) {
+        return triangles[j * 3 + k];
+    }
+
+    /**
+     * @return A copy of the vertex coordinates.
+     */
+    public double[] getVertices() {
+        return Arrays.copyOf(vertices, nVertices * 3);
+    }
+
+    /**
+     * @return A copy of the triangle vertex indexes.
+     */
+    public int[] getTriangles() {
+        return Arrays.copyOf(triangles, nTriangles * 3);
+    }
+
+    /**
+     * Add a vertex. If vertices are deduplicated and there is already a
+     * vertex with the same coordinates, the index of that is returned.
+     *
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @param z The z coordinate.
+     * @return The index of the vertex.
+     */
+    public int addVertex(double x, double y, double z) {
+        // Normalise -0 so that it is equal to 0.
+        x += 0d;
+        y += 0d;
+        z += 0d;
+        int slot = 0;
+        if (table != null) {
+            int mask = table.length - 1;
+            slot = hash(x, y, z) & mask;
+            while (table[slot] != -1) {
+                int i = table[slot] * 3;
+                if (vertices[i] == x && vertices[i + 1] == y
+                        && vertices[i + 2] == z) {
+                    return table[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+        if (nVertices * 3 == vertices.length) {
+            vertices = Arrays.copyOf(vertices, vertices.length * 2);
+        }
+        int i = nVertices++;
+        vertices[i * 3] = x;
+        vertices[i * 3 + 1] = y;
+        vertices[i * 3 + 2] = z;
+        if (table != null) {
+            table[slot] = i;
+            if (nVertices * 2 > table.length) {
+                rehash();
+            }
+        }
+        return i;
+    }
+
+    /**
+     * @return A hash of the coordinates.
+     */
+    private static int hash(double x, double y, double z) {
+        long h = Double.doubleToLongBits(x);
+        h = h * 31 + Double.doubleToLongBits(y);
+        h = h * 31 + Double.doubleToLongBits(z);
+        h ^= (h >>> 33);
+        h *= 0xff51afd7ed558ccdL;
+        h ^= (h >>> 33);
+        return (int) h;
+    }
+
+    /**
+     * Double the size of the hash table.
+     */
+    private void rehash() {
+        table = new int[table.length * 2];
+        Arrays.fill(table, -1);
+        int mask = table.length - 1;
+        for (int i = 0; i < nVertices; i++) {
+            int slot = hash(vertices[i * 3], vertices[i * 3 + 1],
+                    vertices[i * 3 + 2]) & mask;
+            while (table[slot] != -1) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = i;
+        }
+    }
+
+    /**
+     * Add a triangle.
+     *
+     * @param a The index of the first vertex.
+     * @param b The index of the second vertex.
+     * @param c The index of the third vertex.
+     * @return The index of the triangle.
+     */
+    public int addTriangle(int a, int b, int c) {
+        if (nTriangles * 3 == triangles.length) {
+            triangles = Arrays.copyOf(triangles, triangles.length * 2);
+        }
+        int j = nTriangles++;
+        triangles[j * 3] = a;
+        triangles[j * 3 + 1] = b;
+        triangles[j * 3 + 2] = c;
+        return j;
+    }
+
+    /**
+     * Add a triangle and its vertices.
+     *
+     * @param t The triangle.
+     * @return The index of the triangle.
+     */
+    public int addTriangle(V3D_Triangle_d t) {
+        V3D_Point_d p = t.getP();
+        V3D_Point_d q = t.getQ();
+        V3D_Point_d r = t.getR();
+        return addTriangle(addVertex(p.getX(), p.getY(), p.getZ()),
+                addVertex(q.getX(), q.getY(), q.getZ()),
+                addVertex(r.getX(), r.getY(), r.getZ()));
+    }
+
+    /**
+     * Stop deduplicating vertices and release the hash table.
+     */
+    public void endDedup() {
+        table = null;
+    }
+
+    /**
+     * Trim the arrays to size.
+     */
+    public void trim() {
+        vertices = Arrays.copyOf(vertices, Math.max(1, nVertices) * 3);
+        triangles = Arrays.copyOf(triangles, Math.max(1, nTriangles) * 3);
+    }
+
+    /**
+     * @param env The environment.
+     * @return The Axis Aligned Bounding Box of the vertices or {@code null}
+     * if there are none.
+     */
+    public V3D_AABB_d getAABB(V3D_Environment_d env) {
+        if (nVertices == 0) {
+            return null;
+        }
+        double xMin = Double.POSITIVE_INFINITY;
+        double xMax = Double.NEGATIVE_INFINITY;
+        double yMin = Double.POSITIVE_INFINITY;
+        double yMax = Double.NEGATIVE_INFINITY;
+        double zMin = Double.POSITIVE_INFINITY;
+        double zMax = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < nVertices * 3; i += 3) {
+            xMin = Math.min(xMin, vertices[i]);
+            xMax = Math.max(xMax, vertices[i]);
+            yMin = Math.min(yMin, vertices[i + 1]);
+            yMax = Math.max(yMax, vertices[i + 1]);
+            zMin = Math.min(zMin, vertices[i + 2]);
+            zMax = Math.max(zMax, vertices[i + 2]);
+        }
+        return new V3D_AABB_d(env, xMin, xMax, yMin, yMax, zMin, zMax);
+    }
+
+    /**
+     * Create triangles. Degenerate triangles (with two corners the same) are
+     * skipped.
+     *
+     * @param env The environment.
+     * @return The triangles.
+     */
+    public V3D_Triangle_d[] getTriangles(V3D_Environment_d env) {
+        V3D_Triangle_d[] r = new V3D_Triangle_d[nTriangles];
+        int n = 0;
+        for (int j = 0; j < nTriangles; j++) {
+            V3D_Vector_d p = getVector(triangles[j * 3]);
+            V3D_Vector_d q = getVector(triangles[j * 3 + 1]);
+            V3D_Vector_d s = getVector(triangles[j * 3 + 2]);
+            if (!(p.equals(q) || p.equals(s) || q.equals(s))) {
+                r[n++] = new V3D_Triangle_d(env, p, q, s);
+            }
+        }
+        return n == r.length ? r : Arrays.copyOf(r, n);
+    }
+
+    /**
+     * @param i The vertex index.
+     * @return The position vector of vertex i.
+     */
+    private V3D_Vector_d getVector(int i) {
+        return new V3D_Vector_d(vertices[i * 3], vertices[i * 3 + 1],
+                vertices[i * 3 + 2]);
+    }
+}
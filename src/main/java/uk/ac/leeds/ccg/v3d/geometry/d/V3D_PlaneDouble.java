@@ -47,6 +47,8 @@ import uk.ac.leeds.ccg.math.matrices.Math_Matrix_Double;
  * <li>{@code n.getDX(oom)(x(t)−r.getX(oom))+n.getDY(oom)(y(t)−r.getY(oom))+n.getDZ(oom)(z(t)−r.getZ(oom)) = 0}</li>
  * </ol>
  *
+ * {@link V3D_Converter_d} converts to and from the {@code *_d} family.
+ *
  * @author Andy Turner
  * @version 1.0
  */
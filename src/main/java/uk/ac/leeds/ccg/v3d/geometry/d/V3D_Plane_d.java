@@ -18,6 +18,7 @@ package uk.ac.leeds.ccg.v3d.geometry.d;
 import uk.ac.leeds.ccg.math.arithmetic.Math_Double;
 import uk.ac.leeds.ccg.math.geometry.Math_AngleDouble;
 import uk.ac.leeds.ccg.math.matrices.Math_Matrix_Double;
+import uk.ac.leeds.ccg.v3d.core.V3D_Metrics;
 import uk.ac.leeds.ccg.v3d.core.d.V3D_Environment_d;
 
 /**
@@ -100,6 +101,7 @@ public class V3D_Plane_d extends V3D_Geometry_d {
      */
     public V3D_Plane_d(V3D_Plane_d pl) {
         super(pl.env, new V3D_Vector_d(pl.offset));
+        V3D_Metrics.count(env, V3D_Metrics.Op.PLANE, this);
         this.pv = new V3D_Vector_d(pl.pv);
         this.n = new V3D_Vector_d(pl.n);
     }
@@ -112,6 +114,7 @@ public class V3D_Plane_d extends V3D_Geometry_d {
      */
     public V3D_Plane_d(V3D_Point_d p, V3D_Vector_d n) {
         super(p.env, new V3D_Vector_d(p.offset));
+        V3D_Metrics.count(env, V3D_Metrics.Op.PLANE, this);
         this.pv = new V3D_Vector_d(p.rel);
         this.p = new V3D_Point_d(p);
         this.n = new V3D_Vector_d(n);
@@ -126,6 +129,7 @@ public class V3D_Plane_d extends V3D_Geometry_d {
      */
     public V3D_Plane_d(V3D_LineSegment_d l, V3D_Vector_d inplane) {
         super(l.env, new V3D_Vector_d(l.offset));
+        V3D_Metrics.count(env, V3D_Metrics.Op.PLANE, this);
         pv = new V3D_Vector_d(l.getP().rel);
         p = new V3D_Point_d(l.getP());
         n = l.l.v.getCrossProduct(inplane);
@@ -144,6 +148,7 @@ public class V3D_Plane_d extends V3D_Geometry_d {
      */
     public V3D_Plane_d(V3D_Point_d p, V3D_Point_d q, V3D_Point_d r) {
         super(p.env, new V3D_Vector_d(p.offset));
+        V3D_Metrics.count(env, V3D_Metrics.Op.PLANE, this);
         V3D_Vector_d qv = q.getVector();
         V3D_Vector_d pq = qv.subtract(p.getVector());
         V3D_Vector_d qr = r.getVector().subtract(qv);
@@ -199,6 +204,7 @@ public class V3D_Plane_d extends V3D_Geometry_d {
     public V3D_Plane_d(V3D_Environment_d env, V3D_Vector_d ptv, V3D_Vector_d offset,
             V3D_Vector_d pv, V3D_Vector_d qv, V3D_Vector_d rv) {
         super(env, new V3D_Vector_d(offset));
+        V3D_Metrics.count(env, V3D_Metrics.Op.PLANE, this);
         V3D_Vector_d pq = qv.subtract(pv);
         if (pq.equals(V3D_Vector_d.ZERO)) {
             throw new RuntimeException("Cannot define plane as p equals q.");
@@ -258,6 +264,7 @@ public class V3D_Plane_d extends V3D_Geometry_d {
     public V3D_Plane_d(V3D_Environment_d env, V3D_Vector_d offset, V3D_Plane_d pl,
             double epsilon) {
         super(env, offset);
+        V3D_Metrics.count(env, V3D_Metrics.Op.PLANE, this);
         n = pl.getN();
         if (offset.equals(epsilon, pl.offset)) {
             pv = new V3D_Vector_d(pl.pv);
@@ -799,6 +806,7 @@ public class V3D_Plane_d extends V3D_Geometry_d {
      * @return The V3D_Geometry_d.
      */
     public V3D_Geometry_d getIntersect(V3D_Line_d l, double epsilon) {
+        V3D_Metrics.count(env, V3D_Metrics.Op.INTERSECT, this);
         if (isParallel(l, epsilon)) {
             if (isOnPlane(l, epsilon)) {
                 return l;
@@ -1396,15 +1404,48 @@ public class V3D_Plane_d extends V3D_Geometry_d {
      */
     public int getSideOfPlane(V3D_Point_d pt, double epsilon) {
         double[] coeffs = getEquation().coeffs;
-        Double x = coeffs[0] * pt.getX()
+        return getSideOfPlane(coeffs, pt, epsilon);
+    }
+
+    /**
+     * @param coeffs The coefficients of the equation of the plane.
+     * @param pt The point.
+     * @param epsilon The tolerance within which two vector components are
+     * regarded as being equal.
+     * @return The side of the plane pt is on.
+     */
+    private static int getSideOfPlane(double[] coeffs, V3D_Point_d pt,
+            double epsilon) {
+        double x = coeffs[0] * pt.getX()
                 + coeffs[1] * pt.getY()
                 + coeffs[2] * pt.getZ()
                 + coeffs[3];
         if (Math_Double.equals(x, 0d, epsilon)) {
             return 0;
         } else {
-            return x.compareTo(0d);
+            return Double.compare(x, 0d);
+        }
+    }
+
+    /**
+     * Classifies each of pts by the side of the plane they are on. The
+     * coefficients of the equation of the plane are got once for all the
+     * points.
+     *
+     * @param pts The points.
+     * @param epsilon The tolerance within which two vector components are
+     * regarded as being equal.
+     * @return An array with the side of each point in pts: 1 if the point is
+     * on the side of the plane the normal points to, -1 if it is on the other
+     * side and 0 if it is on the plane.
+     */
+    public int[] getSideOfPlane(V3D_Point_d[] pts, double epsilon) {
+        double[] coeffs = getEquation().coeffs;
+        int[] r = new int[pts.length];
+        for (int i = 0; i < pts.length; i++) {
+            r[i] = getSideOfPlane(coeffs, pts[i], epsilon);
         }
+        return r;
     }
 
     /**
@@ -1455,8 +1496,15 @@ public class V3D_Plane_d extends V3D_Geometry_d {
                 return true;
             }
             default -> {
+                // Classify pts[0] once rather than for each pair.
+                double[] coeffs = getEquation().coeffs;
+                int s0 = getSideOfPlane(coeffs, pts[0], epsilon);
+                if (s0 == 0) {
+                    return true;
+                }
                 for (int i = 1; i < pts.length; i++) {
-                    if (!isOnSameSide(pts[0], pts[i], epsilon)) {
+                    int s = getSideOfPlane(coeffs, pts[i], epsilon);
+                    if (s != 0 && s != s0) {
                         return false;
                     }
                 }
@@ -1488,8 +1536,13 @@ public class V3D_Plane_d extends V3D_Geometry_d {
                 return true;
             }
             default -> {
+                double[] coeffs = getEquation().coeffs;
+                int s0 = getSideOfPlane(coeffs, pts[0], epsilon);
+                if (s0 == 0) {
+                    return false;
+                }
                 for (int i = 1; i < pts.length; i++) {
-                    if (!isOnSameSideNotOn(pts[0], pts[i], epsilon)) {
+                    if (getSideOfPlane(coeffs, pts[i], epsilon) != s0) {
                         return false;
                     }
                 }
@@ -52,6 +52,8 @@ import uk.ac.leeds.ccg.math.geometry.Math_AngleDouble;
  *                   z         -
  * }
  *
+ * {@link V3D_Converter_d} converts to and from the {@code *_d} family.
+ *
  * @author Andy Turner
  * @version 1.0
  */
@@ -184,10 +184,12 @@ public class V3D_PolygonNoInternalHoles_d extends V3D_Area_d {
 
     @Override
     public V3D_Plane_d getPl() {
-        if (pl == null) {
-            pl = ch.getPl();
+        V3D_Plane_d x = pl;
+        if (x == null) {
+            x = ch.getPl();
+            pl = x;
         }
-        return pl;
+        return x;
     }
 
     @Override
@@ -316,10 +318,12 @@ public class V3D_PolygonNoInternalHoles_d extends V3D_Area_d {
 
     @Override
     public V3D_AABB_d getAABB() {
-        if (en == null) {
-            en = ch.getAABB();
+        V3D_AABB_d x = en;
+        if (x == null) {
+            x = ch.getAABB();
+            en = x;
         }
-        return en;
+        return x;
     }
 
     /**
@@ -379,7 +383,7 @@ public class V3D_PolygonNoInternalHoles_d extends V3D_Area_d {
      */
     public boolean intersects000(V3D_Point_d pt, double epsilon) {
         return !V3D_LineSegment_d.intersects(epsilon, pt, ch.edges.values())
-                && !externalHoles.values().parallelStream().anyMatch(x
+                && !getPolicy().anyMatch(externalHoles.values(), x
                         -> x.contains(pt, epsilon));
     }
 
@@ -448,11 +452,11 @@ public class V3D_PolygonNoInternalHoles_d extends V3D_Area_d {
      * @return {@code true} iff there is containment.
      */
     public boolean contains(V3D_ConvexArea_d ch, double epsilon) {
-        return this.ch.getEdges().values().parallelStream().allMatch(x
+        return getPolicy().allMatch(this.ch.getEdges().values(), x
                 -> !V3D_LineSegment_d.intersects(
                         epsilon, x, ch.getEdges().values()))
-                && this.ch.getPoints().values().parallelStream()
-                        .anyMatch(x -> contains(x, epsilon));
+                && getPolicy().anyMatch(this.ch.getPoints().values(),
+                        x -> contains(x, epsilon));
     }
 
     /**
@@ -495,7 +499,7 @@ public class V3D_PolygonNoInternalHoles_d extends V3D_Area_d {
      */
     public boolean intersects0(V3D_LineSegment_d l, double epsilon) {
         return V3D_LineSegment_d.intersects(epsilon, l, edges.values())
-                || !externalHoles.values().parallelStream().anyMatch(x
+                || !getPolicy().anyMatch(externalHoles.values(), x
                         -> x.contains(l, epsilon));
     }
 
@@ -526,7 +530,7 @@ public class V3D_PolygonNoInternalHoles_d extends V3D_Area_d {
      * @return {@code true} if l intersects this.
      */
     public boolean intersectsNonCoplanar(V3D_Ray_d r, double epsilon) {
-        return !externalHoles.values().parallelStream().anyMatch(x
+        return !getPolicy().anyMatch(externalHoles.values(), x
                 -> x.intersects(r, epsilon));
     }
 
@@ -586,12 +590,12 @@ public class V3D_PolygonNoInternalHoles_d extends V3D_Area_d {
                  * If any of the edges intersect or if one geometry contains the
                  * other, there is an intersection.
                  */
-                edges.values().parallelStream().anyMatch(x
+                getPolicy().anyMatch(edges.values(), x
                         -> V3D_LineSegment_d.intersects(epsilon, x,
                         ch.getEdges().values()))
-                || ch.getPoints().values().parallelStream().anyMatch(x
+                || getPolicy().anyMatch(ch.getPoints().values(), x
                         -> intersects(x, epsilon))
-                || getPoints().values().parallelStream().anyMatch(x
+                || getPolicy().anyMatch(getPoints().values(), x
                         -> ch.intersects(x, epsilon));
     }
 
@@ -609,12 +613,12 @@ public class V3D_PolygonNoInternalHoles_d extends V3D_Area_d {
                  * If any of the edges intersect or if one polygon contains the
                  * other, there is an intersection.
                  */
-                edges.values().parallelStream().anyMatch(x
+                getPolicy().anyMatch(edges.values(), x
                         -> V3D_LineSegment_d.intersects(epsilon, x,
                         p.edges.values()))
-                || getPoints().values().parallelStream().anyMatch(x
+                || getPolicy().anyMatch(getPoints().values(), x
                         -> p.intersects(x, epsilon))
-                || p.getPoints().values().parallelStream().anyMatch(x
+                || getPolicy().anyMatch(p.getPoints().values(), x
                         -> intersects(x, epsilon));
     }
 
@@ -120,7 +120,7 @@ public class V3D_Polygon_d extends V3D_PolygonNoInternalHoles_d {
     @Override
     public boolean intersects(V3D_Point_d pt, double epsilon) {
         return super.intersects(pt, epsilon)
-                && !internalHoles.values().parallelStream().anyMatch(x
+                && !getPolicy().anyMatch(internalHoles.values(), x
                         -> x.contains(pt, epsilon));
     }
 
@@ -147,7 +147,7 @@ public class V3D_Polygon_d extends V3D_PolygonNoInternalHoles_d {
      * @return {@code true} iff {@link #internalHoles} contains {@code pt}.
      */
     public boolean internalHolesContains(V3D_Point_d pt, double epsilon) {
-        return internalHoles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(internalHoles.values(), x
                 -> x.contains(pt, epsilon));
     }
 
@@ -160,7 +160,7 @@ public class V3D_Polygon_d extends V3D_PolygonNoInternalHoles_d {
      * @return {@code true} iff {@link #internalHoles} intersects {@code pt}.
      */
     public boolean internalHolesIntersects(V3D_Point_d pt, double epsilon) {
-        return internalHoles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(internalHoles.values(), x
                 -> x.intersects(pt, epsilon));
     }
 
@@ -187,7 +187,7 @@ public class V3D_Polygon_d extends V3D_PolygonNoInternalHoles_d {
      * @return {@code true} iff {@link #internalHoles} contains {@code l}.
      */
     public boolean internalHolesContains(V3D_LineSegment_d l, double epsilon) {
-        return internalHoles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(internalHoles.values(), x
                 -> x.contains(l, epsilon));
     }
 
@@ -200,7 +200,7 @@ public class V3D_Polygon_d extends V3D_PolygonNoInternalHoles_d {
      * @return {@code true} iff {@link #internalHoles} intersects {@code l}.
      */
     public boolean internalHolesIntersects(V3D_LineSegment_d l, double epsilon) {
-        return internalHoles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(internalHoles.values(), x
                 -> x.intersects(l, epsilon));
     }
 
@@ -241,7 +241,7 @@ public class V3D_Polygon_d extends V3D_PolygonNoInternalHoles_d {
      * @return {@code true} iff {@link #internalHoles} contains {@code t}.
      */
     public boolean internalHolesContains(V3D_Triangle_d t, double epsilon) {
-        return internalHoles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(internalHoles.values(), x
                 -> x.contains(t, epsilon));
     }
 
@@ -254,7 +254,7 @@ public class V3D_Polygon_d extends V3D_PolygonNoInternalHoles_d {
      * @return {@code true} iff {@link #internalHoles} intersects {@code t}.
      */
     public boolean internalHolesIntersects(V3D_Triangle_d t, double epsilon) {
-        return internalHoles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(internalHoles.values(), x
                 -> x.intersects(t, epsilon));
     }
 
@@ -295,7 +295,7 @@ public class V3D_Polygon_d extends V3D_PolygonNoInternalHoles_d {
      * @return {@code true} iff {@link #internalHoles} contains {@code t}.
      */
     public boolean internalHolesContains(V3D_Rectangle_d r, double epsilon) {
-        return internalHoles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(internalHoles.values(), x
                 -> x.contains(r, epsilon));
     }
 
@@ -308,7 +308,7 @@ public class V3D_Polygon_d extends V3D_PolygonNoInternalHoles_d {
      * @return {@code true} iff {@link #internalHoles} intersects {@code t}.
      */
     public boolean internalHolesIntersects(V3D_Rectangle_d r, double epsilon) {
-        return internalHoles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(internalHoles.values(), x
                 -> x.intersects(r, epsilon));
     }
 
@@ -349,7 +349,7 @@ public class V3D_Polygon_d extends V3D_PolygonNoInternalHoles_d {
      * @return {@code true} iff {@link #internalHoles} contains {@code ch}.
      */
     public boolean internalHolesContains(V3D_ConvexArea_d ch, double epsilon) {
-        return internalHoles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(internalHoles.values(), x
                 -> x.contains(ch, epsilon));
     }
 
@@ -362,7 +362,7 @@ public class V3D_Polygon_d extends V3D_PolygonNoInternalHoles_d {
      * @return {@code true} iff {@link #internalHoles} intersects {@code ch}.
      */
     public boolean internalHolesIntersects(V3D_ConvexArea_d ch, double epsilon) {
-        return internalHoles.values().parallelStream().anyMatch(x
+        return getPolicy().anyMatch(internalHoles.values(), x
                 -> x.intersects(ch, epsilon));
     }
 
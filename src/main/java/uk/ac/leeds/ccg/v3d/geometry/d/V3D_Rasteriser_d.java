@@ -0,0 +1,455 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.geometry.d;
+
+import uk.ac.leeds.ccg.v3d.core.V3D_ExecutionPolicy;
+
+/**
+ * A software rasteriser of triangles with a depth buffer. There are three
+ * stages:
+ * <ol>
+ * <li>Each triangle is culled against the planes of a {@link V3D_Frustum_d}.
+ * Those crossing the near plane are clipped by it using
+ * {@link V3D_Triangle_d#clip(V3D_Plane_d, V3D_Point_d, double)}. What
+ * remains is projected onto the screen. This is done in parallel over the
+ * triangles.</li>
+ * <li>The projected triangles are binned into the screen tiles that their
+ * screen bounds overlap.</li>
+ * <li>Each tile is rasterised using edge functions with perspective correct
+ * depth interpolation. This is done in parallel over the tiles.</li>
+ * </ol>
+ * The output is in the same form as for {@link V3D_RayCaster_d} so the two
+ * can be compared: pixel centres are sampled and the depth is the distance
+ * from the focus.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_Rasteriser_d {
+
+    /**
+     * The policy for running stages in parallel.
+     */
+    public final V3D_ExecutionPolicy policy;
+
+    /**
+     * The tile size in pixels.
+     */
+    public final int tileSize;
+
+    /**
+     * The tolerance used in clipping.
+     */
+    public final double epsilon;
+
+    /**
+     * Create a new instance.
+     *
+     * @param policy What {@link #policy} is set to.
+     * @param epsilon What {@link #epsilon} is set to.
+     */
+    public V3D_Rasteriser_d(V3D_ExecutionPolicy policy, double epsilon) {
+        this(policy, V3D_RayCaster_d.DEFAULT_TILE_SIZE, epsilon);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param policy What {@link #policy} is set to.
+     * @param tileSize What {@link #tileSize} is set to.
+     * @param epsilon What {@link #epsilon} is set to.
+     */
+    public V3D_Rasteriser_d(V3D_ExecutionPolicy policy, int tileSize,
+            double epsilon) {
+        this.policy = policy;
+        this.tileSize = tileSize;
+        this.epsilon = epsilon;
+    }
+
+    /**
+     * The camera derived from a frustum and image size.
+     */
+    private static class Camera {
+
+        /**
+         * The focus.
+         */
+        final double ox, oy, oz;
+
+        /**
+         * The forward, right and up unit vectors.
+         */
+        final double fx, fy, fz, rx, ry, rz, ux, uy, uz;
+
+        /**
+         * The distance from the focus to the near plane.
+         */
+        final double near;
+
+        /**
+         * The distance from the focus to the far plane.
+         */
+        final double far;
+
+        /**
+         * The right and up coordinates of the top left of the rectangle.
+         */
+        final double left, top;
+
+        /**
+         * The number of pixels per unit on the near plane.
+         */
+        final double sx, sy;
+
+        /**
+         * The image size.
+         */
+        final int width, height;
+
+        Camera(V3D_Frustum_d f, int width, int height) {
+            this.width = width;
+            this.height = height;
+            ox = f.focus.getX();
+            oy = f.focus.getY();
+            oz = f.focus.getZ();
+            fx = f.planes[16];
+            fy = f.planes[17];
+            fz = f.planes[18];
+            near = -(fx * ox + fy * oy + fz * oz + f.planes[19]);
+            far = f.farDistance;
+            V3D_Point_d p = f.rect.getP();
+            V3D_Point_d q = f.rect.getQ();
+            V3D_Point_d r = f.rect.getR();
+            double ax = r.getX() - q.getX();
+            double ay = r.getY() - q.getY();
+            double az = r.getZ() - q.getZ();
+            double w = Math.sqrt(ax * ax + ay * ay + az * az);
+            rx = ax / w;
+            ry = ay / w;
+            rz = az / w;
+            double bx = q.getX() - p.getX();
+            double by = q.getY() - p.getY();
+            double bz = q.getZ() - p.getZ();
+            double h = Math.sqrt(bx * bx + by * by + bz * bz);
+            ux = bx / h;
+            uy = by / h;
+            uz = bz / h;
+            double qx = q.getX() - ox;
+            double qy = q.getY() - oy;
+            double qz = q.getZ() - oz;
+            left = qx * rx + qy * ry + qz * rz;
+            top = qx * ux + qy * uy + qz * uz;
+            sx = width / w;
+            sy = height / h;
+        }
+
+        /**
+         * Project a point writing the column, row and reciprocal depth into
+         * out from index i.
+         */
+        void project(V3D_Point_d pt, double[] out, int i) {
+            double x = pt.getX() - ox;
+            double y = pt.getY() - oy;
+            double z = pt.getZ() - oz;
+            double d = x * fx + y * fy + z * fz;
+            double s = near / d;
+            out[i] = ((x * rx + y * ry + z * rz) * s - left) * sx;
+            out[i + 1] = (top - (x * ux + y * uy + z * uz) * s) * sy;
+            out[i + 2] = 1d / d;
+        }
+    }
+
+    /**
+     * Render an image.
+     *
+     * @param ts The triangles.
+     * @param f The frustum.
+     * @param width The width of the image in pixels.
+     * @param height The height of the image in pixels.
+     * @return The buffers.
+     */
+    public V3D_RayCaster_d.Buffers render(V3D_Triangle_d[] ts,
+            V3D_Frustum_d f, int width, int height) {
+        V3D_RayCaster_d.Buffers b = new V3D_RayCaster_d.Buffers(width,
+                height);
+        render(ts, f, b);
+        return b;
+    }
+
+    /**
+     * Render an image into existing buffers.
+     *
+     * @param ts The triangles.
+     * @param f The frustum.
+     * @param b The buffers to render into. These are cleared first.
+     */
+    public void render(V3D_Triangle_d[] ts, V3D_Frustum_d f,
+            V3D_RayCaster_d.Buffers b) {
+        b.clear();
+        Camera cam = new Camera(f, b.width, b.height);
+        V3D_BatchQuery_d q = new V3D_BatchQuery_d(policy);
+        // Stage 1: Cull, clip and project.
+        double[][] screen = new double[ts.length][];
+        double[] normals = new double[ts.length * 3];
+        V3D_Point_d inside = new V3D_Point_d(f.focus);
+        inside.translate(new V3D_Vector_d(cam.fx, cam.fy, cam.fz)
+                .multiply(cam.near * 2d));
+        q.forEach(ts.length, i -> {
+            screen[i] = project(ts[i], f, cam, inside, normals, i);
+        });
+        // Stage 2: Bin.
+        int tw = (b.width + tileSize - 1) / tileSize;
+        int th = (b.height + tileSize - 1) / tileSize;
+        int nt = tw * th;
+        int[] counts = new int[nt + 1];
+        bin(screen, tw, th, counts, null, null);
+        for (int t = 0; t < nt; t++) {
+            counts[t + 1] += counts[t];
+        }
+        int[] bins = new int[counts[nt]];
+        int[] offsets = new int[counts[nt]];
+        bin(screen, tw, th, counts.clone(), bins, offsets);
+        // Stage 3: Rasterise tiles.
+        q = new V3D_BatchQuery_d(policy, 1);
+        q.forEach(nt, tile -> {
+            int c0 = (tile % tw) * tileSize;
+            int r0 = (tile / tw) * tileSize;
+            for (int j = counts[tile]; j < counts[tile + 1]; j++) {
+                int i = bins[j];
+                rasterise(screen[i], offsets[j], normals, i, cam, b, c0, r0,
+                        Math.min(b.width, c0 + tileSize),
+                        Math.min(b.height, r0 + tileSize));
+            }
+        });
+    }
+
+    /**
+     * Bin the projected triangles into the tiles that their screen bounds
+     * overlap.
+     *
+     * @param screen The projected triangles.
+     * @param tw The number of tiles in a row.
+     * @param th The number of tiles in a column.
+     * @param counts If bins is {@code null} then for each tile t counts[t + 1]
+     * is incremented for each triangle in t, otherwise counts[t] is the next
+     * index in bins to use for tile t.
+     * @param bins For storing the indexes of the triangles for each tile, or
+     * {@code null} if counting.
+     * @param offsets For storing the offsets of the triangles in screen.
+     */
+    private void bin(double[][] screen, int tw, int th, int[] counts,
+            int[] bins, int[] offsets) {
+        for (int i = 0; i < screen.length; i++) {
+            double[] s = screen[i];
+            if (s == null) {
+                continue;
+            }
+            for (int k = 0; k < s.length; k += 9) {
+                int c0 = Math.max(0, (int) Math.floor(Math.min(s[k],
+                        Math.min(s[k + 3], s[k + 6]))) / tileSize);
+                int c1 = Math.min(tw - 1, (int) Math.floor(Math.max(s[k],
+                        Math.max(s[k + 3], s[k + 6]))) / tileSize);
+                int r0 = Math.max(0, (int) Math.floor(Math.min(s[k + 1],
+                        Math.min(s[k + 4], s[k + 7]))) / tileSize);
+                int r1 = Math.min(th - 1, (int) Math.floor(Math.max(s[k + 1],
+                        Math.max(s[k + 4], s[k + 7]))) / tileSize);
+                for (int r = r0; r <= r1; r++) {
+                    for (int c = c0; c <= c1; c++) {
+                        int t = r * tw + c;
+                        if (bins == null) {
+                            counts[t + 1]++;
+                        } else {
+                            offsets[counts[t]] = k;
+                            bins[counts[t]++] = i;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Cull, clip and project a triangle.
+     *
+     * @param t The triangle.
+     * @param f The frustum.
+     * @param cam The camera.
+     * @param inside A point beyond the near plane.
+     * @param normals For storing the unit normal of the triangle.
+     * @param i The index of the triangle.
+     * @return The projected triangles (9 values each: column, row and
+     * reciprocal depth for each corner) or {@code null}.
+     */
+    private double[] project(V3D_Triangle_d t, V3D_Frustum_d f, Camera cam,
+            V3D_Point_d inside, double[] normals, int i) {
+        int m = f.cull(t, f.getMask());
+        if (m == V3D_Frustum_d.OUTSIDE) {
+            return null;
+        }
+        V3D_Point_d[] pts;
+        if ((m & (1 << 4)) == 0) {
+            pts = new V3D_Point_d[]{t.getP(), t.getQ(), t.getR()};
+        } else {
+            V3D_FiniteGeometry_d g = t.clip(f.near, inside, epsilon);
+            if (g instanceof V3D_Triangle_d ct) {
+                pts = new V3D_Point_d[]{ct.getP(), ct.getQ(), ct.getR()};
+            } else if (g instanceof V3D_ConvexArea_d ca) {
+                pts = ca.getPointsArray();
+            } else {
+                return null;
+            }
+        }
+        V3D_Vector_d n = t.getPl().n.getUnitVector();
+        normals[i * 3] = n.dx;
+        normals[i * 3 + 1] = n.dy;
+        normals[i * 3 + 2] = n.dz;
+        int np = pts.length;
+        double[] p = new double[np * 3];
+        for (int k = 0; k < np; k++) {
+            cam.project(pts[k], p, k * 3);
+        }
+        if (np > 3) {
+            sortByAngle(p, np);
+        }
+        // Fan triangulate.
+        double[] r = new double[(np - 2) * 9];
+        for (int k = 0; k < np - 2; k++) {
+            System.arraycopy(p, 0, r, k * 9, 3);
+            System.arraycopy(p, (k + 1) * 3, r, k * 9 + 3, 6);
+        }
+        return r;
+    }
+
+    /**
+     * Sort the projected points of a convex polygon by angle around their
+     * centroid so they can be fan triangulated.
+     *
+     * @param p The projected points, 3 values each.
+     * @param np The number of points.
+     */
+    private static void sortByAngle(double[] p, int np) {
+        double cx = 0d;
+        double cy = 0d;
+        for (int k = 0; k < np; k++) {
+            cx += p[k * 3];
+            cy += p[k * 3 + 1];
+        }
+        cx /= np;
+        cy /= np;
+        double[] a = new double[np];
+        for (int k = 0; k < np; k++) {
+            a[k] = Math.atan2(p[k * 3 + 1] - cy, p[k * 3] - cx);
+        }
+        // Insertion sort as there are few points.
+        for (int k = 1; k < np; k++) {
+            double ak = a[k];
+            double x = p[k * 3];
+            double y = p[k * 3 + 1];
+            double z = p[k * 3 + 2];
+            int j = k - 1;
+            while (j >= 0 && a[j] > ak) {
+                a[j + 1] = a[j];
+                p[(j + 1) * 3] = p[j * 3];
+                p[(j + 1) * 3 + 1] = p[j * 3 + 1];
+                p[(j + 1) * 3 + 2] = p[j * 3 + 2];
+                j--;
+            }
+            a[j + 1] = ak;
+            p[(j + 1) * 3] = x;
+            p[(j + 1) * 3 + 1] = y;
+            p[(j + 1) * 3 + 2] = z;
+        }
+    }
+
+    /**
+     * Rasterise a projected triangle within a tile.
+     *
+     * @param s The projected triangles.
+     * @param k The offset of the triangle in s.
+     * @param normals The triangle normals.
+     * @param i The index of the triangle.
+     * @param cam The camera.
+     * @param b The buffers.
+     * @param c0 The first column of the tile.
+     * @param r0 The first row of the tile.
+     * @param c1 The column after the last column of the tile.
+     * @param r1 The row after the last row of the tile.
+     */
+    private static void rasterise(double[] s, int k, double[] normals, int i,
+            Camera cam, V3D_RayCaster_d.Buffers b, int c0, int r0, int c1,
+            int r1) {
+        double x0 = s[k];
+        double y0 = s[k + 1];
+        double z0 = s[k + 2];
+        double x1 = s[k + 3];
+        double y1 = s[k + 4];
+        double z1 = s[k + 5];
+        double x2 = s[k + 6];
+        double y2 = s[k + 7];
+        double z2 = s[k + 8];
+        double area = (x1 - x0) * (y2 - y0) - (y1 - y0) * (x2 - x0);
+        if (area == 0d) {
+            return;
+        }
+        int cMin = Math.max(c0, (int) Math.floor(Math.min(x0,
+                Math.min(x1, x2))));
+        int cMax = Math.min(c1 - 1, (int) Math.ceil(Math.max(x0,
+                Math.max(x1, x2))));
+        int rMin = Math.max(r0, (int) Math.floor(Math.min(y0,
+                Math.min(y1, y2))));
+        int rMax = Math.min(r1 - 1, (int) Math.ceil(Math.max(y0,
+                Math.max(y1, y2))));
+        double inv = 1d / area;
+        double nx = normals[i * 3];
+        double ny = normals[i * 3 + 1];
+        double nz = normals[i * 3 + 2];
+        for (int r = rMin; r <= rMax; r++) {
+            double py = r + 0.5d;
+            for (int c = cMin; c <= cMax; c++) {
+                double px = c + 0.5d;
+                double w0 = ((x2 - x1) * (py - y1) - (y2 - y1) * (px - x1))
+                        * inv;
+                double w1 = ((x0 - x2) * (py - y2) - (y0 - y2) * (px - x2))
+                        * inv;
+                double w2 = 1d - w0 - w1;
+                if (w0 < 0d || w1 < 0d || w2 < 0d) {
+                    continue;
+                }
+                double z = 1d / (w0 * z0 + w1 * z1 + w2 * z2);
+                if (z > cam.far) {
+                    continue;
+                }
+                // The direction to the pixel centre on the near plane.
+                double u = cam.left + px / cam.sx;
+                double v = cam.top - py / cam.sy;
+                double dx = cam.fx * cam.near + cam.rx * u + cam.ux * v;
+                double dy = cam.fy * cam.near + cam.ry * u + cam.uy * v;
+                double dz = cam.fz * cam.near + cam.rz * u + cam.uz * v;
+                double distance = z / cam.near
+                        * Math.sqrt(dx * dx + dy * dy + dz * dz);
+                int pi = r * b.width + c;
+                if (distance < b.depth[pi]) {
+                    b.depth[pi] = distance;
+                    b.ids[pi] = i;
+                    double sign = nx * dx + ny * dy + nz * dz > 0d ? -1d : 1d;
+                    b.normals[pi * 3] = nx * sign;
+                    b.normals[pi * 3 + 1] = ny * sign;
+                    b.normals[pi * 3 + 2] = nz * sign;
+                }
+            }
+        }
+    }
+}
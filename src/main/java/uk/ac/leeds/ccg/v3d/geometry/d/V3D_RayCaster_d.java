@@ -0,0 +1,328 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.geometry.d;
+
+import java.util.Arrays;
+import uk.ac.leeds.ccg.v3d.core.V3D_ExecutionPolicy;
+
+/**
+ * A headless ray casting renderer of triangles. The triangles are packed
+ * (see {@link V3D_BatchQuery_d#pack(V3D_Triangle_d[])}) and put in a
+ * {@link V3D_AABBTree_d}. A ray is cast from the focus of a
+ * {@link V3D_Frustum_d} through the centre of each pixel of its rectangle
+ * and the nearest triangle hit is found by traversing the tree. The image is
+ * divided into square tiles which are rendered in parallel according to an
+ * execution policy. The output is a {@link Buffers} of primitive arrays.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_RayCaster_d {
+
+    /**
+     * The default tile size in pixels.
+     */
+    public static final int DEFAULT_TILE_SIZE = 16;
+
+    /**
+     * The depth, normal and id buffers of a rendered image. The pixel in
+     * column c of row r (row 0 is the top) is at index r * width + c.
+     */
+    public static class Buffers {
+
+        /**
+         * The width in pixels.
+         */
+        public final int width;
+
+        /**
+         * The height in pixels.
+         */
+        public final int height;
+
+        /**
+         * The distance from the focus to the nearest hit for each pixel, or
+         * {@link Double#POSITIVE_INFINITY} where nothing is hit.
+         */
+        public final double[] depth;
+
+        /**
+         * The unit normal of the triangle hit for each pixel, 3 components per
+         * pixel. The normals face the focus. These are 0 where nothing is hit.
+         */
+        public final double[] normals;
+
+        /**
+         * The index of the triangle hit for each pixel, or -1 where nothing is
+         * hit.
+         */
+        public final int[] ids;
+
+        /**
+         * Create a new instance.
+         *
+         * @param width What {@link #width} is set to.
+         * @param height What {@link #height} is set to.
+         */
+        public Buffers(int width, int height) {
+            this.width = width;
+            this.height = height;
+            depth = new double[width * height];
+            normals = new double[width * height * 3];
+            ids = new int[width * height];
+        }
+
+        /**
+         * Reset the buffers.
+         */
+        public void clear() {
+            Arrays.fill(depth, Double.POSITIVE_INFINITY);
+            Arrays.fill(normals, 0d);
+            Arrays.fill(ids, -1);
+        }
+    }
+
+    /**
+     * The packed triangles.
+     */
+    protected final double[] packed;
+
+    /**
+     * The unit normals of the triangles, 3 components per triangle.
+     */
+    protected final double[] normals;
+
+    /**
+     * The tree of triangle boxes. The data of each proxy is the index of the
+     * triangle.
+     */
+    protected final V3D_AABBTree_d<Integer> tree;
+
+    /**
+     * The policy for rendering tiles in parallel.
+     */
+    public final V3D_ExecutionPolicy policy;
+
+    /**
+     * The tile size in pixels.
+     */
+    public final int tileSize;
+
+    /**
+     * The tolerance used in ray triangle tests.
+     */
+    public final double epsilon;
+
+    /**
+     * Create a new instance.
+     *
+     * @param ts The triangles.
+     * @param policy What {@link #policy} is set to.
+     * @param epsilon What {@link #epsilon} is set to.
+     */
+    public V3D_RayCaster_d(V3D_Triangle_d[] ts, V3D_ExecutionPolicy policy,
+            double epsilon) {
+        this(ts, policy, DEFAULT_TILE_SIZE, epsilon);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param ts The triangles.
+     * @param policy What {@link #policy} is set to.
+     * @param tileSize What {@link #tileSize} is set to.
+     * @param epsilon What {@link #epsilon} is set to.
+     */
+    public V3D_RayCaster_d(V3D_Triangle_d[] ts, V3D_ExecutionPolicy policy,
+            int tileSize, double epsilon) {
+        this.policy = policy;
+        this.tileSize = tileSize;
+        this.epsilon = epsilon;
+        packed = V3D_BatchQuery_d.pack(ts);
+        normals = new double[ts.length * 3];
+        tree = new V3D_AABBTree_d<>(ts.length == 0 ? null : ts[0].env, 0d,
+                0d);
+        for (int i = 0; i < ts.length; i++) {
+            int i9 = i * 9;
+            double px = packed[i9];
+            double py = packed[i9 + 1];
+            double pz = packed[i9 + 2];
+            double qx = px + packed[i9 + 3];
+            double qy = py + packed[i9 + 4];
+            double qz = pz + packed[i9 + 5];
+            double rx = px + packed[i9 + 6];
+            double ry = py + packed[i9 + 7];
+            double rz = pz + packed[i9 + 8];
+            tree.insert(Math.min(px, Math.min(qx, rx)),
+                    Math.min(py, Math.min(qy, ry)),
+                    Math.min(pz, Math.min(qz, rz)),
+                    Math.max(px, Math.max(qx, rx)),
+                    Math.max(py, Math.max(qy, ry)),
+                    Math.max(pz, Math.max(qz, rz)), i);
+            // n = (q - p) x (r - p)
+            double nx = packed[i9 + 4] * packed[i9 + 8]
+                    - packed[i9 + 5] * packed[i9 + 7];
+            double ny = packed[i9 + 5] * packed[i9 + 6]
+                    - packed[i9 + 3] * packed[i9 + 8];
+            double nz = packed[i9 + 3] * packed[i9 + 7]
+                    - packed[i9 + 4] * packed[i9 + 6];
+            double m = Math.sqrt(nx * nx + ny * ny + nz * nz);
+            if (m > 0d) {
+                normals[i * 3] = nx / m;
+                normals[i * 3 + 1] = ny / m;
+                normals[i * 3 + 2] = nz / m;
+            }
+        }
+        // Clear the record of inserted proxies as pairs are not wanted.
+        tree.clearMoved();
+    }
+
+    /**
+     * Render an image.
+     *
+     * @param f The frustum defining the focus and the image rectangle. If f
+     * has a far plane hits beyond it are ignored.
+     * @param width The width of the image in pixels.
+     * @param height The height of the image in pixels.
+     * @return The buffers.
+     */
+    public Buffers render(V3D_Frustum_d f, int width, int height) {
+        Buffers b = new Buffers(width, height);
+        render(f, b);
+        return b;
+    }
+
+    /**
+     * Render an image into existing buffers.
+     *
+     * @param f The frustum defining the focus and the image rectangle. If f
+     * has a far plane hits beyond it are ignored.
+     * @param b The buffers to render into. These are cleared first.
+     */
+    public void render(V3D_Frustum_d f, Buffers b) {
+        b.clear();
+        V3D_Point_d rq = f.rect.getQ();
+        V3D_Point_d rr = f.rect.getR();
+        V3D_Point_d rp = f.rect.getP();
+        double[] cam = new double[]{
+            f.focus.getX(), f.focus.getY(), f.focus.getZ(),
+            rq.getX(), rq.getY(), rq.getZ(),
+            // Along a row.
+            (rr.getX() - rq.getX()) / b.width,
+            (rr.getY() - rq.getY()) / b.width,
+            (rr.getZ() - rq.getZ()) / b.width,
+            // Down a column.
+            (rp.getX() - rq.getX()) / b.height,
+            (rp.getY() - rq.getY()) / b.height,
+            (rp.getZ() - rq.getZ()) / b.height};
+        int tw = (b.width + tileSize - 1) / tileSize;
+        int th = (b.height + tileSize - 1) / tileSize;
+        V3D_BatchQuery_d q = new V3D_BatchQuery_d(policy, 1);
+        q.forEach(tw * th, tile -> renderTile(f, cam, b, (tile % tw)
+                * tileSize, (tile / tw) * tileSize));
+    }
+
+    /**
+     * Render a tile.
+     *
+     * @param f The frustum.
+     * @param cam The focus, the top left corner of the rectangle, and the
+     * pixel steps along a row and down a column.
+     * @param b The buffers.
+     * @param c0 The first column of the tile.
+     * @param r0 The first row of the tile.
+     */
+    private void renderTile(V3D_Frustum_d f, double[] cam, Buffers b, int c0,
+            int r0) {
+        int[] stack = new int[Math.max(16, tree.getHeight() + 2)];
+        int[] id = new int[1];
+        double ox = cam[0];
+        double oy = cam[1];
+        double oz = cam[2];
+        int c1 = Math.min(b.width, c0 + tileSize);
+        int r1 = Math.min(b.height, r0 + tileSize);
+        for (int r = r0; r < r1; r++) {
+            for (int c = c0; c < c1; c++) {
+                double u = c + 0.5d;
+                double v = r + 0.5d;
+                double dx = cam[3] + u * cam[6] + v * cam[9] - ox;
+                double dy = cam[4] + u * cam[7] + v * cam[10] - oy;
+                double dz = cam[5] + u * cam[8] + v * cam[11] - oz;
+                double m = Math.sqrt(dx * dx + dy * dy + dz * dz);
+                dx /= m;
+                dy /= m;
+                dz /= m;
+                double tMax = getFarT(f, dx, dy, dz);
+                id[0] = -1;
+                double fdx = dx;
+                double fdy = dy;
+                double fdz = dz;
+                double t = tree.raycast(ox, oy, oz, dx, dy, dz, tMax, stack,
+                        (proxy, tm) -> {
+                            int i = tree.getData(proxy);
+                            double ti = V3D_BatchQuery_d.getHit(packed, i,
+                                    ox, oy, oz, fdx, fdy, fdz, epsilon);
+                            // A miss is POSITIVE_INFINITY and so is tm if
+                            // there is no far plane.
+                            if (ti != Double.POSITIVE_INFINITY && ti <= tm) {
+                                id[0] = i;
+                                return ti;
+                            }
+                            return tm;
+                        });
+                if (id[0] != -1) {
+                    int k = r * b.width + c;
+                    int i = id[0];
+                    b.depth[k] = t;
+                    b.ids[k] = i;
+                    double nx = normals[i * 3];
+                    double ny = normals[i * 3 + 1];
+                    double nz = normals[i * 3 + 2];
+                    if (nx * dx + ny * dy + nz * dz > 0d) {
+                        nx = -nx;
+                        ny = -ny;
+                        nz = -nz;
+                    }
+                    b.normals[k * 3] = nx;
+                    b.normals[k * 3 + 1] = ny;
+                    b.normals[k * 3 + 2] = nz;
+                }
+            }
+        }
+    }
+
+    /**
+     * @param f The frustum.
+     * @param dx The x component of the unit ray direction.
+     * @param dy The y component of the unit ray direction.
+     * @param dz The z component of the unit ray direction.
+     * @return The ray parameter at the far plane or
+     * {@link Double#POSITIVE_INFINITY} if there is no far plane.
+     */
+    private static double getFarT(V3D_Frustum_d f, double dx, double dy,
+            double dz) {
+        if (f.far == null) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double[] pl = f.planes;
+        double d = -(pl[20] * dx + pl[21] * dy + pl[22] * dz);
+        if (d <= 0d) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return (pl[20] * f.focus.getX() + pl[21] * f.focus.getY()
+                + pl[22] * f.focus.getZ() + pl[23]) / d;
+    }
+}
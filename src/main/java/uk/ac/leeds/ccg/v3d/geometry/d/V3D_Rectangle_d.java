@@ -145,26 +145,30 @@ public class V3D_Rectangle_d extends V3D_Area_d {
 
     @Override
     public HashMap<Integer, V3D_Point_d> getPoints() {
-        if (points == null) {
-            points = new HashMap<>(4);
-            points.put(0, getP());
-            points.put(1, getQ());
-            points.put(2, getR());
-            points.put(3, getS());
+        HashMap<Integer, V3D_Point_d> x = points;
+        if (x == null) {
+            x = new HashMap<>(4);
+            x.put(0, getP());
+            x.put(1, getQ());
+            x.put(2, getR());
+            x.put(3, getS());
+            points = x;
         }
-        return points;
+        return x;
     }
 
     @Override
     public HashMap<Integer, V3D_LineSegment_d> getEdges() {
-        if (edges == null) {
-            edges = new HashMap<>(4);
-            edges.put(0, pqr.getPQ());
-            edges.put(1, pqr.getQR());
-            edges.put(2, rsp.getPQ());
-            edges.put(3, rsp.getQR());
+        HashMap<Integer, V3D_LineSegment_d> x = edges;
+        if (x == null) {
+            x = new HashMap<>(4);
+            x.put(0, pqr.getPQ());
+            x.put(1, pqr.getQR());
+            x.put(2, rsp.getPQ());
+            x.put(3, rsp.getQR());
+            edges = x;
         }
-        return edges;
+        return x;
     }
 
     /**
@@ -211,10 +215,12 @@ public class V3D_Rectangle_d extends V3D_Area_d {
 
     @Override
     public V3D_AABB_d getAABB() {
-        if (en == null) {
-            en = rsp.getAABB().union(pqr.getAABB());
+        V3D_AABB_d x = en;
+        if (x == null) {
+            x = rsp.getAABB().union(pqr.getAABB());
+            en = x;
         }
-        return en;
+        return x;
     }
 
     /**
@@ -0,0 +1,376 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.geometry.d;
+
+import java.io.Serializable;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * For snap rounding the outputs of double precision operations such as
+ * clipping. Each vertex is snapped to the nearest point of a grid with
+ * spacing {@link #cell}. Snapping is deterministic, so vertices that are
+ * shared by adjacent outputs snap to exactly the same coordinates, and nearly
+ * coincident vertices become equal. This keeps the outputs of chains of
+ * operations watertight, and {@link V3D_Point_d#getUnique(List, double)} can
+ * then be used with a zero epsilon (or {@link #getUnique(Collection)} which is
+ * faster).
+ *
+ * The decisions about what a snapped geometry becomes (a point, a line
+ * segment, a triangle or a convex area) and which snapped vertices are on its
+ * convex hull are made exactly using the integer grid indexes of the
+ * vertices, so they are consistent regardless of the rounding errors in the
+ * computations that produced the vertices.
+ *
+ * Snap rounding is enabled for clipping by setting
+ * {@link uk.ac.leeds.ccg.v3d.core.d.V3D_Environment_d#snapRounder}.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_SnapRounder_d implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The grid spacing.
+     */
+    public final double cell;
+
+    /**
+     * Create a new instance.
+     *
+     * @param cell What {@link #cell} is set to. This must be positive and
+     * finite.
+     */
+    public V3D_SnapRounder_d(double cell) {
+        if (!(cell > 0d) || Double.isInfinite(cell)) {
+            throw new IllegalArgumentException("cell " + cell
+                    + " is not positive and finite.");
+        }
+        this.cell = cell;
+    }
+
+    /**
+     * @param x The coordinate. This divided by {@link #cell} is assumed to be
+     * well within the range of a long.
+     * @return The index of the grid line nearest to x.
+     */
+    public long getIndex(double x) {
+        return Math.round(x / cell);
+    }
+
+    /**
+     * @param x The coordinate.
+     * @return The coordinate of the grid line nearest to x.
+     */
+    public double snap(double x) {
+        return getIndex(x) * cell;
+    }
+
+    /**
+     * @param p The point.
+     * @return The grid indexes of p.
+     */
+    public long[] getIndexes(V3D_Point_d p) {
+        return new long[]{getIndex(p.getX()), getIndex(p.getY()),
+            getIndex(p.getZ())};
+    }
+
+    /**
+     * @param p The point to snap.
+     * @return A new point at the grid point nearest to p.
+     */
+    public V3D_Point_d snap(V3D_Point_d p) {
+        return new V3D_Point_d(p.env, snap(p.getX()), snap(p.getY()),
+                snap(p.getZ()));
+    }
+
+    /**
+     * Snap the vertices of g and return the resulting geometry. Points, line
+     * segments, triangles and convex areas are supported. Other geometries
+     * are returned unchanged.
+     *
+     * @param g The geometry to snap. This may be {@code null}.
+     * @return The snapped geometry which may be of a lower dimension than g
+     * if its vertices snap together, or {@code null} if g is {@code null}.
+     * @throws ArithmeticException If the differences between the grid
+     * indexes of the vertices overflow a long.
+     */
+    public V3D_FiniteGeometry_d snap(V3D_FiniteGeometry_d g) {
+        if (g == null) {
+            return null;
+        } else if (g instanceof V3D_Point_d p) {
+            return snap(p);
+        } else if (g instanceof V3D_LineSegment_d) {
+            return getGeometry(null, g.getPointsArray());
+        } else if (g instanceof V3D_Triangle_d t) {
+            return getGeometry(t.pl.n, t.getPointsArray());
+        } else if (g instanceof V3D_ConvexArea_d c) {
+            return getGeometry(c.pl.n, c.getPointsArray());
+        }
+        return g;
+    }
+
+    /**
+     * @param pts The points to snap.
+     * @return The snapped points with duplicates removed. The order of first
+     * occurrence is retained.
+     */
+    public ArrayList<V3D_Point_d> getUnique(Collection<V3D_Point_d> pts) {
+        ArrayList<V3D_Point_d> r = new ArrayList<>();
+        getUnique(pts, r, new ArrayList<>());
+        return r;
+    }
+
+    /**
+     * @param pts The points to snap.
+     * @param r The list to add the unique snapped points to.
+     * @param is The list to add the grid indexes of the points in r to.
+     */
+    private void getUnique(Collection<V3D_Point_d> pts, List<V3D_Point_d> r,
+            List<long[]> is) {
+        HashMap<Key, V3D_Point_d> m = new HashMap<>();
+        for (V3D_Point_d p : pts) {
+            long[] i = getIndexes(p);
+            Key k = new Key(i);
+            if (!m.containsKey(k)) {
+                V3D_Point_d sp = new V3D_Point_d(p.env, i[0] * cell,
+                        i[1] * cell, i[2] * cell);
+                m.put(k, sp);
+                r.add(sp);
+                is.add(i);
+            }
+        }
+    }
+
+    /**
+     * Snap pts and return the geometry they define: a point, a line segment,
+     * a triangle or a convex area.
+     *
+     * @param n A normal used to orient a resulting triangle or convex area.
+     * If this is {@code null}, then the orientation is not specified.
+     * @param pts The points which are all assumed to be coplanar.
+     * @return The snapped geometry.
+     * @throws ArithmeticException If the differences between the grid
+     * indexes of the points overflow a long.
+     */
+    public V3D_FiniteGeometry_d getGeometry(V3D_Vector_d n,
+            V3D_Point_d... pts) {
+        ArrayList<V3D_Point_d> ps = new ArrayList<>();
+        ArrayList<long[]> is = new ArrayList<>();
+        getUnique(Arrays.asList(pts), ps, is);
+        int size = ps.size();
+        if (size == 1) {
+            return ps.get(0);
+        }
+        long[] a = is.get(0);
+        long[] u = subtract(is.get(1), a);
+        int c = -1;
+        for (int k = 2; k < size; k++) {
+            if (!isZeroCross(u, subtract(is.get(k), a))) {
+                c = k;
+                break;
+            }
+        }
+        if (c == -1) {
+            // Collinear: return the segment between the extreme points.
+            int axis = 0;
+            for (int k = 1; k < 3; k++) {
+                if (Math.abs(u[k]) > Math.abs(u[axis])) {
+                    axis = k;
+                }
+            }
+            int min = 0;
+            int max = 0;
+            for (int k = 1; k < size; k++) {
+                long x = is.get(k)[axis];
+                if (x < is.get(min)[axis]) {
+                    min = k;
+                }
+                if (x > is.get(max)[axis]) {
+                    max = k;
+                }
+            }
+            return new V3D_LineSegment_d(ps.get(min), ps.get(max));
+        }
+        long[] v = subtract(is.get(c), a);
+        // Project by dropping the axis with the largest normal component.
+        double[] nd = new double[3];
+        int axis = -1;
+        for (int k = 0; k < 3; k++) {
+            int i = (k + 1) % 3;
+            int j = (k + 2) % 3;
+            nd[k] = (double) u[i] * v[j] - (double) u[j] * v[i];
+            if (getDeterminantSign(u[i], u[j], v[i], v[j]) != 0
+                    && (axis == -1 || Math.abs(nd[k]) > Math.abs(nd[axis]))) {
+                axis = k;
+            }
+        }
+        // Scale from grid units as the magnitude matters for epsilon tests.
+        double c2 = cell * cell;
+        V3D_Vector_d normal = new V3D_Vector_d(nd[0] * c2, nd[1] * c2,
+                nd[2] * c2);
+        if (n != null && normal.getDotProduct(n) < 0d) {
+            normal = normal.reverse();
+        }
+        int[] h = getConvexHull(is, (axis + 1) % 3, (axis + 2) % 3);
+        if (h.length == 3) {
+            V3D_Triangle_d t = new V3D_Triangle_d(ps.get(h[0]), ps.get(h[1]),
+                    ps.get(h[2]));
+            if (n != null && t.pl.n.getDotProduct(n) < 0d) {
+                t = new V3D_Triangle_d(ps.get(h[0]), ps.get(h[2]),
+                        ps.get(h[1]));
+            }
+            return t;
+        }
+        V3D_Point_d[] hps = new V3D_Point_d[h.length];
+        for (int k = 0; k < h.length; k++) {
+            hps[k] = ps.get(h[k]);
+        }
+        return new V3D_ConvexArea_d(0d, normal, hps);
+    }
+
+    /**
+     * Calculates the convex hull of the grid points in the plane of the
+     * retained axes i and j using Andrew's monotone chain algorithm.
+     *
+     * @param is The grid indexes of the unique points.
+     * @param i The first retained axis.
+     * @param j The second retained axis.
+     * @return The indexes in is of the corners of the convex hull in
+     * anticlockwise order in the projection.
+     */
+    private static int[] getConvexHull(List<long[]> is, int i, int j) {
+        Integer[] order = new Integer[is.size()];
+        for (int k = 0; k < order.length; k++) {
+            order[k] = k;
+        }
+        Arrays.sort(order, (x, y) -> {
+            int r = Long.compare(is.get(x)[i], is.get(y)[i]);
+            return r != 0 ? r : Long.compare(is.get(x)[j], is.get(y)[j]);
+        });
+        int[] h = new int[2 * order.length + 1];
+        int k = 0;
+        for (int o = 0; o < order.length; o++) {
+            while (k >= 2 && getOrientation(is.get(h[k - 2]), is.get(h[k - 1]),
+                    is.get(order[o]), i, j) <= 0) {
+                k--;
+            }
+            h[k++] = order[o];
+        }
+        for (int o = order.length - 2, t = k + 1; o >= 0; o--) {
+            while (k >= t && getOrientation(is.get(h[k - 2]), is.get(h[k - 1]),
+                    is.get(order[o]), i, j) <= 0) {
+                k--;
+            }
+            h[k++] = order[o];
+        }
+        // The last point is the same as the first.
+        return Arrays.copyOf(h, k - 1);
+    }
+
+    /**
+     * @param a A grid point.
+     * @param b A grid point.
+     * @param c A grid point.
+     * @param i The first retained axis.
+     * @param j The second retained axis.
+     * @return The sign of the 2D cross product of b - a and c - a.
+     * @throws ArithmeticException If there is overflow.
+     */
+    private static int getOrientation(long[] a, long[] b, long[] c, int i,
+            int j) {
+        return getDeterminantSign(Math.subtractExact(b[i], a[i]),
+                Math.subtractExact(b[j], a[j]), Math.subtractExact(c[i], a[i]),
+                Math.subtractExact(c[j], a[j]));
+    }
+
+    /**
+     * @param a A value.
+     * @param b A value.
+     * @param c A value.
+     * @param d A value.
+     * @return The sign of {@code a * d - b * c} calculated exactly.
+     */
+    private static int getDeterminantSign(long a, long b, long c, long d) {
+        try {
+            return Long.signum(Math.subtractExact(Math.multiplyExact(a, d),
+                    Math.multiplyExact(b, c)));
+        } catch (ArithmeticException e) {
+            // Overflow so use BigInteger arithmetic.
+            return BigInteger.valueOf(a).multiply(BigInteger.valueOf(d))
+                    .subtract(BigInteger.valueOf(b).multiply(
+                            BigInteger.valueOf(c))).signum();
+        }
+    }
+
+    /**
+     * @param u A vector.
+     * @param v A vector.
+     * @return {@code true} iff the cross product of u and v is zero.
+     */
+    private static boolean isZeroCross(long[] u, long[] v) {
+        return getDeterminantSign(u[1], u[2], v[1], v[2]) == 0
+                && getDeterminantSign(u[2], u[0], v[2], v[0]) == 0
+                && getDeterminantSign(u[0], u[1], v[0], v[1]) == 0;
+    }
+
+    /**
+     * @param a A grid point.
+     * @param b A grid point.
+     * @return a - b.
+     * @throws ArithmeticException If there is overflow.
+     */
+    private static long[] subtract(long[] a, long[] b) {
+        return new long[]{Math.subtractExact(a[0], b[0]),
+            Math.subtractExact(a[1], b[1]), Math.subtractExact(a[2], b[2])};
+    }
+
+    /**
+     * A key for a grid point.
+     */
+    private static final class Key {
+
+        private final long x, y, z;
+
+        Key(long[] i) {
+            x = i[0];
+            y = i[1];
+            z = i[2];
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key k && k.x == x && k.y == y && k.z == z;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(x) * 31 * 31 + Long.hashCode(y) * 31
+                    + Long.hashCode(z);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(cell=" + cell + ")";
+    }
+}
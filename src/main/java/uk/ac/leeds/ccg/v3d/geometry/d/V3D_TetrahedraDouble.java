@@ -56,6 +56,8 @@ import uk.ac.leeds.ccg.math.geometry.Math_AngleDouble;
  *                           r
  * }
  *
+ * {@link V3D_Converter_d} converts to and from the {@code *_d} family.
+ *
  * @author Andy Turner
  * @version 1.0
  */
@@ -1538,7 +1540,8 @@ public class V3D_TetrahedraDouble extends V3D_FiniteGeometryDouble
     }
 
     /**
-     * Get the distance squared to {@code p}.
+     * Get the distance squared to {@code p}. This is calculated by
+     * {@link V3D_Tetrahedron_d#getDistanceSquared(V3D_Point_d, double)}.
      *
      * @param pt A point.
      * @param epsilon The tolerance within which two vectors are regarded as
@@ -1546,14 +1549,9 @@ public class V3D_TetrahedraDouble extends V3D_FiniteGeometryDouble
      * @return The distance squared to {@code p}.
      */
     public double getDistanceSquared(V3D_PointDouble pt, double epsilon) {
-        if (isIntersectedBy(pt, epsilon)) {
-            return 0d;
-        } else {
-            return Math.min(getPqr().getDistanceSquared(pt, epsilon),
-                    Math.min(getPsq().getDistanceSquared(pt, epsilon),
-                            Math.min(getQsr().getDistanceSquared(pt, epsilon),
-                                    getSpr().getDistanceSquared(pt, epsilon))));
-        }
+        return V3D_Converter_d.toTetrahedron_d(V3D_Converter_d.ENV, this)
+                .getDistanceSquared(V3D_Converter_d.toPoint_d(
+                        V3D_Converter_d.ENV, pt), epsilon);
     }
 
     /**
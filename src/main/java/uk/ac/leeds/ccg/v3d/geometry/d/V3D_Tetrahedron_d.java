@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import uk.ac.leeds.ccg.math.geometry.Math_AngleDouble;
+import uk.ac.leeds.ccg.v3d.core.V3D_Metrics;
 import uk.ac.leeds.ccg.v3d.core.d.V3D_Environment_d;
 
 /**
@@ -87,22 +88,22 @@ public class V3D_Tetrahedron_d extends V3D_Volume_d {
     /**
      * For storing the pqr triangle of the tetrahedron.
      */
-    public V3D_Triangle_d pqr;
+    public volatile V3D_Triangle_d pqr;
 
     /**
      * For storing the qsr triangle of the tetrahedron.
      */
-    public V3D_Triangle_d qsr;
+    public volatile V3D_Triangle_d qsr;
 
     /**
      * For storing the spr triangle of the tetrahedron.
      */
-    public V3D_Triangle_d spr;
+    public volatile V3D_Triangle_d spr;
 
     /**
      * For storing the psq triangle of the tetrahedron.
      */
-    public V3D_Triangle_d psq;
+    public volatile V3D_Triangle_d psq;
 
     /**
      *
@@ -226,13 +227,15 @@ public class V3D_Tetrahedron_d extends V3D_Volume_d {
 
     @Override
     public V3D_AABB_d getAABB() {
-        if (en == null) {
-            en = getP().getAABB()
+        V3D_AABB_d x = en;
+        if (x == null) {
+            x = getP().getAABB()
                     .union(getQ().getAABB())
                     .union(getR().getAABB())
                     .union(getS().getAABB());
+            en = x;
         }
-        return en;
+        return x;
     }
 
     /**
@@ -269,10 +272,12 @@ public class V3D_Tetrahedron_d extends V3D_Volume_d {
      * @return {@link #pqr}
      */
     public V3D_Triangle_d getPqr() {
-        if (pqr == null) {
-            pqr = new V3D_Triangle_d(env, offset, p, q, r);
+        V3D_Triangle_d x = pqr;
+        if (x == null) {
+            x = new V3D_Triangle_d(env, offset, p, q, r);
+            pqr = x;
         }
-        return pqr;
+        return x;
     }
 
     /**
@@ -281,10 +286,12 @@ public class V3D_Tetrahedron_d extends V3D_Volume_d {
      * @return {@link #qsr}
      */
     public V3D_Triangle_d getQsr() {
-        if (qsr == null) {
-            qsr = new V3D_Triangle_d(env, offset, q, s, r);
+        V3D_Triangle_d x = qsr;
+        if (x == null) {
+            x = new V3D_Triangle_d(env, offset, q, s, r);
+            qsr = x;
         }
-        return qsr;
+        return x;
     }
 
     /**
@@ -293,10 +300,12 @@ public class V3D_Tetrahedron_d extends V3D_Volume_d {
      * @return {@link #spr}
      */
     public V3D_Triangle_d getSpr() {
-        if (spr == null) {
-            spr = new V3D_Triangle_d(env, offset, s, p, r);
+        V3D_Triangle_d x = spr;
+        if (x == null) {
+            x = new V3D_Triangle_d(env, offset, s, p, r);
+            spr = x;
         }
-        return spr;
+        return x;
     }
 
     /**
@@ -305,10 +314,12 @@ public class V3D_Tetrahedron_d extends V3D_Volume_d {
      * @return {@link #psq}
      */
     public V3D_Triangle_d getPsq() {
-        if (psq == null) {
-            psq = new V3D_Triangle_d(env, offset, p, s, q);
+        V3D_Triangle_d x = psq;
+        if (x == null) {
+            x = new V3D_Triangle_d(env, offset, p, s, q);
+            psq = x;
         }
-        return psq;
+        return x;
     }
 
     /**
@@ -903,6 +914,7 @@ public class V3D_Tetrahedron_d extends V3D_Volume_d {
      */
     public V3D_FiniteGeometry_d getIntersect(V3D_Plane_d pl,
             double epsilon) {
+        V3D_Metrics.count(env, V3D_Metrics.Op.INTERSECT, this);
         V3D_FiniteGeometry_d pqri = getPqr().getIntersect(pl, epsilon);
         if (pqri == null) {
             V3D_FiniteGeometry_d psqi = getPsq().getIntersect(pl, epsilon);
@@ -1523,26 +1535,30 @@ public class V3D_Tetrahedron_d extends V3D_Volume_d {
 
     @Override
     public HashMap<Integer, V3D_Point_d> getPoints() {
-        if (points == null) {
-            points = new HashMap<>(4);
-            points.put(0, getP());
-            points.put(1, getQ());
-            points.put(2, getR());
-            points.put(3, getS());
+        HashMap<Integer, V3D_Point_d> x = points;
+        if (x == null) {
+            x = new HashMap<>(4);
+            x.put(0, getP());
+            x.put(1, getQ());
+            x.put(2, getR());
+            x.put(3, getS());
+            points = x;
         }
-        return points;
+        return x;
     }
 
     @Override
     public HashMap<Integer, V3D_Area_d> getFaces() {
-        if (faces == null) {
-            faces = new HashMap<>(4);
-            faces.put(0, getPqr());
-            faces.put(1, getPsq());
-            faces.put(2, getQsr());
-            faces.put(3, getSpr());
+        HashMap<Integer, V3D_Area_d> x = faces;
+        if (x == null) {
+            x = new HashMap<>(4);
+            x.put(0, getPqr());
+            x.put(1, getPsq());
+            x.put(2, getQsr());
+            x.put(3, getSpr());
+            faces = x;
         }
-        return faces;
+        return x;
     }
 
     /**
@@ -1554,6 +1570,7 @@ public class V3D_Tetrahedron_d extends V3D_Volume_d {
      * @return The distance squared to {@code pv}.
      */
     public double getDistance(V3D_Point_d p, double epsilon) {
+        V3D_Metrics.count(env, V3D_Metrics.Op.DISTANCE, this);
         return Math.sqrt(getDistanceSquared(p, epsilon));
     }
 
@@ -1737,6 +1754,113 @@ public class V3D_Tetrahedron_d extends V3D_Volume_d {
         throw new UnsupportedOperationException("Not supported yet."); //To change body of generated methods, choose Tools | Templates.
     }
 
+    /**
+     * Identify if the tetrahedron intersects the tetrahedron {@code t} using
+     * the separating axis test. The candidate axes are the face normals of
+     * both tetrahedra and the cross products of their edges. This is much
+     * cheaper than {@link #getIntersect(V3D_Tetrahedron_d, double)} as no
+     * intersection geometry is constructed.
+     *
+     * @param t The tetrahedron to test for intersection.
+     * @param epsilon The tolerance within which the projections of the
+     * tetrahedra onto an axis are regarded as touching.
+     * @return {@code true} if the tetrahedra intersect.
+     */
+    public boolean intersects(V3D_Tetrahedron_d t, double epsilon) {
+        double[] a = getCoordinates();
+        double[] b = t.getCoordinates();
+        double[] ea = getEdges(a);
+        double[] eb = getEdges(b);
+        // Face normals.
+        if (separates(a, b, ea, 0, ea, 3, epsilon)
+                || separates(a, b, ea, 0, ea, 6, epsilon)
+                || separates(a, b, ea, 3, ea, 6, epsilon)
+                || separates(a, b, ea, 9, ea, 12, epsilon)
+                || separates(a, b, eb, 0, eb, 3, epsilon)
+                || separates(a, b, eb, 0, eb, 6, epsilon)
+                || separates(a, b, eb, 3, eb, 6, epsilon)
+                || separates(a, b, eb, 9, eb, 12, epsilon)) {
+            return false;
+        }
+        // Edge cross products.
+        for (int i = 0; i < 18; i += 3) {
+            for (int j = 0; j < 18; j += 3) {
+                if (separates(a, b, ea, i, eb, j, epsilon)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return The coordinates of {@link #p}, {@link #q}, {@link #r} and
+     * {@link #s} with {@link #offset} applied.
+     */
+    private double[] getCoordinates() {
+        return new double[]{
+            offset.dx + p.dx, offset.dy + p.dy, offset.dz + p.dz,
+            offset.dx + q.dx, offset.dy + q.dy, offset.dz + q.dz,
+            offset.dx + r.dx, offset.dy + r.dy, offset.dz + r.dz,
+            offset.dx + s.dx, offset.dy + s.dy, offset.dz + s.dz};
+    }
+
+    /**
+     * @param c The coordinates of the four corners.
+     * @return The six edge vectors pq, pr, ps, qr, qs, rs.
+     */
+    private static double[] getEdges(double[] c) {
+        double[] e = new double[18];
+        int k = 0;
+        for (int i = 0; i < 4; i++) {
+            for (int j = i + 1; j < 4; j++) {
+                e[k++] = c[j * 3] - c[i * 3];
+                e[k++] = c[j * 3 + 1] - c[i * 3 + 1];
+                e[k++] = c[j * 3 + 2] - c[i * 3 + 2];
+            }
+        }
+        return e;
+    }
+
+    /**
+     * @param a The coordinates of the corners of one tetrahedron.
+     * @param b The coordinates of the corners of the other tetrahedron.
+     * @param u Vectors.
+     * @param i The index in u of the first vector.
+     * @param v Vectors.
+     * @param j The index in v of the second vector.
+     * @param epsilon The tolerance.
+     * @return {@code true} if the axis that is the cross product of the two
+     * vectors separates the tetrahedra.
+     */
+    private static boolean separates(double[] a, double[] b, double[] u,
+            int i, double[] v, int j, double epsilon) {
+        double x = u[i + 1] * v[j + 2] - u[i + 2] * v[j + 1];
+        double y = u[i + 2] * v[j] - u[i] * v[j + 2];
+        double z = u[i] * v[j + 1] - u[i + 1] * v[j];
+        double m = Math.sqrt(x * x + y * y + z * z);
+        if (m <= epsilon) {
+            // Parallel vectors do not give an axis.
+            return false;
+        }
+        x /= m;
+        y /= m;
+        z /= m;
+        double aMin = Double.POSITIVE_INFINITY;
+        double aMax = Double.NEGATIVE_INFINITY;
+        double bMin = Double.POSITIVE_INFINITY;
+        double bMax = Double.NEGATIVE_INFINITY;
+        for (int k = 0; k < 12; k += 3) {
+            double pa = a[k] * x + a[k + 1] * y + a[k + 2] * z;
+            aMin = Math.min(aMin, pa);
+            aMax = Math.max(aMax, pa);
+            double pb = b[k] * x + b[k + 1] * y + b[k + 2] * z;
+            bMin = Math.min(bMin, pb);
+            bMax = Math.max(bMax, pb);
+        }
+        return aMax < bMin - epsilon || bMax < aMin - epsilon;
+    }
+
     /**
      * Get the minimum distance squared to {@code l}.
      *
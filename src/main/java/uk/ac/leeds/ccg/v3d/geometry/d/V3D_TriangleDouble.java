@@ -53,6 +53,8 @@ import uk.ac.leeds.ccg.v3d.geometry.d.light.V3D_VTriangle_d;
  *                           r
  * }
  *
+ * {@link V3D_Converter_d} converts to and from the {@code *_d} family.
+ *
  * @author Andy Turner
  * @version 1.0
  */
@@ -670,7 +672,8 @@ public class V3D_TriangleDouble extends V3D_FiniteGeometryDouble implements V3D_
     }
 
     /**
-     * Get the intersection between the geometry and the ray {@code r}.
+     * Get the intersection between the geometry and the ray {@code r}. This
+     * is calculated by {@link V3D_Triangle_d#getIntersect(V3D_Ray_d, double)}.
      *
      * @param r The ray to intersect with.
      * @param epsilon The tolerance within which two vectors are regarded as
@@ -679,51 +682,10 @@ public class V3D_TriangleDouble extends V3D_FiniteGeometryDouble implements V3D_
      */
     public V3D_FiniteGeometryDouble getIntersection(V3D_RayDouble r,
             double epsilon) {
-        V3D_FiniteGeometryDouble g = getIntersection(r.l, epsilon);
-        if (g == null) {
-            return null;
-        } else if (g instanceof V3D_PointDouble gp) {
-//            if (r.getPl().isOnSameSide(gp, r.l.getQ(), epsilon)) {
-//                return gp;
-//            } else {
-//                return null;
-//            }
-            if (r.isAligned(gp, epsilon)) {
-                return gp;
-            } else {
-                return null;
-            }
-        } else {
-            V3D_LineSegmentDouble ls = (V3D_LineSegmentDouble) g;
-            V3D_PointDouble lsp = ls.getP();
-            V3D_PointDouble lsq = ls.getQ();
-            if (r.getPl().isOnSameSide(lsp, r.l.getQ(), epsilon)) {
-                if (r.getPl().isOnSameSide(lsq, r.l.getQ(), epsilon)) {
-                    return ls;
-                } else {
-                    return V3D_LineSegmentDouble.getGeometry(r.l.getP(), lsp, epsilon);
-                }
-            } else {
-                if (r.getPl().isOnSameSide(lsq, r.l.getQ(), epsilon)) {
-                    return V3D_LineSegmentDouble.getGeometry(r.l.getP(), lsq, epsilon);
-                } else {
-                    throw new RuntimeException();
-                }
-            }
-//            if (r.isAligned(lsp, epsilon)) {
-//                if (r.isAligned(lsq, epsilon)) {
-//                    return ls;
-//                } else {
-//                    return V3D_LineSegmentDouble.getGeometry(r.l.getP(), lsp, epsilon);
-//                }
-//            } else {
-//                if (r.isAligned(lsq, epsilon)) {
-//                    return V3D_LineSegmentDouble.getGeometry(r.l.getP(), lsq, epsilon);
-//                } else {
-//                    throw new RuntimeException();
-//                }
-//            }
-        }
+        return V3D_Converter_d.toFiniteGeometryDouble(V3D_Converter_d
+                .toTriangle_d(V3D_Converter_d.ENV, this).getIntersect(
+                        V3D_Converter_d.toRay_d(V3D_Converter_d.ENV, r),
+                        epsilon));
     }
 
     /**
@@ -2099,7 +2061,8 @@ public class V3D_TriangleDouble extends V3D_FiniteGeometryDouble implements V3D_
     }
 
     /**
-     * Get the minimum distance squared to {@code pt}.
+     * Get the minimum distance squared to {@code pt}. This is calculated by
+     * {@link V3D_Triangle_d#getDistanceSquared(V3D_Point_d, double)}.
      *
      * @param pt A point.
      * @param epsilon The tolerance within which two vectors are regarded as
@@ -2107,20 +2070,9 @@ public class V3D_TriangleDouble extends V3D_FiniteGeometryDouble implements V3D_
      * @return The distance squared to {@code pv}.
      */
     public double getDistanceSquared(V3D_PointDouble pt, double epsilon) {
-        if (pl.isIntersectedBy(epsilon, pt)) {
-            //if (isIntersectedBy0(pt)) {
-            if (isAligned(pt, epsilon)) {
-                return 0d;
-            } else {
-                return getDistanceSquaredEdge(pt, epsilon);
-            }
-        }
-        V3D_PointDouble poi = pl.getPointOfProjectedIntersection(pt, epsilon);
-        if (isAligned(poi, epsilon)) {
-            return poi.getDistanceSquared(pt);
-        } else {
-            return getDistanceSquaredEdge(pt, epsilon);
-        }
+        return V3D_Converter_d.toTriangle_d(V3D_Converter_d.ENV, this)
+                .getDistanceSquared(V3D_Converter_d.toPoint_d(
+                        V3D_Converter_d.ENV, pt), epsilon);
     }
 
     /**
@@ -2451,8 +2403,19 @@ public class V3D_TriangleDouble extends V3D_FiniteGeometryDouble implements V3D_
         }
     }
 
+    /**
+     * This is calculated by
+     * {@link V3D_Triangle_d#intersects(V3D_AABB_d, double)}.
+     *
+     * @param aabb The envelope to test for intersection.
+     * @param epsilon The tolerance within which two vectors are regarded as
+     * equal.
+     * @return {@code true} if this intersects aabb.
+     */
     @Override
     public boolean isIntersectedBy(V3D_EnvelopeDouble aabb, double epsilon) {
-        throw new UnsupportedOperationException("Not supported yet."); // Generated from nbfs://nbhost/SystemFileSystem/Templates/Classes/Code/GeneratedMethodBody
+        return V3D_Converter_d.toTriangle_d(V3D_Converter_d.ENV, this)
+                .intersects(V3D_Converter_d.toAABB_d(V3D_Converter_d.ENV,
+                        aabb), epsilon);
     }
 }
@@ -21,6 +21,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import uk.ac.leeds.ccg.math.geometry.Math_AngleDouble;
+import uk.ac.leeds.ccg.v3d.core.V3D_Metrics;
 import uk.ac.leeds.ccg.v3d.core.d.V3D_Environment_d;
 import uk.ac.leeds.ccg.v3d.geometry.d.light.V3D_VTriangle_d;
 
@@ -87,53 +88,53 @@ public class V3D_Triangle_d extends V3D_Area_d {
     /**
      * For storing a corner point of the triangle corresponding to {@link #pv}.
      */
-    protected V3D_Point_d p;
+    protected volatile V3D_Point_d p;
 
     /**
      * For storing a corner point of the triangle corresponding to {@link #qv}.
      */
-    protected V3D_Point_d q;
+    protected volatile V3D_Point_d q;
 
     /**
      * For storing a corner point of the triangle corresponding to {@link #rv}.
      */
-    protected V3D_Point_d r;
+    protected volatile V3D_Point_d r;
 
     /**
      * For storing the line segment from {@link #getP()} to {@link #getQ()} for
      * a given Order of Magnitude and RoundingMode precision.
      */
-    protected V3D_LineSegment_d pq;
+    protected volatile V3D_LineSegment_d pq;
 
     /**
      * For storing the line segment from {@link #getQ()} to {@link #getR()} for
      * a given Order of Magnitude and RoundingMode precision.
      */
-    protected V3D_LineSegment_d qr;
+    protected volatile V3D_LineSegment_d qr;
 
     /**
      * For storing the line segment from {@link #getR()} to {@link #getP()} for
      * a given Order of Magnitude and RoundingMode precision.
      */
-    protected V3D_LineSegment_d rp;
+    protected volatile V3D_LineSegment_d rp;
 
     /**
      * For storing the plane aligning with {@link #pq} in the direction of the
      * plane normal and with a normal orthogonal to the plane normal.
      */
-    protected V3D_Plane_d pqpl;
+    protected volatile V3D_Plane_d pqpl;
 
     /**
      * For storing the plane aligning with {@link #qr} in the direction of the
      * plane normal and with a normal orthogonal to the plane normal.
      */
-    protected V3D_Plane_d qrpl;
+    protected volatile V3D_Plane_d qrpl;
 
     /**
      * For storing the plane aligning with {@link #rp} in the direction of the
      * plane normal and with a normal orthogonal to the plane normal.
      */
-    protected V3D_Plane_d rppl;
+    protected volatile V3D_Plane_d rppl;
 
 //    /**
 //     * For storing the midpoint between {@link #getP()} and {@link #getQ()}.
@@ -372,30 +373,36 @@ public class V3D_Triangle_d extends V3D_Area_d {
      * @return A new point based on {@link #pv} and {@link #offset}.
      */
     public final V3D_Point_d getP() {
-        if (p == null) {
-            p = new V3D_Point_d(env, offset, pv);
+        V3D_Point_d x = p;
+        if (x == null) {
+            x = new V3D_Point_d(env, offset, pv);
+            p = x;
         }
-        return p;
+        return x;
     }
 
     /**
      * @return A new point based on {@link #qv} and {@link #offset}.
      */
     public final V3D_Point_d getQ() {
-        if (q == null) {
-            q = new V3D_Point_d(env, offset, qv);
+        V3D_Point_d x = q;
+        if (x == null) {
+            x = new V3D_Point_d(env, offset, qv);
+            q = x;
         }
-        return q;
+        return x;
     }
 
     /**
      * @return A new point based on {@link #rv} and {@link #offset}.
      */
     public final V3D_Point_d getR() {
-        if (r == null) {
-            r = new V3D_Point_d(env, offset, rv);
+        V3D_Point_d x = r;
+        if (x == null) {
+            x = new V3D_Point_d(env, offset, rv);
+            r = x;
         }
-        return r;
+        return x;
     }
 
     /**
@@ -404,10 +411,12 @@ public class V3D_Triangle_d extends V3D_Area_d {
      * @return Line segment from {@link #getP()} to {@link #getQ()}.
      */
     public final V3D_LineSegment_d getPQ() {
-        if (pq == null) {
-            pq = new V3D_LineSegment_d(getP(), getQ());
+        V3D_LineSegment_d x = pq;
+        if (x == null) {
+            x = new V3D_LineSegment_d(getP(), getQ());
+            pq = x;
         }
-        return pq;
+        return x;
     }
 
     /**
@@ -416,10 +425,12 @@ public class V3D_Triangle_d extends V3D_Area_d {
      * @return Line segment from {@link #getQ()} to {@link #getR()}.
      */
     public final V3D_LineSegment_d getQR() {
-        if (qr == null) {
-            qr = new V3D_LineSegment_d(getQ(), getR());
+        V3D_LineSegment_d x = qr;
+        if (x == null) {
+            x = new V3D_LineSegment_d(getQ(), getR());
+            qr = x;
         }
-        return qr;
+        return x;
     }
 
     /**
@@ -428,10 +439,12 @@ public class V3D_Triangle_d extends V3D_Area_d {
      * @return Line segment from {@link #getR()} to {@link #getP()}.
      */
     public final V3D_LineSegment_d getRP() {
-        if (rp == null) {
-            rp = new V3D_LineSegment_d(getR(), getP());
+        V3D_LineSegment_d x = rp;
+        if (x == null) {
+            x = new V3D_LineSegment_d(getR(), getP());
+            rp = x;
         }
-        return rp;
+        return x;
     }
 
     /**
@@ -461,11 +474,14 @@ public class V3D_Triangle_d extends V3D_Area_d {
      * @return The plane through {@link #pq} in the direction of the normal.
      */
     public V3D_Plane_d getPQPl() {
-        if (pqpl == null) {
-            pq = getPQ();
-            pqpl = new V3D_Plane_d(pq.getP(), pq.l.v.getCrossProduct(pl.n));
+        V3D_Plane_d x = pqpl;
+        if (x == null) {
+            V3D_LineSegment_d pqx = getPQ();
+            x = new V3D_Plane_d(pqx.getP(),
+                    pqx.l.v.getCrossProduct(getPl().n));
+            pqpl = x;
         }
-        return pqpl;
+        return x;
     }
 
     /**
@@ -474,11 +490,14 @@ public class V3D_Triangle_d extends V3D_Area_d {
      * @return The plane through {@link #qr} in the direction of the normal.
      */
     public V3D_Plane_d getQRPl() {
-        if (qrpl == null) {
-            qr = getQR();
-            qrpl = new V3D_Plane_d(qr.getP(), qr.l.v.getCrossProduct(pl.n));
+        V3D_Plane_d x = qrpl;
+        if (x == null) {
+            V3D_LineSegment_d qrx = getQR();
+            x = new V3D_Plane_d(qrx.getP(),
+                    qrx.l.v.getCrossProduct(getPl().n));
+            qrpl = x;
         }
-        return qrpl;
+        return x;
     }
 
     /**
@@ -487,19 +506,24 @@ public class V3D_Triangle_d extends V3D_Area_d {
      * @return The plane through {@link #rp} in the direction of the normal.
      */
     public V3D_Plane_d getRPPl() {
-        if (rppl == null) {
-            rp = getRP();
-            rppl = new V3D_Plane_d(rp.getP(), rp.l.v.getCrossProduct(pl.n));
+        V3D_Plane_d x = rppl;
+        if (x == null) {
+            V3D_LineSegment_d rpx = getRP();
+            x = new V3D_Plane_d(rpx.getP(),
+                    rpx.l.v.getCrossProduct(getPl().n));
+            rppl = x;
         }
-        return rppl;
+        return x;
     }
 
     @Override
     public V3D_AABB_d getAABB() {
-        if (en == null) {
-            en = new V3D_AABB_d(getP(), getQ(), getR());
+        V3D_AABB_d x = en;
+        if (x == null) {
+            x = new V3D_AABB_d(getP(), getQ(), getR());
+            en = x;
         }
-        return en;
+        return x;
     }
 
     @Override
@@ -509,13 +533,15 @@ public class V3D_Triangle_d extends V3D_Area_d {
 
     @Override
     public HashMap<Integer, V3D_Point_d> getPoints() {
-        if (points == null) {
-            points = new HashMap<>(3);
-            points.put(0, getP());
-            points.put(1, getQ());
-            points.put(2, getR());
+        HashMap<Integer, V3D_Point_d> x = points;
+        if (x == null) {
+            x = new HashMap<>(3);
+            x.put(0, getP());
+            x.put(1, getQ());
+            x.put(2, getR());
+            points = x;
         }
-        return points;
+        return x;
     }
 
     /**
@@ -523,10 +549,12 @@ public class V3D_Triangle_d extends V3D_Area_d {
      */
     @Override
     public V3D_Plane_d getPl() {
-        if (pl == null) {
-            pl = new V3D_Plane_d(getP(), getQ(), getR());
+        V3D_Plane_d x = pl;
+        if (x == null) {
+            x = new V3D_Plane_d(getP(), getQ(), getR());
+            pl = x;
         }
-        return pl;
+        return x;
     }
 
     /**
@@ -534,13 +562,15 @@ public class V3D_Triangle_d extends V3D_Area_d {
      */
     @Override
     public HashMap<Integer, V3D_LineSegment_d> getEdges() {
-        if (edges == null) {
-            edges = new HashMap<>(3);
-            edges.put(0, getPQ());
-            edges.put(1, getQR());
-            edges.put(2, getRP());
+        HashMap<Integer, V3D_LineSegment_d> x = edges;
+        if (x == null) {
+            x = new HashMap<>(3);
+            x.put(0, getPQ());
+            x.put(1, getQR());
+            x.put(2, getRP());
+            edges = x;
         }
-        return edges;
+        return x;
     }
 
     /**
@@ -784,6 +814,7 @@ public class V3D_Triangle_d extends V3D_Area_d {
      */
     @Override
     public V3D_FiniteGeometry_d getIntersect(V3D_Ray_d r, double epsilon) {
+        V3D_Metrics.count(env, V3D_Metrics.Op.INTERSECT, this);
         V3D_FiniteGeometry_d g = getIntersect(r.l, epsilon);
         if (g == null) {
             return null;
@@ -1147,6 +1178,7 @@ public class V3D_Triangle_d extends V3D_Area_d {
      * {@code null} if there is no intersection.
      */
     public V3D_FiniteGeometry_d getIntersect(V3D_Triangle_d t, double epsilon) {
+        V3D_Metrics.count(env, V3D_Metrics.Op.INTERSECT, this);
         if (pl.equalsIgnoreOrientation(t.pl, epsilon)) {
             return getIntersectCoplanar(t, epsilon);
         } else {
@@ -1786,6 +1818,7 @@ public class V3D_Triangle_d extends V3D_Area_d {
      * @return The distance squared to {@code pv}.
      */
     public double getDistance(V3D_Point_d pt, double epsilon) {
+        V3D_Metrics.count(env, V3D_Metrics.Op.DISTANCE, this);
         return Math.sqrt(getDistanceSquared(pt, epsilon));
     }
 
@@ -2003,6 +2036,20 @@ public class V3D_Triangle_d extends V3D_Area_d {
      */
     public V3D_FiniteGeometry_d clip(V3D_Plane_d pl, V3D_Point_d pt,
             double epsilon) {
+        return snap(clip0(pl, pt, epsilon));
+    }
+
+    /**
+     * Clips this without snap rounding.
+     *
+     * @param pl The plane that clips.
+     * @param pt A point that is used to return the side.
+     * @param epsilon The tolerance within which two vectors are regarded as
+     * equal.
+     * @return null, the whole or a part of this.
+     */
+    private V3D_FiniteGeometry_d clip0(V3D_Plane_d pl, V3D_Point_d pt,
+            double epsilon) {
         V3D_FiniteGeometry_d i = getIntersect(pl, epsilon);
         V3D_Point_d ppt = this.pl.getP();
         if (i == null) {
@@ -2090,6 +2137,20 @@ public class V3D_Triangle_d extends V3D_Area_d {
      */
     public V3D_FiniteGeometry_d clip(V3D_Triangle_d t,
             V3D_Point_d pt, double epsilon) {
+        return snap(clip0(t, pt, epsilon));
+    }
+
+    /**
+     * Clips this without snap rounding.
+     *
+     * @param t The triangle to clip this with.
+     * @param pt A point that is used to return the side.
+     * @param epsilon The tolerance within which two vectors are regarded as
+     * equal.
+     * @return null, the whole or a part of this.
+     */
+    private V3D_FiniteGeometry_d clip0(V3D_Triangle_d t,
+            V3D_Point_d pt, double epsilon) {
         V3D_Point_d tp = t.getP();
         V3D_Point_d tq = t.getQ();
         V3D_Point_d tr = t.getR();
@@ -2179,6 +2240,7 @@ public class V3D_Triangle_d extends V3D_Area_d {
 
     @Override
     public boolean intersects(V3D_AABB_d aabb, double epsilon) {
+        V3D_Metrics.count(env, V3D_Metrics.Op.INTERSECT, this);
         /**
          * Test each 2D AABB part of the aabb and at least one point.
          * For rendering things like line segments where a camera focus is the 
@@ -2427,7 +2489,7 @@ public class V3D_Triangle_d extends V3D_Area_d {
             return a.intersects(getPQ(), epsilon)
                     || a.intersects(getQR(), epsilon)
                     || a.intersects(getRP(), epsilon)
-                    || a.getEdges().values().parallelStream().anyMatch(x
+                    || getPolicy().anyMatch(a.getEdges().values(), x
                             -> intersects(x, epsilon));
         } else {
             return false;
@@ -2443,7 +2505,7 @@ public class V3D_Triangle_d extends V3D_Area_d {
      */
     public static boolean intersects(double epsilon,
             V3D_LineSegment_d ls, Collection<V3D_Area_d> faces) {
-        return faces.parallelStream().anyMatch(x -> x.intersects(ls, epsilon));
+        return ls.getPolicy().anyMatch(faces, x -> x.intersects(ls, epsilon));
     }
 
 //    /**
@@ -25,6 +25,8 @@ import uk.ac.leeds.ccg.v3d.geometry.d.light.V3D_V_d;
 /**
  * A vector.
  *
+ * {@link V3D_Converter_d} converts to and from the {@code *_d} family.
+ *
  * @author Andy Turner
  * @version 1.0
  */
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.geometry.d;
+
+import uk.ac.leeds.ccg.v3d.core.V3D_Metrics;
+
+/**
+ * For calculating viewports of Axis Aligned Bounding Boxes from an eye point
+ * by projection. The eye point and an orthonormal basis are stored as
+ * doubles: {@link #fx}, {@link #fy}, {@link #fz} is the forward direction,
+ * {@link #rx}, {@link #ry}, {@link #rz} points to the right and {@link #ux},
+ * {@link #uy}, {@link #uz} points up. The 8 corners of a box are projected
+ * onto the plane at unit distance along the forward direction and the
+ * minimum and maximum screen coordinates give the extent of the viewport.
+ * Nothing is allocated per box, so this is suited to calculating the
+ * viewports of many boxes from the same eye point.
+ *
+ * Unlike {@link V3D_AABB_d#getViewport(V3D_Point_d, V3D_Vector_d, double)}
+ * the forward direction is fixed rather than being the direction to the
+ * centroid of each box. Construct with a box to look at its centroid.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_Viewport_d {
+
+    /**
+     * The eye point coordinates.
+     */
+    public final double ex, ey, ez;
+
+    /**
+     * The forward unit vector components.
+     */
+    public final double fx, fy, fz;
+
+    /**
+     * The right unit vector components.
+     */
+    public final double rx, ry, rz;
+
+    /**
+     * The up unit vector components.
+     */
+    public final double ux, uy, uz;
+
+    /**
+     * Create a new instance.
+     *
+     * @param pt The eye point.
+     * @param forward The forward direction.
+     * @param v A vector pointing to the right of the viewport. Only the
+     * component orthogonal to forward is used.
+     */
+    public V3D_Viewport_d(V3D_Point_d pt, V3D_Vector_d forward,
+            V3D_Vector_d v) {
+        ex = pt.getX();
+        ey = pt.getY();
+        ez = pt.getZ();
+        double m = Math.sqrt(forward.dx * forward.dx
+                + forward.dy * forward.dy + forward.dz * forward.dz);
+        fx = forward.dx / m;
+        fy = forward.dy / m;
+        fz = forward.dz / m;
+        double d = v.dx * fx + v.dy * fy + v.dz * fz;
+        double x = v.dx - d * fx;
+        double y = v.dy - d * fy;
+        double z = v.dz - d * fz;
+        m = Math.sqrt(x * x + y * y + z * z);
+        rx = x / m;
+        ry = y / m;
+        rz = z / m;
+        // up = forward x right as for v2 in V3D_AABB_d#getViewport.
+        ux = fy * rz - fz * ry;
+        uy = fz * rx - fx * rz;
+        uz = fx * ry - fy * rx;
+    }
+
+    /**
+     * Create a new instance looking from pt at the centroid of box.
+     *
+     * @param pt The eye point.
+     * @param box The box to look at.
+     * @param v A vector pointing to the right of the viewport.
+     */
+    public V3D_Viewport_d(V3D_Point_d pt, V3D_AABB_d box, V3D_Vector_d v) {
+        this(pt, new V3D_Vector_d(
+                (box.getXMin() + box.getXMax()) / 2d - pt.getX(),
+                (box.getYMin() + box.getYMax()) / 2d - pt.getY(),
+                (box.getZMin() + box.getZMax()) / 2d - pt.getZ()), v);
+    }
+
+    /**
+     * Project the corners of a box. The results are written into out from
+     * index i as: the minimum and maximum right coordinates, the minimum and
+     * maximum up coordinates, and the minimum depth. The screen coordinates
+     * are on the plane at unit distance along the forward direction, so
+     * multiplying them by a depth gives coordinates on the plane at that
+     * depth.
+     *
+     * @param xMin The minimum x of the box.
+     * @param yMin The minimum y of the box.
+     * @param zMin The minimum z of the box.
+     * @param xMax The maximum x of the box.
+     * @param yMax The maximum y of the box.
+     * @param zMax The maximum z of the box.
+     * @param out The array to write the results into.
+     * @param i The index in out to start writing from.
+     * @return {@code false} if any corner of the box is not in front of the
+     * eye point, in which case out is not written to.
+     */
+    public boolean project(double xMin, double yMin, double zMin,
+            double xMax, double yMax, double zMax, double[] out, int i) {
+        double rMin = Double.POSITIVE_INFINITY;
+        double rMax = Double.NEGATIVE_INFINITY;
+        double uMin = Double.POSITIVE_INFINITY;
+        double uMax = Double.NEGATIVE_INFINITY;
+        double dMin = Double.POSITIVE_INFINITY;
+        for (int c = 0; c < 8; c++) {
+            double x = ((c & 1) == 0 ? xMin : xMax) - ex;
+            double y = ((c & 2) == 0 ? yMin : yMax) - ey;
+            double z = ((c & 4) == 0 ? zMin : zMax) - ez;
+            double d = x * fx + y * fy + z * fz;
+            if (d <= 0d) {
+                return false;
+            }
+            double r = (x * rx + y * ry + z * rz) / d;
+            double u = (x * ux + y * uy + z * uz) / d;
+            rMin = Math.min(rMin, r);
+            rMax = Math.max(rMax, r);
+            uMin = Math.min(uMin, u);
+            uMax = Math.max(uMax, u);
+            dMin = Math.min(dMin, d);
+        }
+        out[i] = rMin;
+        out[i + 1] = rMax;
+        out[i + 2] = uMin;
+        out[i + 3] = uMax;
+        out[i + 4] = dMin;
+        return true;
+    }
+
+    /**
+     * Project the corners of a box.
+     *
+     * @param box The box.
+     * @param out The array to write the results into.
+     * @param i The index in out to start writing from.
+     * @return {@code false} if any corner of the box is not in front of the
+     * eye point.
+     * @see #project(double, double, double, double, double, double, double[],
+     * int)
+     */
+    public boolean project(V3D_AABB_d box, double[] out, int i) {
+        V3D_Metrics.count(box.env, V3D_Metrics.Op.PROJECT, box);
+        return project(box.getXMin(), box.getYMin(), box.getZMin(),
+                box.getXMax(), box.getYMax(), box.getZMax(), out, i);
+    }
+
+    /**
+     * Project many boxes. The bounds of box j are in bounds from index j * 6
+     * in the order xMin, yMin, zMin, xMax, yMax, zMax. The results for box j
+     * are written into out from index j * 5 as for
+     * {@link #project(double, double, double, double, double, double,
+     * double[], int)}, or are all {@link Double#NaN} if any corner of box j
+     * is not in front of the eye point.
+     *
+     * @param bounds The bounds of the boxes.
+     * @param n The number of boxes.
+     * @param out The array to write the results into.
+     * @return The number of boxes in front of the eye point.
+     */
+    public int project(double[] bounds, int n, double[] out) {
+        int r = 0;
+        for (int j = 0; j < n; j++) {
+            int b = j * 6;
+            int o = j * 5;
+            if (project(bounds[b], bounds[b + 1], bounds[b + 2],
+                    bounds[b + 3], bounds[b + 4], bounds[b + 5], out, o)) {
+                r++;
+            } else {
+                for (int k = 0; k < 5; k++) {
+                    out[o + k] = Double.NaN;
+                }
+            }
+        }
+        return r;
+    }
+
+    /**
+     * Project many boxes.
+     *
+     * @param boxes The boxes.
+     * @param out The array to write the results into, 5 values for each box.
+     * @return The number of boxes in front of the eye point.
+     * @see #project(double[], int, double[])
+     */
+    public int project(V3D_AABB_d[] boxes, double[] out) {
+        int r = 0;
+        for (int j = 0; j < boxes.length; j++) {
+            int o = j * 5;
+            if (project(boxes[j], out, o)) {
+                r++;
+            } else {
+                for (int k = 0; k < 5; k++) {
+                    out[o + k] = Double.NaN;
+                }
+            }
+        }
+        return r;
+    }
+
+    /**
+     * Calculate and return the viewport of box - a rectangle between the eye
+     * point and box perpendicular to the forward direction and at the depth
+     * of the nearest corner of box, such that all of box is contained in the
+     * planes from the eye point through the viewport.
+     *
+     * @param box The box.
+     * @return The viewport or {@code null} if any corner of box is not in
+     * front of the eye point.
+     */
+    public V3D_Rectangle_d getViewport(V3D_AABB_d box) {
+        double[] p = new double[5];
+        if (!project(box, p, 0)) {
+            return null;
+        }
+        double d = p[4];
+        return new V3D_Rectangle_d(
+                getPoint(box, p[0], p[2], d),
+                getPoint(box, p[0], p[3], d),
+                getPoint(box, p[1], p[3], d),
+                getPoint(box, p[1], p[2], d));
+    }
+
+    /**
+     * @param box For the environment.
+     * @param r The right screen coordinate.
+     * @param u The up screen coordinate.
+     * @param d The depth.
+     * @return The point.
+     */
+    private V3D_Point_d getPoint(V3D_AABB_d box, double r, double u,
+            double d) {
+        return new V3D_Point_d(box.env,
+                ex + d * (fx + r * rx + u * ux),
+                ey + d * (fy + r * ry + u * uy),
+                ez + d * (fz + r * rz + u * uz));
+    }
+}
@@ -58,12 +58,12 @@ public abstract class V3D_Volume_d extends V3D_FiniteGeometry_d {
     /**
      * For storing the points.
      */
-    protected HashMap<Integer, V3D_Point_d> points;
+    protected volatile HashMap<Integer, V3D_Point_d> points;
 
     /**
      * For storing the faces.
      */
-    protected HashMap<Integer, V3D_Area_d> faces;
+    protected volatile HashMap<Integer, V3D_Area_d> faces;
 
     /**
      * For getting the points of a shape.
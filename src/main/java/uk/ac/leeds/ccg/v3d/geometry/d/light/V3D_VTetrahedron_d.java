@@ -45,6 +45,9 @@ import java.io.Serializable;
  *                           *
  *                           r
  * }
+ * The points are got from the faces: p, q and r are the points of
+ * {@link #pqr} and s is the second point of {@link #qsr}.
+ *
  * For more complicated triangles uk.ac.leeds.ccg.v3d.geometry.V3D_Tetrahedron.
  * 
  * @author Andy Turner
@@ -91,6 +94,20 @@ public class V3D_VTetrahedron_d implements Serializable {
         this.psq = psq;
     }
 
+    /**
+     * Create a new instance with faces that share the points given, so that
+     * changing a point changes the tetrahedron.
+     *
+     * @param p A point.
+     * @param q A point.
+     * @param r A point.
+     * @param s A point.
+     */
+    public V3D_VTetrahedron_d(V3D_V_d p, V3D_V_d q, V3D_V_d r, V3D_V_d s) {
+        this(new V3D_VTriangle_d(p, q, r), new V3D_VTriangle_d(q, s, r),
+                new V3D_VTriangle_d(s, p, r), new V3D_VTriangle_d(p, s, q));
+    }
+
     @Override
     public String toString() {
         return toString("");
@@ -121,15 +138,81 @@ public class V3D_VTetrahedron_d implements Serializable {
                 + pad + "psq=" + psq.toString(pad);
     }
 
-//    @Override
-//    public V3D_V getCentroid() {
-//        if (centroid == null) {
-//            centroid = new V3D_V(
-//                    (pqr.getCentroid().x.add(qsr.getCentroid().x).add(spr.getCentroid().x).add(psq.getCentroid().x)).divide(4),
-//                    (pqr.getCentroid().y.add(qsr.getCentroid().y).add(spr.getCentroid().y).add(psq.getCentroid().y)).divide(4),
-//                    (pqr.getCentroid().z.add(qsr.getCentroid().z).add(spr.getCentroid().z).add(psq.getCentroid().z)).divide(4));
-//        }
-//        return centroid;
-//    }
+    /**
+     * @return The point p which is {@code pqr.pq.p}.
+     */
+    public V3D_V_d getP() {
+        return pqr.pq.p;
+    }
+
+    /**
+     * @return The point q which is {@code pqr.pq.q}.
+     */
+    public V3D_V_d getQ() {
+        return pqr.pq.q;
+    }
+
+    /**
+     * @return The point r which is {@code pqr.qr.q}.
+     */
+    public V3D_V_d getR() {
+        return pqr.qr.q;
+    }
 
+    /**
+     * @return The point s which is {@code qsr.pq.q}.
+     */
+    public V3D_V_d getS() {
+        return qsr.pq.q;
+    }
+
+    /**
+     * @return The volume.
+     */
+    public double getVolume() {
+        return Math.abs(V3D_V_d.getOrientation(getP(), getQ(), getR(),
+                getS())) / 6d;
+    }
+
+    /**
+     * @param result The vector to set to the centroid.
+     * @return result.
+     */
+    public V3D_V_d getCentroid(V3D_V_d result) {
+        V3D_V_d p = getP();
+        V3D_V_d q = getQ();
+        V3D_V_d r = getR();
+        V3D_V_d s = getS();
+        return result.set((p.x + q.x + r.x + s.x) / 4d,
+                (p.y + q.y + r.y + s.y) / 4d,
+                (p.z + q.z + r.z + s.z) / 4d);
+    }
+
+    /**
+     * Tests if pt is in this using the signs of the volumes of the
+     * tetrahedra formed by replacing each point of this with pt.
+     *
+     * @param pt The point to test.
+     * @param epsilon The tolerance within which pt is on a face.
+     * @return {@code true} iff pt is in this or on its boundary.
+     */
+    public boolean contains(V3D_V_d pt, double epsilon) {
+        V3D_V_d p = getP();
+        V3D_V_d q = getQ();
+        V3D_V_d r = getR();
+        V3D_V_d s = getS();
+        double o = V3D_V_d.getOrientation(p, q, r, s);
+        if (o == 0d) {
+            return false;
+        }
+        double e = o > 0d ? -epsilon : epsilon;
+        double o1 = V3D_V_d.getOrientation(pt, q, r, s);
+        double o2 = V3D_V_d.getOrientation(p, pt, r, s);
+        double o3 = V3D_V_d.getOrientation(p, q, pt, s);
+        double o4 = V3D_V_d.getOrientation(p, q, r, pt);
+        if (o > 0d) {
+            return o1 >= e && o2 >= e && o3 >= e && o4 >= e;
+        }
+        return o1 <= e && o2 <= e && o3 <= e && o4 <= e;
+    }
 }
@@ -91,6 +91,19 @@ public class V3D_VTriangle_d implements Serializable {
         this.rp = rp;
     }
 
+    /**
+     * Creates a new triangle with edges that share the points given, so that
+     * changing a point changes the triangle.
+     *
+     * @param p The point at the start of {@link #pq}.
+     * @param q The point at the start of {@link #qr}.
+     * @param r The point at the start of {@link #rp}.
+     */
+    public V3D_VTriangle_d(V3D_V_d p, V3D_V_d q, V3D_V_d r) {
+        this(new V3D_VLine_d(p, q), new V3D_VLine_d(q, r),
+                new V3D_VLine_d(r, p));
+    }
+
     @Override
     public String toString() {
         return toString("");
@@ -132,11 +145,130 @@ public class V3D_VTriangle_d implements Serializable {
         return n;
     }
 
-//    @Override
-//    public V3D_V getCentroid() {
-//        return new V3D_V(
-//                (p.x.add(q.x).add(r.x)).divide(3).add(offset.x),
-//                (p.y.add(q.y).add(r.y)).divide(3).add(offset.y),
-//                (p.z.add(q.z).add(r.z)).divide(3).add(offset.z));
-//    }
+    /**
+     * Calculates the normal using the right hand rule without allocating and
+     * without using or changing {@link #n}. This is for triangles whose
+     * points change.
+     *
+     * @param result The vector to set to the normal.
+     * @return result.
+     */
+    public V3D_V_d getNormal(V3D_V_d result) {
+        V3D_V_d p = pq.p;
+        V3D_V_d q = pq.q;
+        V3D_V_d r = qr.q;
+        double ax = q.x - p.x;
+        double ay = q.y - p.y;
+        double az = q.z - p.z;
+        double bx = r.x - q.x;
+        double by = r.y - q.y;
+        double bz = r.z - q.z;
+        return result.set(ay * bz - az * by, az * bx - ax * bz,
+                ax * by - ay * bx);
+    }
+
+    /**
+     * @return The area.
+     */
+    public double getArea() {
+        V3D_V_d p = pq.p;
+        V3D_V_d q = pq.q;
+        V3D_V_d r = qr.q;
+        double ax = q.x - p.x;
+        double ay = q.y - p.y;
+        double az = q.z - p.z;
+        double bx = r.x - p.x;
+        double by = r.y - p.y;
+        double bz = r.z - p.z;
+        double nx = ay * bz - az * by;
+        double ny = az * bx - ax * bz;
+        double nz = ax * by - ay * bx;
+        return Math.sqrt(nx * nx + ny * ny + nz * nz) / 2d;
+    }
+
+    /**
+     * @param result The vector to set to the centroid.
+     * @return result.
+     */
+    public V3D_V_d getCentroid(V3D_V_d result) {
+        V3D_V_d p = pq.p;
+        V3D_V_d q = pq.q;
+        V3D_V_d r = qr.q;
+        return result.set((p.x + q.x + r.x) / 3d, (p.y + q.y + r.y) / 3d,
+                (p.z + q.z + r.z) / 3d);
+    }
+
+    /**
+     * Calculates where a ray intersects this using the
+     * <a href="https://en.wikipedia.org/wiki/M%C3%B6ller%E2%80%93Trumbore_intersection_algorithm">
+     * M&ouml;ller-Trumbore algorithm</a> without allocating.
+     *
+     * @param o The origin of the ray.
+     * @param v The direction of the ray.
+     * @param epsilon The tolerance within which the ray is parallel to this
+     * and within which the ray is on an edge.
+     * @return The parameter t such that {@code o + t * v} is the point of
+     * intersection or {@link Double#NaN} if the ray does not intersect this
+     * or is parallel to this.
+     */
+    public double getIntersectDistance(V3D_V_d o, V3D_V_d v, double epsilon) {
+        V3D_V_d p = pq.p;
+        V3D_V_d q = pq.q;
+        V3D_V_d r = qr.q;
+        double e1x = q.x - p.x;
+        double e1y = q.y - p.y;
+        double e1z = q.z - p.z;
+        double e2x = r.x - p.x;
+        double e2y = r.y - p.y;
+        double e2z = r.z - p.z;
+        double hx = v.y * e2z - v.z * e2y;
+        double hy = v.z * e2x - v.x * e2z;
+        double hz = v.x * e2y - v.y * e2x;
+        double a = e1x * hx + e1y * hy + e1z * hz;
+        if (a > -epsilon && a < epsilon) {
+            return Double.NaN;
+        }
+        double f = 1d / a;
+        double sx = o.x - p.x;
+        double sy = o.y - p.y;
+        double sz = o.z - p.z;
+        double u = f * (sx * hx + sy * hy + sz * hz);
+        if (u < -epsilon || u > 1d + epsilon) {
+            return Double.NaN;
+        }
+        double qx = sy * e1z - sz * e1y;
+        double qy = sz * e1x - sx * e1z;
+        double qz = sx * e1y - sy * e1x;
+        double w = f * (v.x * qx + v.y * qy + v.z * qz);
+        if (w < -epsilon || u + w > 1d + epsilon) {
+            return Double.NaN;
+        }
+        double t = f * (e2x * qx + e2y * qy + e2z * qz);
+        if (t < -epsilon) {
+            return Double.NaN;
+        }
+        return t;
+    }
+
+    /**
+     * Calculates the point where a ray intersects this without allocating.
+     *
+     * @param o The origin of the ray.
+     * @param v The direction of the ray.
+     * @param epsilon The tolerance within which the ray is parallel to this
+     * and within which the ray is on an edge.
+     * @param result The vector to set to the point of intersection if there
+     * is one.
+     * @return {@code true} iff the ray intersects this in which case result
+     * is set.
+     */
+    public boolean getIntersect(V3D_V_d o, V3D_V_d v, double epsilon,
+            V3D_V_d result) {
+        double t = getIntersectDistance(o, v, epsilon);
+        if (Double.isNaN(t)) {
+            return false;
+        }
+        result.set(o).add(v, t);
+        return true;
+    }
 }
@@ -26,6 +26,12 @@ import uk.ac.leeds.ccg.v3d.geometry.d.V3D_VectorDouble;
  * V3D_Vector which uses even more heavyweight Math_BigRationalSqrt numbers for
  * coordinates.
  *
+ * Instances are mutable. Methods such as {@link #add(V3D_V_d)},
+ * {@link #setCrossProduct(V3D_V_d, V3D_V_d)} and
+ * {@link #getCrossProduct(V3D_V_d, V3D_V_d)} change this or a given result
+ * instance rather than creating new ones, so that tight loops can be run
+ * without allocating. {@link #ZERO} must not be changed.
+ *
  * @author Andy Turner
  * @version 1.0
  */
@@ -155,7 +161,93 @@ public class V3D_V_d implements Serializable {
      * @return {@code true} if {@code this} equals {@link #ZERO}.
      */
     public boolean isZero() {
-        return this.equals(ZERO);
+        return x == 0d && y == 0d && z == 0d;
+    }
+
+    /**
+     * @param x What {@link #x} is set to.
+     * @param y What {@link #y} is set to.
+     * @param z What {@link #z} is set to.
+     * @return this.
+     */
+    public V3D_V_d set(double x, double y, double z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        return this;
+    }
+
+    /**
+     * @param v The vector to copy.
+     * @return this.
+     */
+    public V3D_V_d set(V3D_V_d v) {
+        return set(v.x, v.y, v.z);
+    }
+
+    /**
+     * Set this to be the vector from p to q.
+     *
+     * @param p The start.
+     * @param q The end.
+     * @return this.
+     */
+    public V3D_V_d setDifference(V3D_V_d p, V3D_V_d q) {
+        return set(q.x - p.x, q.y - p.y, q.z - p.z);
+    }
+
+    /**
+     * Add v to this.
+     *
+     * @param v The vector to add.
+     * @return this.
+     */
+    public V3D_V_d add(V3D_V_d v) {
+        return set(x + v.x, y + v.y, z + v.z);
+    }
+
+    /**
+     * Add v multiplied by s to this.
+     *
+     * @param v The vector to add.
+     * @param s The scalar to multiply v by.
+     * @return this.
+     */
+    public V3D_V_d add(V3D_V_d v, double s) {
+        return set(x + v.x * s, y + v.y * s, z + v.z * s);
+    }
+
+    /**
+     * Subtract v from this.
+     *
+     * @param v The vector to subtract.
+     * @return this.
+     */
+    public V3D_V_d subtract(V3D_V_d v) {
+        return set(x - v.x, y - v.y, z - v.z);
+    }
+
+    /**
+     * Reverse this.
+     *
+     * @return this.
+     */
+    public V3D_V_d negate() {
+        return set(-x, -y, -z);
+    }
+
+    /**
+     * Scale this to be a unit vector. This is left unchanged if it is the
+     * zero vector.
+     *
+     * @return this.
+     */
+    public V3D_V_d normalise() {
+        double m = getMagnitude();
+        if (m != 0d) {
+            divide(m);
+        }
+        return this;
     }
 
     /**
@@ -198,6 +290,13 @@ public class V3D_V_d implements Serializable {
         return Math.sqrt(x * x + y * y + z * z);
     }
 
+    /**
+     * @return The magnitude squared.
+     */
+    public double getMagnitudeSquared() {
+        return x * x + y * y + z * z;
+    }
+
     /**
      * Calculate and return the
      * <A href="https://en.wikipedia.org/wiki/Cross_product">cross product</A>.
@@ -214,6 +313,31 @@ public class V3D_V_d implements Serializable {
                 x * v.y - y * v.x);
     }
 
+    /**
+     * Calculate the cross product of this and v and write it into result.
+     *
+     * @param v The second vector.
+     * @param result The vector to set to the cross product. This may be this
+     * or v.
+     * @return result.
+     */
+    public V3D_V_d getCrossProduct(V3D_V_d v, V3D_V_d result) {
+        return result.setCrossProduct(this, v);
+    }
+
+    /**
+     * Set this to be the cross product of u and v.
+     *
+     * @param u The first vector. This may be this.
+     * @param v The second vector. This may be this.
+     * @return this.
+     */
+    public V3D_V_d setCrossProduct(V3D_V_d u, V3D_V_d v) {
+        return set(u.y * v.z - u.z * v.y,
+                u.z * v.x - u.x * v.z,
+                u.x * v.y - u.y * v.x);
+    }
+
     /**
      * Scales by the magnitude to give a unit vector. (N.B. There is no check to
      * be sure that the resulting vector has a magnitude of less than 1).
@@ -249,6 +373,44 @@ public class V3D_V_d implements Serializable {
                 + Math.pow(z - p.z, 2d));
     }
 
+    /**
+     * Get the distance squared between this and {@code p} assuming both are
+     * points.
+     *
+     * @param p A point.
+     * @return The distance squared from {@code p} to this.
+     */
+    public double getDistanceSquared(V3D_V_d p) {
+        double dx = x - p.x;
+        double dy = y - p.y;
+        double dz = z - p.z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Calculate the orientation of s relative to the plane through p, q and
+     * r: the triple product {@code ((q - p) x (r - p)) . (s - p)} which is
+     * six times the signed volume of the tetrahedron pqrs.
+     *
+     * @param p A point.
+     * @param q A point.
+     * @param r A point.
+     * @param s A point.
+     * @return The triple product.
+     */
+    public static double getOrientation(V3D_V_d p, V3D_V_d q, V3D_V_d r,
+            V3D_V_d s) {
+        double ax = q.x - p.x;
+        double ay = q.y - p.y;
+        double az = q.z - p.z;
+        double bx = r.x - p.x;
+        double by = r.y - p.y;
+        double bz = r.z - p.z;
+        return (ay * bz - az * by) * (s.x - p.x)
+                + (az * bx - ax * bz) * (s.y - p.y)
+                + (ax * by - ay * bx) * (s.z - p.z);
+    }
+
     /**
      * @return A new vector which is the opposite to {@code this}.
      */
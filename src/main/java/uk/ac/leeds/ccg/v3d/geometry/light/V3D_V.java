@@ -28,6 +28,10 @@ import uk.ac.leeds.ccg.v3d.geometry.V3D_Vector;
  * lightweight despite using heavyweight numbers. It is not as heavyweight as 
  * V3D_Vector which uses even more heavyweight Math_BigRationalSqrt numbers 
  * for coordinates.
+ *
+ * Instances are mutable. Methods such as {@link #add(V3D_V)} and
+ * {@link #getCrossProduct(V3D_V, V3D_V)} change this or a given result
+ * instance rather than creating new ones. {@link #ZERO} must not be changed.
  * 
  * @author Andy Turner
  * @version 1.0
@@ -183,7 +187,51 @@ public class V3D_V implements Serializable {
      * @return {@code true} if {@code this} equals {@link #ZERO}.
      */
     public boolean isZero() {
-        return this.equals(ZERO);
+        return x.isZero() && y.isZero() && z.isZero();
+    }
+
+    /**
+     * @param x What {@link #x} is set to.
+     * @param y What {@link #y} is set to.
+     * @param z What {@link #z} is set to.
+     * @return this.
+     */
+    public V3D_V set(BigRational x, BigRational y, BigRational z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        return this;
+    }
+
+    /**
+     * Set this to be the vector from p to q.
+     *
+     * @param p The start.
+     * @param q The end.
+     * @return this.
+     */
+    public V3D_V setDifference(V3D_V p, V3D_V q) {
+        return set(q.x.subtract(p.x), q.y.subtract(p.y), q.z.subtract(p.z));
+    }
+
+    /**
+     * Add v to this.
+     *
+     * @param v The vector to add.
+     * @return this.
+     */
+    public V3D_V add(V3D_V v) {
+        return set(x.add(v.x), y.add(v.y), z.add(v.z));
+    }
+
+    /**
+     * Subtract v from this.
+     *
+     * @param v The vector to subtract.
+     * @return this.
+     */
+    public V3D_V subtract(V3D_V v) {
+        return set(x.subtract(v.x), y.subtract(v.y), z.subtract(v.z));
     }
 
     /**
@@ -245,6 +293,55 @@ public class V3D_V implements Serializable {
                 x.multiply(v.y).subtract(v.x.multiply(y)));
     }
 
+    /**
+     * Calculate the cross product of this and v and write it into result.
+     *
+     * @param v The second vector.
+     * @param result The vector to set to the cross product. This may be this
+     * or v.
+     * @return result.
+     */
+    public V3D_V getCrossProduct(V3D_V v, V3D_V result) {
+        return result.set(
+                y.multiply(v.z).subtract(z.multiply(v.y)),
+                z.multiply(v.x).subtract(x.multiply(v.z)),
+                x.multiply(v.y).subtract(v.x.multiply(y)));
+    }
+
+    /**
+     * @return The magnitude squared.
+     */
+    public BigRational getMagnitudeSquared() {
+        return x.pow(2).add(y.pow(2)).add(z.pow(2));
+    }
+
+    /**
+     * Calculate the orientation of s relative to the plane through p, q and
+     * r: the triple product {@code ((q - p) x (r - p)) . (s - p)} which is
+     * six times the signed volume of the tetrahedron pqrs.
+     *
+     * @param p A point.
+     * @param q A point.
+     * @param r A point.
+     * @param s A point.
+     * @return The triple product.
+     */
+    public static BigRational getOrientation(V3D_V p, V3D_V q, V3D_V r,
+            V3D_V s) {
+        BigRational ax = q.x.subtract(p.x);
+        BigRational ay = q.y.subtract(p.y);
+        BigRational az = q.z.subtract(p.z);
+        BigRational bx = r.x.subtract(p.x);
+        BigRational by = r.y.subtract(p.y);
+        BigRational bz = r.z.subtract(p.z);
+        return ay.multiply(bz).subtract(az.multiply(by))
+                .multiply(s.x.subtract(p.x))
+                .add(az.multiply(bx).subtract(ax.multiply(bz))
+                        .multiply(s.y.subtract(p.y)))
+                .add(ax.multiply(by).subtract(ay.multiply(bx))
+                        .multiply(s.z.subtract(p.z)));
+    }
+
     /**
      * Scales by the magnitude to give a unit vector. (N.B. There is no check to
      * be sure that the resulting vector has a magnitude of less than 1).
@@ -15,6 +15,7 @@
  */
 package uk.ac.leeds.ccg.v3d.geometry.light;
 
+import ch.obermuhlner.math.big.BigRational;
 import java.io.Serializable;
 
 /**
@@ -45,6 +46,9 @@ import java.io.Serializable;
  *                           *
  *                           r
  * }
+ * The points are got from the faces: p, q and r are the points of
+ * {@link #pqr} and s is the second point of {@link #qsr}.
+ *
  * For more complicated triangles uk.ac.leeds.ccg.v3d.geometry.V3D_Tetrahedron.
  * 
  * @author Andy Turner
@@ -90,6 +94,20 @@ public class V3D_VTetrahedron implements Serializable {
         this.psq = psq;
     }
 
+    /**
+     * Create a new instance with faces that share the points given, so that
+     * changing a point changes the tetrahedron.
+     *
+     * @param p A point.
+     * @param q A point.
+     * @param r A point.
+     * @param s A point.
+     */
+    public V3D_VTetrahedron(V3D_V p, V3D_V q, V3D_V r, V3D_V s) {
+        this(new V3D_VTriangle(p, q, r), new V3D_VTriangle(q, s, r),
+                new V3D_VTriangle(s, p, r), new V3D_VTriangle(p, s, q));
+    }
+
     @Override
     public String toString() {
         return toString("");
@@ -120,15 +138,75 @@ public class V3D_VTetrahedron implements Serializable {
                 + pad + "psq=" + psq.toString(pad);
     }
 
-//    @Override
-//    public V3D_V getCentroid() {
-//        if (centroid == null) {
-//            centroid = new V3D_V(
-//                    (pqr.getCentroid().x.add(qsr.getCentroid().x).add(spr.getCentroid().x).add(psq.getCentroid().x)).divide(4),
-//                    (pqr.getCentroid().y.add(qsr.getCentroid().y).add(spr.getCentroid().y).add(psq.getCentroid().y)).divide(4),
-//                    (pqr.getCentroid().z.add(qsr.getCentroid().z).add(spr.getCentroid().z).add(psq.getCentroid().z)).divide(4));
-//        }
-//        return centroid;
-//    }
+    /**
+     * @return The point p which is {@code pqr.pq.p}.
+     */
+    public V3D_V getP() {
+        return pqr.pq.p;
+    }
+
+    /**
+     * @return The point q which is {@code pqr.pq.q}.
+     */
+    public V3D_V getQ() {
+        return pqr.pq.q;
+    }
+
+    /**
+     * @return The point r which is {@code pqr.qr.q}.
+     */
+    public V3D_V getR() {
+        return pqr.qr.q;
+    }
 
+    /**
+     * @return The point s which is {@code qsr.pq.q}.
+     */
+    public V3D_V getS() {
+        return qsr.pq.q;
+    }
+
+    /**
+     * @return The volume.
+     */
+    public BigRational getVolume() {
+        return V3D_V.getOrientation(getP(), getQ(), getR(), getS()).abs()
+                .divide(6);
+    }
+
+    /**
+     * @param result The vector to set to the centroid.
+     * @return result.
+     */
+    public V3D_V getCentroid(V3D_V result) {
+        V3D_V p = getP();
+        V3D_V q = getQ();
+        V3D_V r = getR();
+        V3D_V s = getS();
+        return result.set(p.x.add(q.x).add(r.x).add(s.x).divide(4),
+                p.y.add(q.y).add(r.y).add(s.y).divide(4),
+                p.z.add(q.z).add(r.z).add(s.z).divide(4));
+    }
+
+    /**
+     * Tests if pt is in this using the signs of the volumes of the
+     * tetrahedra formed by replacing each point of this with pt.
+     *
+     * @param pt The point to test.
+     * @return {@code true} iff pt is in this or on its boundary.
+     */
+    public boolean contains(V3D_V pt) {
+        V3D_V p = getP();
+        V3D_V q = getQ();
+        V3D_V r = getR();
+        V3D_V s = getS();
+        int o = V3D_V.getOrientation(p, q, r, s).signum();
+        if (o == 0) {
+            return false;
+        }
+        return V3D_V.getOrientation(pt, q, r, s).signum() * o >= 0
+                && V3D_V.getOrientation(p, pt, r, s).signum() * o >= 0
+                && V3D_V.getOrientation(p, q, pt, s).signum() * o >= 0
+                && V3D_V.getOrientation(p, q, r, pt).signum() * o >= 0;
+    }
 }
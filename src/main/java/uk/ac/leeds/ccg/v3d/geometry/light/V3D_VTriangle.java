@@ -15,6 +15,7 @@
  */
 package uk.ac.leeds.ccg.v3d.geometry.light;
 
+import ch.obermuhlner.math.big.BigRational;
 import java.io.Serializable;
 
 /**
@@ -90,6 +91,18 @@ public class V3D_VTriangle implements Serializable {
         this.rp = rp;
     }
 
+    /**
+     * Creates a new triangle with edges that share the points given, so that
+     * changing a point changes the triangle.
+     *
+     * @param p The point at the start of {@link #pq}.
+     * @param q The point at the start of {@link #qr}.
+     * @param r The point at the start of {@link #rp}.
+     */
+    public V3D_VTriangle(V3D_V p, V3D_V q, V3D_V r) {
+        this(new V3D_VLine(p, q), new V3D_VLine(q, r), new V3D_VLine(r, p));
+    }
+
     @Override
     public String toString() {
         return toString("");
@@ -131,11 +144,38 @@ public class V3D_VTriangle implements Serializable {
         return n;
     }
 
-//    @Override
-//    public V3D_V getCentroid() {
-//        return new V3D_V(
-//                (p.x.add(q.x).add(r.x)).divide(3).add(offset.x),
-//                (p.y.add(q.y).add(r.y)).divide(3).add(offset.y),
-//                (p.z.add(q.z).add(r.z)).divide(3).add(offset.z));
-//    }
+    /**
+     * Calculates the normal using the right hand rule without using or
+     * changing {@link #n}. This is for triangles whose points change.
+     *
+     * @param result The vector to set to the normal.
+     * @return result.
+     */
+    public V3D_V getNormal(V3D_V result) {
+        V3D_V p = pq.p;
+        V3D_V q = pq.q;
+        V3D_V r = qr.q;
+        BigRational ax = q.x.subtract(p.x);
+        BigRational ay = q.y.subtract(p.y);
+        BigRational az = q.z.subtract(p.z);
+        BigRational bx = r.x.subtract(q.x);
+        BigRational by = r.y.subtract(q.y);
+        BigRational bz = r.z.subtract(q.z);
+        return result.set(ay.multiply(bz).subtract(az.multiply(by)),
+                az.multiply(bx).subtract(ax.multiply(bz)),
+                ax.multiply(by).subtract(ay.multiply(bx)));
+    }
+
+    /**
+     * @param result The vector to set to the centroid.
+     * @return result.
+     */
+    public V3D_V getCentroid(V3D_V result) {
+        V3D_V p = pq.p;
+        V3D_V q = pq.q;
+        V3D_V r = qr.q;
+        return result.set(p.x.add(q.x).add(r.x).divide(3),
+                p.y.add(q.y).add(r.y).divide(3),
+                p.z.add(q.z).add(r.z).divide(3));
+    }
 }
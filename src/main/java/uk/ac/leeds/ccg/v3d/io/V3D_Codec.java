@@ -0,0 +1,395 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.io;
+
+import ch.obermuhlner.math.big.BigRational;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import uk.ac.leeds.ccg.math.number.Math_BigRationalSqrt;
+import uk.ac.leeds.ccg.v3d.core.V3D_Environment;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Geometry;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Point;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Tetrahedron;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Triangle;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Vector;
+
+/**
+ * Constants and methods for a compact binary encoding of exact geometry. This
+ * is an alternative to Java serialisation which writes only the exact values
+ * that define a geometry and not class descriptors or cached values.
+ *
+ * A file starts with {@link #MAGIC} and {@link #VERSION} and then has a
+ * sequence of records each starting with a tag:
+ * <ul>
+ * <li>{@link #VECTOR} - a vector in the shared vector table. Vectors are
+ * given ids in the order they are written and each distinct vector is
+ * written once.</li>
+ * <li>{@link #POINT}, {@link #TRIANGLE} and {@link #TETRAHEDRON} - a
+ * geometry given as the ids of its offset and then of its other defining
+ * vectors (for a point, {@link V3D_Point#rel}).</li>
+ * <li>{@link #SHAPE} - the id of a shape in {@link V3D_Environment#shapes}
+ * followed by a geometry record.</li>
+ * <li>{@link #END} - followed by an index of the positions of the vector and
+ * shape records, the position of the index as an 8 byte long and
+ * {@link #INDEX_MAGIC}. The index allows random access by shape id.</li>
+ * </ul>
+ * Integers are written as unsigned LEB128 varints, with signed values zig
+ * zag encoded. A vector component is written as a header byte followed by
+ * a numerator and for non integers a denominator. Components that are not
+ * rational are written as the rational square of their value with the sign
+ * in the header.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_Codec {
+
+    /**
+     * The bytes at the start of a file.
+     */
+    public static final byte[] MAGIC = {'V', '3', 'D', 'X'};
+
+    /**
+     * The bytes at the end of a file.
+     */
+    public static final byte[] INDEX_MAGIC = {'V', '3', 'D', 'I'};
+
+    /**
+     * The version of the format.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * The tag of the end record.
+     */
+    public static final int END = 0;
+
+    /**
+     * The tag of a vector record.
+     */
+    public static final int VECTOR = 1;
+
+    /**
+     * The tag of a point record.
+     */
+    public static final int POINT = 2;
+
+    /**
+     * The tag of a triangle record.
+     */
+    public static final int TRIANGLE = 3;
+
+    /**
+     * The tag of a tetrahedron record.
+     */
+    public static final int TETRAHEDRON = 4;
+
+    /**
+     * The tag of a shape record.
+     */
+    public static final int SHAPE = 5;
+
+    /**
+     * Header bit set if a number has a denominator other than 1.
+     */
+    private static final int FRACTION = 1;
+
+    /**
+     * Header bit set if a number is the square root of the rational written.
+     */
+    private static final int ROOT = 2;
+
+    /**
+     * Header bit set if a root is negative.
+     */
+    private static final int NEGATIVE = 4;
+
+    private V3D_Codec() {
+    }
+
+    /**
+     * Write an unsigned varint.
+     *
+     * @param out The stream to write to.
+     * @param v The value treated as unsigned.
+     * @throws IOException If encountered.
+     */
+    public static void writeVarint(OutputStream out, long v)
+            throws IOException {
+        while ((v & ~0x7fL) != 0L) {
+            out.write((int) ((v & 0x7f) | 0x80));
+            v >>>= 7;
+        }
+        out.write((int) v);
+    }
+
+    /**
+     * Read an unsigned varint.
+     *
+     * @param in The stream to read from.
+     * @return The value.
+     * @throws IOException If encountered.
+     */
+    public static long readVarint(InputStream in) throws IOException {
+        long r = 0L;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = read(in);
+            r |= (long) (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) {
+                return r;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    /**
+     * @param in The stream to read from.
+     * @return The next byte.
+     * @throws IOException If encountered or at the end of the stream.
+     */
+    static int read(InputStream in) throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            throw new EOFException();
+        }
+        return b;
+    }
+
+    /**
+     * Write a signed integer zig zag encoded as an unsigned varint of any
+     * length.
+     *
+     * @param out The stream to write to.
+     * @param v The value.
+     * @throws IOException If encountered.
+     */
+    public static void writeBigInteger(OutputStream out, BigInteger v)
+            throws IOException {
+        if (v.bitLength() < 63) {
+            long l = v.longValue();
+            writeVarint(out, (l << 1) ^ (l >> 63));
+            return;
+        }
+        BigInteger u = v.signum() < 0 ? v.negate().shiftLeft(1)
+                .subtract(BigInteger.ONE) : v.shiftLeft(1);
+        int n = u.bitLength();
+        for (int i = 0; i < n; i += 7) {
+            int b = 0;
+            for (int j = 0; j < 7; j++) {
+                if (u.testBit(i + j)) {
+                    b |= 1 << j;
+                }
+            }
+            out.write(i + 7 < n ? b | 0x80 : b);
+        }
+    }
+
+    /**
+     * Read a signed integer written by
+     * {@link #writeBigInteger(OutputStream, BigInteger)}.
+     *
+     * @param in The stream to read from.
+     * @return The value.
+     * @throws IOException If encountered.
+     */
+    public static BigInteger readBigInteger(InputStream in)
+            throws IOException {
+        long r = 0L;
+        int shift = 0;
+        int b;
+        do {
+            b = read(in);
+            if (shift == 63) {
+                return readBigInteger(in, r, b);
+            }
+            r |= (long) (b & 0x7f) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return BigInteger.valueOf((r >>> 1) ^ -(r & 1L));
+    }
+
+    /**
+     * Continue reading a varint which does not fit in a long.
+     *
+     * @param in The stream to read from.
+     * @param low The low 63 bits.
+     * @param b The byte holding bits 63 to 69.
+     * @return The value.
+     * @throws IOException If encountered.
+     */
+    private static BigInteger readBigInteger(InputStream in, long low, int b)
+            throws IOException {
+        BigInteger u = BigInteger.valueOf(low);
+        int shift = 63;
+        while (true) {
+            u = u.or(BigInteger.valueOf(b & 0x7f).shiftLeft(shift));
+            if ((b & 0x80) == 0) {
+                break;
+            }
+            shift += 7;
+            b = read(in);
+        }
+        BigInteger h = u.shiftRight(1);
+        return u.testBit(0) ? h.add(BigInteger.ONE).negate() : h;
+    }
+
+    /**
+     * @param r The rational.
+     * @return The numerator and denominator of r in lowest terms with a
+     * positive denominator.
+     */
+    static BigInteger[] getFraction(BigRational r) {
+        BigDecimal n = r.getNumerator();
+        BigDecimal d = r.getDenominator();
+        int s = Math.max(0, Math.max(n.scale(), d.scale()));
+        BigInteger ni = n.setScale(s).unscaledValue();
+        BigInteger di = d.setScale(s).unscaledValue();
+        if (di.signum() < 0) {
+            ni = ni.negate();
+            di = di.negate();
+        }
+        BigInteger g = ni.gcd(di);
+        if (g.compareTo(BigInteger.ONE) > 0) {
+            ni = ni.divide(g);
+            di = di.divide(g);
+        }
+        return new BigInteger[]{ni, di};
+    }
+
+    /**
+     * Write a number.
+     *
+     * @param out The stream to write to.
+     * @param c The number.
+     * @throws IOException If encountered.
+     */
+    public static void writeNumber(OutputStream out, Math_BigRationalSqrt c)
+            throws IOException {
+        BigRational r = c.getSqrt();
+        int h = 0;
+        if (r == null) {
+            r = c.getX();
+            h = ROOT;
+            if (c.compareTo(Math_BigRationalSqrt.ZERO) < 0) {
+                h |= NEGATIVE;
+            }
+        }
+        BigInteger[] f = getFraction(r);
+        if (!f[1].equals(BigInteger.ONE)) {
+            h |= FRACTION;
+        }
+        out.write(h);
+        writeBigInteger(out, f[0]);
+        if ((h & FRACTION) != 0) {
+            writeBigInteger(out, f[1]);
+        }
+    }
+
+    /**
+     * Read a number.
+     *
+     * @param in The stream to read from.
+     * @param env The environment for the precision of any square root.
+     * @return The number.
+     * @throws IOException If encountered.
+     */
+    public static Math_BigRationalSqrt readNumber(InputStream in,
+            V3D_Environment env) throws IOException {
+        int h = read(in);
+        BigInteger n = readBigInteger(in);
+        BigRational r = (h & FRACTION) == 0
+                ? BigRational.valueOf(new BigDecimal(n))
+                : BigRational.valueOf(n, readBigInteger(in));
+        if ((h & ROOT) == 0) {
+            return new Math_BigRationalSqrt(r.pow(2), r);
+        }
+        Math_BigRationalSqrt c = new Math_BigRationalSqrt(r, env.oom, env.rm);
+        return (h & NEGATIVE) == 0 ? c : c.negate();
+    }
+
+    /**
+     * Write the components of a vector.
+     *
+     * @param out The stream to write to.
+     * @param v The vector.
+     * @throws IOException If encountered.
+     */
+    public static void writeVector(OutputStream out, V3D_Vector v)
+            throws IOException {
+        writeNumber(out, v.getDX());
+        writeNumber(out, v.getDY());
+        writeNumber(out, v.getDZ());
+    }
+
+    /**
+     * Read the components of a vector.
+     *
+     * @param in The stream to read from.
+     * @param env The environment for the precision of any square roots.
+     * @return The vector.
+     * @throws IOException If encountered.
+     */
+    public static V3D_Vector readVector(InputStream in, V3D_Environment env)
+            throws IOException {
+        return new V3D_Vector(readNumber(in, env), readNumber(in, env),
+                readNumber(in, env));
+    }
+
+    /**
+     * @param tag The tag of a geometry record.
+     * @return The number of vector ids in the record.
+     * @throws IOException If the tag is not for a geometry.
+     */
+    static int getVectorCount(int tag) throws IOException {
+        return switch (tag) {
+            case POINT ->
+                2;
+            case TRIANGLE ->
+                4;
+            case TETRAHEDRON ->
+                5;
+            default ->
+                throw new IOException("Unknown tag " + tag);
+        };
+    }
+
+    /**
+     * Create a geometry.
+     *
+     * @param tag The tag of the geometry record.
+     * @param env The environment of the geometry.
+     * @param v The offset and then the other defining vectors.
+     * @return The geometry.
+     * @throws IOException If the tag is not for a geometry.
+     */
+    static V3D_Geometry getGeometry(int tag, V3D_Environment env,
+            V3D_Vector[] v) throws IOException {
+        return switch (tag) {
+            case POINT ->
+                new V3D_Point(env, v[0], v[1]);
+            case TRIANGLE ->
+                new V3D_Triangle(env, v[0], v[1], v[2], v[3]);
+            case TETRAHEDRON ->
+                new V3D_Tetrahedron(env, v[0], v[1], v[2], v[3], v[4]);
+            default ->
+                throw new IOException("Unknown tag " + tag);
+        };
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.io;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Set;
+import uk.ac.leeds.ccg.v3d.core.V3D_Environment;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Vector;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Volume;
+
+/**
+ * For random access by shape id to a file in the format described in
+ * {@link V3D_Codec}. The index at the end of the file is read when this is
+ * constructed and shapes and vectors are read from the file as they are
+ * requested. Vectors are cached once read.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_CodecFile implements AutoCloseable {
+
+    /**
+     * The channel.
+     */
+    private final FileChannel fc;
+
+    /**
+     * The environment of the geometries read.
+     */
+    public final V3D_Environment env;
+
+    /**
+     * The positions of the vector records in order of id.
+     */
+    private final long[] vectorPositions;
+
+    /**
+     * The vectors read, in order of id.
+     */
+    private final V3D_Vector[] vectors;
+
+    /**
+     * The positions of the shape records keyed by shape id.
+     */
+    private final HashMap<Integer, Long> shapePositions;
+
+    /**
+     * Create a new instance and read the index.
+     *
+     * @param p The path of the file.
+     * @param env What {@link #env} is set to.
+     * @throws IOException If encountered or if the file has no valid index.
+     */
+    public V3D_CodecFile(Path p, V3D_Environment env) throws IOException {
+        this.env = env;
+        fc = FileChannel.open(p, StandardOpenOption.READ);
+        try {
+            int tail = 8 + V3D_Codec.INDEX_MAGIC.length;
+            long size = fc.size();
+            if (size < tail) {
+                throw new IOException("No index in " + p);
+            }
+            ByteBuffer b = ByteBuffer.allocate(tail);
+            while (b.hasRemaining()) {
+                if (fc.read(b, size - tail + b.position()) < 0) {
+                    break;
+                }
+            }
+            b.flip();
+            long indexPosition = b.getLong();
+            byte[] magic = new byte[V3D_Codec.INDEX_MAGIC.length];
+            b.get(magic);
+            if (!Arrays.equals(magic, V3D_Codec.INDEX_MAGIC)) {
+                throw new IOException("No index in " + p);
+            }
+            InputStream in = open(indexPosition);
+            int n = (int) V3D_Codec.readVarint(in);
+            vectorPositions = new long[n];
+            vectors = new V3D_Vector[n];
+            long last = 0L;
+            for (int i = 0; i < n; i++) {
+                last += V3D_Codec.readVarint(in);
+                vectorPositions[i] = last;
+            }
+            int ns = (int) V3D_Codec.readVarint(in);
+            shapePositions = new HashMap<>(ns * 2);
+            for (int i = 0; i < ns; i++) {
+                int id = (int) V3D_Codec.readVarint(in);
+                shapePositions.put(id, V3D_Codec.readVarint(in));
+            }
+        } catch (IOException | RuntimeException e) {
+            fc.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @param position The position in the file.
+     * @return A stream reading from position.
+     * @throws IOException If encountered.
+     */
+    private InputStream open(long position) throws IOException {
+        fc.position(position);
+        return new BufferedInputStream(Channels.newInputStream(fc), 512);
+    }
+
+    /**
+     * @return The ids of the shapes in the file.
+     */
+    public Set<Integer> getShapeIDs() {
+        return shapePositions.keySet();
+    }
+
+    /**
+     * @param id The shape id.
+     * @return The shape with the id or {@code null} if there is no such
+     * shape.
+     * @throws IOException If encountered.
+     */
+    public synchronized V3D_Volume getShape(int id) throws IOException {
+        Long position = shapePositions.get(id);
+        if (position == null) {
+            return null;
+        }
+        InputStream in = open(position);
+        if (V3D_Codec.read(in) != V3D_Codec.SHAPE
+                || V3D_Codec.readVarint(in) != id) {
+            throw new IOException("Invalid shape record " + id);
+        }
+        int tag = V3D_Codec.read(in);
+        // Read all the ids first as reading a vector moves the channel.
+        int[] ids = new int[V3D_Codec.getVectorCount(tag)];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = (int) V3D_Codec.readVarint(in);
+        }
+        V3D_Vector[] v = new V3D_Vector[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            v[i] = getVector(ids[i]);
+        }
+        return (V3D_Volume) V3D_Codec.getGeometry(tag, env, v);
+    }
+
+    /**
+     * @param id The vector id.
+     * @return The vector.
+     * @throws IOException If encountered.
+     */
+    public synchronized V3D_Vector getVector(int id) throws IOException {
+        V3D_Vector v = vectors[id];
+        if (v == null) {
+            InputStream in = open(vectorPositions[id]);
+            if (V3D_Codec.read(in) != V3D_Codec.VECTOR) {
+                throw new IOException("Invalid vector record " + id);
+            }
+            v = V3D_Codec.readVector(in, env);
+            vectors[id] = v;
+        }
+        return v;
+    }
+
+    @Override
+    public void close() throws IOException {
+        fc.close();
+    }
+}
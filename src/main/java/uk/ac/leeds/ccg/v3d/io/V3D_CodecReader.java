@@ -0,0 +1,174 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import uk.ac.leeds.ccg.v3d.core.V3D_Environment;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Geometry;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Vector;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Volume;
+
+/**
+ * For reading exact geometry in the format described in {@link V3D_Codec}
+ * as a stream. Vector records are read into a table and geometry records are
+ * returned in order by {@link #next()}. For random access by shape id use
+ * {@link V3D_CodecFile}.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_CodecReader implements AutoCloseable {
+
+    /**
+     * The stream to read from.
+     */
+    private final InputStream in;
+
+    /**
+     * The environment of the geometries read.
+     */
+    public final V3D_Environment env;
+
+    /**
+     * The vectors read in order of id.
+     */
+    private final ArrayList<V3D_Vector> vectors;
+
+    /**
+     * The id of the last shape read or -1 if the last geometry read was not
+     * a shape.
+     */
+    private int shapeID;
+
+    /**
+     * Create a new instance and read the header.
+     *
+     * @param in The stream to read from. For speed this should be buffered.
+     * This is closed when this is closed.
+     * @param env What {@link #env} is set to.
+     * @throws IOException If encountered or if the header is not valid.
+     */
+    public V3D_CodecReader(InputStream in, V3D_Environment env)
+            throws IOException {
+        this.in = in;
+        this.env = env;
+        vectors = new ArrayList<>();
+        shapeID = -1;
+        for (byte b : V3D_Codec.MAGIC) {
+            if (V3D_Codec.read(in) != b) {
+                throw new IOException("Not a V3D_Codec stream");
+            }
+        }
+        long version = V3D_Codec.readVarint(in);
+        if (version > V3D_Codec.VERSION) {
+            throw new IOException("Unsupported version " + version);
+        }
+    }
+
+    /**
+     * Read the next geometry.
+     *
+     * @return The next geometry or {@code null} if there are no more.
+     * @throws IOException If encountered.
+     */
+    public V3D_Geometry next() throws IOException {
+        shapeID = -1;
+        while (true) {
+            int tag = V3D_Codec.read(in);
+            switch (tag) {
+                case V3D_Codec.END -> {
+                    return null;
+                }
+                case V3D_Codec.VECTOR ->
+                    vectors.add(V3D_Codec.readVector(in, env));
+                case V3D_Codec.SHAPE -> {
+                    long id = V3D_Codec.readVarint(in);
+                    if (id < 0L || id > Integer.MAX_VALUE) {
+                        throw new IOException("Invalid shape id " + id);
+                    }
+                    shapeID = (int) id;
+                    return readGeometry(V3D_Codec.read(in));
+                }
+                default -> {
+                    return readGeometry(tag);
+                }
+            }
+        }
+    }
+
+    /**
+     * Read the body of a geometry record.
+     *
+     * @param tag The tag of the record.
+     * @return The geometry.
+     * @throws IOException If encountered.
+     */
+    private V3D_Geometry readGeometry(int tag) throws IOException {
+        V3D_Vector[] v = new V3D_Vector[V3D_Codec.getVectorCount(tag)];
+        for (int i = 0; i < v.length; i++) {
+            v[i] = vectors.get((int) V3D_Codec.readVarint(in));
+        }
+        return V3D_Codec.getGeometry(tag, env, v);
+    }
+
+    /**
+     * Read all the remaining shapes into {@link V3D_Environment#shapes} of
+     * {@link #env}, keeping their ids. Other geometries are skipped. The
+     * shapes are added with {@link V3D_Environment#add(int, V3D_Volume)} so
+     * ids allocated afterwards do not collide with them.
+     *
+     * @return The number of shapes read.
+     * @throws IOException If encountered or if a shape id is already in use.
+     */
+    public int readShapes() throws IOException {
+        int n = 0;
+        V3D_Geometry g;
+        while ((g = next()) != null) {
+            if (shapeID >= 0) {
+                try {
+                    env.add(shapeID, (V3D_Volume) g);
+                } catch (IllegalArgumentException e) {
+                    throw new IOException(e.getMessage(), e);
+                }
+                n++;
+            }
+        }
+        return n;
+    }
+
+    /**
+     * @return The id of the shape last returned by {@link #next()} or -1 if
+     * that was not a shape.
+     */
+    public int getShapeID() {
+        return shapeID;
+    }
+
+    /**
+     * @param id The id of a vector already read.
+     * @return The vector.
+     */
+    public V3D_Vector getVector(int id) {
+        return vectors.get(id);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import uk.ac.leeds.ccg.v3d.core.V3D_Environment;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Geometry;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Point;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Tetrahedron;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Triangle;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Vector;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Volume;
+
+/**
+ * For writing exact geometry in the format described in {@link V3D_Codec}.
+ * Records are written as they are given, so this streams. Each distinct
+ * vector is written once into the shared vector table the first time it is
+ * used. The index is written when this is closed.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_CodecWriter implements AutoCloseable {
+
+    /**
+     * The stream to write to.
+     */
+    private final OutputStream out;
+
+    /**
+     * The number of bytes written to {@link #out}.
+     */
+    private long position;
+
+    /**
+     * For encoding a record before it is written.
+     */
+    private final ByteArrayOutputStream rec;
+
+    /**
+     * The ids of the vectors written keyed by their encoding.
+     */
+    private final HashMap<ByteBuffer, Integer> vectorIDs;
+
+    /**
+     * The positions of the vector records in order of id.
+     */
+    private long[] vectorPositions;
+
+    /**
+     * The positions of the shape records keyed by shape id.
+     */
+    private final TreeMap<Integer, Long> shapePositions;
+
+    /**
+     * Create a new instance and write the header.
+     *
+     * @param out The stream to write to. This is closed when this is closed.
+     * @throws IOException If encountered.
+     */
+    public V3D_CodecWriter(OutputStream out) throws IOException {
+        this.out = out;
+        rec = new ByteArrayOutputStream(256);
+        vectorIDs = new HashMap<>();
+        vectorPositions = new long[64];
+        shapePositions = new TreeMap<>();
+        rec.write(V3D_Codec.MAGIC);
+        V3D_Codec.writeVarint(rec, V3D_Codec.VERSION);
+        flushRecord();
+    }
+
+    /**
+     * Write the record in {@link #rec} to {@link #out}.
+     *
+     * @throws IOException If encountered.
+     */
+    private void flushRecord() throws IOException {
+        rec.writeTo(out);
+        position += rec.size();
+        rec.reset();
+    }
+
+    /**
+     * Write v into the shared vector table unless an equal vector has already
+     * been written.
+     *
+     * @param v The vector.
+     * @return The id of the vector.
+     * @throws IOException If encountered.
+     */
+    public int write(V3D_Vector v) throws IOException {
+        V3D_Codec.writeVector(rec, v);
+        ByteBuffer key = ByteBuffer.wrap(rec.toByteArray());
+        rec.reset();
+        Integer id = vectorIDs.get(key);
+        if (id == null) {
+            id = vectorIDs.size();
+            vectorIDs.put(key, id);
+            if (id == vectorPositions.length) {
+                vectorPositions = Arrays.copyOf(vectorPositions, id * 2);
+            }
+            vectorPositions[id] = position;
+            rec.write(V3D_Codec.VECTOR);
+            rec.write(key.array());
+            flushRecord();
+        }
+        return id;
+    }
+
+    /**
+     * Write a geometry. Supported geometries are {@link V3D_Point},
+     * {@link V3D_Triangle} and {@link V3D_Tetrahedron}.
+     *
+     * @param g The geometry.
+     * @throws IOException If encountered.
+     */
+    public void write(V3D_Geometry g) throws IOException {
+        int[] ids = writeVectors(g);
+        writeGeometry(g, ids);
+        flushRecord();
+    }
+
+    /**
+     * Write a shape.
+     *
+     * @param id The id of the shape.
+     * @param v The shape. Supported shapes are {@link V3D_Tetrahedron}.
+     * @throws IOException If encountered.
+     */
+    public void writeShape(int id, V3D_Volume v) throws IOException {
+        int[] ids = writeVectors(v);
+        shapePositions.put(id, position);
+        rec.write(V3D_Codec.SHAPE);
+        V3D_Codec.writeVarint(rec, id);
+        writeGeometry(v, ids);
+        flushRecord();
+    }
+
+    /**
+     * Write all the shapes in {@link V3D_Environment#shapes}.
+     *
+     * @param env The environment.
+     * @throws IOException If encountered.
+     */
+    public void write(V3D_Environment env) throws IOException {
+        for (Map.Entry<Integer, V3D_Volume> e : env.shapes.entrySet()) {
+            writeShape(e.getKey(), e.getValue());
+        }
+    }
+
+    /**
+     * Write the vectors that define g.
+     *
+     * @param g The geometry.
+     * @return The ids of the vectors.
+     * @throws IOException If encountered.
+     */
+    private int[] writeVectors(V3D_Geometry g) throws IOException {
+        return switch (g) {
+            case V3D_Point p ->
+                new int[]{write(p.offset), write(p.rel)};
+            case V3D_Triangle t ->
+                new int[]{write(t.offset), write(t.pv), write(t.qv),
+                    write(t.rv)};
+            case V3D_Tetrahedron t ->
+                new int[]{write(t.offset), write(t.pv), write(t.qv),
+                    write(t.rv), write(t.sv)};
+            default ->
+                throw new IllegalArgumentException("Unsupported geometry "
+                + g.getClass().getName());
+        };
+    }
+
+    /**
+     * Encode a geometry record into {@link #rec}.
+     *
+     * @param g The geometry.
+     * @param ids The ids of the vectors that define g.
+     * @throws IOException If encountered.
+     */
+    private void writeGeometry(V3D_Geometry g, int[] ids) throws IOException {
+        rec.write(switch (g) {
+            case V3D_Point p ->
+                V3D_Codec.POINT;
+            case V3D_Triangle t ->
+                V3D_Codec.TRIANGLE;
+            default ->
+                V3D_Codec.TETRAHEDRON;
+        });
+        for (int id : ids) {
+            V3D_Codec.writeVarint(rec, id);
+        }
+    }
+
+    /**
+     * Write the end record and index and close the stream.
+     *
+     * @throws IOException If encountered.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            rec.write(V3D_Codec.END);
+            flushRecord();
+            long indexPosition = position;
+            int n = vectorIDs.size();
+            V3D_Codec.writeVarint(rec, n);
+            long last = 0L;
+            for (int i = 0; i < n; i++) {
+                V3D_Codec.writeVarint(rec, vectorPositions[i] - last);
+                last = vectorPositions[i];
+            }
+            V3D_Codec.writeVarint(rec, shapePositions.size());
+            for (Map.Entry<Integer, Long> e : shapePositions.entrySet()) {
+                V3D_Codec.writeVarint(rec, e.getKey());
+                V3D_Codec.writeVarint(rec, e.getValue());
+            }
+            rec.write(ByteBuffer.allocate(8).putLong(indexPosition).array());
+            rec.write(V3D_Codec.INDEX_MAGIC);
+            flushRecord();
+        } finally {
+            out.close();
+        }
+    }
+}
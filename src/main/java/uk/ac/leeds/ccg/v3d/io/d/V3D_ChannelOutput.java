@@ -0,0 +1,174 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.io.d;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * For writing binary values and ASCII text to a file through a fixed size
+ * direct buffer which is written to the channel whenever it fills, so the
+ * memory used does not depend on the amount written.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+final class V3D_ChannelOutput implements AutoCloseable {
+
+    /**
+     * The size of the buffer in bytes.
+     */
+    static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * The channel.
+     */
+    private final FileChannel fc;
+
+    /**
+     * The buffer.
+     */
+    private final ByteBuffer buf;
+
+    /**
+     * Create a new instance. Any existing file is truncated.
+     *
+     * @param p The path of the file to write.
+     * @param order The byte order for writing binary values.
+     * @throws IOException If encountered.
+     */
+    V3D_ChannelOutput(Path p, ByteOrder order) throws IOException {
+        fc = FileChannel.open(p, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        buf = ByteBuffer.allocateDirect(BUFFER_SIZE).order(order);
+    }
+
+    /**
+     * Ensure there is space for n bytes in the buffer.
+     *
+     * @param n The number of bytes.
+     * @throws IOException If encountered.
+     */
+    private void ensure(int n) throws IOException {
+        if (buf.remaining() < n) {
+            flush();
+        }
+    }
+
+    /**
+     * Write the buffer to the channel.
+     *
+     * @throws IOException If encountered.
+     */
+    void flush() throws IOException {
+        buf.flip();
+        while (buf.hasRemaining()) {
+            fc.write(buf);
+        }
+        buf.clear();
+    }
+
+    /**
+     * @param v The value to write.
+     * @throws IOException If encountered.
+     */
+    void putByte(int v) throws IOException {
+        ensure(1);
+        buf.put((byte) v);
+    }
+
+    /**
+     * @param v The value to write.
+     * @throws IOException If encountered.
+     */
+    void putShort(int v) throws IOException {
+        ensure(2);
+        buf.putShort((short) v);
+    }
+
+    /**
+     * @param v The value to write.
+     * @throws IOException If encountered.
+     */
+    void putInt(int v) throws IOException {
+        ensure(4);
+        buf.putInt(v);
+    }
+
+    /**
+     * @param v The value to write.
+     * @throws IOException If encountered.
+     */
+    void putLong(long v) throws IOException {
+        ensure(8);
+        buf.putLong(v);
+    }
+
+    /**
+     * @param v The value to write.
+     * @throws IOException If encountered.
+     */
+    void putFloat(float v) throws IOException {
+        ensure(4);
+        buf.putFloat(v);
+    }
+
+    /**
+     * @param v The value to write.
+     * @throws IOException If encountered.
+     */
+    void putDouble(double v) throws IOException {
+        ensure(8);
+        buf.putDouble(v);
+    }
+
+    /**
+     * @param b The bytes to write.
+     * @throws IOException If encountered.
+     */
+    void put(byte[] b) throws IOException {
+        int i = 0;
+        while (i < b.length) {
+            ensure(1);
+            int n = Math.min(buf.remaining(), b.length - i);
+            buf.put(b, i, n);
+            i += n;
+        }
+    }
+
+    /**
+     * @param s The ASCII text to write.
+     * @throws IOException If encountered.
+     */
+    void put(String s) throws IOException {
+        put(s.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            fc.close();
+        }
+    }
+}
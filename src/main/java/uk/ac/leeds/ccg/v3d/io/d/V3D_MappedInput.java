@@ -0,0 +1,384 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.io.d;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * For reading a file that is memory mapped in windows. A window of up to
+ * {@link #WINDOW} bytes is mapped at a time, so files larger than 2GB can be
+ * read and the mapped memory is not on the heap. Binary values are read in
+ * the current byte order and ASCII text is read a token at a time into a
+ * reusable byte array.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+final class V3D_MappedInput implements AutoCloseable {
+
+    /**
+     * The maximum number of bytes mapped at a time.
+     */
+    static final long WINDOW = 1L << 26;
+
+    /**
+     * The channel.
+     */
+    private final FileChannel fc;
+
+    /**
+     * The size of the file in bytes.
+     */
+    final long size;
+
+    /**
+     * The position in the file of the start of {@link #buf}.
+     */
+    private long base;
+
+    /**
+     * The mapped window.
+     */
+    private MappedByteBuffer buf;
+
+    /**
+     * The byte order for reading binary values.
+     */
+    private ByteOrder order;
+
+    /**
+     * The bytes of the last token read.
+     */
+    private byte[] token;
+
+    /**
+     * The length of the last token read.
+     */
+    private int tokenLength;
+
+    /**
+     * Create a new instance.
+     *
+     * @param p The path of the file to read.
+     * @throws IOException If encountered.
+     */
+    V3D_MappedInput(Path p) throws IOException {
+        fc = FileChannel.open(p, StandardOpenOption.READ);
+        size = fc.size();
+        order = ByteOrder.LITTLE_ENDIAN;
+        token = new byte[64];
+        map(0L);
+    }
+
+    /**
+     * Map the window starting at pos.
+     *
+     * @param pos The position in the file.
+     * @throws IOException If encountered.
+     */
+    private void map(long pos) throws IOException {
+        base = pos;
+        buf = fc.map(FileChannel.MapMode.READ_ONLY, pos,
+                Math.min(WINDOW, size - pos));
+        buf.order(order);
+    }
+
+    /**
+     * @param o The byte order for reading binary values.
+     */
+    void order(ByteOrder o) {
+        order = o;
+        buf.order(o);
+    }
+
+    /**
+     * @return The position in the file.
+     */
+    long position() {
+        return base + buf.position();
+    }
+
+    /**
+     * @param pos The position in the file to move to.
+     * @throws IOException If encountered.
+     */
+    void position(long pos) throws IOException {
+        if (pos >= base && pos <= base + buf.limit()) {
+            buf.position((int) (pos - base));
+        } else {
+            map(pos);
+        }
+    }
+
+    /**
+     * @param n The number of bytes to skip.
+     * @throws IOException If encountered.
+     */
+    void skip(long n) throws IOException {
+        position(position() + n);
+    }
+
+    /**
+     * @return The number of bytes remaining in the file.
+     */
+    long remaining() {
+        return size - position();
+    }
+
+    /**
+     * Ensure that at least n bytes are in the window, remapping if need be.
+     *
+     * @param n The number of bytes.
+     * @throws IOException If encountered or if there are fewer than n bytes
+     * remaining in the file.
+     */
+    private void ensure(int n) throws IOException {
+        if (buf.remaining() < n) {
+            long pos = position();
+            if (size - pos < n) {
+                throw new EOFException();
+            }
+            map(pos);
+        }
+    }
+
+    /**
+     * @return The next byte as an unsigned value, or -1 at the end of the
+     * file.
+     * @throws IOException If encountered.
+     */
+    int read() throws IOException {
+        if (!buf.hasRemaining()) {
+            long pos = position();
+            if (pos >= size) {
+                return -1;
+            }
+            map(pos);
+        }
+        return buf.get() & 0xff;
+    }
+
+    /**
+     * @return The next byte as an unsigned value without moving past it, or
+     * -1 at the end of the file.
+     * @throws IOException If encountered.
+     */
+    int peek() throws IOException {
+        if (!buf.hasRemaining()) {
+            long pos = position();
+            if (pos >= size) {
+                return -1;
+            }
+            map(pos);
+        }
+        return buf.get(buf.position()) & 0xff;
+    }
+
+    /**
+     * @return The next byte.
+     * @throws IOException If encountered.
+     */
+    byte getByte() throws IOException {
+        ensure(1);
+        return buf.get();
+    }
+
+    /**
+     * @return The next short.
+     * @throws IOException If encountered.
+     */
+    short getShort() throws IOException {
+        ensure(2);
+        return buf.getShort();
+    }
+
+    /**
+     * @return The next int.
+     * @throws IOException If encountered.
+     */
+    int getInt() throws IOException {
+        ensure(4);
+        return buf.getInt();
+    }
+
+    /**
+     * @return The next long.
+     * @throws IOException If encountered.
+     */
+    long getLong() throws IOException {
+        ensure(8);
+        return buf.getLong();
+    }
+
+    /**
+     * @return The next float.
+     * @throws IOException If encountered.
+     */
+    float getFloat() throws IOException {
+        ensure(4);
+        return buf.getFloat();
+    }
+
+    /**
+     * @return The next double.
+     * @throws IOException If encountered.
+     */
+    double getDouble() throws IOException {
+        ensure(8);
+        return buf.getDouble();
+    }
+
+    /**
+     * @param c The byte.
+     * @return {@code true} if c is ASCII white space other than a new line.
+     */
+    private static boolean isBlank(int c) {
+        return c == ' ' || c == '\t' || c == '\r' || c == '\f';
+    }
+
+    /**
+     * Read the next token. Tokens are separated by white space.
+     *
+     * @param crossLines If {@code false} then no token is read if the end of
+     * the line is reached first.
+     * @return {@code true} if a token was read.
+     * @throws IOException If encountered.
+     */
+    boolean nextToken(boolean crossLines) throws IOException {
+        int c = peek();
+        while (isBlank(c) || (crossLines && c == '\n')) {
+            read();
+            c = peek();
+        }
+        if (c == -1 || c == '\n') {
+            return false;
+        }
+        tokenLength = 0;
+        while (c != -1 && c != '\n' && !isBlank(c)) {
+            if (tokenLength == token.length) {
+                token = Arrays.copyOf(token, tokenLength * 2);
+            }
+            token[tokenLength++] = (byte) read();
+            c = peek();
+        }
+        return true;
+    }
+
+    /**
+     * @param s The string to compare with.
+     * @return {@code true} if the last token read is s.
+     */
+    boolean tokenEquals(String s) {
+        if (s.length() != tokenLength) {
+            return false;
+        }
+        for (int i = 0; i < tokenLength; i++) {
+            if (token[i] != s.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return The last token read as a String.
+     */
+    String tokenString() {
+        return new String(token, 0, tokenLength, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * @return The last token read parsed as a double.
+     */
+    double tokenDouble() {
+        return Double.parseDouble(tokenString());
+    }
+
+    /**
+     * Parse the integer at the start of the last token read. Parsing stops at
+     * the first '/' so that OBJ face vertices of the form v/vt/vn can be
+     * parsed without creating a String.
+     *
+     * @return The integer.
+     */
+    long tokenLong() {
+        int i = 0;
+        boolean negative = false;
+        if (tokenLength > 0 && (token[0] == '-' || token[0] == '+')) {
+            negative = token[0] == '-';
+            i++;
+        }
+        int start = i;
+        long r = 0L;
+        while (i < tokenLength && token[i] != '/') {
+            int d = token[i] - '0';
+            if (d < 0 || d > 9) {
+                throw new NumberFormatException(tokenString());
+            }
+            r = r * 10L + d;
+            i++;
+        }
+        if (i == start) {
+            throw new NumberFormatException(tokenString());
+        }
+        return negative ? -r : r;
+    }
+
+    /**
+     * Move past the end of the current line.
+     *
+     * @throws IOException If encountered.
+     */
+    void skipLine() throws IOException {
+        int c = read();
+        while (c != -1 && c != '\n') {
+            c = read();
+        }
+    }
+
+    /**
+     * @return The rest of the current line without the line terminator, or
+     * {@code null} at the end of the file.
+     * @throws IOException If encountered.
+     */
+    String readLine() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder();
+        while (c != -1 && c != '\n') {
+            if (c != '\r') {
+                sb.append((char) c);
+            }
+            c = read();
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        fc.close();
+    }
+}
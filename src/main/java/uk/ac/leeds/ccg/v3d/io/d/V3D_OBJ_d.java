@@ -0,0 +1,139 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.io.d;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.util.Arrays;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Mesh_d;
+
+/**
+ * For reading and writing the geometry of Wavefront OBJ files. Only vertex
+ * ("v") and face ("f") lines are read; other lines are skipped. Face vertex
+ * references may be of the form v, v/vt, v//vn or v/vt/vn and may be
+ * negative (relative to the last vertex read). Faces with more than three
+ * vertices are triangulated as fans.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_OBJ_d {
+
+    private V3D_OBJ_d() {
+    }
+
+    /**
+     * Read a file without vertex deduplication.
+     *
+     * @param p The path of the file to read.
+     * @return The mesh.
+     * @throws IOException If encountered.
+     */
+    public static V3D_Mesh_d read(Path p) throws IOException {
+        return read(p, false);
+    }
+
+    /**
+     * Read a file.
+     *
+     * @param p The path of the file to read.
+     * @param dedup If {@code true} vertices are deduplicated.
+     * @return The mesh.
+     * @throws IOException If encountered.
+     */
+    public static V3D_Mesh_d read(Path p, boolean dedup) throws IOException {
+        V3D_Mesh_d m = new V3D_Mesh_d(dedup);
+        // The mesh index of each vertex in the file.
+        int[] index = new int[16];
+        int n = 0;
+        int[] face = new int[16];
+        try (V3D_MappedInput in = new V3D_MappedInput(p)) {
+            while (in.peek() != -1) {
+                if (in.nextToken(false)) {
+                    if (in.tokenEquals("v")) {
+                        double x = next(in);
+                        double y = next(in);
+                        double z = next(in);
+                        if (n == index.length) {
+                            index = Arrays.copyOf(index, n * 2);
+                        }
+                        index[n++] = m.addVertex(x, y, z);
+                    } else if (in.tokenEquals("f")) {
+                        int k = 0;
+                        while (in.nextToken(false)) {
+                            long i = in.tokenLong();
+                            i = i < 0 ? n + i : i - 1;
+                            if (i < 0 || i >= n) {
+                                throw new IOException("Invalid vertex "
+                                        + in.tokenString() + " at "
+                                        + in.position());
+                            }
+                            if (k == face.length) {
+                                face = Arrays.copyOf(face, k * 2);
+                            }
+                            face[k++] = index[(int) i];
+                        }
+                        for (int j = 2; j < k; j++) {
+                            m.addTriangle(face[0], face[j - 1], face[j]);
+                        }
+                    }
+                }
+                in.skipLine();
+            }
+        }
+        m.endDedup();
+        m.trim();
+        return m;
+    }
+
+    /**
+     * @param in The input.
+     * @return The next token parsed as a double.
+     * @throws IOException If encountered or if there is no next token.
+     */
+    private static double next(V3D_MappedInput in) throws IOException {
+        if (!in.nextToken(false)) {
+            throw new IOException("Missing coordinate at "
+                    + in.position());
+        }
+        return in.tokenDouble();
+    }
+
+    /**
+     * Write a file. Coordinates are written so that they read back exactly.
+     *
+     * @param m The mesh to write.
+     * @param p The path of the file to write.
+     * @throws IOException If encountered.
+     */
+    public static void write(V3D_Mesh_d m, Path p) throws IOException {
+        try (V3D_ChannelOutput out = new V3D_ChannelOutput(p,
+                ByteOrder.LITTLE_ENDIAN)) {
+            int nv = m.getNVertices();
+            for (int i = 0; i < nv; i++) {
+                out.put("v " + m.getX(i) + " " + m.getY(i) + " " + m.getZ(i)
+                        + "\n");
+            }
+            int nt = m.getNTriangles();
+            for (int j = 0; j < nt; j++) {
+                out.put("f " + (m.getVertex(j, 0) + 1) + " "
+                        + (m.getVertex(j, 1) + 1) + " "
+                        + (m.getVertex(j, 2) + 1) + "\n");
+            }
+        }
+    }
+}
@@ -0,0 +1,358 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.io.d;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Mesh_d;
+
+/**
+ * For reading and writing the geometry of PLY (polygon file format) files.
+ * The ascii, binary_little_endian and binary_big_endian formats are read.
+ * The x, y and z properties of the "vertex" element and the
+ * "vertex_indices" (or "vertex_index") list property of the "face" element
+ * are read; other properties and elements are skipped. Faces with more than
+ * three vertices are triangulated as fans. The "vertex" element must come
+ * before the "face" element. Files are written in the
+ * binary_little_endian format with double coordinates.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_PLY_d {
+
+    /**
+     * A property of an element.
+     */
+    private static class Property {
+
+        /**
+         * The name.
+         */
+        String name;
+
+        /**
+         * The type, or the item type of a list.
+         */
+        String type;
+
+        /**
+         * The count type of a list, or {@code null} if not a list.
+         */
+        String countType;
+    }
+
+    /**
+     * An element.
+     */
+    private static class Element {
+
+        /**
+         * The name.
+         */
+        String name;
+
+        /**
+         * The number of instances.
+         */
+        long count;
+
+        /**
+         * The properties.
+         */
+        ArrayList<Property> properties = new ArrayList<>();
+
+        /**
+         * @param name The name of a property.
+         * @return The index of the property or -1.
+         */
+        int indexOf(String name) {
+            for (int i = 0; i < properties.size(); i++) {
+                if (properties.get(i).name.equals(name)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    private V3D_PLY_d() {
+    }
+
+    /**
+     * Read a file without vertex deduplication.
+     *
+     * @param p The path of the file to read.
+     * @return The mesh.
+     * @throws IOException If encountered.
+     */
+    public static V3D_Mesh_d read(Path p) throws IOException {
+        return read(p, false);
+    }
+
+    /**
+     * Read a file.
+     *
+     * @param p The path of the file to read.
+     * @param dedup If {@code true} vertices are deduplicated.
+     * @return The mesh.
+     * @throws IOException If encountered.
+     */
+    public static V3D_Mesh_d read(Path p, boolean dedup) throws IOException {
+        try (V3D_MappedInput in = new V3D_MappedInput(p)) {
+            String line = in.readLine();
+            if (line == null || !line.trim().equals("ply")) {
+                throw new IOException("Not a PLY file " + p);
+            }
+            String format = null;
+            ArrayList<Element> elements = new ArrayList<>();
+            Element e = null;
+            while (true) {
+                line = in.readLine();
+                if (line == null) {
+                    throw new IOException("No end_header in " + p);
+                }
+                String[] s = line.trim().split("\\s+");
+                switch (s[0]) {
+                    case "format" ->
+                        format = s[1];
+                    case "element" -> {
+                        e = new Element();
+                        e.name = s[1];
+                        e.count = Long.parseLong(s[2]);
+                        elements.add(e);
+                    }
+                    case "property" -> {
+                        if (e == null) {
+                            throw new IOException("Property before element"
+                                    + " in " + p);
+                        }
+                        Property pr = new Property();
+                        if (s[1].equals("list")) {
+                            pr.countType = s[2];
+                            pr.type = s[3];
+                            pr.name = s[4];
+                        } else {
+                            pr.type = s[1];
+                            pr.name = s[2];
+                        }
+                        e.properties.add(pr);
+                    }
+                    default -> {
+                    }
+                }
+                if (s[0].equals("end_header")) {
+                    break;
+                }
+            }
+            boolean ascii;
+            if ("ascii".equals(format)) {
+                ascii = true;
+            } else if ("binary_little_endian".equals(format)) {
+                ascii = false;
+                in.order(ByteOrder.LITTLE_ENDIAN);
+            } else if ("binary_big_endian".equals(format)) {
+                ascii = false;
+                in.order(ByteOrder.BIG_ENDIAN);
+            } else {
+                throw new IOException("Unsupported format " + format);
+            }
+            return read(in, elements, ascii, dedup);
+        }
+    }
+
+    /**
+     * Read the body of a file.
+     *
+     * @param in The input positioned after the header.
+     * @param elements The elements.
+     * @param ascii If {@code true} the body is ASCII, otherwise binary.
+     * @param dedup If {@code true} vertices are deduplicated.
+     * @return The mesh.
+     * @throws IOException If encountered.
+     */
+    private static V3D_Mesh_d read(V3D_MappedInput in,
+            ArrayList<Element> elements, boolean ascii, boolean dedup)
+            throws IOException {
+        long nv = 0L;
+        long nf = 0L;
+        boolean vertex = false;
+        for (Element e : elements) {
+            if (e.name.equals("vertex")) {
+                nv = e.count;
+                vertex = true;
+            } else if (e.name.equals("face")) {
+                if (!vertex) {
+                    throw new IOException(
+                            "Unsupported face element before vertex element");
+                }
+                nf = e.count;
+            }
+        }
+        if (nv > Integer.MAX_VALUE / 3 || nf > Integer.MAX_VALUE / 3) {
+            throw new IOException("Too many vertices or faces");
+        }
+        V3D_Mesh_d m = new V3D_Mesh_d(dedup, (int) nv, (int) nf);
+        // The mesh index of each vertex in the file.
+        int[] index = new int[(int) nv];
+        int[] face = new int[16];
+        double[] v = new double[3];
+        for (Element e : elements) {
+            int ix = -1;
+            int iy = -1;
+            int iz = -1;
+            int ii = -1;
+            if (e.name.equals("vertex")) {
+                ix = e.indexOf("x");
+                iy = e.indexOf("y");
+                iz = e.indexOf("z");
+                if (ix < 0 || iy < 0 || iz < 0) {
+                    throw new IOException("Vertex without x, y or z");
+                }
+            } else if (e.name.equals("face")) {
+                ii = e.indexOf("vertex_indices");
+                if (ii < 0) {
+                    ii = e.indexOf("vertex_index");
+                }
+            }
+            int np = e.properties.size();
+            for (long r = 0L; r < e.count; r++) {
+                for (int k = 0; k < np; k++) {
+                    Property pr = e.properties.get(k);
+                    if (pr.countType == null) {
+                        double d = get(in, pr.type, ascii);
+                        if (k == ix) {
+                            v[0] = d;
+                        } else if (k == iy) {
+                            v[1] = d;
+                        } else if (k == iz) {
+                            v[2] = d;
+                        }
+                    } else {
+                        int c = (int) get(in, pr.countType, ascii);
+                        if (k == ii) {
+                            if (c > face.length) {
+                                face = Arrays.copyOf(face, c);
+                            }
+                            for (int j = 0; j < c; j++) {
+                                long i = (long) get(in, pr.type, ascii);
+                                if (i < 0 || i >= nv) {
+                                    throw new IOException("Invalid vertex "
+                                            + i);
+                                }
+                                face[j] = index[(int) i];
+                            }
+                            for (int j = 2; j < c; j++) {
+                                m.addTriangle(face[0], face[j - 1], face[j]);
+                            }
+                        } else {
+                            for (int j = 0; j < c; j++) {
+                                get(in, pr.type, ascii);
+                            }
+                        }
+                    }
+                }
+                if (ix >= 0) {
+                    index[(int) r] = m.addVertex(v[0], v[1], v[2]);
+                }
+                if (ascii) {
+                    in.skipLine();
+                }
+            }
+        }
+        m.endDedup();
+        m.trim();
+        return m;
+    }
+
+    /**
+     * Read a value.
+     *
+     * @param in The input.
+     * @param type The PLY type of the value.
+     * @param ascii If {@code true} the value is read as ASCII text.
+     * @return The value.
+     * @throws IOException If encountered.
+     */
+    private static double get(V3D_MappedInput in, String type, boolean ascii)
+            throws IOException {
+        if (ascii) {
+            if (!in.nextToken(true)) {
+                throw new IOException("Missing value at " + in.position());
+            }
+            return in.tokenDouble();
+        }
+        return switch (type) {
+            case "char", "int8" ->
+                in.getByte();
+            case "uchar", "uint8" ->
+                in.getByte() & 0xff;
+            case "short", "int16" ->
+                in.getShort();
+            case "ushort", "uint16" ->
+                in.getShort() & 0xffff;
+            case "int", "int32" ->
+                in.getInt();
+            case "uint", "uint32" ->
+                in.getInt() & 0xffffffffL;
+            case "float", "float32" ->
+                in.getFloat();
+            case "double", "float64" ->
+                in.getDouble();
+            default ->
+                throw new IOException("Unsupported type " + type);
+        };
+    }
+
+    /**
+     * Write a binary_little_endian file with double coordinates and int
+     * vertex indices.
+     *
+     * @param m The mesh to write.
+     * @param p The path of the file to write.
+     * @throws IOException If encountered.
+     */
+    public static void write(V3D_Mesh_d m, Path p) throws IOException {
+        int nv = m.getNVertices();
+        int nt = m.getNTriangles();
+        try (V3D_ChannelOutput out = new V3D_ChannelOutput(p,
+                ByteOrder.LITTLE_ENDIAN)) {
+            out.put("ply\n"
+                    + "format binary_little_endian 1.0\n"
+                    + "element vertex " + nv + "\n"
+                    + "property double x\n"
+                    + "property double y\n"
+                    + "property double z\n"
+                    + "element face " + nt + "\n"
+                    + "property list uchar int vertex_indices\n"
+                    + "end_header\n");
+            for (int i = 0; i < nv; i++) {
+                out.putDouble(m.getX(i));
+                out.putDouble(m.getY(i));
+                out.putDouble(m.getZ(i));
+            }
+            for (int j = 0; j < nt; j++) {
+                out.putByte(3);
+                out.putInt(m.getVertex(j, 0));
+                out.putInt(m.getVertex(j, 1));
+                out.putInt(m.getVertex(j, 2));
+            }
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.io.d;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Mesh_d;
+
+/**
+ * For reading and writing STL (stereolithography) files. Binary files have
+ * an 80 byte header, a little endian unsigned 32 bit triangle count and then
+ * 50 bytes for each triangle: a normal and three vertices as 32 bit floats
+ * followed by a 16 bit attribute byte count. ASCII files which start with
+ * "solid" and are not the size of a binary file are also read. The normals
+ * are ignored when reading and calculated when writing.
+ *
+ * STL files store each triangle with its own vertices, so reading with
+ * deduplication is recommended to get an indexed mesh.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_STL_d {
+
+    /**
+     * The length of the binary header in bytes.
+     */
+    public static final int HEADER_LENGTH = 80;
+
+    /**
+     * The length of a binary triangle record in bytes.
+     */
+    public static final int RECORD_LENGTH = 50;
+
+    private V3D_STL_d() {
+    }
+
+    /**
+     * Read a file with vertex deduplication.
+     *
+     * @param p The path of the file to read.
+     * @return The mesh.
+     * @throws IOException If encountered.
+     */
+    public static V3D_Mesh_d read(Path p) throws IOException {
+        return read(p, true);
+    }
+
+    /**
+     * Read a file.
+     *
+     * @param p The path of the file to read.
+     * @param dedup If {@code true} vertices are deduplicated.
+     * @return The mesh.
+     * @throws IOException If encountered.
+     */
+    public static V3D_Mesh_d read(Path p, boolean dedup) throws IOException {
+        try (V3D_MappedInput in = new V3D_MappedInput(p)) {
+            if (isBinary(in)) {
+                return readBinary(in, dedup);
+            }
+            return readASCII(in, dedup);
+        }
+    }
+
+    /**
+     * @param in The input positioned at the start.
+     * @return {@code true} if the file is binary.
+     * @throws IOException If encountered.
+     */
+    private static boolean isBinary(V3D_MappedInput in) throws IOException {
+        if (in.size >= HEADER_LENGTH + 4) {
+            in.position(HEADER_LENGTH);
+            long n = in.getInt() & 0xffffffffL;
+            in.position(0L);
+            if (HEADER_LENGTH + 4 + n * RECORD_LENGTH == in.size) {
+                return true;
+            }
+        }
+        boolean solid = in.nextToken(true) && in.tokenEquals("solid");
+        in.position(0L);
+        return !solid;
+    }
+
+    /**
+     * @param in The input.
+     * @param dedup If {@code true} vertices are deduplicated.
+     * @return The mesh.
+     * @throws IOException If encountered.
+     */
+    private static V3D_Mesh_d readBinary(V3D_MappedInput in, boolean dedup)
+            throws IOException {
+        in.order(ByteOrder.LITTLE_ENDIAN);
+        in.position(HEADER_LENGTH);
+        long n = in.getInt() & 0xffffffffL;
+        /*
+         * Without deduplication there are 3 vertices per triangle each with
+         * 3 coordinates, all of which must fit in one array.
+         */
+        if (n > Integer.MAX_VALUE / (dedup ? 3 : 9)) {
+            throw new IOException("Too many triangles " + n);
+        }
+        int nt = (int) n;
+        int nv = dedup ? Math.max(16, nt / 2) : nt * 3;
+        V3D_Mesh_d m = new V3D_Mesh_d(dedup, nv, nt);
+        for (int j = 0; j < nt; j++) {
+            in.skip(12);
+            int a = m.addVertex(in.getFloat(), in.getFloat(), in.getFloat());
+            int b = m.addVertex(in.getFloat(), in.getFloat(), in.getFloat());
+            int c = m.addVertex(in.getFloat(), in.getFloat(), in.getFloat());
+            in.skip(2);
+            m.addTriangle(a, b, c);
+        }
+        m.endDedup();
+        m.trim();
+        return m;
+    }
+
+    /**
+     * @param in The input.
+     * @param dedup If {@code true} vertices are deduplicated.
+     * @return The mesh.
+     * @throws IOException If encountered.
+     */
+    private static V3D_Mesh_d readASCII(V3D_MappedInput in, boolean dedup)
+            throws IOException {
+        V3D_Mesh_d m = new V3D_Mesh_d(dedup);
+        int[] v = new int[3];
+        int k = 0;
+        while (in.nextToken(true)) {
+            if (in.tokenEquals("vertex")) {
+                double x = next(in);
+                double y = next(in);
+                double z = next(in);
+                v[k++] = m.addVertex(x, y, z);
+                if (k == 3) {
+                    m.addTriangle(v[0], v[1], v[2]);
+                    k = 0;
+                }
+            } else if (in.tokenEquals("endfacet")) {
+                k = 0;
+            }
+        }
+        m.endDedup();
+        m.trim();
+        return m;
+    }
+
+    /**
+     * @param in The input.
+     * @return The next token parsed as a double.
+     * @throws IOException If encountered or if there is no next token.
+     */
+    private static double next(V3D_MappedInput in) throws IOException {
+        if (!in.nextToken(false)) {
+            throw new IOException("Missing coordinate at "
+                    + in.position());
+        }
+        return in.tokenDouble();
+    }
+
+    /**
+     * Write a binary file. The coordinates are written as floats.
+     *
+     * @param m The mesh to write.
+     * @param p The path of the file to write.
+     * @throws IOException If encountered.
+     */
+    public static void write(V3D_Mesh_d m, Path p) throws IOException {
+        try (V3D_ChannelOutput out = new V3D_ChannelOutput(p,
+                ByteOrder.LITTLE_ENDIAN)) {
+            out.put(new byte[HEADER_LENGTH]);
+            int nt = m.getNTriangles();
+            out.putInt(nt);
+            for (int j = 0; j < nt; j++) {
+                int a = m.getVertex(j, 0);
+                int b = m.getVertex(j, 1);
+                int c = m.getVertex(j, 2);
+                double ux = m.getX(b) - m.getX(a);
+                double uy = m.getY(b) - m.getY(a);
+                double uz = m.getZ(b) - m.getZ(a);
+                double vx = m.getX(c) - m.getX(a);
+                double vy = m.getY(c) - m.getY(a);
+                double vz = m.getZ(c) - m.getZ(a);
+                double nx = uy * vz - uz * vy;
+                double ny = uz * vx - ux * vz;
+                double nz = ux * vy - uy * vx;
+                double l = Math.sqrt(nx * nx + ny * ny + nz * nz);
+                if (l > 0d) {
+                    nx /= l;
+                    ny /= l;
+                    nz /= l;
+                }
+                out.putFloat((float) nx);
+                out.putFloat((float) ny);
+                out.putFloat((float) nz);
+                putVertex(out, m, a);
+                putVertex(out, m, b);
+                putVertex(out, m, c);
+                out.putShort(0);
+            }
+        }
+    }
+
+    /**
+     * @param out The output.
+     * @param m The mesh.
+     * @param i The vertex index.
+     * @throws IOException If encountered.
+     */
+    private static void putVertex(V3D_ChannelOutput out, V3D_Mesh_d m, int i)
+            throws IOException {
+        out.putFloat((float) m.getX(i));
+        out.putFloat((float) m.getY(i));
+        out.putFloat((float) m.getZ(i));
+    }
+}
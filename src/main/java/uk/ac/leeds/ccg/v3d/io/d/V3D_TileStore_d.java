@@ -0,0 +1,859 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.io.d;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import uk.ac.leeds.ccg.v3d.core.d.V3D_Environment_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_AABB_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Point_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Ray_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Tetrahedron_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Vector_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Volume_d;
+
+/**
+ * A persistent store of shapes partitioned into tiles held in files in a
+ * directory, for scenes with more shapes than fit in memory. Space within
+ * {@link #bounds} is divided into a regular grid of 2^{@link #level} cells
+ * along each axis and each shape is put in the tile of the cell containing
+ * the centre of its Axis Aligned Bounding Box. Tiles are keyed by the Morton
+ * code of their cell, so tiles that are near in space have near keys.
+ *
+ * A directory of the extent of the boxes of the shapes in each tile and of
+ * the number of shapes in each tile is kept in memory. The tile of each
+ * shape id is kept in the directory file sorted by id and is looked up with
+ * a binary search. Only the shape ids put or removed since the directory
+ * file was last written are held in memory, and the directory file is
+ * rewritten when there are {@link #MAX_CHANGES} of these. Region and ray
+ * queries test the tile extents and load only the tiles they touch. At most
+ * {@link #capacity} tiles are held in memory; the least recently used tile
+ * is evicted when another is loaded and is written back first if it has
+ * been modified. Tile files are memory mapped when they are read.
+ *
+ * Only {@link V3D_Tetrahedron_d} shapes are supported. They are stored by
+ * the coordinates of their corners and read back with a zero offset.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_TileStore_d implements AutoCloseable {
+
+    /**
+     * The name of the directory file.
+     */
+    public static final String INDEX = "tiles.idx";
+
+    /**
+     * The number of bytes for each shape in a tile file: an int id and 12
+     * doubles for the coordinates of the four corners.
+     */
+    private static final int RECORD_LENGTH = 4 + 12 * 8;
+
+    /**
+     * The number of bytes for each tile in the directory file: a long key,
+     * an int number of shapes and 6 doubles for the extent.
+     */
+    private static final int TILE_LENGTH = 8 + 4 + 6 * 8;
+
+    /**
+     * The number of bytes for each shape in the directory file: an int id
+     * and a long tile key.
+     */
+    private static final int ID_LENGTH = 4 + 8;
+
+    /**
+     * The maximum number of shape ids put or removed before the directory
+     * file is rewritten.
+     */
+    public static final int MAX_CHANGES = 1 << 16;
+
+    /**
+     * The value in {@link #changes} for a shape that has been removed. Tile
+     * keys are never negative.
+     */
+    private static final long REMOVED = -1L;
+
+    /**
+     * A tile.
+     */
+    private static class Tile {
+
+        /**
+         * The shapes keyed by id.
+         */
+        final HashMap<Integer, V3D_Tetrahedron_d> shapes = new HashMap<>();
+
+        /**
+         * Set if this has been modified since it was loaded or written.
+         */
+        boolean dirty;
+    }
+
+    /**
+     * The directory entry of a tile.
+     */
+    private static class Entry {
+
+        /**
+         * The extent of the boxes of the shapes in the tile in the order
+         * xMin, yMin, zMin, xMax, yMax, zMax.
+         */
+        double[] extent;
+
+        /**
+         * The number of shapes in the tile.
+         */
+        int size;
+
+        /**
+         * @param extent What {@link #extent} is set to.
+         * @param size What {@link #size} is set to.
+         */
+        Entry(double[] extent, int size) {
+            this.extent = extent;
+            this.size = size;
+        }
+    }
+
+    /**
+     * A tile hit by a ray.
+     */
+    private static class Hit {
+
+        /**
+         * The ray parameter where the ray enters the extent of the tile.
+         */
+        final double t;
+
+        /**
+         * The tile key.
+         */
+        final long key;
+
+        /**
+         * @param t What {@link #t} is set to.
+         * @param key What {@link #key} is set to.
+         */
+        Hit(double t, long key) {
+            this.t = t;
+            this.key = key;
+        }
+    }
+
+    /**
+     * The environment for the shapes read.
+     */
+    public final V3D_Environment_d env;
+
+    /**
+     * The directory holding the tile files.
+     */
+    public final Path dir;
+
+    /**
+     * The region divided into tiles. Shapes centred outside this are put in
+     * the nearest edge tile.
+     */
+    public final V3D_AABB_d bounds;
+
+    /**
+     * The number of times the bounds are halved along each axis (at most
+     * 21).
+     */
+    public final int level;
+
+    /**
+     * The maximum number of tiles held in memory.
+     */
+    public final int capacity;
+
+    /**
+     * The directory entries keyed by tile key. A tile with no shapes has no
+     * entry.
+     */
+    private final HashMap<Long, Entry> entries;
+
+    /**
+     * The tile keys of the shape ids put or removed since the directory file
+     * was last written, with {@link #REMOVED} for those removed.
+     */
+    private final HashMap<Integer, Long> changes;
+
+    /**
+     * The number of shapes in the store.
+     */
+    private int size;
+
+    /**
+     * The position in the directory file of the shape ids.
+     */
+    private long idsPosition;
+
+    /**
+     * The number of shape ids in the directory file.
+     */
+    private int idsCount;
+
+    /**
+     * The tiles in memory in least recently used order.
+     */
+    private final LinkedHashMap<Long, Tile> tiles;
+
+    /**
+     * Set if {@link #entries} or {@link #changes} have changed since the
+     * directory was last written.
+     */
+    private boolean indexDirty;
+
+    /**
+     * Create a new instance, reading the directory if dir has one.
+     *
+     * @param env What {@link #env} is set to.
+     * @param dir What {@link #dir} is set to. This is created if need be.
+     * @param bounds What {@link #bounds} is set to. This must be the same
+     * each time a store in dir is opened.
+     * @param level What {@link #level} is set to. This must be the same each
+     * time a store in dir is opened.
+     * @param capacity What {@link #capacity} is set to.
+     * @throws IOException If encountered.
+     */
+    public V3D_TileStore_d(V3D_Environment_d env, Path dir, V3D_AABB_d bounds,
+            int level, int capacity) throws IOException {
+        if (level < 0 || level > 21) {
+            throw new IllegalArgumentException("level " + level
+                    + " is not in [0, 21]");
+        }
+        this.env = env;
+        this.dir = dir;
+        this.bounds = bounds;
+        this.level = level;
+        this.capacity = Math.max(1, capacity);
+        entries = new HashMap<>();
+        changes = new HashMap<>();
+        tiles = new LinkedHashMap<>(16, 0.75f, true);
+        Files.createDirectories(dir);
+        readIndex();
+    }
+
+    /**
+     * @param v The value to spread.
+     * @return The low 21 bits of v spread so there are two 0 bits between
+     * each.
+     */
+    private static long spread(long v) {
+        v &= 0x1fffffL;
+        v = (v | (v << 32)) & 0x1f00000000ffffL;
+        v = (v | (v << 16)) & 0x1f0000ff0000ffL;
+        v = (v | (v << 8)) & 0x100f00f00f00f00fL;
+        v = (v | (v << 4)) & 0x10c30c30c30c30c3L;
+        v = (v | (v << 2)) & 0x1249249249249249L;
+        return v;
+    }
+
+    /**
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @param z The z coordinate.
+     * @return The key of the tile containing the point.
+     */
+    public long getKey(double x, double y, double z) {
+        return spread(getCell(x, bounds.getXMin(), bounds.getXMax()))
+                | (spread(getCell(y, bounds.getYMin(), bounds.getYMax())) << 1)
+                | (spread(getCell(z, bounds.getZMin(), bounds.getZMax())) << 2);
+    }
+
+    /**
+     * @param v The coordinate.
+     * @param min The minimum of the bounds.
+     * @param max The maximum of the bounds.
+     * @return The cell index along an axis.
+     */
+    private long getCell(double v, double min, double max) {
+        long n = 1L << level;
+        long c = (long) Math.floor((v - min) / (max - min) * n);
+        return Math.max(0L, Math.min(n - 1L, c));
+    }
+
+    /**
+     * @param key The tile key.
+     * @return The path of the tile file.
+     */
+    private Path getPath(long key) {
+        return dir.resolve("tile-" + Long.toHexString(key) + ".bin");
+    }
+
+    /**
+     * @return The number of shapes in the store.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return The number of tiles in memory.
+     */
+    public int getLoadedTileCount() {
+        return tiles.size();
+    }
+
+    /**
+     * Put a shape in the store, replacing any shape with the same id.
+     *
+     * @param id The shape id.
+     * @param shape The shape.
+     * @throws IOException If encountered.
+     */
+    public void put(int id, V3D_Volume_d shape) throws IOException {
+        if (!(shape instanceof V3D_Tetrahedron_d t)) {
+            throw new IllegalArgumentException("Unsupported shape "
+                    + shape.getClass().getName());
+        }
+        remove(id);
+        V3D_AABB_d b = t.getAABB();
+        long key = getKey((b.getXMin() + b.getXMax()) / 2d,
+                (b.getYMin() + b.getYMax()) / 2d,
+                (b.getZMin() + b.getZMax()) / 2d);
+        Tile tile = getTile(key);
+        tile.shapes.put(id, t);
+        tile.dirty = true;
+        Entry x = entries.get(key);
+        if (x == null) {
+            entries.put(key, new Entry(new double[]{b.getXMin(), b.getYMin(),
+                b.getZMin(), b.getXMax(), b.getYMax(), b.getZMax()}, 1));
+        } else {
+            double[] e = x.extent;
+            e[0] = Math.min(e[0], b.getXMin());
+            e[1] = Math.min(e[1], b.getYMin());
+            e[2] = Math.min(e[2], b.getZMin());
+            e[3] = Math.max(e[3], b.getXMax());
+            e[4] = Math.max(e[4], b.getYMax());
+            e[5] = Math.max(e[5], b.getZMax());
+            x.size++;
+        }
+        size++;
+        change(id, key);
+        evict();
+    }
+
+    /**
+     * Record a change to the tile key of a shape id, rewriting the directory
+     * file if there are {@link #MAX_CHANGES}.
+     *
+     * @param id The shape id.
+     * @param key The tile key or {@link #REMOVED}.
+     * @throws IOException If encountered.
+     */
+    private void change(int id, long key) throws IOException {
+        changes.put(id, key);
+        indexDirty = true;
+        if (changes.size() >= MAX_CHANGES) {
+            writeIndex();
+        }
+    }
+
+    /**
+     * @param id The shape id.
+     * @return The key of the tile with the shape or {@code null} if there is
+     * no shape with the id.
+     * @throws IOException If encountered.
+     */
+    private Long getTileKey(int id) throws IOException {
+        Long key = changes.get(id);
+        if (key != null) {
+            return key == REMOVED ? null : key;
+        }
+        if (idsCount == 0) {
+            return null;
+        }
+        ByteBuffer b = ByteBuffer.allocate(ID_LENGTH)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        try (FileChannel fc = FileChannel.open(dir.resolve(INDEX),
+                StandardOpenOption.READ)) {
+            int lo = 0;
+            int hi = idsCount - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                b.clear();
+                long pos = idsPosition + (long) mid * ID_LENGTH;
+                while (b.hasRemaining()) {
+                    if (fc.read(b, pos + b.position()) < 0) {
+                        throw new IOException("Invalid directory file");
+                    }
+                }
+                b.flip();
+                int x = b.getInt();
+                if (x < id) {
+                    lo = mid + 1;
+                } else if (x > id) {
+                    hi = mid - 1;
+                } else {
+                    return b.getLong();
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Put all the shapes of an environment in the store keeping their ids.
+     *
+     * @param e The environment.
+     * @throws IOException If encountered.
+     */
+    public void putAll(V3D_Environment_d e) throws IOException {
+        for (Map.Entry<Integer, V3D_Volume_d> x : e.shapes.entrySet()) {
+            put(x.getKey(), x.getValue());
+        }
+    }
+
+    /**
+     * @param id The shape id.
+     * @return The shape with the id or {@code null} if there is none.
+     * @throws IOException If encountered.
+     */
+    public V3D_Volume_d get(int id) throws IOException {
+        Long key = getTileKey(id);
+        if (key == null) {
+            return null;
+        }
+        V3D_Volume_d r = getTile(key).shapes.get(id);
+        evict();
+        return r;
+    }
+
+    /**
+     * Remove a shape.
+     *
+     * @param id The shape id.
+     * @return The shape removed or {@code null} if there was none.
+     * @throws IOException If encountered.
+     */
+    public V3D_Volume_d remove(int id) throws IOException {
+        Long key = getTileKey(id);
+        if (key == null) {
+            return null;
+        }
+        Tile tile = getTile(key);
+        V3D_Volume_d r = tile.shapes.remove(id);
+        tile.dirty = true;
+        Entry x = entries.get(key);
+        if (x != null && --x.size == 0) {
+            entries.remove(key);
+        }
+        size--;
+        change(id, REMOVED);
+        evict();
+        return r;
+    }
+
+    /**
+     * Get the shapes with boxes that intersect a box, loading the tiles
+     * needed.
+     *
+     * @param box The box.
+     * @return The shapes keyed by id.
+     * @throws IOException If encountered.
+     */
+    public HashMap<Integer, V3D_Volume_d> getShapes(V3D_AABB_d box)
+            throws IOException {
+        HashMap<Integer, V3D_Volume_d> r = new HashMap<>();
+        for (long key : getKeys(box)) {
+            for (Map.Entry<Integer, V3D_Tetrahedron_d> x
+                    : getTile(key).shapes.entrySet()) {
+                if (x.getValue().getAABB().intersects(box)) {
+                    r.put(x.getKey(), x.getValue());
+                }
+            }
+            evict();
+        }
+        return r;
+    }
+
+    /**
+     * Get the shapes with boxes that a ray intersects, loading the tiles
+     * needed. Tiles are loaded in order of the distance along the ray to
+     * their extents.
+     *
+     * @param ray The ray.
+     * @return The shapes keyed by id.
+     * @throws IOException If encountered.
+     */
+    public HashMap<Integer, V3D_Volume_d> getShapes(V3D_Ray_d ray)
+            throws IOException {
+        V3D_Point_d p = ray.l.getP();
+        V3D_Vector_d v = ray.l.v;
+        double ox = p.getX();
+        double oy = p.getY();
+        double oz = p.getZ();
+        ArrayList<Hit> hits = new ArrayList<>();
+        for (Map.Entry<Long, Entry> x : entries.entrySet()) {
+            double t = getEntry(x.getValue().extent, ox, oy, oz, v.dx, v.dy,
+                    v.dz);
+            if (t >= 0d) {
+                hits.add(new Hit(t, x.getKey()));
+            }
+        }
+        hits.sort((a, b) -> Double.compare(a.t, b.t));
+        HashMap<Integer, V3D_Volume_d> r = new HashMap<>();
+        double[] e = new double[6];
+        for (Hit h : hits) {
+            for (Map.Entry<Integer, V3D_Tetrahedron_d> x
+                    : getTile(h.key).shapes.entrySet()) {
+                V3D_AABB_d b = x.getValue().getAABB();
+                e[0] = b.getXMin();
+                e[1] = b.getYMin();
+                e[2] = b.getZMin();
+                e[3] = b.getXMax();
+                e[4] = b.getYMax();
+                e[5] = b.getZMax();
+                if (getEntry(e, ox, oy, oz, v.dx, v.dy, v.dz) >= 0d) {
+                    r.put(x.getKey(), x.getValue());
+                }
+            }
+            evict();
+        }
+        return r;
+    }
+
+    /**
+     * @param box The box.
+     * @return The keys of the tiles with extents that intersect box.
+     */
+    private ArrayList<Long> getKeys(V3D_AABB_d box) {
+        ArrayList<Long> r = new ArrayList<>();
+        for (Map.Entry<Long, Entry> x : entries.entrySet()) {
+            double[] e = x.getValue().extent;
+            if (e[0] <= box.getXMax() && e[3] >= box.getXMin()
+                    && e[1] <= box.getYMax() && e[4] >= box.getYMin()
+                    && e[2] <= box.getZMax() && e[5] >= box.getZMin()) {
+                r.add(x.getKey());
+            }
+        }
+        // Load in key order so that tiles near each other are read together.
+        r.sort(null);
+        return r;
+    }
+
+    /**
+     * Slab test of a ray against a box.
+     *
+     * @param e The box as xMin, yMin, zMin, xMax, yMax, zMax.
+     * @param ox The x coordinate of the ray origin.
+     * @param oy The y coordinate of the ray origin.
+     * @param oz The z coordinate of the ray origin.
+     * @param dx The x component of the ray direction.
+     * @param dy The y component of the ray direction.
+     * @param dz The z component of the ray direction.
+     * @return The ray parameter where the ray enters the box (0 if the
+     * origin is in the box) or -1 if the ray misses the box.
+     */
+    private static double getEntry(double[] e, double ox, double oy,
+            double oz, double dx, double dy, double dz) {
+        double t0 = 0d;
+        double t1 = Double.POSITIVE_INFINITY;
+        double[] o = {ox, oy, oz};
+        double[] d = {dx, dy, dz};
+        for (int i = 0; i < 3; i++) {
+            if (d[i] == 0d) {
+                if (o[i] < e[i] || o[i] > e[i + 3]) {
+                    return -1d;
+                }
+            } else {
+                double a = (e[i] - o[i]) / d[i];
+                double b = (e[i + 3] - o[i]) / d[i];
+                t0 = Math.max(t0, Math.min(a, b));
+                t1 = Math.min(t1, Math.max(a, b));
+                if (t0 > t1) {
+                    return -1d;
+                }
+            }
+        }
+        return t0;
+    }
+
+    /**
+     * Get a tile, loading it if need be. This can leave more than
+     * {@link #capacity} tiles in memory until {@link #evict()} is called, so
+     * that a tile being used is not evicted.
+     *
+     * @param key The tile key.
+     * @return The tile.
+     * @throws IOException If encountered.
+     */
+    private Tile getTile(long key) throws IOException {
+        Tile tile = tiles.get(key);
+        if (tile == null) {
+            tile = readTile(key);
+            tiles.put(key, tile);
+        }
+        return tile;
+    }
+
+    /**
+     * Evict least recently used tiles until there are at most
+     * {@link #capacity}, writing back any that have been modified.
+     *
+     * @throws IOException If encountered.
+     */
+    private void evict() throws IOException {
+        Iterator<Map.Entry<Long, Tile>> ite = tiles.entrySet().iterator();
+        while (tiles.size() > capacity && ite.hasNext()) {
+            Map.Entry<Long, Tile> x = ite.next();
+            if (x.getValue().dirty) {
+                writeTile(x.getKey(), x.getValue());
+            }
+            ite.remove();
+        }
+    }
+
+    /**
+     * @param key The tile key.
+     * @return The tile read from its file or a new empty tile if there is no
+     * file.
+     * @throws IOException If encountered.
+     */
+    private Tile readTile(long key) throws IOException {
+        Tile tile = new Tile();
+        Path p = getPath(key);
+        if (!Files.exists(p)) {
+            return tile;
+        }
+        try (FileChannel fc = FileChannel.open(p, StandardOpenOption.READ)) {
+            MappedByteBuffer b = fc.map(FileChannel.MapMode.READ_ONLY, 0L,
+                    fc.size());
+            b.order(ByteOrder.LITTLE_ENDIAN);
+            int n = b.getInt();
+            if (fc.size() != 4L + (long) n * RECORD_LENGTH) {
+                throw new IOException("Invalid tile file " + p);
+            }
+            for (int i = 0; i < n; i++) {
+                int id = b.getInt();
+                V3D_Vector_d pv = new V3D_Vector_d(b.getDouble(),
+                        b.getDouble(), b.getDouble());
+                V3D_Vector_d qv = new V3D_Vector_d(b.getDouble(),
+                        b.getDouble(), b.getDouble());
+                V3D_Vector_d rv = new V3D_Vector_d(b.getDouble(),
+                        b.getDouble(), b.getDouble());
+                V3D_Vector_d sv = new V3D_Vector_d(b.getDouble(),
+                        b.getDouble(), b.getDouble());
+                tile.shapes.put(id, new V3D_Tetrahedron_d(env,
+                        V3D_Vector_d.ZERO, pv, qv, rv, sv));
+            }
+        }
+        return tile;
+    }
+
+    /**
+     * Write a tile to its file, or delete the file if the tile is empty. The
+     * directory entry of the tile is recalculated.
+     *
+     * @param key The tile key.
+     * @param tile The tile.
+     * @throws IOException If encountered.
+     */
+    private void writeTile(long key, Tile tile) throws IOException {
+        Path p = getPath(key);
+        if (tile.shapes.isEmpty()) {
+            Files.deleteIfExists(p);
+            tile.dirty = false;
+            return;
+        }
+        double[] e = {Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY,
+            Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+            Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY};
+        try (V3D_ChannelOutput out = new V3D_ChannelOutput(p,
+                ByteOrder.LITTLE_ENDIAN)) {
+            out.putInt(tile.shapes.size());
+            for (Map.Entry<Integer, V3D_Tetrahedron_d> x
+                    : tile.shapes.entrySet()) {
+                V3D_Tetrahedron_d t = x.getValue();
+                out.putInt(x.getKey());
+                putPoint(out, t.getP());
+                putPoint(out, t.getQ());
+                putPoint(out, t.getR());
+                putPoint(out, t.getS());
+                V3D_AABB_d b = t.getAABB();
+                e[0] = Math.min(e[0], b.getXMin());
+                e[1] = Math.min(e[1], b.getYMin());
+                e[2] = Math.min(e[2], b.getZMin());
+                e[3] = Math.max(e[3], b.getXMax());
+                e[4] = Math.max(e[4], b.getYMax());
+                e[5] = Math.max(e[5], b.getZMax());
+            }
+        }
+        entries.put(key, new Entry(e, tile.shapes.size()));
+        indexDirty = true;
+        tile.dirty = false;
+    }
+
+    /**
+     * @param out The output.
+     * @param p The point to write.
+     * @throws IOException If encountered.
+     */
+    private static void putPoint(V3D_ChannelOutput out, V3D_Point_d p)
+            throws IOException {
+        out.putDouble(p.getX());
+        out.putDouble(p.getY());
+        out.putDouble(p.getZ());
+    }
+
+    /**
+     * Read the directory entries if there is a directory file. The shape ids
+     * are left in the file.
+     *
+     * @throws IOException If encountered.
+     */
+    private void readIndex() throws IOException {
+        Path p = dir.resolve(INDEX);
+        if (!Files.exists(p)) {
+            return;
+        }
+        try (V3D_MappedInput in = new V3D_MappedInput(p)) {
+            int nt = in.getInt();
+            for (int i = 0; i < nt; i++) {
+                long key = in.getLong();
+                int n = in.getInt();
+                double[] e = new double[6];
+                for (int j = 0; j < 6; j++) {
+                    e[j] = in.getDouble();
+                }
+                entries.put(key, new Entry(e, n));
+            }
+            idsCount = in.getInt();
+            idsPosition = in.position();
+            if (in.size != idsPosition + (long) idsCount * ID_LENGTH) {
+                throw new IOException("Invalid directory file " + p);
+            }
+        }
+        size = idsCount;
+    }
+
+    /**
+     * Write the directory. The shape ids in the existing directory file are
+     * merged with {@link #changes} into a new file which then replaces it.
+     *
+     * @throws IOException If encountered.
+     */
+    private void writeIndex() throws IOException {
+        Path p = dir.resolve(INDEX);
+        Path tmp = dir.resolve(INDEX + ".tmp");
+        int[] ids = new int[changes.size()];
+        int k = 0;
+        for (int id : changes.keySet()) {
+            ids[k++] = id;
+        }
+        Arrays.sort(ids);
+        try (V3D_ChannelOutput out = new V3D_ChannelOutput(tmp,
+                ByteOrder.LITTLE_ENDIAN)) {
+            out.putInt(entries.size());
+            for (Map.Entry<Long, Entry> x : entries.entrySet()) {
+                out.putLong(x.getKey());
+                out.putInt(x.getValue().size);
+                for (double d : x.getValue().extent) {
+                    out.putDouble(d);
+                }
+            }
+            out.putInt(size);
+            V3D_MappedInput in = idsCount == 0 ? null : new V3D_MappedInput(p);
+            try {
+                if (in != null) {
+                    in.position(idsPosition);
+                }
+                int i = 0;
+                int c = 0;
+                int oid = 0;
+                long okey = 0L;
+                boolean hasOld = false;
+                while (true) {
+                    if (!hasOld && c < idsCount) {
+                        oid = in.getInt();
+                        okey = in.getLong();
+                        c++;
+                        hasOld = true;
+                    }
+                    if (hasOld && (i == ids.length || oid < ids[i])) {
+                        out.putInt(oid);
+                        out.putLong(okey);
+                        hasOld = false;
+                    } else if (i < ids.length) {
+                        if (hasOld && oid == ids[i]) {
+                            hasOld = false;
+                        }
+                        long key = changes.get(ids[i]);
+                        if (key != REMOVED) {
+                            out.putInt(ids[i]);
+                            out.putLong(key);
+                        }
+                        i++;
+                    } else {
+                        break;
+                    }
+                }
+            } finally {
+                if (in != null) {
+                    in.close();
+                }
+            }
+        }
+        Files.move(tmp, p, StandardCopyOption.REPLACE_EXISTING);
+        idsCount = size;
+        idsPosition = 4L + (long) entries.size() * TILE_LENGTH + 4L;
+        changes.clear();
+        indexDirty = false;
+    }
+
+    /**
+     * Write back all modified tiles and the directory.
+     *
+     * @throws IOException If encountered.
+     */
+    public void flush() throws IOException {
+        for (Map.Entry<Long, Tile> x : tiles.entrySet()) {
+            if (x.getValue().dirty) {
+                writeTile(x.getKey(), x.getValue());
+            }
+        }
+        if (indexDirty) {
+            writeIndex();
+        }
+    }
+
+    /**
+     * Flush and release the tiles in memory.
+     *
+     * @throws IOException If encountered.
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+        tiles.clear();
+    }
+}
@@ -21,4 +21,6 @@ module uk.ac.leeds.ccg.v3d.test {
     requires org.junit.jupiter.params;
     opens uk.ac.leeds.ccg.v3d.geometry.test to org.junit.platform.commons;
     opens uk.ac.leeds.ccg.v3d.geometry.d.test to org.junit.platform.commons;
+    opens uk.ac.leeds.ccg.v3d.io.test to org.junit.platform.commons;
+    opens uk.ac.leeds.ccg.v3d.io.d.test to org.junit.platform.commons;
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.geometry.d.light.test;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.v3d.geometry.d.light.V3D_VTetrahedron_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.light.V3D_V_d;
+
+/**
+ * Test of V3D_VTetrahedron_d class.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_VTetrahedron_dTest {
+
+    public V3D_VTetrahedron_dTest() {
+    }
+
+    /**
+     * Test of getVolume method, of class V3D_VTetrahedron_d.
+     */
+    @Test
+    public void testGetVolume() {
+        System.out.println("getVolume");
+        double epsilon = 1d / 10000000d;
+        V3D_V_d s = new V3D_V_d(0, 0, 2);
+        V3D_VTetrahedron_d instance = new V3D_VTetrahedron_d(
+                new V3D_V_d(0, 0, 0), new V3D_V_d(2, 0, 0),
+                new V3D_V_d(0, 2, 0), s);
+        assertEquals(4d / 3d, instance.getVolume(), epsilon);
+        s.set(0, 0, 4);
+        assertEquals(8d / 3d, instance.getVolume(), epsilon);
+        assertTrue(instance.getCentroid(new V3D_V_d(0, 0, 0)).equals(
+                new V3D_V_d(0.5, 0.5, 1)));
+    }
+
+    /**
+     * Test of contains method, of class V3D_VTetrahedron_d.
+     */
+    @Test
+    public void testContains() {
+        System.out.println("contains");
+        double epsilon = 1d / 10000000d;
+        V3D_VTetrahedron_d instance = new V3D_VTetrahedron_d(
+                new V3D_V_d(0, 0, 0), new V3D_V_d(2, 0, 0),
+                new V3D_V_d(0, 2, 0), new V3D_V_d(0, 0, 2));
+        assertTrue(instance.contains(new V3D_V_d(0.5, 0.5, 0.5), epsilon));
+        assertTrue(instance.contains(new V3D_V_d(1, 0.5, 0), epsilon));
+        assertFalse(instance.contains(new V3D_V_d(1, 1, 1), epsilon));
+        // Other orientation
+        instance = new V3D_VTetrahedron_d(new V3D_V_d(0, 0, 0),
+                new V3D_V_d(0, 2, 0), new V3D_V_d(2, 0, 0),
+                new V3D_V_d(0, 0, 2));
+        assertTrue(instance.contains(new V3D_V_d(0.5, 0.5, 0.5), epsilon));
+        assertFalse(instance.contains(new V3D_V_d(1, 1, 1), epsilon));
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.geometry.d.light.test;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.v3d.geometry.d.light.V3D_VTriangle_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.light.V3D_V_d;
+
+/**
+ * Test of V3D_VTriangle_d class.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_VTriangle_dTest {
+
+    public V3D_VTriangle_dTest() {
+    }
+
+    /**
+     * Test of getNormal method, of class V3D_VTriangle_d.
+     */
+    @Test
+    public void testGetNormal() {
+        System.out.println("getNormal");
+        V3D_V_d p = new V3D_V_d(0, 0, 0);
+        V3D_VTriangle_d instance = new V3D_VTriangle_d(p,
+                new V3D_V_d(2, 0, 0), new V3D_V_d(0, 2, 0));
+        V3D_V_d result = new V3D_V_d(0, 0, 0);
+        assertSame(result, instance.getNormal(result));
+        assertTrue(result.equals(new V3D_V_d(0, 0, 4)));
+        assertEquals(2d, instance.getArea());
+        // Moving a point changes the triangle.
+        p.set(0, 0, 2);
+        instance.getNormal(result);
+        assertTrue(result.equals(new V3D_V_d(4, 4, 4)));
+    }
+
+    /**
+     * Test of getIntersect method, of class V3D_VTriangle_d.
+     */
+    @Test
+    public void testGetIntersect() {
+        System.out.println("getIntersect");
+        double epsilon = 1d / 10000000d;
+        V3D_VTriangle_d instance = new V3D_VTriangle_d(new V3D_V_d(0, 0, 0),
+                new V3D_V_d(2, 0, 0), new V3D_V_d(0, 2, 0));
+        V3D_V_d o = new V3D_V_d(0.5, 0.5, 5);
+        V3D_V_d v = new V3D_V_d(0, 0, -1);
+        V3D_V_d result = new V3D_V_d(0, 0, 0);
+        assertEquals(5d, instance.getIntersectDistance(o, v, epsilon));
+        assertTrue(instance.getIntersect(o, v, epsilon, result));
+        assertTrue(result.equals(new V3D_V_d(0.5, 0.5, 0)));
+        // Behind
+        v.negate();
+        assertFalse(instance.getIntersect(o, v, epsilon, result));
+        // Miss
+        o.set(1.5, 1.5, 5);
+        assertTrue(Double.isNaN(instance.getIntersectDistance(o,
+                new V3D_V_d(0, 0, -1), epsilon)));
+        // Parallel
+        assertTrue(Double.isNaN(instance.getIntersectDistance(o,
+                new V3D_V_d(1, 0, 0), epsilon)));
+    }
+}
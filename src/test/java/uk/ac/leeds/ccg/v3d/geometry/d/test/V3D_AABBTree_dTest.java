@@ -0,0 +1,192 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.geometry.d.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_AABBTree_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_AABB_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Frustum_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Vector_d;
+
+/**
+ * Test class for V3D_AABBTree_d.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_AABBTree_dTest extends V3D_Test_d {
+
+    public V3D_AABBTree_dTest() {
+    }
+
+    /**
+     * @param x The minimum x.
+     * @return A unit box.
+     */
+    private V3D_AABB_d getBox(double x) {
+        return new V3D_AABB_d(env, x, x + 1d, 0d, 1d, 0d, 1d);
+    }
+
+    /**
+     * Test of insert method, of class V3D_AABBTree_d.
+     */
+    @Test
+    public void testInsert() {
+        System.out.println("insert");
+        V3D_AABBTree_d<Integer> instance = new V3D_AABBTree_d<>(env);
+        int[] proxies = new int[100];
+        for (int i = 0; i < proxies.length; i++) {
+            proxies[i] = instance.insert(getBox(i * 2d), i);
+        }
+        assertEquals(100, instance.size());
+        // A balanced tree of 100 leaves has a height of at most 2 * log2(100)
+        assertTrue(instance.getHeight() <= 14);
+        for (int i = 0; i < proxies.length; i++) {
+            assertEquals(i, instance.getData(proxies[i]));
+        }
+    }
+
+    /**
+     * Test of query method, of class V3D_AABBTree_d.
+     */
+    @Test
+    public void testQuery() {
+        System.out.println("query");
+        V3D_AABBTree_d<Integer> instance = new V3D_AABBTree_d<>(env);
+        for (int i = 0; i < 10; i++) {
+            instance.insert(getBox(i * 2d), i);
+        }
+        List<Integer> result = new ArrayList<>();
+        instance.query(new V3D_AABB_d(env, 4.5d, 6.5d, 0d, 1d, 0d, 1d), p -> {
+            result.add(instance.getData(p));
+            return true;
+        });
+        assertEquals(2, result.size());
+        assertTrue(result.contains(2));
+        assertTrue(result.contains(3));
+    }
+
+    /**
+     * Test of move method, of class V3D_AABBTree_d.
+     */
+    @Test
+    public void testMove() {
+        System.out.println("move");
+        V3D_AABBTree_d<Integer> instance = new V3D_AABBTree_d<>(env);
+        int a = instance.insert(getBox(0d), 0);
+        int b = instance.insert(getBox(10d), 1);
+        instance.getPairs((x, y) -> fail());
+        // A move within the margin does not reinsert.
+        assertFalse(instance.move(a, getBox(0.05d),
+                new V3D_Vector_d(0.05d, 0d, 0d)));
+        instance.getPairs((x, y) -> fail());
+        assertTrue(instance.move(a, getBox(9.5d),
+                new V3D_Vector_d(9.45d, 0d, 0d)));
+        int[] n = new int[1];
+        instance.getPairs((x, y) -> {
+            assertEquals(Math.min(a, b), x);
+            assertEquals(Math.max(a, b), y);
+            n[0]++;
+        });
+        assertEquals(1, n[0]);
+        n[0] = 0;
+        instance.getAllPairs((x, y) -> n[0]++);
+        assertEquals(1, n[0]);
+        instance.remove(b);
+        assertEquals(1, instance.size());
+        n[0] = 0;
+        instance.getAllPairs((x, y) -> n[0]++);
+        assertEquals(0, n[0]);
+    }
+
+    /**
+     * Test of clearMoved method, of class V3D_AABBTree_d.
+     */
+    @Test
+    public void testClearMoved() {
+        System.out.println("clearMoved");
+        V3D_AABBTree_d<Integer> instance = new V3D_AABBTree_d<>(env);
+        instance.insert(getBox(0d), 0);
+        instance.insert(getBox(0.5d), 1);
+        instance.clearMoved();
+        instance.getPairs((x, y) -> fail());
+        int[] n = new int[1];
+        instance.getAllPairs((x, y) -> n[0]++);
+        assertEquals(1, n[0]);
+    }
+
+    /**
+     * Test of query method, of class V3D_AABBTree_d.
+     */
+    @Test
+    public void testQuery_V3D_Frustum_d() {
+        System.out.println("query");
+        V3D_AABBTree_d<Integer> instance = new V3D_AABBTree_d<>(env);
+        for (int i = 0; i < 10; i++) {
+            instance.insert(new V3D_AABB_d(env, -0.5d, 0.5d, -0.5d, 0.5d,
+                    i * 2d, i * 2d + 1d), i);
+        }
+        // Looking along the z axis with near and far planes at z=2 and z=7.
+        V3D_Frustum_d f = new V3D_Frustum_d(env, V3D_Vector_d.ZERO, pP0P0P0,
+                V3D_Vector_d.K, V3D_Vector_d.I, 2d, 4d, 4d, 7d);
+        List<Integer> result = new ArrayList<>();
+        instance.query(f, p -> {
+            result.add(instance.getData(p));
+            return true;
+        });
+        assertEquals(3, result.size());
+        for (int i = 1; i < 4; i++) {
+            assertTrue(result.contains(i));
+        }
+    }
+
+    /**
+     * Test of raycast method, of class V3D_AABBTree_d, for rays parallel to
+     * an axis.
+     */
+    @Test
+    public void testRaycast_axisParallel() {
+        System.out.println("raycast");
+        V3D_AABBTree_d<Integer> instance = new V3D_AABBTree_d<>(env, 0d, 2d);
+        instance.insert(getBox(0d), 0);
+        int[] stack = new int[16];
+        List<Integer> result = new ArrayList<>();
+        V3D_AABBTree_d.RayConsumer c = (proxy, tMax) -> {
+            result.add(instance.getData(proxy));
+            return tMax;
+        };
+        // The ray start is on the x = 0 face of the box.
+        instance.raycast(0d, 0.5d, -1d, 0d, 0d, 1d, Double.POSITIVE_INFINITY,
+                stack, c);
+        assertEquals(1, result.size());
+        // The ray start is on an edge of the box.
+        result.clear();
+        instance.raycast(1d, 1d, -1d, 0d, 0d, 1d, Double.POSITIVE_INFINITY,
+                stack, c);
+        assertEquals(1, result.size());
+        // The ray is parallel to the box and outside it.
+        result.clear();
+        instance.raycast(2d, 0.5d, -1d, 0d, 0d, 1d, Double.POSITIVE_INFINITY,
+                stack, c);
+        assertTrue(result.isEmpty());
+        // The box is beyond tMax.
+        instance.raycast(0.5d, 0.5d, -1d, 0d, 0d, 1d, 0.5d, stack, c);
+        assertTrue(result.isEmpty());
+    }
+}
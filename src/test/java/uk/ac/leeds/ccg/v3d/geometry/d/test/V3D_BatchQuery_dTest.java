@@ -0,0 +1,143 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.geometry.d.test;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.v3d.core.V3D_ExecutionPolicy;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_BatchQuery_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Point_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Ray_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Triangle_d;
+
+/**
+ * Test class for V3D_BatchQuery_d.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_BatchQuery_dTest extends V3D_Test_d {
+
+    public V3D_BatchQuery_dTest() {
+    }
+
+    /**
+     * @return Two triangles, one in the z=0 plane and one in the z=1 plane.
+     */
+    private V3D_Triangle_d[] getTriangles() {
+        return new V3D_Triangle_d[]{
+            new V3D_Triangle_d(pP0P0P0, pP2P0P0, pP0P2P0),
+            new V3D_Triangle_d(pP0P0P1, pP2P0P1, pP0P2P1)};
+    }
+
+    /**
+     * @return Three rays: one up from below, one up from above and one down
+     * from above.
+     */
+    private V3D_Ray_d[] getRays() {
+        V3D_Point_d below = new V3D_Point_d(env, 0.5d, 0.5d, -1d);
+        V3D_Point_d above = new V3D_Point_d(env, 0.5d, 0.5d, 2d);
+        V3D_Point_d above2 = new V3D_Point_d(env, 0.5d, 0.5d, 3d);
+        V3D_Point_d mid = new V3D_Point_d(env, 0.5d, 0.5d, 0.5d);
+        return new V3D_Ray_d[]{
+            new V3D_Ray_d(below, mid),
+            new V3D_Ray_d(above, above2),
+            new V3D_Ray_d(above, mid)};
+    }
+
+    /**
+     * Test of intersectsAny method, of class V3D_BatchQuery_d.
+     */
+    @Test
+    public void testIntersectsAny() {
+        System.out.println("intersectsAny");
+        double epsilon = 1d / 10000000d;
+        V3D_BatchQuery_d instance = new V3D_BatchQuery_d(
+                V3D_ExecutionPolicy.SEQUENTIAL);
+        boolean[] result = instance.intersectsAny(getRays(), getTriangles(),
+                epsilon);
+        assertArrayEquals(new boolean[]{true, false, true}, result);
+    }
+
+    /**
+     * Test of intersectAll method, of class V3D_BatchQuery_d.
+     */
+    @Test
+    public void testIntersectAll() {
+        System.out.println("intersectAll");
+        double epsilon = 1d / 10000000d;
+        V3D_BatchQuery_d instance = new V3D_BatchQuery_d(
+                V3D_ExecutionPolicy.threshold(1), 1);
+        boolean[] result = instance.intersectAll(getRays(), getTriangles(),
+                epsilon);
+        assertArrayEquals(new boolean[]{true, true, false, false, true, true},
+                result);
+    }
+
+    /**
+     * Test of getDistances method, of class V3D_BatchQuery_d.
+     */
+    @Test
+    public void testGetDistances() {
+        System.out.println("getDistances");
+        V3D_BatchQuery_d instance = new V3D_BatchQuery_d(
+                V3D_ExecutionPolicy.threshold(1), 1);
+        V3D_Point_d[] ps = new V3D_Point_d[]{pP0P0P0, pP1P0P0};
+        V3D_Point_d[] qs = new V3D_Point_d[]{pP0P0P0, pP0P0P2, pP2P0P0};
+        double[] result = instance.getDistances(ps, qs);
+        assertArrayEquals(new double[]{0d, 2d, 2d, 1d, Math.sqrt(5d), 1d},
+                result, 1d / 10000000d);
+    }
+
+    /**
+     * Test of getNearestHits method, of class V3D_BatchQuery_d.
+     */
+    @Test
+    public void testGetNearestHits() {
+        System.out.println("getNearestHits");
+        double epsilon = 1d / 10000000d;
+        V3D_BatchQuery_d instance = new V3D_BatchQuery_d(
+                V3D_ExecutionPolicy.threshold(1), 1);
+        V3D_Ray_d[] rs = getRays();
+        double[] packed = V3D_BatchQuery_d.pack(getTriangles());
+        int[] ids = new int[rs.length];
+        double[] distances = new double[rs.length];
+        instance.getNearestHits(rs, packed, epsilon, ids, distances);
+        assertArrayEquals(new int[]{0, -1, 1}, ids);
+        assertEquals(1d, distances[0], epsilon);
+        assertEquals(Double.POSITIVE_INFINITY, distances[1]);
+        assertEquals(1d, distances[2], epsilon);
+    }
+
+    /**
+     * Test of getHit method, of class V3D_BatchQuery_d.
+     */
+    @Test
+    public void testGetHit() {
+        System.out.println("getHit");
+        double epsilon = 1d / 10000000d;
+        double[] packed = {0d, 0d, 0d, 1d, 0d, 0d, 0d, 1d, 0d};
+        assertEquals(1d, V3D_BatchQuery_d.getHit(packed, 0, 0.25d, 0.25d, -1d,
+                0d, 0d, 1d, epsilon), epsilon);
+        // Test 2: Degenerate triangles are not hit.
+        packed = new double[]{0d, 0d, 0d, 1d, 0d, 0d, 2d, 0d, 0d};
+        assertEquals(Double.POSITIVE_INFINITY, V3D_BatchQuery_d.getHit(packed,
+                0, 0.25d, 0d, -1d, 0d, 0d, 1d, epsilon));
+        packed = new double[]{0d, 0d, 0d, 1d, 0d, 0d, Double.NaN, 1d, 0d};
+        assertEquals(Double.POSITIVE_INFINITY, V3D_BatchQuery_d.getHit(packed,
+                0, 0.25d, 0.25d, -1d, 0d, 0d, 1d, epsilon));
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.geometry.d.test;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.v3d.core.d.V3D_Environment_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_CollisionPipeline_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Point_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Tetrahedron_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Vector_d;
+
+/**
+ * Test class for V3D_CollisionPipeline_d.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_CollisionPipeline_dTest extends V3D_Test_d {
+
+    public V3D_CollisionPipeline_dTest() {
+    }
+
+    /**
+     * @param e The environment.
+     * @param x The x offset.
+     * @param epsilon The tolerance.
+     * @return A tetrahedron with a right angled corner at (x, x, x).
+     */
+    private V3D_Tetrahedron_d getTetrahedron(V3D_Environment_d e, double x,
+            double epsilon) {
+        return new V3D_Tetrahedron_d(new V3D_Point_d(e, x, x, x),
+                new V3D_Point_d(e, x + 1d, x, x),
+                new V3D_Point_d(e, x, x + 1d, x),
+                new V3D_Point_d(e, x, x, x + 1d), epsilon);
+    }
+
+    /**
+     * Test of update method, of class V3D_CollisionPipeline_d.
+     */
+    @Test
+    public void testUpdate() {
+        System.out.println("update");
+        double epsilon = 1d / 10000000d;
+        V3D_Environment_d e = new V3D_Environment_d();
+        int a = e.add(getTetrahedron(e, 0d, epsilon));
+        int b = e.add(getTetrahedron(e, 0.2d, epsilon));
+        int c = e.add(getTetrahedron(e, 0.6d, epsilon));
+        int d = e.add(getTetrahedron(e, 10d, epsilon));
+        V3D_CollisionPipeline_d instance = new V3D_CollisionPipeline_d(e,
+                epsilon);
+        V3D_CollisionPipeline_d.Contacts contacts
+                = new V3D_CollisionPipeline_d.Contacts();
+        assertEquals(1, instance.update(contacts));
+        assertEquals(Math.min(a, b), contacts.getA(0));
+        assertEquals(Math.max(a, b), contacts.getB(0));
+        // Test 2: Move d onto c.
+        e.shapes.get(d).translate(new V3D_Vector_d(-9.4d, -9.4d, -9.4d));
+        assertEquals(2, instance.update(contacts));
+        boolean found = false;
+        for (int i = 0; i < contacts.size(); i++) {
+            found = found || (contacts.getA(i) == Math.min(c, d)
+                    && contacts.getB(i) == Math.max(c, d));
+        }
+        assertTrue(found);
+        // Test 3: Remove a.
+        e.remove(a);
+        assertEquals(1, instance.update(contacts));
+        assertEquals(Math.min(c, d), contacts.getA(0));
+        assertEquals(Math.max(c, d), contacts.getB(0));
+    }
+}
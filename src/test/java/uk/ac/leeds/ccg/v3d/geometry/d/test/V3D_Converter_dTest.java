@@ -0,0 +1,155 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.geometry.d.test;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_AABB_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Converter_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_EnvelopeDouble;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_LineDouble;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Line_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_PlaneDouble;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Plane_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_PointDouble;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Point_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_RayDouble;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Ray_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_TetrahedraDouble;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Tetrahedron_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_TriangleDouble;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Triangle_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_VectorDouble;
+
+/**
+ * Test class for V3D_Converter_d.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_Converter_dTest extends V3D_Test_d {
+
+    public V3D_Converter_dTest() {
+    }
+
+    /**
+     * Test of toTriangle_d and toTriangleDouble methods, of class
+     * V3D_Converter_d.
+     */
+    @Test
+    public void testToTriangle_d() {
+        System.out.println("toTriangle_d");
+        double epsilon = 1d / 10000000d;
+        V3D_VectorDouble offset = new V3D_VectorDouble(1, 2, 3);
+        V3D_TriangleDouble t = new V3D_TriangleDouble(offset,
+                new V3D_VectorDouble(0, 0, 0), new V3D_VectorDouble(4, 0, 0),
+                new V3D_VectorDouble(0, 4, 0));
+        V3D_Triangle_d result = V3D_Converter_d.toTriangle_d(env, t);
+        assertTrue(result.getP().equals(new V3D_Point_d(env, 1, 2, 3)));
+        assertTrue(result.getQ().equals(new V3D_Point_d(env, 5, 2, 3)));
+        assertTrue(result.getR().equals(new V3D_Point_d(env, 1, 6, 3)));
+        assertEquals(t.getArea(), result.getArea(), epsilon);
+        V3D_TriangleDouble t2 = V3D_Converter_d.toTriangleDouble(result);
+        assertTrue(t2.getP().equals(t.getP()));
+        assertTrue(t2.getQ().equals(t.getQ()));
+        assertTrue(t2.getR().equals(t.getR()));
+    }
+
+    /**
+     * Test of toTetrahedron_d method, of class V3D_Converter_d.
+     */
+    @Test
+    public void testToTetrahedron_d() {
+        System.out.println("toTetrahedron_d");
+        double epsilon = 1d / 10000000d;
+        V3D_TetrahedraDouble t = new V3D_TetrahedraDouble(
+                new V3D_VectorDouble(1, 1, 1), new V3D_VectorDouble(0, 0, 0),
+                new V3D_VectorDouble(2, 0, 0), new V3D_VectorDouble(0, 2, 0),
+                new V3D_VectorDouble(0, 0, 2));
+        V3D_Tetrahedron_d result = V3D_Converter_d.toTetrahedron_d(env, t);
+        assertTrue(result.getS().equals(new V3D_Point_d(env, 1, 1, 3)));
+        assertEquals(t.getVolume(epsilon), result.getVolume(epsilon),
+                epsilon);
+        V3D_TetrahedraDouble t2 = V3D_Converter_d.toTetrahedronDouble(result);
+        assertTrue(t2.getP().equals(t.getP()));
+        assertTrue(t2.getQ().equals(t.getQ()));
+        assertTrue(t2.getR().equals(t.getR()));
+        assertTrue(t2.getS().equals(t.getS()));
+    }
+
+    /**
+     * Test of toPlane_d, toLine_d, toPlaneDouble and toLineDouble methods, of
+     * class V3D_Converter_d.
+     */
+    @Test
+    public void testToPlane_d() {
+        System.out.println("toPlane_d");
+        double epsilon = 1d / 10000000d;
+        V3D_PlaneDouble pl = new V3D_PlaneDouble(new V3D_PointDouble(0, 0, 1),
+                new V3D_VectorDouble(0, 0, 2));
+        V3D_Plane_d result = V3D_Converter_d.toPlane_d(env, pl);
+        V3D_PointDouble[] pts = {new V3D_PointDouble(0, 0, 5),
+            new V3D_PointDouble(3, 4, 1), new V3D_PointDouble(0, 0, -5)};
+        for (V3D_PointDouble pt : pts) {
+            assertEquals(pl.getSideOfPlane(pt, epsilon), result.getSideOfPlane(
+                    V3D_Converter_d.toPoint_d(env, pt), epsilon));
+        }
+        V3D_LineDouble l = new V3D_LineDouble(new V3D_PointDouble(1, 2, 3),
+                new V3D_VectorDouble(0, 1, 0));
+        V3D_Line_d l2 = V3D_Converter_d.toLine_d(env, l);
+        assertTrue(l2.intersects(new V3D_Point_d(env, 1, -7, 3), epsilon));
+        assertFalse(l2.intersects(new V3D_Point_d(env, 2, 2, 3), epsilon));
+        V3D_PlaneDouble pl2 = V3D_Converter_d.toPlaneDouble(result);
+        assertTrue(pl2.getP().equals(pl.getP()));
+        assertTrue(pl2.getN().equals(pl.getN()));
+        V3D_LineDouble l3 = V3D_Converter_d.toLineDouble(l2);
+        assertTrue(l3.getP().equals(l.getP()));
+        assertTrue(l3.v.equals(l.v));
+    }
+
+    /**
+     * Test of toRay_d and toRayDouble methods, of class V3D_Converter_d.
+     */
+    @Test
+    public void testToRay_d() {
+        System.out.println("toRay_d");
+        double epsilon = 1d / 10000000d;
+        V3D_RayDouble r = new V3D_RayDouble(new V3D_PointDouble(1, 2, 3),
+                new V3D_VectorDouble(1, 0, 0));
+        V3D_Ray_d result = V3D_Converter_d.toRay_d(env, r);
+        assertTrue(result.intersects(new V3D_Point_d(env, 5, 2, 3), epsilon));
+        assertFalse(result.intersects(new V3D_Point_d(env, 0, 2, 3),
+                epsilon));
+        V3D_RayDouble r2 = V3D_Converter_d.toRayDouble(result);
+        assertTrue(r2.l.getP().equals(r.l.getP()));
+        assertTrue(r2.l.v.equals(r.l.v));
+    }
+
+    /**
+     * Test of toAABB_d and toEnvelopeDouble methods, of class
+     * V3D_Converter_d.
+     */
+    @Test
+    public void testToAABB_d() {
+        System.out.println("toAABB_d");
+        V3D_EnvelopeDouble e = new V3D_EnvelopeDouble(-1, 1, -2, 2, -3, 3);
+        V3D_AABB_d result = V3D_Converter_d.toAABB_d(env, e);
+        assertEquals(-1d, result.getXMin());
+        assertEquals(2d, result.getYMax());
+        assertEquals(-3d, result.getZMin());
+        assertTrue(V3D_Converter_d.toEnvelopeDouble(result).equals(e));
+    }
+}
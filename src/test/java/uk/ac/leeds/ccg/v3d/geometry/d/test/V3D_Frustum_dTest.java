@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.geometry.d.test;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_AABB_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Frustum_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Point_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Triangle_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Vector_d;
+
+/**
+ * Test class for V3D_Frustum_d.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_Frustum_dTest extends V3D_Test_d {
+
+    public V3D_Frustum_dTest() {
+    }
+
+    /**
+     * @return A frustum looking along the z axis from the origin with a
+     * 90 degree field of view and near and far planes at z=1 and z=10.
+     */
+    private V3D_Frustum_d getFrustum() {
+        return new V3D_Frustum_d(env, V3D_Vector_d.ZERO, pP0P0P0,
+                V3D_Vector_d.K, V3D_Vector_d.I, 1d, 2d, 2d, 10d);
+    }
+
+    /**
+     * Test of classify method, of class V3D_Frustum_d.
+     */
+    @Test
+    public void testClassify_V3D_AABB_d() {
+        System.out.println("classify");
+        V3D_Frustum_d instance = getFrustum();
+        assertEquals(V3D_Frustum_d.INSIDE, instance.classify(
+                new V3D_AABB_d(env, -0.5d, 0.5d, -0.5d, 0.5d, 2d, 3d)));
+        assertEquals(V3D_Frustum_d.OUTSIDE, instance.classify(
+                new V3D_AABB_d(env, -0.5d, 0.5d, -0.5d, 0.5d, -3d, -2d)));
+        assertEquals(V3D_Frustum_d.OUTSIDE, instance.classify(
+                new V3D_AABB_d(env, -0.5d, 0.5d, -0.5d, 0.5d, 20d, 21d)));
+        assertEquals(V3D_Frustum_d.OUTSIDE, instance.classify(
+                new V3D_AABB_d(env, 5d, 6d, -0.5d, 0.5d, 2d, 3d)));
+        assertEquals(V3D_Frustum_d.INTERSECTS, instance.classify(
+                new V3D_AABB_d(env, -1d, 1d, -1d, 1d, 0.5d, 1.5d)));
+    }
+
+    /**
+     * Test of classify method, of class V3D_Frustum_d.
+     */
+    @Test
+    public void testClassify_V3D_Triangle_d() {
+        System.out.println("classify");
+        V3D_Frustum_d instance = getFrustum();
+        V3D_Triangle_d t = new V3D_Triangle_d(pP0P0P2, pP1P0P2,
+                pP0P1P2);
+        assertEquals(V3D_Frustum_d.INSIDE, instance.classify(t));
+        t = new V3D_Triangle_d(pP0P0N2, pP1P0N2, pP0P1N2);
+        assertEquals(V3D_Frustum_d.OUTSIDE, instance.classify(t));
+        t = new V3D_Triangle_d(pP0P0P2, pP2P0P0, pP0P2P0);
+        assertEquals(V3D_Frustum_d.INTERSECTS, instance.classify(t));
+    }
+
+    /**
+     * Test of cull method, of class V3D_Frustum_d.
+     */
+    @Test
+    public void testCull() {
+        System.out.println("cull");
+        V3D_Frustum_d instance = getFrustum();
+        // Inside the side planes but crossing the near plane.
+        int m = instance.cull(-0.4d, -0.4d, 0.5d, 0.4d, 0.4d, 1.5d,
+                instance.getMask());
+        assertEquals(1 << 4, m);
+        // A child box inside the parent is only tested against near.
+        assertEquals(V3D_Frustum_d.INSIDE, instance.cull(-0.4d, -0.4d, 1.2d,
+                0.4d, 0.4d, 1.5d, m));
+    }
+
+    /**
+     * Test of contains method, of class V3D_Frustum_d.
+     */
+    @Test
+    public void testContains() {
+        System.out.println("contains");
+        V3D_Frustum_d instance = getFrustum();
+        assertTrue(instance.contains(new V3D_Point_d(env, 0d, 0d, 5d)));
+        assertFalse(instance.contains(new V3D_Point_d(env, 0d, 0d, 11d)));
+        assertFalse(instance.contains(new V3D_Point_d(env, 0d, 0d, 0.5d)));
+        assertFalse(instance.contains(new V3D_Point_d(env, 6d, 0d, 5d)));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.geometry.d.test;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_AABB_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Mesh_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Point_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Triangle_d;
+
+/**
+ * Test class for V3D_Mesh_d.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_Mesh_dTest extends V3D_Test_d {
+
+    public V3D_Mesh_dTest() {
+    }
+
+    /**
+     * Test of addVertex method, of class V3D_Mesh_d.
+     */
+    @Test
+    public void testAddVertex() {
+        System.out.println("addVertex");
+        V3D_Mesh_d instance = new V3D_Mesh_d(true);
+        assertEquals(0, instance.addVertex(0d, 0d, 0d));
+        assertEquals(1, instance.addVertex(1d, 0d, 0d));
+        assertEquals(0, instance.addVertex(-0d, 0d, 0d));
+        assertEquals(1, instance.addVertex(1d, 0d, 0d));
+        // Test 2: Enough vertices to grow the hash table.
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i + 2, instance.addVertex(i, i, 1d));
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i + 2, instance.addVertex(i, i, 1d));
+        }
+        assertEquals(1002, instance.getNVertices());
+        // Test 3: No deduplication.
+        instance = new V3D_Mesh_d(false);
+        assertEquals(0, instance.addVertex(0d, 0d, 0d));
+        assertEquals(1, instance.addVertex(0d, 0d, 0d));
+    }
+
+    /**
+     * Test of getTriangles method, of class V3D_Mesh_d.
+     */
+    @Test
+    public void testGetTriangles_V3D_Environment_d() {
+        System.out.println("getTriangles");
+        V3D_Mesh_d instance = new V3D_Mesh_d(true);
+        V3D_Triangle_d t = new V3D_Triangle_d(
+                new V3D_Point_d(env, 0d, 0d, 0d),
+                new V3D_Point_d(env, 1d, 0d, 0d),
+                new V3D_Point_d(env, 0d, 1d, 0d));
+        instance.addTriangle(t);
+        instance.addTriangle(instance.addVertex(1d, 0d, 0d),
+                instance.addVertex(0d, 1d, 0d),
+                instance.addVertex(0d, 0d, 2d));
+        // Degenerate.
+        instance.addTriangle(0, 0, 1);
+        assertEquals(4, instance.getNVertices());
+        assertEquals(3, instance.getNTriangles());
+        V3D_Triangle_d[] result = instance.getTriangles(env);
+        assertEquals(2, result.length);
+        assertTrue(result[0].equals(t));
+        V3D_AABB_d box = instance.getAABB(env);
+        assertEquals(2d, box.getZMax());
+    }
+}
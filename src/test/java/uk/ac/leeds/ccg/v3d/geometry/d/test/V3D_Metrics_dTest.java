@@ -0,0 +1,79 @@
+/*
+ * Copyright 2020 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.geometry.d.test;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.v3d.core.V3D_Metrics;
+import uk.ac.leeds.ccg.v3d.core.d.V3D_Environment_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Plane_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Point_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Ray_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Triangle_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Vector_d;
+
+/**
+ * Test class for V3D_Metrics with double geometry.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_Metrics_dTest extends V3D_Test_d {
+
+    public V3D_Metrics_dTest() {
+    }
+
+    /**
+     * Test of getSnapshot method, of class V3D_Metrics.
+     */
+    @Test
+    public void testGetSnapshot() {
+        System.out.println("getSnapshot");
+        double epsilon = 1d / 10000000d;
+        V3D_Environment_d e = new V3D_Environment_d();
+        V3D_Triangle_d t = new V3D_Triangle_d(e, P0P0P0, P2P0P0, P0P2P0);
+        V3D_Ray_d r = new V3D_Ray_d(new V3D_Point_d(e, 0.5d, 0.5d, -1d),
+                P0P0P1);
+        // Not counted as e has no metrics.
+        assertNotNull(t.getIntersect(r, epsilon));
+        V3D_Metrics m = new V3D_Metrics(false);
+        e.metrics = m;
+        V3D_Metrics.Snapshot s0 = m.getSnapshot();
+        assertEquals(0L, s0.getCount(V3D_Metrics.Op.INTERSECT));
+        assertNotNull(t.getIntersect(r, epsilon));
+        // Nested intersections of the plane of t are also counted.
+        long n = m.getCount(V3D_Metrics.Op.INTERSECT);
+        assertTrue(n >= 1L);
+        assertNotNull(t.getIntersect(r, epsilon));
+        assertEquals(2L * n, m.getCount(V3D_Metrics.Op.INTERSECT));
+        V3D_Metrics.Snapshot s1 = m.getSnapshot();
+        t.getDistance(new V3D_Point_d(e, 0d, 0d, 3d), epsilon);
+        assertTrue(m.getCount(V3D_Metrics.Op.DISTANCE) >= 1L);
+        long planes = m.getCount(V3D_Metrics.Op.PLANE);
+        new V3D_Plane_d(new V3D_Point_d(e, 0d, 0d, 0d), P0P0P1);
+        assertEquals(planes + 1L, m.getCount(V3D_Metrics.Op.PLANE));
+        assertEquals(2L * n, s1.subtract(s0).getCount(
+                V3D_Metrics.Op.INTERSECT));
+        m.reset();
+        assertEquals(0L, m.getCount(V3D_Metrics.Op.INTERSECT));
+        // Snapshots do not change.
+        assertEquals(2L * n, s1.getCount(V3D_Metrics.Op.INTERSECT));
+        // Events are not committed unless recording, but counts still are.
+        e.metrics = new V3D_Metrics();
+        assertNotNull(t.getIntersect(r, epsilon));
+        assertEquals(n, e.metrics.getCount(V3D_Metrics.Op.INTERSECT));
+    }
+}
@@ -3525,4 +3525,22 @@ public class V3D_Plane_dTest extends V3D_Test_d {
         points[2] = pP2N2P1;
         assertFalse(V3D_Plane_d.isCoplanar(epsilon, points));
     }
+
+    /**
+     * Test of getSideOfPlane method with an array of points, of class
+     * V3D_Plane_d.
+     */
+    @Test
+    public void testGetSideOfPlane_V3D_Point_dArr() {
+        System.out.println("getSideOfPlane");
+        double epsilon = 1d / 10000000d;
+        V3D_Plane_d instance = new V3D_Plane_d(pP0P0P0, P0P0P1);
+        V3D_Point_d[] pts = new V3D_Point_d[]{pP0P0P1, pP0P0N1, pP1P0P0,
+            new V3D_Point_d(env, 0d, 0d, epsilon / 2d)};
+        int[] result = instance.getSideOfPlane(pts, epsilon);
+        assertArrayEquals(new int[]{1, -1, 0, 0}, result);
+        for (int i = 0; i < pts.length; i++) {
+            assertEquals(instance.getSideOfPlane(pts[i], epsilon), result[i]);
+        }
+    }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.geometry.d.test;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.v3d.core.V3D_ExecutionPolicy;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Frustum_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Point_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_RayCaster_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Rasteriser_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Triangle_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Vector_d;
+
+/**
+ * Test class for V3D_Rasteriser_d.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_Rasteriser_dTest extends V3D_Test_d {
+
+    public V3D_Rasteriser_dTest() {
+    }
+
+    /**
+     * Test of render method, of class V3D_Rasteriser_d.
+     */
+    @Test
+    public void testRender() {
+        System.out.println("render");
+        double epsilon = 1d / 10000000d;
+        V3D_Triangle_d[] ts = new V3D_Triangle_d[]{
+            new V3D_Triangle_d(new V3D_Point_d(env, -10d, -10d, 5d),
+            new V3D_Point_d(env, 10d, -10d, 5d),
+            new V3D_Point_d(env, 0d, 10d, 5d)),
+            new V3D_Triangle_d(new V3D_Point_d(env, -1d, -1d, 3d),
+            new V3D_Point_d(env, 1d, -1d, 3d),
+            new V3D_Point_d(env, 0d, 1d, 3d)),
+            // A floor that crosses the near plane and passes behind the focus.
+            new V3D_Triangle_d(new V3D_Point_d(env, -10d, -1d, -10d),
+            new V3D_Point_d(env, 10d, -1d, -10d),
+            new V3D_Point_d(env, 0d, -1d, 10d))};
+        // Looking along the z axis from the origin with a 90 degree field of
+        // view.
+        V3D_Frustum_d f = new V3D_Frustum_d(env, V3D_Vector_d.ZERO, pP0P0P0,
+                V3D_Vector_d.K, V3D_Vector_d.I, 1d, 2d, 2d);
+        V3D_ExecutionPolicy[] policies = new V3D_ExecutionPolicy[]{
+            V3D_ExecutionPolicy.SEQUENTIAL, V3D_ExecutionPolicy.threshold(1)};
+        V3D_RayCaster_d.Buffers expResult = new V3D_RayCaster_d(ts,
+                V3D_ExecutionPolicy.SEQUENTIAL, epsilon).render(f, 8, 8);
+        for (V3D_ExecutionPolicy policy : policies) {
+            V3D_Rasteriser_d instance = new V3D_Rasteriser_d(policy, 2,
+                    epsilon);
+            V3D_RayCaster_d.Buffers result = instance.render(ts, f, 8, 8);
+            // Top left: nothing is hit.
+            assertEquals(-1, result.ids[0]);
+            assertEquals(Double.POSITIVE_INFINITY, result.depth[0]);
+            // Centre: the near triangle is hit.
+            int k = 4 * 8 + 4;
+            assertEquals(1, result.ids[k]);
+            assertEquals(expResult.depth[k], result.depth[k], epsilon);
+            assertEquals(-1d, result.normals[k * 3 + 2], epsilon);
+            // Bottom row: the clipped floor is hit.
+            for (int c = 0; c < 8; c++) {
+                k = 7 * 8 + c;
+                assertEquals(2, result.ids[k]);
+                assertEquals(expResult.ids[k], result.ids[k]);
+                assertEquals(expResult.depth[k], result.depth[k], epsilon);
+                assertEquals(1d, result.normals[k * 3 + 1], epsilon);
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.geometry.d.test;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.v3d.core.V3D_ExecutionPolicy;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Frustum_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Point_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_RayCaster_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Triangle_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Vector_d;
+
+/**
+ * Test class for V3D_RayCaster_d.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_RayCaster_dTest extends V3D_Test_d {
+
+    public V3D_RayCaster_dTest() {
+    }
+
+    /**
+     * Test of render method, of class V3D_RayCaster_d.
+     */
+    @Test
+    public void testRender() {
+        System.out.println("render");
+        double epsilon = 1d / 10000000d;
+        V3D_Triangle_d[] ts = new V3D_Triangle_d[]{
+            new V3D_Triangle_d(new V3D_Point_d(env, -10d, -10d, 5d),
+            new V3D_Point_d(env, 10d, -10d, 5d),
+            new V3D_Point_d(env, 0d, 10d, 5d)),
+            new V3D_Triangle_d(new V3D_Point_d(env, -1d, -1d, 3d),
+            new V3D_Point_d(env, 1d, -1d, 3d),
+            new V3D_Point_d(env, 0d, 1d, 3d))};
+        // Looking along the z axis from the origin with a 90 degree field of
+        // view.
+        V3D_Frustum_d f = new V3D_Frustum_d(env, V3D_Vector_d.ZERO, pP0P0P0,
+                V3D_Vector_d.K, V3D_Vector_d.I, 1d, 2d, 2d);
+        // Test with tiles rendered sequentially and in parallel.
+        V3D_ExecutionPolicy[] policies = new V3D_ExecutionPolicy[]{
+            V3D_ExecutionPolicy.SEQUENTIAL, V3D_ExecutionPolicy.threshold(1)};
+        for (V3D_ExecutionPolicy policy : policies) {
+            V3D_RayCaster_d instance = new V3D_RayCaster_d(ts, policy, 2,
+                    epsilon);
+            V3D_RayCaster_d.Buffers result = instance.render(f, 8, 8);
+            // Top left: nothing is hit.
+            assertEquals(-1, result.ids[0]);
+            assertEquals(Double.POSITIVE_INFINITY, result.depth[0]);
+            // Bottom left: the far triangle is hit.
+            int k = 7 * 8;
+            assertEquals(0, result.ids[k]);
+            assertEquals(5d * Math.sqrt(1d + 2d * 0.875d * 0.875d),
+                    result.depth[k], epsilon);
+            // Centre: the near triangle is hit.
+            k = 4 * 8 + 4;
+            assertEquals(1, result.ids[k]);
+            assertEquals(3d * Math.sqrt(1d + 2d * 0.125d * 0.125d),
+                    result.depth[k], epsilon);
+            assertEquals(0d, result.normals[k * 3], epsilon);
+            assertEquals(0d, result.normals[k * 3 + 1], epsilon);
+            assertEquals(-1d, result.normals[k * 3 + 2], epsilon);
+        }
+        // Test 2: A far plane between the triangles.
+        f = new V3D_Frustum_d(env, V3D_Vector_d.ZERO, pP0P0P0,
+                V3D_Vector_d.K, V3D_Vector_d.I, 1d, 2d, 2d, 4d);
+        V3D_RayCaster_d instance = new V3D_RayCaster_d(ts,
+                V3D_ExecutionPolicy.SEQUENTIAL, epsilon);
+        V3D_RayCaster_d.Buffers result = instance.render(f, 8, 8);
+        assertEquals(-1, result.ids[7 * 8]);
+        assertEquals(1, result.ids[4 * 8 + 4]);
+    }
+
+    /**
+     * Test of render method, of class V3D_RayCaster_d, where rays enter the
+     * box of a triangle and miss the triangle.
+     */
+    @Test
+    public void testRender_missInBox() {
+        System.out.println("render");
+        double epsilon = 1d / 10000000d;
+        // Every ray enters the box of the triangle and half of them miss it.
+        V3D_Triangle_d[] ts = new V3D_Triangle_d[]{
+            new V3D_Triangle_d(new V3D_Point_d(env, -10d, -10d, 5d),
+            new V3D_Point_d(env, 10d, -10d, 5d),
+            new V3D_Point_d(env, -10d, 10d, 5d))};
+        V3D_Frustum_d f = new V3D_Frustum_d(env, V3D_Vector_d.ZERO, pP0P0P0,
+                V3D_Vector_d.K, V3D_Vector_d.I, 1d, 2d, 2d);
+        V3D_RayCaster_d instance = new V3D_RayCaster_d(ts,
+                V3D_ExecutionPolicy.SEQUENTIAL, epsilon);
+        V3D_RayCaster_d.Buffers result = instance.render(f, 8, 8);
+        int misses = 0;
+        for (int k = 0; k < 64; k++) {
+            if (result.ids[k] == -1) {
+                misses++;
+                assertEquals(Double.POSITIVE_INFINITY, result.depth[k]);
+            } else {
+                assertEquals(0, result.ids[k]);
+                assertTrue(result.depth[k] < Double.POSITIVE_INFINITY);
+            }
+        }
+        // 28 pixels miss and 8 have rays through the hypotenuse.
+        assertTrue(misses >= 28 && misses <= 36);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.geometry.d.test;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.v3d.core.d.V3D_Environment_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_ConvexArea_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_FiniteGeometry_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_LineSegment_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Plane_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Point_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_SnapRounder_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Triangle_d;
+
+/**
+ * Test of V3D_SnapRounder_d class.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_SnapRounder_dTest extends V3D_Test_d {
+
+    public V3D_SnapRounder_dTest() {
+    }
+
+    /**
+     * Test of snap method, of class V3D_SnapRounder_d.
+     */
+    @Test
+    public void testSnap() {
+        System.out.println("snap");
+        V3D_SnapRounder_d instance = new V3D_SnapRounder_d(0.001d);
+        assertEquals(instance.snap(1d), instance.snap(1.00049d));
+        assertEquals(instance.snap(1.001d), instance.snap(1.00051d));
+        double x = instance.snap(1d / 3d);
+        assertEquals(x, instance.snap(x));
+        assertThrows(IllegalArgumentException.class,
+                () -> new V3D_SnapRounder_d(0d));
+        assertThrows(IllegalArgumentException.class,
+                () -> new V3D_SnapRounder_d(Double.NaN));
+        // Unique
+        V3D_Point_d p = new V3D_Point_d(env, 1d, 1d, 0d);
+        V3D_Point_d q = new V3D_Point_d(env, 1.0000001d, 1d, 0d);
+        assertEquals(2, instance.getUnique(Arrays.asList(p, q, pP2P2P0))
+                .size());
+    }
+
+    /**
+     * Test of getGeometry method, of class V3D_SnapRounder_d.
+     */
+    @Test
+    public void testGetGeometry() {
+        System.out.println("getGeometry");
+        V3D_SnapRounder_d instance = new V3D_SnapRounder_d(0.001d);
+        V3D_Point_d p = new V3D_Point_d(env, 1d, 1d, 0d);
+        V3D_Point_d q = new V3D_Point_d(env, 1.0000001d, 1d, 0d);
+        V3D_Point_d r = new V3D_Point_d(env, 2d, 1d, 0d);
+        // Nearly coincident points
+        assertTrue(instance.snap(
+                new V3D_Triangle_d(p, q, r)) instanceof V3D_LineSegment_d);
+        // Nearly collinear points
+        q = new V3D_Point_d(env, 1.5d, 1.0000002d, 0d);
+        assertTrue(instance.snap(
+                new V3D_Triangle_d(p, q, r)) instanceof V3D_LineSegment_d);
+        assertTrue(instance.snap(
+                new V3D_LineSegment_d(p, new V3D_Point_d(env, 1d, 1d,
+                        0.0000001d))) instanceof V3D_Point_d);
+        // Orientation is retained.
+        V3D_Triangle_d t = new V3D_Triangle_d(p, new V3D_Point_d(env, 1d, 2d,
+                0d), r);
+        V3D_Triangle_d result = (V3D_Triangle_d) instance.snap(t);
+        assertTrue(result.pl.getN().getDotProduct(t.pl.getN()) > 0d);
+        // Interior and nearly collinear points are not on the hull.
+        V3D_FiniteGeometry_d g = instance.getGeometry(P0P0P1, pP0P0P0,
+                pP1P0P0, pP1P1P0, pP0P1P0,
+                new V3D_Point_d(env, 0.5d, 0.5d, 0d),
+                new V3D_Point_d(env, 0.5d, 0.0000001d, 0d));
+        assertTrue(g instanceof V3D_ConvexArea_d);
+        assertEquals(4, g.getPointsArray().length);
+        // Grid indexes too far apart to subtract.
+        assertThrows(ArithmeticException.class, () -> instance.getGeometry(
+                null, new V3D_Point_d(env, -1e300d, 0d, 0d),
+                new V3D_Point_d(env, 1e300d, 0d, 0d), pP0P1P0));
+    }
+
+    /**
+     * Test of clip with snap rounding, of class V3D_Triangle_d.
+     */
+    @Test
+    public void testClip() {
+        System.out.println("clip");
+        double epsilon = 1d / 10000000d;
+        V3D_Environment_d e = new V3D_Environment_d();
+        V3D_SnapRounder_d instance = new V3D_SnapRounder_d(0.001d);
+        e.snapRounder = instance;
+        V3D_Triangle_d t = new V3D_Triangle_d(new V3D_Point_d(e, 0d, 0d, 0d),
+                new V3D_Point_d(e, 1d, 0d, 0d), new V3D_Point_d(e, 0d, 1d, 0d));
+        V3D_Plane_d pl = new V3D_Plane_d(new V3D_Point_d(e, 1d / 3d, 0d, 0d),
+                P1P0P0);
+        V3D_FiniteGeometry_d result = t.clip(pl, new V3D_Point_d(e, 0d, 0d,
+                0d), epsilon);
+        assertTrue(result instanceof V3D_ConvexArea_d);
+        for (V3D_Point_d p : result.getPointsArray()) {
+            assertEquals(instance.snap(p.getX()), p.getX());
+            assertEquals(instance.snap(p.getY()), p.getY());
+            assertEquals(instance.snap(p.getZ()), p.getZ());
+        }
+    }
+}
@@ -577,4 +577,27 @@ public class V3D_Tetrahedron_dTest extends V3D_Test_d {
                 epsilon, (V3D_LineSegment_d) result));
     }
 
+    /**
+     * Test of intersects method, of class V3D_Tetrahedron_d.
+     */
+    @Test
+    public void testIntersects_V3D_Tetrahedron_d_double() {
+        System.out.println("intersects");
+        double epsilon = 1d / 10000000d;
+        V3D_Tetrahedron_d instance = new V3D_Tetrahedron_d(pP0P0P0, pP1P0P0,
+                pP0P1P0, pP0P0P1, epsilon);
+        V3D_Tetrahedron_d t = new V3D_Tetrahedron_d(pP0P0P0, pP1P0P0,
+                pP0P1P0, pP0P0P1, epsilon);
+        assertTrue(instance.intersects(t, epsilon));
+        // Test 2
+        t.translate(new V3D_Vector_d(0.2d, 0.2d, 0.2d));
+        assertTrue(instance.intersects(t, epsilon));
+        // Test 3: Boxes intersect, but the tetrahedra do not.
+        t.translate(new V3D_Vector_d(0.4d, 0.4d, 0.4d));
+        assertTrue(instance.getAABB().intersects(t.getAABB()));
+        assertFalse(instance.intersects(t, epsilon));
+        // Test 4: Touching at a corner.
+        t = new V3D_Tetrahedron_d(pP1P0P0, pP2P0P0, pP1P1P0, pP1P0P1, epsilon);
+        assertTrue(instance.intersects(t, epsilon));
+    }
 }
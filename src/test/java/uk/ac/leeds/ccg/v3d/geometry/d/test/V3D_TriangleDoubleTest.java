@@ -1224,4 +1224,21 @@ public class V3D_TriangleDoubleTest extends V3D_TestDouble {
     public void testGetDistance_V3D_Tetrahedron() {
         System.out.println("getDistance");
     }
+
+    /**
+     * Test of isIntersectedBy method, of class V3D_TriangleDouble.
+     */
+    @Test
+    public void testIsIntersectedBy_V3D_EnvelopeDouble_double() {
+        System.out.println("isIntersectedBy");
+        double epsilon = 1d / 10000000d;
+        V3D_TriangleDouble instance = new V3D_TriangleDouble(pP0P0P0, pP1P0P0,
+                pP1P1P0);
+        V3D_EnvelopeDouble aabb = new V3D_EnvelopeDouble(0.5d, 2d, -1d, 2d,
+                -1d, 1d);
+        assertTrue(instance.isIntersectedBy(aabb, epsilon));
+        // Test 2
+        aabb = new V3D_EnvelopeDouble(2d, 3d, 2d, 3d, 2d, 3d);
+        assertFalse(instance.isIntersectedBy(aabb, epsilon));
+    }
 }
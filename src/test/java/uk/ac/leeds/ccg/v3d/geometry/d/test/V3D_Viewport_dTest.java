@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.geometry.d.test;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_AABB_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Point_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Rectangle_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Vector_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Viewport_d;
+
+/**
+ * Test class for V3D_Viewport_d.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_Viewport_dTest extends V3D_Test_d {
+
+    public V3D_Viewport_dTest() {
+    }
+
+    /**
+     * Test of project method, of class V3D_Viewport_d.
+     */
+    @Test
+    public void testProject() {
+        System.out.println("project");
+        double epsilon = 1d / 10000000d;
+        V3D_Point_d pt = new V3D_Point_d(env, 0d, 0d, -10d);
+        V3D_Viewport_d instance = new V3D_Viewport_d(pt, V3D_Vector_d.K,
+                V3D_Vector_d.I);
+        V3D_AABB_d box = new V3D_AABB_d(env, -1d, 1d, -1d, 1d, -1d, 1d);
+        double[] out = new double[5];
+        assertTrue(instance.project(box, out, 0));
+        assertArrayEquals(new double[]{-1d / 9d, 1d / 9d, -1d / 9d, 1d / 9d,
+            9d}, out, epsilon);
+        // Test 2: Behind.
+        box = new V3D_AABB_d(env, -1d, 1d, -1d, 1d, -20d, -19d);
+        assertFalse(instance.project(box, out, 0));
+        // Test 3: Batch.
+        double[] bounds = new double[]{-1d, -1d, -1d, 1d, 1d, 1d,
+            -1d, -1d, -20d, 1d, 1d, -19d,
+            0d, 0d, 0d, 2d, 1d, 1d};
+        out = new double[15];
+        assertEquals(2, instance.project(bounds, 3, out));
+        assertEquals(1d / 9d, out[1], epsilon);
+        assertTrue(Double.isNaN(out[5]));
+        assertEquals(0d, out[10], epsilon);
+        assertEquals(2d / 10d, out[11], epsilon);
+        assertEquals(10d, out[14], epsilon);
+    }
+
+    /**
+     * Test of getViewport method, of class V3D_Viewport_d.
+     */
+    @Test
+    public void testGetViewport() {
+        System.out.println("getViewport");
+        double epsilon = 1d / 10000000d;
+        V3D_Point_d pt = new V3D_Point_d(env, 0d, 0d, -10d);
+        V3D_AABB_d box = new V3D_AABB_d(env, -1d, 1d, -1d, 1d, -1d, 1d);
+        V3D_Rectangle_d result = box.getViewportProjected(pt, V3D_Vector_d.I);
+        assertTrue(result.getP().equals(new V3D_Point_d(env, -1d, -1d, -1d),
+                epsilon));
+        assertTrue(result.getQ().equals(new V3D_Point_d(env, -1d, 1d, -1d),
+                epsilon));
+        assertTrue(result.getR().equals(new V3D_Point_d(env, 1d, 1d, -1d),
+                epsilon));
+        assertTrue(result.getS().equals(new V3D_Point_d(env, 1d, -1d, -1d),
+                epsilon));
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.geometry.test;
+
+import ch.obermuhlner.math.big.BigRational;
+import java.math.RoundingMode;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.math.number.Math_BigRationalSqrt;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Escalation;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Plane;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Point;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Vector;
+
+/**
+ * Test of V3D_Escalation class.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_EscalationTest extends V3D_Test {
+
+    public V3D_EscalationTest() {
+    }
+
+    /**
+     * Test of next method, of class V3D_Escalation.
+     */
+    @Test
+    public void testNext() {
+        System.out.println("next");
+        V3D_Escalation instance = new V3D_Escalation(-3, -20, 10);
+        assertEquals(-13, instance.next(-3));
+        assertEquals(-20, instance.next(-13));
+        assertEquals(Integer.MIN_VALUE, instance.next(-20));
+        assertThrows(IllegalArgumentException.class,
+                () -> new V3D_Escalation(-3, -2, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new V3D_Escalation(-3, -6, 0));
+    }
+
+    /**
+     * Test of equals method with a V3D_Escalation, of class V3D_Point.
+     */
+    @Test
+    public void testEquals() {
+        System.out.println("equals");
+        RoundingMode rm = RoundingMode.HALF_UP;
+        V3D_Escalation esc = V3D_Escalation.DEFAULT;
+        // Rational
+        V3D_Escalation.Result<Boolean> result = pP1P1P1.equals(
+                new V3D_Point(env, P1, P1, P1), esc, rm);
+        assertTrue(result.value);
+        assertTrue(result.certain);
+        assertEquals(esc.oomStart, result.oom);
+        // Irrational and different
+        V3D_Vector v = new V3D_Vector(new Math_BigRationalSqrt(P2, -3, rm),
+                P0, P0);
+        V3D_Point p = new V3D_Point(env, v);
+        V3D_Point q = new V3D_Point(env,
+                BigRational.valueOf(141421356, 100000000), P0, P0);
+        result = p.equals(q, esc, rm);
+        assertFalse(result.value);
+        assertTrue(result.certain);
+        assertEquals(-18, result.oom);
+        // Irrational and equal
+        result = p.equals(new V3D_Point(env, v), esc, rm);
+        assertTrue(result.value);
+        assertFalse(result.certain);
+        assertEquals(esc.oomLimit, result.oom);
+    }
+
+    /**
+     * Test of getSideOfPlane method with a V3D_Escalation, of class
+     * V3D_Plane.
+     */
+    @Test
+    public void testGetSideOfPlane() {
+        System.out.println("getSideOfPlane");
+        RoundingMode rm = RoundingMode.HALF_UP;
+        V3D_Escalation esc = V3D_Escalation.DEFAULT;
+        V3D_Plane pl = new V3D_Plane(pP0P0P0, P1P0P0);
+        V3D_Escalation.Result<Integer> result = pl.getSideOfPlane(pP1P0P0,
+                esc, rm);
+        assertEquals(1, result.value);
+        assertTrue(result.certain);
+        assertEquals(esc.oomStart, result.oom);
+        // Irrational
+        V3D_Vector v = new V3D_Vector(new Math_BigRationalSqrt(P2, -3, rm),
+                P0, P0);
+        V3D_Point pt = new V3D_Point(env, v, new V3D_Vector(
+                BigRational.valueOf(-141421356, 100000000), P0, P0));
+        result = pl.getSideOfPlane(pt, esc, rm);
+        assertEquals(1, result.value);
+        assertTrue(result.certain);
+        assertEquals(-18, result.oom);
+    }
+}
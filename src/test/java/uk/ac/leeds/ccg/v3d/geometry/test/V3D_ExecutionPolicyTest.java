@@ -0,0 +1,160 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.geometry.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.v3d.core.V3D_ExecutionPolicy;
+
+/**
+ * Test of V3D_ExecutionPolicy class.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_ExecutionPolicyTest extends V3D_Test {
+
+    public V3D_ExecutionPolicyTest() {
+    }
+
+    /**
+     * @param n The number of elements.
+     * @return A list of the integers from 0 to n - 1.
+     */
+    private static List<Integer> getList(int n) {
+        List<Integer> r = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            r.add(i);
+        }
+        return r;
+    }
+
+    /**
+     * Test of isParallel method, of class V3D_ExecutionPolicy.
+     */
+    @Test
+    public void testIsParallel() {
+        System.out.println("isParallel");
+        V3D_ExecutionPolicy instance = V3D_ExecutionPolicy.threshold(4);
+        assertFalse(instance.isParallel(3));
+        assertTrue(instance.isParallel(4));
+        assertFalse(V3D_ExecutionPolicy.SEQUENTIAL.isParallel(1000000));
+        assertThrows(IllegalArgumentException.class,
+                () -> V3D_ExecutionPolicy.threshold(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> V3D_ExecutionPolicy.pool(null, 4));
+    }
+
+    /**
+     * Test of forEach method below the threshold, of class
+     * V3D_ExecutionPolicy.
+     */
+    @Test
+    public void testForEach_belowThreshold() {
+        System.out.println("forEach");
+        V3D_ExecutionPolicy instance = V3D_ExecutionPolicy.threshold(4);
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        instance.forEach(getList(3), x -> threads.add(Thread.currentThread()));
+        assertEquals(1, threads.size());
+        assertTrue(threads.contains(Thread.currentThread()));
+    }
+
+    /**
+     * Test of forEach method with a pool policy, of class
+     * V3D_ExecutionPolicy.
+     */
+    @Test
+    public void testForEach_pool() {
+        System.out.println("forEach");
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            V3D_ExecutionPolicy instance = V3D_ExecutionPolicy.pool(pool, 1);
+            assertSame(pool, instance.getPool());
+            Set<Thread> threads = ConcurrentHashMap.newKeySet();
+            instance.forEach(getList(1000),
+                    x -> threads.add(Thread.currentThread()));
+            assertFalse(threads.isEmpty());
+            for (Thread t : threads) {
+                assertTrue(t instanceof ForkJoinWorkerThread);
+                assertSame(pool, ((ForkJoinWorkerThread) t).getPool());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Test that work requested from within a ForkJoinPool is run
+     * sequentially, of class V3D_ExecutionPolicy.
+     */
+    @Test
+    public void testForEach_inForkJoinPool() {
+        System.out.println("forEach");
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            V3D_ExecutionPolicy instance = V3D_ExecutionPolicy.threshold(1);
+            assertFalse(pool.submit(() -> instance.isParallel(1000)).join());
+            Set<Thread> threads = ConcurrentHashMap.newKeySet();
+            Thread caller = pool.submit(() -> {
+                instance.forEach(getList(1000),
+                        x -> threads.add(Thread.currentThread()));
+                return Thread.currentThread();
+            }).join();
+            assertEquals(1, threads.size());
+            assertTrue(threads.contains(caller));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Test that parallel and sequential results are the same, of class
+     * V3D_ExecutionPolicy.
+     */
+    @Test
+    public void testParallelEqualsSequential() {
+        System.out.println("parallelEqualsSequential");
+        List<Integer> c = getList(10000);
+        V3D_ExecutionPolicy s = V3D_ExecutionPolicy.SEQUENTIAL;
+        V3D_ExecutionPolicy p = V3D_ExecutionPolicy.threshold(1);
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            V3D_ExecutionPolicy pp = V3D_ExecutionPolicy.pool(pool, 1);
+            for (V3D_ExecutionPolicy instance : new V3D_ExecutionPolicy[]{p,
+                pp}) {
+                assertEquals(s.anyMatch(c, x -> x == 9999),
+                        instance.anyMatch(c, x -> x == 9999));
+                assertEquals(s.anyMatch(c, x -> x < 0),
+                        instance.anyMatch(c, x -> x < 0));
+                assertEquals(s.allMatch(c, x -> x >= 0),
+                        instance.allMatch(c, x -> x >= 0));
+                assertEquals(s.allMatch(c, x -> x < 9999),
+                        instance.allMatch(c, x -> x < 9999));
+                Set<Integer> seen = ConcurrentHashMap.newKeySet();
+                instance.forEach(c, seen::add);
+                assertEquals(c.size(), seen.size());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2020 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.geometry.test;
+
+import ch.obermuhlner.math.big.BigRational;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.math.number.Math_BigRationalSqrt;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_HVector;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Plane;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Point;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Triangle;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Vector;
+
+/**
+ * Test of V3D_HVector class.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_HVectorTest extends V3D_Test {
+
+    public V3D_HVectorTest() {
+    }
+
+    /**
+     * Test of valueOf method, of class V3D_HVector.
+     */
+    @Test
+    public void testValueOf() {
+        System.out.println("valueOf");
+        BigRational mm = BigRational.valueOf(1, 1000);
+        V3D_Vector v = new V3D_Vector(P1, mm, BigRational.valueOf(-3, 2));
+        V3D_HVector result = v.getH();
+        assertEquals(BigInteger.valueOf(1000), result.x);
+        assertEquals(BigInteger.ONE, result.y);
+        assertEquals(BigInteger.valueOf(-1500), result.z);
+        assertEquals(BigInteger.valueOf(1000), result.w);
+        assertTrue(result.toVector().equals(v));
+        // Irrational
+        v = new V3D_Vector(new Math_BigRationalSqrt(P2, P2), P1, P1);
+        assertNull(v.getH());
+        // Point with offset
+        V3D_Point p = new V3D_Point(env, P1P1P1, new V3D_Vector(mm, P0, P0));
+        assertTrue(p.getH().toVector().equals(
+                new V3D_Vector(P1.add(mm), P1, P1)));
+    }
+
+    /**
+     * Test of getSideOfPlane method, of class V3D_HVector.
+     */
+    @Test
+    public void testGetSideOfPlane() {
+        System.out.println("getSideOfPlane");
+        int oom = -3;
+        RoundingMode rm = RoundingMode.HALF_UP;
+        BigRational mm = BigRational.valueOf(1, 1000);
+        V3D_Plane pl = new V3D_Plane(new V3D_Point(env, P0, P0, mm), P0P0P1);
+        assertEquals(1, pl.getSideOfPlane(pP0P0P1, oom, rm));
+        assertEquals(-1, pl.getSideOfPlane(pP0P0P0, oom, rm));
+        V3D_Point pt = new V3D_Point(env, P1E12, P1E12, mm);
+        assertEquals(0, pl.getSideOfPlane(pt, oom, rm));
+        assertTrue(pl.intersects(pt, oom, rm));
+        // Large coordinates requiring BigInteger arithmetic.
+        V3D_HVector n = new V3D_HVector(Long.MAX_VALUE / 2, 1L, 1L, 1L);
+        V3D_HVector p = new V3D_HVector(0L, 0L, 0L, 1L);
+        V3D_HVector q = new V3D_HVector(Long.MAX_VALUE / 2, 0L, 0L, 3L);
+        assertEquals(1, V3D_HVector.getSideOfPlane(n, p, q));
+        assertEquals(-1, V3D_HVector.getSideOfPlane(n, q, p));
+    }
+
+    /**
+     * Test of getEquation method, of class V3D_HVector.
+     */
+    @Test
+    public void testGetEquation() {
+        System.out.println("getEquation");
+        int oom = -3;
+        RoundingMode rm = RoundingMode.HALF_UP;
+        BigRational mm = BigRational.valueOf(1, 1000);
+        V3D_HVector result = V3D_HVector.getEquation(P0P0P1.getH(),
+                new V3D_Point(env, P0, P0, mm).getH());
+        assertEquals(BigInteger.ZERO, result.x);
+        assertEquals(BigInteger.ZERO, result.y);
+        assertEquals(BigInteger.valueOf(1000), result.z);
+        assertEquals(BigInteger.valueOf(-1), result.w);
+        assertEquals(1, V3D_HVector.getSideOfPlane(result, pP0P0P1.getH()));
+        assertEquals(-1, V3D_HVector.getSideOfPlane(result, pP0P0P0.getH()));
+        // Common factors are removed.
+        result = V3D_HVector.getEquation(P2P0P0.getH(), pP2P0P0.getH());
+        assertEquals(BigInteger.ONE, result.x);
+        assertEquals(BigInteger.valueOf(-2), result.w);
+        // Large coordinates requiring BigInteger arithmetic.
+        V3D_HVector n = new V3D_HVector(Long.MAX_VALUE / 2, 1L, 1L, 1L);
+        V3D_HVector p = new V3D_HVector(0L, 0L, 0L, 1L);
+        V3D_HVector q = new V3D_HVector(Long.MAX_VALUE / 2, 0L, 0L, 3L);
+        assertEquals(1, V3D_HVector.getSideOfPlane(
+                V3D_HVector.getEquation(n, p), q));
+        assertEquals(-1, V3D_HVector.getSideOfPlane(
+                V3D_HVector.getEquation(n, q), p));
+        // Batch classification
+        V3D_Plane pl = new V3D_Plane(new V3D_Point(env, P0, P0, mm), P0P0P1);
+        V3D_Point[] pts = new V3D_Point[]{pP0P0P1, pP0P0P0,
+            new V3D_Point(env, P1E12, P1E12, mm)};
+        assertArrayEquals(new int[]{1, -1, 0}, pl.getSideOfPlane(pts, oom,
+                rm));
+    }
+
+    /**
+     * Test of intersectsCoplanar method, of class V3D_HVector.
+     */
+    @Test
+    public void testIntersectsCoplanar() {
+        System.out.println("intersectsCoplanar");
+        int oom = -3;
+        RoundingMode rm = RoundingMode.HALF_UP;
+        V3D_Triangle t = new V3D_Triangle(env, P0P0P0, P2P0P0, P0P2P0);
+        assertTrue(t.intersects(pP1P1P0, oom, rm));
+        assertTrue(t.intersects(pP1P0P0, oom, rm));
+        assertFalse(t.intersects(pP2P2P0, oom, rm));
+        assertFalse(t.intersects(pP1P1P1, oom, rm));
+        BigRational h = BigRational.valueOf(1, 2);
+        assertTrue(t.intersects(new V3D_Point(env, h, h, P0), oom, rm));
+        // Degenerate
+        assertEquals(-1, V3D_HVector.intersectsCoplanar(P0P0P0.getH(),
+                P1P0P0.getH(), P2P0P0.getH(), P1P0P0.getH()));
+        assertEquals(0, V3D_HVector.getOrientation(P0P0P0.getH(),
+                P1P0P0.getH(), P0P1P0.getH(), P1P1P0.getH()));
+        assertEquals(1, V3D_HVector.getOrientation(P0P0P0.getH(),
+                P1P0P0.getH(), P0P1P0.getH(), P0P0P1.getH()));
+    }
+}
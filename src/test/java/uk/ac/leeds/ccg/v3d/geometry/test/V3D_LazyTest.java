@@ -0,0 +1,142 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.geometry.test;
+
+import ch.obermuhlner.math.big.BigRational;
+import java.math.RoundingMode;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.math.number.Math_BigRationalSqrt;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Lazy;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_LazyVector;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Line;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Plane;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Point;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Triangle;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Vector;
+
+/**
+ * Test of V3D_Lazy class.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_LazyTest extends V3D_Test {
+
+    public V3D_LazyTest() {
+    }
+
+    /**
+     * Test of signum method, of class V3D_Lazy.
+     */
+    @Test
+    public void testSignum() {
+        System.out.println("signum");
+        V3D_Lazy a = V3D_Lazy.valueOf(BigRational.valueOf(1, 3));
+        V3D_Lazy b = V3D_Lazy.valueOf(BigRational.valueOf(2, 7));
+        V3D_Lazy instance = a.multiply(b).subtract(b);
+        assertEquals(-1, instance.signum());
+        assertFalse(instance.isEvaluated());
+        // Test 2: Cancellation needs exact evaluation.
+        instance = a.add(b).subtract(a).subtract(b);
+        assertEquals(0, instance.signum());
+        assertTrue(instance.isEvaluated());
+        // Test 3
+        instance = a.divide(b);
+        assertEquals(1, instance.signum());
+        assertTrue(instance.getExact().compareTo(
+                BigRational.valueOf(7, 6)) == 0);
+    }
+
+    /**
+     * Test of compareTo method, of class V3D_Lazy.
+     */
+    @Test
+    public void testCompareTo() {
+        System.out.println("compareTo");
+        V3D_Lazy a = V3D_Lazy.valueOf(BigRational.valueOf(1, 3));
+        V3D_Lazy b = V3D_Lazy.valueOf(BigRational.valueOf(2, 7));
+        assertEquals(1, a.compareTo(b));
+        assertEquals(-1, b.compareTo(a));
+        assertEquals(0, a.compareTo(b.add(a).subtract(b)));
+    }
+
+    /**
+     * Test of getIntersectLazy method, of class V3D_Plane.
+     */
+    @Test
+    public void testGetIntersectLazy() {
+        System.out.println("getIntersectLazy");
+        int oom = -3;
+        RoundingMode rm = RoundingMode.HALF_UP;
+        BigRational third = BigRational.valueOf(1, 3);
+        V3D_Plane pl = new V3D_Plane(new V3D_Point(env, P0, P0, third),
+                P0P0P1);
+        V3D_Line l = new V3D_Line(new V3D_Point(env, BigRational.valueOf(1, 7),
+                BigRational.valueOf(2, 7), P0), new V3D_Vector(P1, P1, P3));
+        V3D_LazyVector result = pl.getIntersectLazy(l);
+        assertTrue(result.toVector().equals(new V3D_Vector(
+                BigRational.valueOf(16, 63), BigRational.valueOf(25, 63),
+                third)));
+        assertEquals(0, pl.getSideOfPlane(result));
+        assertEquals(1, new V3D_Plane(pP0P0P0, P0P0P1).getSideOfPlane(result));
+        // Triangle
+        V3D_Triangle t = new V3D_Triangle(new V3D_Point(env, P0, P0, third),
+                new V3D_Point(env, P1, P0, third),
+                new V3D_Point(env, P0, P1, third), oom, rm);
+        assertNotNull(t.getIntersectLazy(l, oom, rm));
+        l = new V3D_Line(pP1P1P0, new V3D_Vector(P1, P1, P3));
+        assertNull(t.getIntersectLazy(l, oom, rm));
+        // Parallel
+        l = new V3D_Line(pP0P0P0, P1P0P0);
+        assertNull(pl.getIntersectLazy(l));
+        assertNull(t.getIntersectLazy(l, oom, rm));
+        // Coplanar
+        l = new V3D_Line(new V3D_Point(env, P0, P0, third), P1P1P0);
+        assertSame(V3D_LazyVector.COPLANAR, pl.getIntersectLazy(l));
+        assertSame(V3D_LazyVector.COPLANAR, t.getIntersectLazy(l, oom, rm));
+        l = new V3D_Line(new V3D_Point(env, P2, P2, third),
+                new V3D_Vector(P1, N1, P0));
+        assertSame(V3D_LazyVector.COPLANAR, pl.getIntersectLazy(l));
+        assertNull(t.getIntersectLazy(l, oom, rm));
+        // Irrational
+        l = new V3D_Line(pP0P0P0, new V3D_Vector(
+                new Math_BigRationalSqrt(P2, oom, rm), P1, P3));
+        result = pl.getIntersectLazy(l, oom, rm);
+        assertEquals(Math.sqrt(2d) / 9d, result.dx.getExact().toDouble(),
+                0.001);
+        assertEquals(1d / 9d, result.dy.getExact().toDouble(), 0.001);
+        assertEquals(1d / 3d, result.dz.getExact().toDouble(), 0.001);
+        assertNotNull(t.getIntersectLazy(l, oom, rm));
+    }
+
+    /**
+     * Test of getDistanceSquaredLazy method, of class V3D_Line.
+     */
+    @Test
+    public void testGetDistanceSquaredLazy() {
+        System.out.println("getDistanceSquaredLazy");
+        V3D_Line l = new V3D_Line(pP0P0P0, P1P0P0);
+        V3D_LazyVector pt = new V3D_Point(env, P5, P3, P4).getLazy();
+        V3D_Lazy result = l.getDistanceSquaredLazy(pt);
+        assertTrue(result.getExact().compareTo(BigRational.valueOf(25)) == 0);
+        V3D_LazyVector pt2 = new V3D_Point(env, N1, P4, P3).getLazy();
+        assertEquals(0, result.compareTo(l.getDistanceSquaredLazy(pt2)));
+        pt2 = new V3D_Point(env, N1, P4, BigRational.valueOf(301, 100))
+                .getLazy();
+        assertEquals(-1, result.compareTo(l.getDistanceSquaredLazy(pt2)));
+    }
+}
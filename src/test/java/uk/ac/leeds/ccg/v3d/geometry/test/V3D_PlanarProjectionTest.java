@@ -0,0 +1,144 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.geometry.test;
+
+import ch.obermuhlner.math.big.BigRational;
+import java.math.RoundingMode;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_PlanarProjection;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Plane;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Point;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_PointsCoplanar;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Vector;
+
+/**
+ * Test of V3D_PlanarProjection class.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_PlanarProjectionTest extends V3D_Test {
+
+    public V3D_PlanarProjectionTest() {
+    }
+
+    private static BigRational[] p2(BigRational x, BigRational y) {
+        return new BigRational[]{x, y};
+    }
+
+    /**
+     * Test of project and lift methods, of class V3D_PlanarProjection.
+     */
+    @Test
+    public void testProjectLift() {
+        System.out.println("projectLift");
+        int oom = -3;
+        RoundingMode rm = RoundingMode.HALF_UP;
+        V3D_Plane pl = new V3D_Plane(pP0P0P1, new V3D_Vector(P1, P1, P2));
+        V3D_PlanarProjection instance = new V3D_PlanarProjection(pl, oom, rm);
+        assertEquals(2, instance.axis);
+        V3D_Point p = new V3D_Point(env, P2, P4, N2);
+        BigRational[] uv = instance.project(p, oom, rm);
+        assertTrue(uv[0].compareTo(P2) == 0);
+        assertTrue(uv[1].compareTo(P4) == 0);
+        assertTrue(instance.lift(uv).equals(p, oom, rm));
+        V3D_Point q = instance.lift(p2(P1, P3));
+        assertTrue(pl.intersects(q, oom, rm));
+    }
+
+    /**
+     * Test of getConvexHull method, of class V3D_PlanarProjection.
+     */
+    @Test
+    public void testGetConvexHull() {
+        System.out.println("getConvexHull");
+        int oom = -3;
+        RoundingMode rm = RoundingMode.HALF_UP;
+        V3D_PointsCoplanar instance = new V3D_PointsCoplanar(env,
+                V3D_Vector.ZERO, new V3D_Vector(P0, P0, P0),
+                new V3D_Vector(P2, P0, P0), new V3D_Vector(P1, P1, P0),
+                new V3D_Vector(P2, P2, P0), new V3D_Vector(P0, P2, P0),
+                new V3D_Vector(P1, P0, P0));
+        V3D_Point[] result = instance.getConvexHull(oom, rm);
+        assertEquals(4, result.length);
+        assertTrue(instance.isInConvexHull(pP1P1P0, oom, rm));
+        assertTrue(instance.isInConvexHull(new V3D_Point(env, P2, P1, P0),
+                oom, rm));
+        assertFalse(instance.isInConvexHull(new V3D_Point(env, P3, P1, P0),
+                oom, rm));
+        // The cached hull moves with the points.
+        instance.translate(new V3D_Vector(P2, P0, P0), oom, rm);
+        assertTrue(instance.isInConvexHull(new V3D_Point(env, P3, P1, P0),
+                oom, rm));
+        assertFalse(instance.isInConvexHull(pP1P1P0, oom, rm));
+        // Collinear
+        instance = new V3D_PointsCoplanar(env, V3D_Vector.ZERO,
+                new V3D_Vector(P0, P0, P0), new V3D_Vector(P1, P1, P1),
+                new V3D_Vector(P2, P2, P2));
+        assertNull(instance.getConvexHull(oom, rm));
+    }
+
+    /**
+     * Test of contains method, of class V3D_PlanarProjection.
+     */
+    @Test
+    public void testContains() {
+        System.out.println("contains");
+        BigRational[][] polygon = {p2(P0, P0), p2(P4, P0), p2(P1, P1),
+            p2(P0, P4)};
+        assertTrue(V3D_PlanarProjection.contains(polygon, p2(P0, P2)));
+        assertTrue(V3D_PlanarProjection.contains(polygon,
+                p2(BigRational.valueOf(1, 2), BigRational.valueOf(1, 2))));
+        assertFalse(V3D_PlanarProjection.contains(polygon, p2(P2, P2)));
+    }
+
+    /**
+     * Test of intersects and getIntersect methods, of class
+     * V3D_PlanarProjection.
+     */
+    @Test
+    public void testGetIntersect() {
+        System.out.println("getIntersect");
+        BigRational[] result = V3D_PlanarProjection.getIntersect(p2(P0, P0),
+                p2(P2, P2), p2(P0, P2), p2(P2, P0));
+        assertTrue(result[0].compareTo(P1) == 0);
+        assertTrue(result[1].compareTo(P1) == 0);
+        assertTrue(V3D_PlanarProjection.intersects(p2(P0, P0), p2(P2, P0),
+                p2(P1, P0), p2(P3, P0)));
+        assertNull(V3D_PlanarProjection.getIntersect(p2(P0, P0), p2(P2, P0),
+                p2(P1, P0), p2(P3, P0)));
+        assertFalse(V3D_PlanarProjection.intersects(p2(P0, P0), p2(P1, P1),
+                p2(P2, P0), p2(P3, N1)));
+    }
+
+    /**
+     * Test of triangulate method, of class V3D_PlanarProjection.
+     */
+    @Test
+    public void testTriangulate() {
+        System.out.println("triangulate");
+        BigRational[][] polygon = {p2(P0, P0), p2(P4, P0), p2(P1, P1),
+            p2(P0, P4)};
+        List<int[]> result = V3D_PlanarProjection.triangulate(polygon);
+        assertEquals(2, result.size());
+        for (int[] t : result) {
+            assertEquals(1, V3D_PlanarProjection.getOrientation2D(
+                    polygon[t[0]], polygon[t[1]], polygon[t[2]]));
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.geometry.test;
+
+import ch.obermuhlner.math.big.BigRational;
+import java.math.RoundingMode;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.math.arithmetic.Math_BigDecimal;
+import uk.ac.leeds.ccg.math.number.Math_BigRationalSqrt;
+import uk.ac.leeds.ccg.v3d.core.V3D_Environment;
+import uk.ac.leeds.ccg.v3d.core.V3D_RoundingPolicy;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_LineSegment;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Plane;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Point;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Ray;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Triangle;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Vector;
+
+/**
+ * Test of V3D_RoundingPolicy class.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_RoundingPolicyTest extends V3D_Test {
+
+    public V3D_RoundingPolicyTest() {
+    }
+
+    /**
+     * Test of round method, of class V3D_RoundingPolicy.
+     */
+    @Test
+    public void testRound() {
+        System.out.println("round");
+        RoundingMode rm = RoundingMode.HALF_UP;
+        BigRational third = BigRational.valueOf(1, 3);
+        assertSame(third, V3D_RoundingPolicy.EXACT.round(third));
+        V3D_RoundingPolicy instance = V3D_RoundingPolicy.oom(-2, rm, 1);
+        assertEquals(BigRational.valueOf(33, 100), instance.round(third));
+        assertEquals(BigRational.valueOf(-33, 100),
+                instance.round(third.negate()));
+        BigRational quarter = BigRational.valueOf(1, 4);
+        assertSame(quarter, instance.round(quarter));
+        instance = V3D_RoundingPolicy.binary(4, rm, 1);
+        assertEquals(BigRational.valueOf(5, 16), instance.round(third));
+        assertSame(quarter, instance.round(quarter));
+        assertThrows(IllegalArgumentException.class,
+                () -> V3D_RoundingPolicy.oom(-2, rm, 0));
+    }
+
+    /**
+     * Test of round method, of class V3D_Vector.
+     */
+    @Test
+    public void testRound_V3D_Vector() {
+        System.out.println("round");
+        RoundingMode rm = RoundingMode.HALF_UP;
+        V3D_RoundingPolicy policy = V3D_RoundingPolicy.oom(-3, rm, 1);
+        V3D_Vector instance = new V3D_Vector(P1, P2, P3);
+        assertSame(instance, instance.round(policy));
+        instance = new V3D_Vector(BigRational.valueOf(1, 7), P0, P0);
+        V3D_Vector expResult = new V3D_Vector(BigRational.valueOf(143, 1000),
+                P0, P0);
+        assertTrue(expResult.equals(instance.round(policy)));
+        // Irrational
+        instance = new V3D_Vector(new Math_BigRationalSqrt(P2, -6, rm), P0,
+                P0);
+        expResult = new V3D_Vector(BigRational.valueOf(1414, 1000), P0, P0);
+        assertTrue(expResult.equals(instance.round(policy)));
+    }
+
+    /**
+     * Test of translate method with a rounding policy, of class V3D_Point.
+     */
+    @Test
+    public void testTranslate() {
+        System.out.println("translate");
+        int oom = -3;
+        RoundingMode rm = RoundingMode.HALF_UP;
+        V3D_Environment e = new V3D_Environment(oom, rm);
+        e.rounding = V3D_RoundingPolicy.oom(-2, rm, 3);
+        V3D_Point instance = new V3D_Point(e, P0, P0, P0);
+        V3D_Vector v = new V3D_Vector(BigRational.valueOf(1, 7), P0, P0);
+        instance.translate(v, oom, rm);
+        instance.translate(v, oom, rm);
+        assertEquals(BigRational.valueOf(2, 7), instance.getX(oom, rm));
+        instance.translate(v, oom, rm);
+        assertEquals(BigRational.valueOf(43, 100), instance.getX(oom, rm));
+        // The count is carried by copies.
+        V3D_Point p = new V3D_Point(instance);
+        p.translate(v, oom, rm);
+        p.translate(v, oom, rm);
+        assertEquals(BigRational.valueOf(43, 100).add(
+                BigRational.valueOf(2, 7)), p.getX(oom, rm));
+        // Exact
+        instance = new V3D_Point(env, P0, P0, P0);
+        for (int i = 0; i < 3; i++) {
+            instance.translate(v, oom, rm);
+        }
+        assertEquals(BigRational.valueOf(3, 7), instance.getX(oom, rm));
+    }
+
+    /**
+     * Test of translate method with a rounding policy, of class V3D_Triangle.
+     */
+    @Test
+    public void testTranslate_V3D_Triangle() {
+        System.out.println("translate");
+        int oom = -3;
+        RoundingMode rm = RoundingMode.HALF_UP;
+        V3D_Environment e = new V3D_Environment(oom, rm);
+        e.rounding = V3D_RoundingPolicy.binary(4, rm, 2);
+        V3D_Triangle instance = new V3D_Triangle(new V3D_Point(e, P0, P0, P0),
+                new V3D_Point(e, P1, P0, P0), new V3D_Point(e, P0, P1, P0),
+                oom, rm);
+        V3D_Vector v = new V3D_Vector(BigRational.valueOf(1, 7),
+                BigRational.valueOf(1, 3), P0);
+        for (int i = 0; i < 6; i++) {
+            // Initialise the cached plane and edges so they are translated.
+            instance.getPl(oom, rm);
+            instance.getEdges(oom, rm);
+            instance.translate(v, oom, rm);
+            V3D_Point p = instance.getP(oom, rm);
+            V3D_Point q = instance.getQ(oom, rm);
+            V3D_Point r = instance.getR(oom, rm);
+            V3D_Plane pl = instance.getPl(oom, rm);
+            assertTrue(pl.intersects(p, oom, rm));
+            assertTrue(pl.intersects(q, oom, rm));
+            assertTrue(pl.intersects(r, oom, rm));
+            V3D_LineSegment pq = instance.getPQ(oom, rm);
+            assertTrue(p.equals(pq.getP(), oom, rm));
+            assertTrue(q.equals(pq.getQ(oom, rm), oom, rm));
+            V3D_LineSegment qr = instance.getQR(oom, rm);
+            assertTrue(q.equals(qr.getP(), oom, rm));
+            assertTrue(r.equals(qr.getQ(oom, rm), oom, rm));
+            V3D_LineSegment rp = instance.getRP(oom, rm);
+            assertTrue(r.equals(rp.getP(), oom, rm));
+            assertTrue(p.equals(rp.getQ(oom, rm), oom, rm));
+        }
+        // Rounded to sixteenths after every second translation.
+        V3D_Point expResult = new V3D_Point(e, BigRational.valueOf(15, 16),
+                BigRational.valueOf(33, 16), P0);
+        assertTrue(expResult.equals(instance.getP(oom, rm), oom, rm));
+    }
+
+    /**
+     * Test of rotate method with a rounding policy, of class V3D_Triangle.
+     */
+    @Test
+    public void testRotate_V3D_Triangle() {
+        System.out.println("rotate");
+        int oom = -3;
+        RoundingMode rm = RoundingMode.HALF_UP;
+        V3D_Environment e = new V3D_Environment(oom, rm);
+        e.rounding = V3D_RoundingPolicy.oom(-2, rm, 1);
+        V3D_Triangle instance = new V3D_Triangle(new V3D_Point(e, P0, P1, P0),
+                new V3D_Point(e, P1, P1, P0), new V3D_Point(e, P0, P1, P1),
+                oom, rm);
+        V3D_Ray xaxis = new V3D_Ray(pP0P0P0, V3D_Vector.I);
+        V3D_Triangle result = instance.rotate(xaxis, xaxis.l.v,
+                new Math_BigDecimal(), P1, oom, rm);
+        // The rotation is counted, so the result is rounded to hundredths.
+        BigRational s = BigRational.valueOf(100);
+        for (V3D_Point x : new V3D_Point[]{result.getP(oom, rm),
+            result.getQ(oom, rm), result.getR(oom, rm)}) {
+            assertTrue(x.getX(oom, rm).multiply(s).isInteger());
+            assertTrue(x.getY(oom, rm).multiply(s).isInteger());
+            assertTrue(x.getZ(oom, rm).multiply(s).isInteger());
+        }
+    }
+}
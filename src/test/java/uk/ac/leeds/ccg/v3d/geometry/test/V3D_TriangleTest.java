@@ -26,6 +26,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import uk.ac.leeds.ccg.math.arithmetic.Math_BigDecimal;
 import uk.ac.leeds.ccg.math.arithmetic.Math_BigRational;
 import uk.ac.leeds.ccg.math.number.Math_BigRationalSqrt;
+import uk.ac.leeds.ccg.v3d.core.V3D_Environment;
+import uk.ac.leeds.ccg.v3d.core.V3D_Metrics;
 import uk.ac.leeds.ccg.v3d.geometry.V3D_AABB;
 import uk.ac.leeds.ccg.v3d.geometry.V3D_ConvexArea;
 import uk.ac.leeds.ccg.v3d.geometry.V3D_Geometry;
@@ -1168,4 +1170,29 @@ public class V3D_TriangleTest extends V3D_Test {
     public void testGetDistance_V3D_Tetrahedron() {
         System.out.println("getDistance");
     }
+
+    /**
+     * Test of getPQ method, of class V3D_Triangle.
+     */
+    @Test
+    public void testGetPQ() {
+        System.out.println("getPQ");
+        int oom = -3;
+        RoundingMode rm = RoundingMode.HALF_UP;
+        V3D_Environment e = new V3D_Environment(oom, rm);
+        e.metrics = new V3D_Metrics();
+        V3D_Triangle instance = new V3D_Triangle(
+                new V3D_Point(e, P0, P0, P0), new V3D_Point(e, P1, P0, P0),
+                new V3D_Point(e, P0, P1, P0), oom, rm);
+        V3D_LineSegment result = instance.getPQ(oom, rm);
+        assertSame(result, instance.getPQ(oom, rm));
+        assertSame(result, instance.getPQ(oom + 1, rm));
+        assertEquals(0L, e.metrics.getCount(V3D_Metrics.Op.ESCALATE));
+        result = instance.getPQ(oom - 1, rm);
+        assertTrue(e.metrics.getCount(V3D_Metrics.Op.ESCALATE) > 0L);
+        assertTrue(result.getP().equals(new V3D_Point(e, P0, P0, P0), oom,
+                rm));
+        assertTrue(result.getQ(oom, rm).equals(new V3D_Point(e, P1, P0, P0),
+                oom, rm));
+    }
 }
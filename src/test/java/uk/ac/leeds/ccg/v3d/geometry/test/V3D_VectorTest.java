@@ -675,6 +675,39 @@ public class V3D_VectorTest extends V3D_Test {
         assertTrue(expResult.compareTo(result) == 0);
     }
 
+    /**
+     * Test of isRational method, of class V3D_Vector.
+     */
+    @Test
+    public void testIsRational() {
+        System.out.println("isRational");
+        int oom = -3;
+        RoundingMode rm = RoundingMode.HALF_UP;
+        V3D_Vector instance = new V3D_Vector(BigRational.valueOf(1, 3),
+                BigRational.valueOf(-2, 7), P5);
+        assertTrue(instance.isRational());
+        // Test 2
+        instance = new V3D_Vector(new Math_BigRationalSqrt(P4, oom, rm), P1,
+                P0);
+        assertTrue(instance.isRational());
+        // Test 3
+        instance = new V3D_Vector(new Math_BigRationalSqrt(P2, oom, rm), P1,
+                P0);
+        assertFalse(instance.isRational());
+        // Test 4: Rational and irrational results agree.
+        V3D_Vector v = new V3D_Vector(BigRational.valueOf(1, 2), P1,
+                BigRational.valueOf(-3, 4));
+        V3D_Vector u = new V3D_Vector(new Math_BigRationalSqrt(P4, oom, rm),
+                BigRational.valueOf(1, 3), P0);
+        assertTrue(u.getCrossProduct(v, oom, rm).equals(new V3D_Vector(
+                BigRational.valueOf(-1, 4), BigRational.valueOf(3, 2),
+                BigRational.valueOf(11, 6))));
+        assertTrue(u.getDotProduct(v, oom, rm).compareTo(
+                BigRational.valueOf(4, 3)) == 0);
+        assertTrue(v.getMagnitudeSquared().compareTo(
+                BigRational.valueOf(29, 16)) == 0);
+    }
+
     /**
      * Test of getUnitVector method, of class V3D_Vector.
      */
@@ -694,6 +727,12 @@ public class V3D_VectorTest extends V3D_Test {
         result = instance.getUnitVector(oom, rm);
         assertTrue(expResult.equals(result));
         assertTrue(result.getMagnitudeSquared().compareTo(BigRational.ONE) != 1);
+        // Shared axis unit vectors
+        assertSame(V3D_Vector.I, result);
+        assertSame(V3D_Vector.NJ, new V3D_Vector(P0, BigRational.valueOf(-1,
+                3), P0).getUnitVector(oom, rm));
+        assertSame(V3D_Vector.K, new V3D_Vector(0, 0, 7).getUnitVector(oom,
+                rm));
         // Test 3
         instance = new V3D_Vector(100, 100, 0);
         expResult = new V3D_Vector(
@@ -1115,4 +1154,32 @@ public class V3D_VectorTest extends V3D_Test {
         assertTrue(expResult.equals(result, oom, rm));
     }
 
+    /**
+     * Test of the shared small integer and reciprocal values used by
+     * V3D_Vector, of class V3D_Environment.
+     */
+    @Test
+    public void testValueOf() {
+        System.out.println("valueOf");
+        assertSame(V3D_Environment.valueOf(5), V3D_Environment.valueOf(5));
+        assertSame(V3D_Environment.P0, V3D_Environment.valueOf(0));
+        assertSame(V3D_Environment.N1, V3D_Environment.valueOf(-1));
+        assertEquals(BigRational.valueOf(100000),
+                V3D_Environment.valueOf(100000));
+        assertSame(V3D_Environment.getReciprocal(3),
+                V3D_Environment.getReciprocal(3));
+        assertEquals(BigRational.valueOf(1, 3),
+                V3D_Environment.getReciprocal(3));
+        assertEquals(BigRational.valueOf(-1, 2000),
+                V3D_Environment.getReciprocal(-2000));
+        assertEquals(BigRational.valueOf(5, 3),
+                V3D_Environment.divide(BigRational.valueOf(5), 3));
+        // Components created from shared values.
+        V3D_Vector v = new V3D_Vector(1, 0, -1);
+        assertEquals(P1, v.getDX().getSqrt());
+        assertEquals(P0, v.getDY().getSqrt());
+        assertEquals(N1, v.getDZ().getSqrt());
+        assertEquals(P1, v.getDZ().getX());
+        assertTrue(v.equals(new V3D_Vector(P1, P0, N1)));
+    }
 }
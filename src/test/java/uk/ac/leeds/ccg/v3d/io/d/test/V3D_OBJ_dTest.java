@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.io.d.test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Mesh_d;
+import uk.ac.leeds.ccg.v3d.io.d.V3D_OBJ_d;
+
+/**
+ * Test class for V3D_OBJ_d.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_OBJ_dTest {
+
+    @TempDir
+    Path dir;
+
+    public V3D_OBJ_dTest() {
+    }
+
+    /**
+     * Test of write and read methods, of class V3D_OBJ_d.
+     *
+     * @throws IOException If encountered.
+     */
+    @Test
+    public void testRead() throws IOException {
+        System.out.println("read");
+        V3D_Mesh_d m = V3D_STL_dTest.getTetrahedron();
+        m.addTriangle(m.addVertex(0.1d, 1d / 3d, -7e-300d), 0, 1);
+        Path p = dir.resolve("t.obj");
+        V3D_OBJ_d.write(m, p);
+        V3D_STL_dTest.assertMeshEquals(m, V3D_OBJ_d.read(p));
+        // Test 2: Index forms, negative indices and a quad.
+        p = dir.resolve("a.obj");
+        Files.writeString(p, """
+            # test
+            o a
+            v 0 0 0
+            v 1 0 0
+            vt 0 0
+            vn 0 0 1
+            v 1 1 0
+            v 0 1 0 1
+
+            f 1/1/1 2//1 3/1
+            f -4 -3 -2 -1
+            """);
+        V3D_Mesh_d result = V3D_OBJ_d.read(p);
+        assertEquals(4, result.getNVertices());
+        assertArrayEquals(new int[]{0, 1, 2, 0, 1, 2, 0, 2, 3},
+                result.getTriangles());
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.io.d.test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Mesh_d;
+import uk.ac.leeds.ccg.v3d.io.d.V3D_PLY_d;
+
+/**
+ * Test class for V3D_PLY_d.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_PLY_dTest {
+
+    @TempDir
+    Path dir;
+
+    public V3D_PLY_dTest() {
+    }
+
+    /**
+     * Test of write and read methods, of class V3D_PLY_d.
+     *
+     * @throws IOException If encountered.
+     */
+    @Test
+    public void testRead() throws IOException {
+        System.out.println("read");
+        V3D_Mesh_d m = V3D_STL_dTest.getTetrahedron();
+        Path p = dir.resolve("t.ply");
+        V3D_PLY_d.write(m, p);
+        V3D_STL_dTest.assertMeshEquals(m, V3D_PLY_d.read(p));
+        // Test 2: ASCII with a quad, a duplicate vertex and extra properties.
+        p = dir.resolve("a.ply");
+        Files.writeString(p, """
+            ply
+            format ascii 1.0
+            comment test
+            element vertex 5
+            property float x
+            property float y
+            property float z
+            property uchar red
+            element face 1
+            property list uchar int vertex_indices
+            property int flags
+            end_header
+            0 0 0 255
+            1 0 0 255
+            1 1 0 255
+            0 1 0 255
+            0 0 0 255
+            4 0 1 2 4 7
+            """);
+        V3D_Mesh_d result = V3D_PLY_d.read(p, true);
+        assertEquals(4, result.getNVertices());
+        assertArrayEquals(new int[]{0, 1, 2, 0, 2, 0},
+                result.getTriangles());
+        result = V3D_PLY_d.read(p, false);
+        assertEquals(5, result.getNVertices());
+        assertArrayEquals(new int[]{0, 1, 2, 0, 2, 4},
+                result.getTriangles());
+        // Test 3: Faces before vertices are rejected.
+        Path f = dir.resolve("f.ply");
+        Files.writeString(f, """
+            ply
+            format ascii 1.0
+            element face 1
+            property list uchar int vertex_indices
+            element vertex 3
+            property float x
+            property float y
+            property float z
+            end_header
+            3 0 1 2
+            0 0 0
+            1 0 0
+            0 1 0
+            """);
+        assertThrows(IOException.class, () -> V3D_PLY_d.read(f));
+    }
+}
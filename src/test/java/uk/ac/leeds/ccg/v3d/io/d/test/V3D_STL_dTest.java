@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.io.d.test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Mesh_d;
+import uk.ac.leeds.ccg.v3d.io.d.V3D_STL_d;
+
+/**
+ * Test class for V3D_STL_d.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_STL_dTest {
+
+    @TempDir
+    Path dir;
+
+    public V3D_STL_dTest() {
+    }
+
+    /**
+     * @return A tetrahedron surface mesh.
+     */
+    static V3D_Mesh_d getTetrahedron() {
+        V3D_Mesh_d m = new V3D_Mesh_d(true);
+        // Added in order of first use so that reading an STL file gives the
+        // same indexes.
+        int a = m.addVertex(0d, 0d, 0d);
+        int c = m.addVertex(0d, 1d, 0d);
+        int b = m.addVertex(1d, 0d, 0d);
+        int d = m.addVertex(0d, 0d, 1.5d);
+        m.addTriangle(a, c, b);
+        m.addTriangle(a, b, d);
+        m.addTriangle(b, c, d);
+        m.addTriangle(c, a, d);
+        return m;
+    }
+
+    /**
+     * @param expected The expected mesh.
+     * @param actual The actual mesh.
+     */
+    static void assertMeshEquals(V3D_Mesh_d expected, V3D_Mesh_d actual) {
+        assertArrayEquals(expected.getVertices(), actual.getVertices());
+        assertArrayEquals(expected.getTriangles(), actual.getTriangles());
+    }
+
+    /**
+     * Test of write and read methods, of class V3D_STL_d.
+     *
+     * @throws IOException If encountered.
+     */
+    @Test
+    public void testRead() throws IOException {
+        System.out.println("read");
+        V3D_Mesh_d m = getTetrahedron();
+        Path p = dir.resolve("t.stl");
+        V3D_STL_d.write(m, p);
+        assertEquals(V3D_STL_d.HEADER_LENGTH + 4 + 4 * V3D_STL_d.RECORD_LENGTH,
+                Files.size(p));
+        assertMeshEquals(m, V3D_STL_d.read(p));
+        // Test 2: No deduplication.
+        V3D_Mesh_d result = V3D_STL_d.read(p, false);
+        assertEquals(12, result.getNVertices());
+        assertEquals(4, result.getNTriangles());
+        // Test 3: ASCII.
+        p = dir.resolve("a.stl");
+        Files.writeString(p, """
+            solid t
+              facet normal 0 0 -1
+                outer loop
+                  vertex 0 0 0
+                  vertex 0 1 0
+                  vertex 1 0 0
+                endloop
+              endfacet
+              facet normal 0 -1 0
+                outer loop
+                  vertex 0 0 0
+                  vertex 1 0 0
+                  vertex 0 0 1.5
+                endloop
+              endfacet
+            endsolid t
+            """);
+        result = V3D_STL_d.read(p);
+        assertEquals(4, result.getNVertices());
+        assertEquals(2, result.getNTriangles());
+        assertEquals(1.5d, result.getZ(result.getVertex(1, 2)));
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.io.d.test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.v3d.core.d.V3D_Environment_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_AABB_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Point_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Ray_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Tetrahedron_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Vector_d;
+import uk.ac.leeds.ccg.v3d.geometry.d.V3D_Volume_d;
+import uk.ac.leeds.ccg.v3d.io.d.V3D_TileStore_d;
+
+/**
+ * Test class for V3D_TileStore_d.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_TileStore_dTest {
+
+    @TempDir
+    Path dir;
+
+    public V3D_TileStore_dTest() {
+    }
+
+    /**
+     * @param env The environment.
+     * @param n The number of tetrahedra.
+     * @return Small tetrahedra spread over [0, 100] on each axis.
+     */
+    private static HashMap<Integer, V3D_Tetrahedron_d> getShapes(
+            V3D_Environment_d env, int n) {
+        HashMap<Integer, V3D_Tetrahedron_d> r = new HashMap<>();
+        Random random = new Random(0);
+        for (int i = 0; i < n; i++) {
+            V3D_Vector_d o = new V3D_Vector_d(random.nextDouble() * 98d,
+                    random.nextDouble() * 98d, random.nextDouble() * 98d);
+            r.put(i, new V3D_Tetrahedron_d(env, o, V3D_Vector_d.ZERO,
+                    new V3D_Vector_d(2, 0, 0), new V3D_Vector_d(0, 2, 0),
+                    new V3D_Vector_d(0, 0, 2)));
+        }
+        return r;
+    }
+
+    /**
+     * Test of put and getShapes methods, of class V3D_TileStore_d.
+     *
+     * @throws IOException If encountered.
+     */
+    @Test
+    public void testGetShapes() throws IOException {
+        System.out.println("getShapes");
+        V3D_Environment_d env = new V3D_Environment_d();
+        V3D_AABB_d bounds = new V3D_AABB_d(env, 0, 100, 0, 100, 0, 100);
+        HashMap<Integer, V3D_Tetrahedron_d> shapes = getShapes(env, 200);
+        V3D_AABB_d box = new V3D_AABB_d(env, 20, 50, 10, 60, 30, 70);
+        HashSet<Integer> expected = new HashSet<>();
+        for (Map.Entry<Integer, V3D_Tetrahedron_d> x : shapes.entrySet()) {
+            if (x.getValue().getAABB().intersects(box)) {
+                expected.add(x.getKey());
+            }
+        }
+        try (V3D_TileStore_d s = new V3D_TileStore_d(env, dir, bounds, 2,
+                3)) {
+            for (Map.Entry<Integer, V3D_Tetrahedron_d> x
+                    : shapes.entrySet()) {
+                s.put(x.getKey(), x.getValue());
+            }
+            assertEquals(200, s.size());
+            assertTrue(s.getLoadedTileCount() <= 3);
+            assertEquals(expected, s.getShapes(box).keySet());
+            assertTrue(s.getLoadedTileCount() <= 3);
+        }
+        // Test 2: Reopen.
+        try (V3D_TileStore_d s = new V3D_TileStore_d(env, dir, bounds, 2,
+                3)) {
+            assertEquals(200, s.size());
+            assertEquals(0, s.getLoadedTileCount());
+            assertEquals(expected, s.getShapes(box).keySet());
+            V3D_Volume_d t = s.get(7);
+            assertTrue(t.getAABB().equals(shapes.get(7).getAABB()));
+            assertNotNull(s.remove(7));
+            assertNull(s.get(7));
+            assertEquals(199, s.size());
+        }
+        try (V3D_TileStore_d s = new V3D_TileStore_d(env, dir, bounds, 2,
+                3)) {
+            assertEquals(199, s.size());
+            assertNull(s.get(7));
+        }
+    }
+
+    /**
+     * Test of getShapes method with a ray, of class V3D_TileStore_d.
+     *
+     * @throws IOException If encountered.
+     */
+    @Test
+    public void testGetShapes_V3D_Ray_d() throws IOException {
+        System.out.println("getShapes");
+        V3D_Environment_d env = new V3D_Environment_d();
+        V3D_AABB_d bounds = new V3D_AABB_d(env, 0, 100, 0, 100, 0, 100);
+        try (V3D_TileStore_d s = new V3D_TileStore_d(env, dir, bounds, 3,
+                2)) {
+            for (int i = 0; i < 10; i++) {
+                s.put(i, new V3D_Tetrahedron_d(env,
+                        new V3D_Vector_d(i * 10, i * 10, 50),
+                        V3D_Vector_d.ZERO, new V3D_Vector_d(2, 0, 0),
+                        new V3D_Vector_d(0, 2, 0), new V3D_Vector_d(0, 0, 2)));
+            }
+            V3D_Ray_d ray = new V3D_Ray_d(new V3D_Point_d(env, -1, -1, 51),
+                    new V3D_Vector_d(1, 1, 0));
+            assertEquals(10, s.getShapes(ray).size());
+            ray = new V3D_Ray_d(new V3D_Point_d(env, -1, -1, 51),
+                    new V3D_Vector_d(-1, -1, 0));
+            assertTrue(s.getShapes(ray).isEmpty());
+            assertTrue(s.getLoadedTileCount() <= 2);
+        }
+    }
+
+    /**
+     * Test of getShapes method with a ray at the maximum level, where tile
+     * keys are too large to be held exactly in a double, of class
+     * V3D_TileStore_d.
+     *
+     * @throws IOException If encountered.
+     */
+    @Test
+    public void testGetShapes_V3D_Ray_d_maxLevel() throws IOException {
+        System.out.println("getShapes");
+        V3D_Environment_d env = new V3D_Environment_d();
+        V3D_AABB_d bounds = new V3D_AABB_d(env, 0, 100, 0, 100, 0, 100);
+        try (V3D_TileStore_d s = new V3D_TileStore_d(env, dir, bounds, 21,
+                2)) {
+            assertTrue(s.getKey(91, 91, 91) > (1L << 53));
+            for (int i = 0; i < 10; i++) {
+                s.put(i, new V3D_Tetrahedron_d(env,
+                        new V3D_Vector_d(i * 10, i * 10, i * 10),
+                        V3D_Vector_d.ZERO, new V3D_Vector_d(2, 0, 0),
+                        new V3D_Vector_d(0, 2, 0), new V3D_Vector_d(0, 0, 2)));
+            }
+            V3D_Ray_d ray = new V3D_Ray_d(new V3D_Point_d(env, -1, -1, -1),
+                    new V3D_Vector_d(1, 1, 1));
+            assertEquals(10, s.getShapes(ray).size());
+        }
+        try (V3D_TileStore_d s = new V3D_TileStore_d(env, dir, bounds, 21,
+                2)) {
+            V3D_Ray_d ray = new V3D_Ray_d(new V3D_Point_d(env, -1, -1, -1),
+                    new V3D_Vector_d(1, 1, 1));
+            assertEquals(10, s.getShapes(ray).size());
+            for (int i = 0; i < 10; i++) {
+                assertNotNull(s.get(i));
+            }
+        }
+    }
+
+    /**
+     * Test of put, get and remove methods across reopening, of class
+     * V3D_TileStore_d.
+     *
+     * @throws IOException If encountered.
+     */
+    @Test
+    public void testPut_reopen() throws IOException {
+        System.out.println("put");
+        V3D_Environment_d env = new V3D_Environment_d();
+        V3D_AABB_d bounds = new V3D_AABB_d(env, 0, 100, 0, 100, 0, 100);
+        HashMap<Integer, V3D_Tetrahedron_d> shapes = getShapes(env, 110);
+        try (V3D_TileStore_d s = new V3D_TileStore_d(env, dir, bounds, 3,
+                4)) {
+            for (int i = 0; i < 100; i++) {
+                s.put(i, shapes.get(i));
+            }
+        }
+        try (V3D_TileStore_d s = new V3D_TileStore_d(env, dir, bounds, 3,
+                4)) {
+            assertEquals(100, s.size());
+            for (int i = 0; i < 100; i += 2) {
+                assertNotNull(s.remove(i));
+            }
+            for (int i = 100; i < 110; i++) {
+                s.put(i, shapes.get(i));
+            }
+            // Replace.
+            s.put(1, shapes.get(109));
+            assertEquals(60, s.size());
+        }
+        try (V3D_TileStore_d s = new V3D_TileStore_d(env, dir, bounds, 3,
+                4)) {
+            assertEquals(60, s.size());
+            for (int i = 0; i < 100; i += 2) {
+                assertNull(s.get(i));
+            }
+            for (int i = 3; i < 100; i += 2) {
+                assertNotNull(s.get(i));
+            }
+            for (int i = 100; i < 110; i++) {
+                assertNotNull(s.get(i));
+            }
+            assertTrue(s.get(1).getAABB().equals(shapes.get(109).getAABB()));
+            assertNull(s.get(110));
+        }
+    }
+}
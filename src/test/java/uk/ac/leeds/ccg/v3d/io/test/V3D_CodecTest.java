@@ -0,0 +1,204 @@
+/*
+ * Copyright 2025 Andy Turner, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.v3d.io.test;
+
+import ch.obermuhlner.math.big.BigRational;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.math.number.Math_BigRationalSqrt;
+import uk.ac.leeds.ccg.v3d.core.V3D_Environment;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Point;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Tetrahedron;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Triangle;
+import uk.ac.leeds.ccg.v3d.geometry.V3D_Vector;
+import uk.ac.leeds.ccg.v3d.io.V3D_Codec;
+import uk.ac.leeds.ccg.v3d.io.V3D_CodecFile;
+import uk.ac.leeds.ccg.v3d.io.V3D_CodecReader;
+import uk.ac.leeds.ccg.v3d.io.V3D_CodecWriter;
+
+/**
+ * Test class for V3D_Codec, V3D_CodecWriter, V3D_CodecReader and
+ * V3D_CodecFile.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class V3D_CodecTest {
+
+    @TempDir
+    Path dir;
+
+    int oom = -3;
+
+    RoundingMode rm = RoundingMode.HALF_UP;
+
+    public V3D_CodecTest() {
+    }
+
+    /**
+     * Test of writeBigInteger and readBigInteger methods, of class
+     * V3D_Codec.
+     *
+     * @throws IOException If encountered.
+     */
+    @Test
+    public void testReadBigInteger() throws IOException {
+        System.out.println("readBigInteger");
+        BigInteger[] vs = {BigInteger.ZERO, BigInteger.ONE,
+            BigInteger.valueOf(-1), BigInteger.valueOf(Long.MAX_VALUE),
+            BigInteger.valueOf(Long.MIN_VALUE),
+            BigInteger.TEN.pow(100).negate()};
+        for (BigInteger v : vs) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            V3D_Codec.writeBigInteger(out, v);
+            assertEquals(v, V3D_Codec.readBigInteger(
+                    new ByteArrayInputStream(out.toByteArray())));
+        }
+    }
+
+    /**
+     * Test of writeNumber and readNumber methods, of class V3D_Codec.
+     *
+     * @throws IOException If encountered.
+     */
+    @Test
+    public void testReadNumber() throws IOException {
+        System.out.println("readNumber");
+        V3D_Environment env = new V3D_Environment(oom, rm);
+        BigRational r = BigRational.valueOf(-7, 3);
+        Math_BigRationalSqrt[] cs = {Math_BigRationalSqrt.ZERO,
+            new Math_BigRationalSqrt(r.pow(2), r),
+            new Math_BigRationalSqrt(BigRational.TWO, oom, rm),
+            new Math_BigRationalSqrt(BigRational.TWO, oom, rm).negate()};
+        for (Math_BigRationalSqrt c : cs) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            V3D_Codec.writeNumber(out, c);
+            assertEquals(0, c.compareTo(V3D_Codec.readNumber(
+                    new ByteArrayInputStream(out.toByteArray()), env)));
+        }
+    }
+
+    /**
+     * Test of writing and reading, of classes V3D_CodecWriter,
+     * V3D_CodecReader and V3D_CodecFile.
+     *
+     * @throws IOException If encountered.
+     */
+    @Test
+    public void testRead() throws IOException {
+        System.out.println("read");
+        V3D_Environment env = new V3D_Environment(oom, rm);
+        BigRational third = BigRational.valueOf(1, 3);
+        V3D_Point p = new V3D_Point(env, third, BigRational.ZERO,
+                BigRational.valueOf(-5));
+        V3D_Triangle t = new V3D_Triangle(env, new V3D_Vector(0, 0, 0),
+                new V3D_Vector(1, 0, 0), new V3D_Vector(0, 1, 0));
+        for (int i = 0; i < 10; i++) {
+            env.add(new V3D_Tetrahedron(env, new V3D_Vector(i, i, i),
+                    new V3D_Vector(0, 0, 0), new V3D_Vector(1, 0, 0),
+                    new V3D_Vector(0, third, 0), new V3D_Vector(0, 0, 1)));
+        }
+        Path f = dir.resolve("test.v3d");
+        try (V3D_CodecWriter w = new V3D_CodecWriter(new BufferedOutputStream(
+                Files.newOutputStream(f)))) {
+            w.write(p);
+            w.write(t);
+            w.write(env);
+        }
+        // Test 1: Streaming.
+        V3D_Environment env2 = new V3D_Environment(oom, rm);
+        try (V3D_CodecReader r = new V3D_CodecReader(new BufferedInputStream(
+                Files.newInputStream(f)), env2)) {
+            V3D_Point p2 = (V3D_Point) r.next();
+            assertEquals(-1, r.getShapeID());
+            assertTrue(p.equals(p2, oom, rm));
+            V3D_Triangle t2 = (V3D_Triangle) r.next();
+            assertTrue(t.equals(t2, oom, rm));
+            assertEquals(10, r.readShapes());
+        }
+        assertEquals(10, env2.shapes.size());
+        // Test 2: Random access.
+        try (V3D_CodecFile r = new V3D_CodecFile(f, env2)) {
+            assertEquals(10, r.getShapeIDs().size());
+            V3D_Tetrahedron s = (V3D_Tetrahedron) r.getShape(7);
+            V3D_Tetrahedron e = (V3D_Tetrahedron) env.shapes.get(7);
+            assertTrue(e.offset.equals(s.offset));
+            assertTrue(e.rv.equals(s.rv));
+            assertNull(r.getShape(10));
+        }
+        // Test 3: Smaller than Java serialisation.
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(p);
+            oos.writeObject(t);
+            oos.writeObject(env.shapes);
+        }
+        assertTrue(Files.size(f) * 4 < baos.size());
+    }
+
+    /**
+     * Test of readShapes method, of class V3D_CodecReader, where the ids
+     * have gaps and where they collide.
+     *
+     * @throws IOException If encountered.
+     */
+    @Test
+    public void testReadShapes_ids() throws IOException {
+        System.out.println("readShapes_ids");
+        V3D_Environment env = new V3D_Environment(oom, rm);
+        for (int i = 0; i < 6; i++) {
+            env.add(new V3D_Tetrahedron(env, new V3D_Vector(i, i, i),
+                    new V3D_Vector(0, 0, 0), new V3D_Vector(1, 0, 0),
+                    new V3D_Vector(0, 1, 0), new V3D_Vector(0, 0, 1)));
+        }
+        env.remove(1);
+        env.remove(3);
+        env.remove(4);
+        Path f = dir.resolve("ids.v3d");
+        try (V3D_CodecWriter w = new V3D_CodecWriter(new BufferedOutputStream(
+                Files.newOutputStream(f)))) {
+            w.write(env);
+        }
+        V3D_Environment env2 = new V3D_Environment(oom, rm);
+        try (V3D_CodecReader r = new V3D_CodecReader(new BufferedInputStream(
+                Files.newInputStream(f)), env2)) {
+            assertEquals(3, r.readShapes());
+        }
+        V3D_Tetrahedron s = (V3D_Tetrahedron) env2.shapes.get(0);
+        for (int i = 0; i < 3; i++) {
+            int id = env2.add(s);
+            assertTrue(id == 1 || id == 3 || id == 4);
+        }
+        assertEquals(6, env2.shapes.size());
+        assertEquals(6, env2.add(s));
+        // Reading the same ids again collides.
+        try (V3D_CodecReader r = new V3D_CodecReader(new BufferedInputStream(
+                Files.newInputStream(f)), env2)) {
+            assertThrows(IOException.class, () -> r.readShapes());
+        }
+    }
+}